@@ -22,6 +22,7 @@ import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SimpleNaturalIdResolutionCache;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -45,6 +46,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	private final Set<EntityCleanup> entityCleanups = new HashSet<>();
 	private final Set<CollectionCleanup> collectionCleanups = new HashSet<>();
 	private final Set<NaturalIdCleanup> naturalIdCleanups = new HashSet<>();
+	private final Set<SimpleNaturalIdResolutionCache> naturalIdResolutions = new HashSet<>();
 
 	/**
 	 * Constructs an action to cleanup "affected cache regions" based on the
@@ -74,6 +76,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 						new NaturalIdCleanup( persister.getNaturalIdCacheAccessStrategy(), session )
 				);
 			}
+			addNaturalIdResolutions( persister, factory );
 
 			final Set<String> roles = factory.getMetamodel().getCollectionRolesByEntityParticipant( persister.getEntityName() );
 			if ( roles != null ) {
@@ -123,6 +126,7 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 				if ( persister.hasNaturalIdentifier() && persister.hasNaturalIdCache() ) {
 					naturalIdCleanups.add( new NaturalIdCleanup( persister.getNaturalIdCacheAccessStrategy(), session ) );
 				}
+				addNaturalIdResolutions( persister, factory );
 
 				final Set<String> roles = metamodel.getCollectionRolesByEntityParticipant( persister.getEntityName() );
 				if ( roles != null ) {
@@ -142,6 +146,19 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 	}
 
 
+	/**
+	 * Clears the SessionFactory-level natural id resolutions of the entity, kept by its root entity, now and again
+	 * after transaction completion, as a concurrent load may cache a resolution the bulk operation invalidates.
+	 */
+	private void addNaturalIdResolutions(EntityPersister persister, SessionFactoryImplementor factory) {
+		final SimpleNaturalIdResolutionCache resolutions = factory.getMetamodel()
+				.entityPersister( persister.getRootEntityName() )
+				.getSimpleNaturalIdResolutionCache();
+		if ( resolutions != null && naturalIdResolutions.add( resolutions ) ) {
+			resolutions.clear();
+		}
+	}
+
 	/**
 	 * Check to determine whether the table spaces reported by an entity
 	 * persister match against the defined affected table spaces.
@@ -197,6 +214,11 @@ public class BulkOperationCleanupAction implements Executable, Serializable {
 					cleanup.release();
 				}
 				collectionCleanups.clear();
+
+				for ( SimpleNaturalIdResolutionCache resolutions : naturalIdResolutions ) {
+					resolutions.clear();
+				}
+				naturalIdResolutions.clear();
 			}
 		};
 	}
@@ -14,6 +14,7 @@ import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.entry.CollectionCacheEntryDelta;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -23,6 +24,7 @@ import org.hibernate.event.spi.EventType;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
  * Any action relating to insert/update/delete of a collection
@@ -127,6 +129,20 @@ public abstract class CollectionAction implements Executable, Serializable, Comp
 		return session;
 	}
 
+	/**
+	 * Apply the changes made to the collection to its cached entry once the transaction completes, rather than
+	 * leave the entry invalidated.
+	 *
+	 * @param delta The changes, disassembled
+	 * @param ownerVersion The current version of the collection owner, or {@code null} if it is not versioned
+	 */
+	protected final void updateCacheAfterTransaction(CollectionCacheEntryDelta delta, Object ownerVersion) {
+		if ( afterTransactionProcess instanceof CacheCleanupProcess ) {
+			( (CacheCleanupProcess) afterTransactionProcess ).delta = delta;
+			( (CacheCleanupProcess) afterTransactionProcess ).ownerVersion = ownerVersion;
+		}
+	}
+
 	protected final void evict() throws CacheException {
 		if ( persister.hasCache() ) {
 			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
@@ -164,6 +180,8 @@ public abstract class CollectionAction implements Executable, Serializable, Comp
 		private final Serializable key;
 		private final CollectionPersister persister;
 		private final SoftLock lock;
+		private CollectionCacheEntryDelta delta;
+		private Object ownerVersion;
 
 		private CacheCleanupProcess(Serializable key, CollectionPersister persister, SoftLock lock) {
 			this.key = key;
@@ -180,7 +198,19 @@ public abstract class CollectionAction implements Executable, Serializable, Comp
 					session.getFactory(),
 					session.getTenantIdentifier()
 			);
-			cache.unlockItem( session, ck, lock );
+			if ( success && delta != null ) {
+				final boolean put = cache.afterUpdate( session, ck, delta, ownerVersion, lock );
+				final StatisticsImplementor statistics = session.getFactory().getStatistics();
+				if ( put && statistics.isStatisticsEnabled() ) {
+					statistics.collectionCachePut(
+							persister.getNavigableRole(),
+							cache.getRegion().getName()
+					);
+				}
+			}
+			else {
+				cache.unlockItem( session, ck, lock );
+			}
 		}
 	}
 
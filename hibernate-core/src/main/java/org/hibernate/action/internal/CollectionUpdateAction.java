@@ -10,7 +10,9 @@ import java.io.Serializable;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.entry.CollectionCacheEntryDelta;
 import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.service.spi.EventListenerGroup;
 import org.hibernate.event.spi.EventType;
@@ -18,6 +20,7 @@ import org.hibernate.event.spi.PostCollectionUpdateEvent;
 import org.hibernate.event.spi.PostCollectionUpdateEventListener;
 import org.hibernate.event.spi.PreCollectionUpdateEvent;
 import org.hibernate.event.spi.PreCollectionUpdateEventListener;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -27,6 +30,7 @@ import org.hibernate.stat.spi.StatisticsImplementor;
  */
 public final class CollectionUpdateAction extends CollectionAction {
 	private final boolean emptySnapshot;
+	private transient CollectionCacheEntryDelta cacheDelta;
 
 	/**
 	 * Constructs a CollectionUpdateAction
@@ -45,6 +49,24 @@ public final class CollectionUpdateAction extends CollectionAction {
 				final SharedSessionContractImplementor session) {
 		super( persister, collection, id, session );
 		this.emptySnapshot = emptySnapshot;
+		if ( isCacheDeltaApplicable( collection, persister, session ) ) {
+			// the queued operations are processed and cleared before this action is executed
+			this.cacheDelta = collection.getQueuedOperationsDelta();
+		}
+	}
+
+	private static boolean isCacheDeltaApplicable(
+			PersistentCollection collection,
+			CollectionPersister persister,
+			SharedSessionContractImplementor session) {
+		// the delta appends the added elements to the cached state, and cannot tell whether they match a where clause
+		return persister.hasCache()
+				&& session.getFactory().getSessionFactoryOptions().isCollectionCacheDeltaUpdatesEnabled()
+				&& !collection.wasInitialized()
+				&& collection.hasQueuedOperations()
+				&& !persister.hasIndex()
+				&& !persister.hasOrdering()
+				&& !( persister instanceof AbstractCollectionPersister && ( (AbstractCollectionPersister) persister ).hasWhere() );
 	}
 
 	@Override
@@ -65,6 +87,9 @@ public final class CollectionUpdateAction extends CollectionAction {
 				throw new AssertionFailure( "collection is not dirty" );
 			}
 			//do nothing - we only need to notify the cache... 
+			if ( cacheDelta != null ) {
+				updateCacheFromDelta( persister, collection, session );
+			}
 		}
 		else if ( !affectedByFilters && collection.empty() ) {
 			if ( !emptySnapshot ) {
@@ -99,6 +124,26 @@ public final class CollectionUpdateAction extends CollectionAction {
 		}
 	}
 	
+	private void updateCacheFromDelta(
+			CollectionPersister persister,
+			PersistentCollection collection,
+			SharedSessionContractImplementor session) {
+		final Object ownerVersion;
+		if ( persister.isVersioned() ) {
+			final EntityEntry ownerEntry = session.getPersistenceContextInternal().getEntry( collection.getOwner() );
+			if ( ownerEntry == null ) {
+				// leave the cached entry invalidated
+				return;
+			}
+			ownerVersion = ownerEntry.getVersion();
+		}
+		else {
+			ownerVersion = null;
+		}
+		cacheDelta.disassemble( persister, session );
+		updateCacheAfterTransaction( cacheDelta, ownerVersion );
+	}
+
 	private void preUpdate() {
 		final EventListenerGroup<PreCollectionUpdateEventListener> listenerGroup = listenerGroup( EventType.PRE_COLLECTION_UPDATE );
 		if ( listenerGroup.isEmpty() ) {
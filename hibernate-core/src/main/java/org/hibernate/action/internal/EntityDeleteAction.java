@@ -7,9 +7,12 @@
 package org.hibernate.action.internal;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
@@ -23,6 +26,7 @@ import org.hibernate.event.spi.PostDeleteEvent;
 import org.hibernate.event.spi.PostDeleteEventListener;
 import org.hibernate.event.spi.PreDeleteEvent;
 import org.hibernate.event.spi.PreDeleteEventListener;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -37,6 +41,11 @@ public class EntityDeleteAction extends EntityAction {
 	private SoftLock lock;
 	private Object[] naturalIdValues;
 
+	// state of the current execution
+	private transient boolean veto;
+	private transient Object deleteVersion;
+	private transient Object cacheKey;
+
 	/**
 	 * Constructs an EntityDeleteAction.
 	 *
@@ -95,35 +104,94 @@ public class EntityDeleteAction extends EntityAction {
 
 	@Override
 	public void execute() throws HibernateException {
+		beforeDelete();
+		if ( isDeleteStatementRequired() ) {
+			getPersister().delete( getId(), deleteVersion, getInstance(), getSession() );
+		}
+		afterDelete();
+	}
+
+	/**
+	 * Execute the given actions, which all delete instances of the same entity, issuing a single
+	 * {@link AbstractEntityPersister#multiDelete multi-row delete} for all of them.  Pre-delete listeners are
+	 * notified for all the actions before the rows are deleted, and post-delete listeners after.
+	 *
+	 * @param actions The actions to execute
+	 */
+	public static void executeMultiDelete(List<? extends EntityDeleteAction> actions) throws HibernateException {
+		final List<Serializable> ids = new ArrayList<>( actions.size() );
+		for ( EntityDeleteAction action : actions ) {
+			action.beforeDelete();
+			if ( action.isDeleteStatementRequired() ) {
+				ids.add( action.getId() );
+			}
+		}
+		if ( !ids.isEmpty() ) {
+			final EntityDeleteAction first = actions.get( 0 );
+			( (AbstractEntityPersister) first.getPersister() ).multiDelete(
+					ids.toArray( new Serializable[ids.size()] ),
+					first.getSession()
+			);
+		}
+		for ( EntityDeleteAction action : actions ) {
+			action.afterDelete();
+		}
+	}
+
+	/**
+	 * Can this action be executed along with others by {@link #executeMultiDelete}?
+	 */
+	public boolean isMultiDeleteSupported() {
+		final EntityPersister persister = getPersister();
+		return persister instanceof AbstractEntityPersister
+				&& ( (AbstractEntityPersister) persister ).isMultiDeleteSupported();
+	}
+
+	/**
+	 * Can the given action be executed by the same {@link #executeMultiDelete} as this one?
+	 */
+	public boolean isMultiDeleteCompatible(Executable other) {
+		return other instanceof EntityDeleteAction
+				&& other.getClass() == getClass()
+				&& ( (EntityDeleteAction) other ).getPersister() == getPersister();
+	}
+
+	private void beforeDelete() {
 		final Serializable id = getId();
 		final EntityPersister persister = getPersister();
 		final SharedSessionContractImplementor session = getSession();
 		final Object instance = getInstance();
 
-		final boolean veto = preDelete();
+		veto = preDelete();
 
-		Object version = this.version;
+		deleteVersion = this.version;
 		if ( persister.isVersionPropertyGenerated() ) {
 			// we need to grab the version value from the entity, otherwise
 			// we have issues with generated-version entities that may have
 			// multiple actions queued during the same flush
-			version = persister.getVersion( instance );
+			deleteVersion = persister.getVersion( instance );
 		}
 
-		final Object ck;
 		if ( persister.canWriteToCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			ck = cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
-			lock = cache.lockItem( session, ck, version );
+			cacheKey = cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
+			lock = cache.lockItem( session, cacheKey, deleteVersion );
 		}
 		else {
-			ck = null;
+			cacheKey = null;
 		}
+	}
+
+	private boolean isDeleteStatementRequired() {
+		return !isCascadeDeleteEnabled && !veto;
+	}
+
+	private void afterDelete() {
+		final Serializable id = getId();
+		final EntityPersister persister = getPersister();
+		final SharedSessionContractImplementor session = getSession();
+		final Object instance = getInstance();
 
-		if ( !isCascadeDeleteEnabled && !veto ) {
-			persister.delete( id, version, instance, session );
-		}
-		
 		//postDelete:
 		// After actually deleting a row, record the fact that the instance no longer 
 		// exists on the database (needed for identity-column key generation), and
@@ -139,7 +207,7 @@ public class EntityDeleteAction extends EntityAction {
 		persistenceContext.removeProxy( entry.getEntityKey() );
 		
 		if ( persister.canWriteToCache() ) {
-			persister.getCacheAccessStrategy().remove( session, ck);
+			persister.getCacheAccessStrategy().remove( session, cacheKey );
 		}
 
 		persistenceContext.getNaturalIdHelper().removeSharedNaturalIdCrossReference( persister, id, naturalIdValues );
@@ -144,4 +144,16 @@ public class QueryHints {
 	 */
 	public static final String PASS_DISTINCT_THROUGH = "hibernate.query.passDistinctThrough";
 
+	/**
+	 * The partition key value the query is restricted to, for fine-grained invalidation of its cached results.
+	 * For a to-one partition key, the value is the identifier of the associated entity.  The query is expected to
+	 * restrict the partition key property to this value: its cached results are only invalidated by writes to
+	 * this partition.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITION_KEYS
+	 *
+	 * @since 5.5
+	 */
+	public static final String CACHE_PARTITION = "org.hibernate.cachePartition";
+
 }
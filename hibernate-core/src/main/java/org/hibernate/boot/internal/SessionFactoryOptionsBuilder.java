@@ -43,8 +43,10 @@ import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
 import org.hibernate.engine.config.internal.ConfigurationServiceImpl;
 import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.internal.StandardPersistenceContextStorageFactory;
 import org.hibernate.engine.jdbc.env.spi.ExtractedDatabaseMetaData;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.spi.PersistenceContextStorageFactory;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.id.uuid.LocalObjectUuidHelper;
 import org.hibernate.internal.CoreMessageLogger;
@@ -73,9 +75,11 @@ import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_MULTI_ROW_DELETE;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
+import static org.hibernate.cfg.AvailableSettings.COLLECTION_CACHE_DELTA_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.COLLECTION_JOIN_SUBQUERY;
 import static org.hibernate.cfg.AvailableSettings.CONNECTION_HANDLING;
 import static org.hibernate.cfg.AvailableSettings.CONVENTIONAL_JAVA_CONSTANTS;
@@ -90,6 +94,7 @@ import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
+import static org.hibernate.cfg.AvailableSettings.INCREMENTAL_FLUSH;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
@@ -102,11 +107,17 @@ import static org.hibernate.cfg.AvailableSettings.NATIVE_EXCEPTION_HANDLING_51_C
 import static org.hibernate.cfg.AvailableSettings.OMIT_JOIN_OF_SUPERCLASS_TABLES;
 import static org.hibernate.cfg.AvailableSettings.ORDER_INSERTS;
 import static org.hibernate.cfg.AvailableSettings.JPA_CALLBACKS_ENABLED;
+import static org.hibernate.cfg.AvailableSettings.MULTI_LOAD_ARRAY_BINDING;
+import static org.hibernate.cfg.AvailableSettings.NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.ORDER_DELETES;
 import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
+import static org.hibernate.cfg.AvailableSettings.PERSISTENCE_CONTEXT_STORAGE;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_SPACE_AWARE_AUTO_FLUSH;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STREAM_WINDOW_SIZE;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
@@ -116,6 +127,8 @@ import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.TIMESTAMPS_NEAR_CACHE_STALENESS;
+import static org.hibernate.cfg.AvailableSettings.USE_COMPACT_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
@@ -191,14 +204,17 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private TempTableDdlTransactionHandling tempTableDdlTransactionHandling;
 	private BatchFetchStyle batchFetchStyle;
 	private boolean delayBatchFetchLoaderCreations;
+	private boolean multiLoadArrayBindingEnabled;
 	private int defaultBatchFetchSize;
 	private Integer maximumFetchDepth;
 	private NullPrecedence defaultNullPrecedence;
 	private boolean orderUpdatesEnabled;
 	private boolean orderInsertsEnabled;
+	private boolean orderDeletesEnabled;
 	private boolean postInsertIdentifierDelayed;
 	private boolean enhancementAsProxyEnabled;
 	private boolean collectionsInDefaultFetchGroupEnabled;
+	private PersistenceContextStorageFactory persistenceContextStorageFactory;
 
 	// JPA callbacks
 	private boolean callbacksEnabled;
@@ -220,11 +236,14 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
+	private long timestampsNearCacheStaleness;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean compactCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
+	private boolean collectionCacheDeltaUpdatesEnabled;
 
 	// Schema tooling
 	private SchemaAutoTooling schemaAutoTooling;
@@ -254,6 +273,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean nativeExceptionHandling51Compliance;
 	private int queryStatisticsMaxSize;
 
+	private boolean incrementalFlushEnabled;
+	private boolean querySpaceAwareAutoFlushEnabled;
+	private int multiRowDeleteSize;
+	private int naturalIdResolutionCacheMaxSize;
+	private int queryStreamWindowSize;
 
 	@SuppressWarnings({"WeakerAccess", "deprecation"})
 	public SessionFactoryOptionsBuilder(StandardServiceRegistry serviceRegistry, BootstrapContext context) {
@@ -323,6 +347,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				DefaultCustomEntityDirtinessStrategy.INSTANCE
 		);
 
+		this.persistenceContextStorageFactory = strategySelector.resolveDefaultableStrategy(
+				PersistenceContextStorageFactory.class,
+				configurationSettings.get( PERSISTENCE_CONTEXT_STORAGE ),
+				StandardPersistenceContextStorageFactory.INSTANCE
+		);
+
 		this.entityNotFoundDelegate = StandardEntityNotFoundDelegate.INSTANCE;
 		this.identifierRollbackEnabled = cfgService.getSetting( USE_IDENTIFIER_ROLLBACK, BOOLEAN, false );
 		this.defaultEntityMode = EntityMode.parse( (String) configurationSettings.get( DEFAULT_ENTITY_MODE ) );
@@ -343,6 +373,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.batchFetchStyle = BatchFetchStyle.interpret( configurationSettings.get( BATCH_FETCH_STYLE ) );
 		this.delayBatchFetchLoaderCreations = cfgService.getSetting( DELAY_ENTITY_LOADER_CREATIONS, BOOLEAN, true );
+		this.multiLoadArrayBindingEnabled = cfgService.getSetting( MULTI_LOAD_ARRAY_BINDING, BOOLEAN, false );
 		this.defaultBatchFetchSize = ConfigurationHelper.getInt( DEFAULT_BATCH_FETCH_SIZE, configurationSettings, -1 );
 		this.maximumFetchDepth = ConfigurationHelper.getInteger( MAX_FETCH_DEPTH, configurationSettings );
 		final String defaultNullPrecedence = ConfigurationHelper.getString(
@@ -351,6 +382,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.defaultNullPrecedence = NullPrecedence.parse( defaultNullPrecedence );
 		this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
+		this.orderDeletesEnabled = ConfigurationHelper.getBoolean( ORDER_DELETES, configurationSettings );
 		this.enhancementAsProxyEnabled = ConfigurationHelper.getBoolean( ALLOW_ENHANCEMENT_AS_PROXY, configurationSettings );
 
 		this.callbacksEnabled = ConfigurationHelper.getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
@@ -374,6 +406,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
 					StandardTimestampsCacheFactory.INSTANCE
 			);
+			this.timestampsNearCacheStaleness = ConfigurationHelper.getLong(
+					TIMESTAMPS_NEAR_CACHE_STALENESS,
+					configurationSettings,
+					0
+			);
 			this.cacheRegionPrefix = ConfigurationHelper.extractPropertyValue(
 					CACHE_REGION_PREFIX,
 					configurationSettings
@@ -384,22 +421,31 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = cfgService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.compactCacheEntriesEnabled = cfgService.getSetting( USE_COMPACT_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = cfgService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
 					false
 			);
 			this.autoEvictCollectionCache = cfgService.getSetting( AUTO_EVICT_COLLECTION_CACHE, BOOLEAN, false );
+			this.collectionCacheDeltaUpdatesEnabled = cfgService.getSetting(
+					COLLECTION_CACHE_DELTA_UPDATES,
+					BOOLEAN,
+					false
+			);
 		}
 		else {
 			this.secondLevelCacheEnabled = false;
 			this.queryCacheEnabled = false;
 			this.timestampsCacheFactory = null;
+			this.timestampsNearCacheStaleness = 0;
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.compactCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
+			this.collectionCacheDeltaUpdatesEnabled = false;
 		}
 
 		try {
@@ -531,6 +577,26 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				Statistics.DEFAULT_QUERY_STATISTICS_MAX_SIZE
 		);
 
+		this.incrementalFlushEnabled = ConfigurationHelper.getBoolean(
+				INCREMENTAL_FLUSH,
+				configurationSettings,
+				false
+		);
+
+		this.querySpaceAwareAutoFlushEnabled = ConfigurationHelper.getBoolean(
+				QUERY_SPACE_AWARE_AUTO_FLUSH,
+				configurationSettings,
+				false
+		);
+
+		this.multiRowDeleteSize = ConfigurationHelper.getInt( BATCH_MULTI_ROW_DELETE, configurationSettings, 0 );
+		this.naturalIdResolutionCacheMaxSize = ConfigurationHelper.getInt(
+				NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE,
+				configurationSettings,
+				0
+		);
+		this.queryStreamWindowSize = ConfigurationHelper.getInt( QUERY_STREAM_WINDOW_SIZE, configurationSettings, 0 );
+
 		if ( context.isJpaBootstrap() && nativeExceptionHandling51Compliance ) {
 			log.nativeExceptionHandling51ComplianceJpaBootstrapping();
 			this.nativeExceptionHandling51Compliance = false;
@@ -818,6 +884,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return delayBatchFetchLoaderCreations;
 	}
 
+	@Override
+	public boolean isMultiLoadArrayBindingEnabled() {
+		return multiLoadArrayBindingEnabled;
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return defaultBatchFetchSize;
@@ -843,6 +914,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return orderInsertsEnabled;
 	}
 
+	@Override
+	public boolean isOrderDeletesEnabled() {
+		return orderDeletesEnabled;
+	}
+
 	@Override
 	public MultiTenancyStrategy getMultiTenancyStrategy() {
 		return multiTenancyStrategy;
@@ -898,6 +974,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return timestampsCacheFactory;
 	}
 
+	@Override
+	public long getTimestampsNearCacheStaleness() {
+		return timestampsNearCacheStaleness;
+	}
+
 	@Override
 	public String getCacheRegionPrefix() {
 		return cacheRegionPrefix;
@@ -913,6 +994,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return compactCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -923,6 +1009,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return autoEvictCollectionCache;
 	}
 
+	@Override
+	public boolean isCollectionCacheDeltaUpdatesEnabled() {
+		return collectionCacheDeltaUpdatesEnabled;
+	}
+
 	@Override
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return schemaAutoTooling;
@@ -1078,6 +1169,36 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return omitJoinOfSuperclassTablesEnabled;
 	}
 
+	@Override
+	public PersistenceContextStorageFactory getPersistenceContextStorageFactory() {
+		return persistenceContextStorageFactory;
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return incrementalFlushEnabled;
+	}
+
+	@Override
+	public boolean isQuerySpaceAwareAutoFlushEnabled() {
+		return querySpaceAwareAutoFlushEnabled;
+	}
+
+	@Override
+	public int getMultiRowDeleteSize() {
+		return multiRowDeleteSize;
+	}
+
+	@Override
+	public int getNaturalIdResolutionCacheMaxSize() {
+		return naturalIdResolutionCacheMaxSize;
+	}
+
+	@Override
+	public int getQueryStreamWindowSize() {
+		return queryStreamWindowSize;
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// In-flight mutation access
@@ -1369,6 +1490,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.collectionsInDefaultFetchGroupEnabled = enabled;
 	}
 
+	public void applyPersistenceContextStorageFactory(PersistenceContextStorageFactory persistenceContextStorageFactory) {
+		this.persistenceContextStorageFactory = persistenceContextStorageFactory;
+	}
+
 	public void disableRefreshDetachedEntity() {
 		this.allowRefreshDetachedEntity = false;
 	}
@@ -24,6 +24,9 @@ import org.hibernate.cache.internal.DefaultCacheKeysFactory;
 import org.hibernate.cache.internal.SimpleCacheKeysFactory;
 import org.hibernate.cache.spi.CacheKeysFactory;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.internal.OpenAddressingPersistenceContextStorageFactory;
+import org.hibernate.engine.internal.StandardPersistenceContextStorageFactory;
+import org.hibernate.engine.spi.PersistenceContextStorageFactory;
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.hql.spi.id.global.GlobalTemporaryTableBulkIdStrategy;
@@ -100,6 +103,7 @@ public class StrategySelectorBuilder {
 		addMultiTableBulkIdStrategies( strategySelector );
 		addImplicitNamingStrategies( strategySelector );
 		addCacheKeysFactories( strategySelector );
+		addPersistenceContextStorageFactories( strategySelector );
 
 		// apply auto-discovered registrations
 		for ( StrategyRegistrationProvider provider : classLoaderService.loadJavaServices( StrategyRegistrationProvider.class ) ) {
@@ -215,4 +219,17 @@ public class StrategySelectorBuilder {
 			SimpleCacheKeysFactory.class
 		);
 	}
+
+	private void addPersistenceContextStorageFactories(StrategySelectorImpl strategySelector) {
+		strategySelector.registerStrategyImplementor(
+				PersistenceContextStorageFactory.class,
+				StandardPersistenceContextStorageFactory.SHORT_NAME,
+				StandardPersistenceContextStorageFactory.class
+		);
+		strategySelector.registerStrategyImplementor(
+				PersistenceContextStorageFactory.class,
+				OpenAddressingPersistenceContextStorageFactory.SHORT_NAME,
+				OpenAddressingPersistenceContextStorageFactory.class
+		);
+	}
 }
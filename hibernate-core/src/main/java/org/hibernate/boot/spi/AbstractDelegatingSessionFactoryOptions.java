@@ -25,6 +25,7 @@ import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.PersistenceContextStorageFactory;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.jpa.spi.JpaCompliance;
 import org.hibernate.loader.BatchFetchStyle;
@@ -177,6 +178,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isDelayBatchFetchLoaderCreationsEnabled();
 	}
 
+	@Override
+	public boolean isMultiLoadArrayBindingEnabled() {
+		return delegate.isMultiLoadArrayBindingEnabled();
+	}
+
 	@Override
 	public int getDefaultBatchFetchSize() {
 		return delegate.getDefaultBatchFetchSize();
@@ -282,6 +288,16 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isCompactCacheEntriesEnabled() {
+		return delegate.isCompactCacheEntriesEnabled();
+	}
+
+	@Override
+	public long getTimestampsNearCacheStaleness() {
+		return delegate.getTimestampsNearCacheStaleness();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -292,6 +308,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isAutoEvictCollectionCache();
 	}
 
+	@Override
+	public boolean isCollectionCacheDeltaUpdatesEnabled() {
+		return delegate.isCollectionCacheDeltaUpdatesEnabled();
+	}
+
 	@Override
 	public SchemaAutoTooling getSchemaAutoTooling() {
 		return delegate.getSchemaAutoTooling();
@@ -457,4 +478,39 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return delegate.isOmitJoinOfSuperclassTablesEnabled();
 	}
+
+	@Override
+	public PersistenceContextStorageFactory getPersistenceContextStorageFactory() {
+		return delegate.getPersistenceContextStorageFactory();
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return delegate.isIncrementalFlushEnabled();
+	}
+
+	@Override
+	public boolean isQuerySpaceAwareAutoFlushEnabled() {
+		return delegate.isQuerySpaceAwareAutoFlushEnabled();
+	}
+
+	@Override
+	public boolean isOrderDeletesEnabled() {
+		return delegate.isOrderDeletesEnabled();
+	}
+
+	@Override
+	public int getMultiRowDeleteSize() {
+		return delegate.getMultiRowDeleteSize();
+	}
+
+	@Override
+	public int getNaturalIdResolutionCacheMaxSize() {
+		return delegate.getNaturalIdResolutionCacheMaxSize();
+	}
+
+	@Override
+	public int getQueryStreamWindowSize() {
+		return delegate.getQueryStreamWindowSize();
+	}
 }
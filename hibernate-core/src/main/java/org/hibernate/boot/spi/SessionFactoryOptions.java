@@ -26,6 +26,8 @@ import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
 import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.internal.StandardPersistenceContextStorageFactory;
+import org.hibernate.engine.spi.PersistenceContextStorageFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.jpa.spi.JpaCompliance;
@@ -320,4 +322,82 @@ public interface SessionFactoryOptions {
 	}
 
 	boolean isOmitJoinOfSuperclassTablesEnabled();
+
+	default PersistenceContextStorageFactory getPersistenceContextStorageFactory() {
+		return StandardPersistenceContextStorageFactory.INSTANCE;
+	}
+
+	/**
+	 * Should flushes skip entities which report themselves as unchanged?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH
+	 */
+	default boolean isIncrementalFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should auto-flush be skipped when no managed state relates to the query spaces?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_SPACE_AWARE_AUTO_FLUSH
+	 */
+	default boolean isQuerySpaceAwareAutoFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#ORDER_DELETES
+	 */
+	default boolean isOrderDeletesEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_DELETE
+	 */
+	default int getMultiRowDeleteSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#MULTI_LOAD_ARRAY_BINDING
+	 */
+	default boolean isMultiLoadArrayBindingEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES
+	 */
+	default boolean isCompactCacheEntriesEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#TIMESTAMPS_NEAR_CACHE_STALENESS
+	 */
+	default long getTimestampsNearCacheStaleness() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE
+	 */
+	default int getNaturalIdResolutionCacheMaxSize() {
+		return 0;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#COLLECTION_CACHE_DELTA_UPDATES
+	 */
+	default boolean isCollectionCacheDeltaUpdatesEnabled() {
+		return false;
+	}
+
+	/**
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_WINDOW_SIZE
+	 */
+	default int getQueryStreamWindowSize() {
+		return 0;
+	}
 }
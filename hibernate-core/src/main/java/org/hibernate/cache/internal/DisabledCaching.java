@@ -20,7 +20,9 @@ import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SimpleNaturalIdResolutionCache;
 import org.hibernate.metamodel.model.domain.NavigableRole;
+import org.hibernate.persister.entity.EntityPersister;
 
 /**
  * CacheImplementor implementation for disabled caching
@@ -90,17 +92,27 @@ public class DisabledCaching implements CacheImplementor {
 
 	@Override
 	public void evictNaturalIdData(Class entityClass) {
-		// nothing to do
+		evictNaturalIdData( entityClass.getName() );
 	}
 
 	@Override
 	public void evictNaturalIdData(String entityName) {
-		// nothing to do
+		evictNaturalIdResolutions( sessionFactory.getMetamodel().entityPersister( entityName ) );
 	}
 
 	@Override
 	public void evictNaturalIdData() {
-		// nothing to do
+		sessionFactory.getMetamodel().entityPersisters().values().forEach( this::evictNaturalIdResolutions );
+	}
+
+	private void evictNaturalIdResolutions(EntityPersister entityDescriptor) {
+		// the SessionFactory-level resolutions are kept even though second-level caching is disabled
+		final SimpleNaturalIdResolutionCache resolutions = sessionFactory.getMetamodel()
+				.entityPersister( entityDescriptor.getRootEntityName() )
+				.getSimpleNaturalIdResolutionCache();
+		if ( resolutions != null ) {
+			resolutions.clear();
+		}
 	}
 
 	@Override
@@ -7,6 +7,7 @@
 package org.hibernate.cache.internal;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -25,7 +26,9 @@ import org.hibernate.cache.cfg.spi.EntityDataCachingConfig;
 import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.CacheWarmUp;
 import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.QueryCachePartitioning;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
@@ -35,11 +38,14 @@ import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SimpleNaturalIdResolutionCache;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -68,6 +74,12 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 
 	private final TimestampsCache timestampsCache;
 
+	private final String queryCachePartitionKeys;
+	private volatile QueryCachePartitioning queryCachePartitioning;
+
+	private final Set<String> warmUpRegionNames;
+	private volatile CacheWarmUp cacheWarmUp;
+
 	private final QueryResultsCache defaultQueryResultsCache;
 	private final Map<String, QueryResultsCache> namedQueryResultsCacheMap = new ConcurrentHashMap<>();
 
@@ -81,6 +93,14 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		this.regionFactory = getSessionFactory().getSessionFactoryOptions().getServiceRegistry().getService( RegionFactory.class );
 		this.regionFactory.start( sessionFactory.getSessionFactoryOptions(), sessionFactory.getProperties() );
 
+		final String warmUpRegions = ConfigurationHelper.getString(
+				AvailableSettings.CACHE_WARM_UP_REGIONS,
+				sessionFactory.getProperties()
+		);
+		this.warmUpRegionNames = StringHelper.isEmpty( warmUpRegions )
+				? Collections.emptySet()
+				: new HashSet<>( Arrays.asList( StringHelper.split( ", \t\n", warmUpRegions ) ) );
+
 		if ( getSessionFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
 			final TimestampsRegion timestampsRegion = regionFactory.buildTimestampsRegion(
 					RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
@@ -90,6 +110,10 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 					.getTimestampsCacheFactory()
 					.buildTimestampsCache( this, timestampsRegion );
 			legacySecondLevelCacheNames.add( timestampsRegion.getName() );
+			queryCachePartitionKeys = ConfigurationHelper.getString(
+					AvailableSettings.QUERY_CACHE_PARTITION_KEYS,
+					sessionFactory.getProperties()
+			);
 
 			final QueryResultsRegion queryResultsRegion = regionFactory.buildQueryResultsRegion(
 					RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
@@ -103,16 +127,29 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		}
 		else {
 			timestampsCache = new TimestampsCacheDisabledImpl();
+			queryCachePartitionKeys = null;
 			defaultQueryResultsCache = null;
 		}
 	}
 
 	@Override
 	public void prime(Set<DomainDataRegionConfig> cacheRegionConfigs) {
+		final Set<String> warmUpEntityNames = new LinkedHashSet<>();
+		final Set<String> warmUpCollectionRoles = new LinkedHashSet<>();
+
 		for ( DomainDataRegionConfig regionConfig : cacheRegionConfigs ) {
 			final DomainDataRegion region = getRegionFactory().buildDomainDataRegion( regionConfig, this );
 			regionsByName.put( region.getName(), region );
 
+			if ( warmUpRegionNames.contains( regionConfig.getRegionName() ) ) {
+				for ( EntityDataCachingConfig entityAccessConfig : regionConfig.getEntityCaching() ) {
+					warmUpEntityNames.add( entityAccessConfig.getNavigableRole().getFullPath() );
+				}
+				for ( CollectionDataCachingConfig collectionAccessConfig : regionConfig.getCollectionCaching() ) {
+					warmUpCollectionRoles.add( collectionAccessConfig.getNavigableRole().getFullPath() );
+				}
+			}
+
 			if ( ! Objects.equals( region.getName(), regionConfig.getRegionName() ) ) {
 				throw new HibernateException(
 						String.format(
@@ -183,6 +220,11 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 			}
 		}
 
+		if ( !warmUpEntityNames.isEmpty() || !warmUpCollectionRoles.isEmpty() ) {
+			// the persisters are not built yet, the warm-up starts once the SessionFactory is
+			cacheWarmUp = new CacheWarmUp( sessionFactory, warmUpEntityNames, warmUpCollectionRoles );
+			sessionFactory.addObserver( cacheWarmUp );
+		}
 	}
 
 	@Override
@@ -206,6 +248,25 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 		return timestampsCache;
 	}
 
+	@Override
+	public QueryCachePartitioning getQueryCachePartitioning() {
+		if ( StringHelper.isEmpty( queryCachePartitionKeys ) ) {
+			return null;
+		}
+		// the entity persisters do not exist yet when the regions are built, resolving twice is harmless
+		QueryCachePartitioning partitioning = queryCachePartitioning;
+		if ( partitioning == null ) {
+			partitioning = QueryCachePartitioning.resolve( queryCachePartitionKeys, sessionFactory );
+			queryCachePartitioning = partitioning;
+		}
+		return partitioning;
+	}
+
+
+	@Override
+	public CacheWarmUp getCacheWarmUp() {
+		return cacheWarmUp;
+	}
 
 	@Override
 	public Region getRegion(String regionName) {
@@ -318,12 +379,24 @@ public class EnabledCaching implements CacheImplementor, DomainDataRegionBuildin
 	}
 
 	private void evictNaturalIdData(EntityPersister rootEntityDescriptor) {
+		evictNaturalIdResolutions( rootEntityDescriptor );
 		evictNaturalIdData( rootEntityDescriptor.getNavigableRole(), rootEntityDescriptor.getNaturalIdCacheAccessStrategy() );
 	}
 
 	@Override
 	public void evictNaturalIdData() {
 		naturalIdAccessMap.forEach( this::evictNaturalIdData );
+		sessionFactory.getMetamodel().entityPersisters().values().forEach( this::evictNaturalIdResolutions );
+	}
+
+	private void evictNaturalIdResolutions(EntityPersister entityDescriptor) {
+		// the SessionFactory-level resolutions are kept by the root entity, independently of the natural-id region
+		final SimpleNaturalIdResolutionCache resolutions = sessionFactory.getMetamodel()
+				.entityPersister( entityDescriptor.getRootEntityName() )
+				.getSimpleNaturalIdResolutionCache();
+		if ( resolutions != null ) {
+			resolutions.clear();
+		}
 	}
 
 	private void evictNaturalIdData(NavigableRole rootEntityRole, NaturalIdDataAccess cacheAccess) {
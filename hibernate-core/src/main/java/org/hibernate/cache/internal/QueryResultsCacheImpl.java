@@ -8,19 +8,29 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LockOptions;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.QuerySpacesHelper;
 import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
-import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.persister.entity.MultiLoadOptions;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.ManyToOneType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
@@ -35,6 +45,43 @@ import org.hibernate.type.TypeHelper;
 public class QueryResultsCacheImpl implements QueryResultsCache {
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( QueryResultsCacheImpl.class );
 
+	/**
+	 * The number of cached rows whose entities are resolved together before the rows get assembled
+	 */
+	private static final int RESOLUTION_WINDOW = 256;
+
+	private static final MultiLoadOptions BULK_RESOLUTION_OPTIONS = new MultiLoadOptions() {
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	};
+
 	private final QueryResultsRegion cacheRegion;
 	private final TimestampsCache timestampsCache;
 
@@ -61,30 +108,44 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			LOG.debugf( "Caching query results in region: %s; timestamp=%s", cacheRegion.getName(), session.getTransactionStartTimestamp() );
 		}
 
-		final List resultsCopy = CollectionHelper.arrayList( results.size() );
+		final Serializable[][] columns = new Serializable[returnTypes.length][results.size()];
 
 		final boolean isSingleResult = returnTypes.length == 1;
+		int row = 0;
 		for ( Object aResult : results ) {
-			final Serializable resultRowForCache;
 			if ( isSingleResult ) {
-				resultRowForCache = returnTypes[0].disassemble( aResult, session, null );
+				columns[0][row] = returnTypes[0].disassemble( aResult, session, null );
 			}
 			else {
-				resultRowForCache = TypeHelper.disassemble( (Object[]) aResult, returnTypes, null, session, null );
+				final Serializable[] resultRowForCache = TypeHelper.disassemble(
+						(Object[]) aResult,
+						returnTypes,
+						null,
+						session,
+						null
+				);
+				for ( int i = 0; i < resultRowForCache.length; i++ ) {
+					columns[i][row] = resultRowForCache[i];
+				}
 			}
-			resultsCopy.add( resultRowForCache );
+			row++;
 			if ( LOG.isTraceEnabled() ) {
 				logCachedResultRowDetails( returnTypes, aResult );
 			}
 		}
 
 		if ( LOG.isTraceEnabled() ) {
-			logCachedResultDetails( key, null, returnTypes, resultsCopy );
+			logCachedResultDetails( key, null, returnTypes, results );
 		}
 
+		final Object[] compactedColumns = new Object[columns.length];
+		for ( int i = 0; i < columns.length; i++ ) {
+			compactedColumns[i] = compactColumn( columns[i] );
+		}
 		final CacheItem cacheItem = new CacheItem(
 				session.getTransactionStartTimestamp(),
-				resultsCopy
+				results.size(),
+				compactedColumns
 		);
 
 		try {
@@ -98,6 +159,37 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return true;
 	}
 
+	/**
+	 * Store a column of identifiers (or any other integral values) as a primitive array, which is a fraction of
+	 * the size of an array of boxed values, whether held on heap or serialized.
+	 */
+	private static Object compactColumn(Serializable[] column) {
+		boolean allLongs = true;
+		boolean allIntegers = true;
+		for ( Serializable value : column ) {
+			allLongs = allLongs && value instanceof Long;
+			allIntegers = allIntegers && value instanceof Integer;
+			if ( !allLongs && !allIntegers ) {
+				return column;
+			}
+		}
+		if ( column.length == 0 ) {
+			return column;
+		}
+		if ( allLongs ) {
+			final long[] longs = new long[column.length];
+			for ( int i = 0; i < column.length; i++ ) {
+				longs[i] = (Long) column[i];
+			}
+			return longs;
+		}
+		final int[] integers = new int[column.length];
+		for ( int i = 0; i < column.length; i++ ) {
+			integers[i] = (Integer) column[i];
+		}
+		return integers;
+	}
+
 	private static void logCachedResultDetails(QueryKey key, Set querySpaces, Type[] returnTypes, List result) {
 		if ( !LOG.isTraceEnabled() ) {
 			return;
@@ -169,16 +261,16 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		}
 
 		final boolean singleResult = returnTypes.length == 1;
-		for ( int i = 0; i < cacheItem.results.size(); i++ ) {
+		for ( int i = 0; i < cacheItem.size; i++ ) {
 			if ( singleResult ) {
-				returnTypes[0].beforeAssemble( (Serializable) cacheItem.results.get( i ), session );
+				returnTypes[0].beforeAssemble( cacheItem.getValue( i, 0 ), session );
 			}
 			else {
-				TypeHelper.beforeAssemble( (Serializable[]) cacheItem.results.get( i ), returnTypes, session );
+				TypeHelper.beforeAssemble( cacheItem.getRow( i ), returnTypes, session );
 			}
 		}
 
-		return assembleCachedResult( key, cacheItem.results, singleResult, returnTypes, session );
+		return assembleCachedResult( key, cacheItem, singleResult, returnTypes, session );
 	}
 
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
@@ -196,30 +288,91 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 	@SuppressWarnings("unchecked")
 	private List assembleCachedResult(
 			final QueryKey key,
-			final List cached,
+			final CacheItem cached,
 			boolean singleResult,
 			final Type[] returnTypes,
 			final SharedSessionContractImplementor session) throws HibernateException {
 
-		final List result = new ArrayList( cached.size() );
-		if ( singleResult ) {
-			for ( Object aCached : cached ) {
-				result.add( returnTypes[0].assemble( (Serializable) aCached, session, null ) );
+		final List<Integer> entityColumns = determineBulkResolvableColumns( returnTypes, session );
+
+		final List result = new ArrayList( cached.size );
+		for ( int start = 0; start < cached.size; start += RESOLUTION_WINDOW ) {
+			final int end = Math.min( cached.size, start + RESOLUTION_WINDOW );
+			for ( Integer column : entityColumns ) {
+				resolveEntities( cached, column, start, end, (EntityType) returnTypes[column], session );
 			}
-		}
-		else {
-			for ( int i = 0; i < cached.size(); i++ ) {
-				result.add(
-						TypeHelper.assemble( (Serializable[]) cached.get( i ), returnTypes, session, null )
-				);
-				if ( LOG.isTraceEnabled() ) {
-					logCachedResultRowDetails( returnTypes, result.get( i ) );
+
+			for ( int i = start; i < end; i++ ) {
+				if ( singleResult ) {
+					result.add( returnTypes[0].assemble( cached.getValue( i, 0 ), session, null ) );
+				}
+				else {
+					result.add( TypeHelper.assemble( cached.getRow( i ), returnTypes, session, null ) );
+					if ( LOG.isTraceEnabled() ) {
+						logCachedResultRowDetails( returnTypes, result.get( i ) );
+					}
 				}
 			}
 		}
 		return result;
 	}
 
+	/**
+	 * The columns holding the identifiers of entities which assembly would load one by one.
+	 */
+	private static List<Integer> determineBulkResolvableColumns(
+			Type[] returnTypes,
+			SharedSessionContractImplementor session) {
+		if ( !( session instanceof EventSource ) ) {
+			return Collections.emptyList();
+		}
+		List<Integer> columns = null;
+		for ( int i = 0; i < returnTypes.length; i++ ) {
+			if ( returnTypes[i] instanceof ManyToOneType ) {
+				final EntityType entityType = (EntityType) returnTypes[i];
+				if ( entityType.isReferenceToPrimaryKey() && entityType.isEager( null ) ) {
+					if ( columns == null ) {
+						columns = new ArrayList<>( returnTypes.length );
+					}
+					columns.add( i );
+				}
+			}
+		}
+		return columns == null ? Collections.emptyList() : columns;
+	}
+
+	/**
+	 * Load the entities referenced by a window of rows which are not yet associated with the session
+	 * all at once, ahead of their assembly.  They are looked up in the second-level cache first, the
+	 * remaining ones are batch loaded.
+	 */
+	private static void resolveEntities(
+			CacheItem cached,
+			int column,
+			int start,
+			int end,
+			EntityType entityType,
+			SharedSessionContractImplementor session) {
+		final EntityPersister persister = entityType.getAssociatedEntityPersister( session.getFactory() );
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		final Set<Serializable> ids = new LinkedHashSet<>();
+		for ( int i = start; i < end; i++ ) {
+			final Serializable value = cached.getValue( i, column );
+			if ( value == null
+					|| value == LazyPropertyInitializer.UNFETCHED_PROPERTY
+					|| value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+				continue;
+			}
+			final Serializable id = (Serializable) persister.getIdentifierType().assemble( value, session, null );
+			if ( id != null && persistenceContext.getEntity( id, persister ) == null ) {
+				ids.add( id );
+			}
+		}
+		if ( ids.size() > 1 ) {
+			persister.multiLoad( ids.toArray( new Serializable[ids.size()] ), session, BULK_RESOLUTION_OPTIONS );
+		}
+	}
+
 	private static void logCachedResultRowDetails(Type[] returnTypes, Object result) {
 		logCachedResultRowDetails(
 				returnTypes,
@@ -282,13 +435,57 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return "QueryResultsCache(" + cacheRegion.getName() + ')';
 	}
 
+	/**
+	 * The cached results of a query, held by column rather than by row.
+	 */
 	public static class CacheItem implements Serializable {
 		private final long timestamp;
-		private final List results;
+		private final int size;
+		private final Object[] columns;
 
-		CacheItem(long timestamp, List results) {
+		CacheItem(long timestamp, int size, Object[] columns) {
 			this.timestamp = timestamp;
-			this.results = results;
+			this.size = size;
+			this.columns = columns;
+		}
+
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * The number of cached rows
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * The disassembled values of each result column; a {@code long[]} or an {@code int[]} for a column
+		 * made of non-null {@code Long} or {@code Integer} values (such as entity identifiers), a
+		 * {@code Serializable[]} otherwise.
+		 */
+		public Object[] getColumns() {
+			return columns;
+		}
+
+		Serializable getValue(int row, int column) {
+			final Object values = columns[column];
+			if ( values instanceof long[] ) {
+				return ( (long[]) values )[row];
+			}
+			if ( values instanceof int[] ) {
+				return ( (int[]) values )[row];
+			}
+			return ( (Serializable[]) values )[row];
+		}
+
+		Serializable[] getRow(int row) {
+			final Serializable[] values = new Serializable[columns.length];
+			for ( int i = 0; i < values.length; i++ ) {
+				values[i] = getValue( row, i );
+			}
+			return values;
 		}
 	}
 }
@@ -7,7 +7,11 @@
 package org.hibernate.cache.internal;
 
 import java.io.Serializable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.TimestampsCache;
@@ -20,16 +24,37 @@ import org.jboss.logging.Logger;
 
 /**
  * Standard implementation of TimestampsCache
+ * <p/>
+ * When given a staleness window, the last update timestamp of each space is also kept in a local near-cache.
+ * Up-to-date checks are answered from the near-cache for as long as the local copy is younger than the window,
+ * so a clustered timestamps region is not read for every space of every cached query.  Invalidations made
+ * through this cache refresh the local copy as they are written to the region; invalidations made by other
+ * nodes are seen once the local copy expires, at the latest after the staleness window.
  *
  * @author Steve Ebersole
+ *
+ * @see org.hibernate.cfg.AvailableSettings#TIMESTAMPS_NEAR_CACHE_STALENESS
  */
 public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	private static final Logger log = Logger.getLogger( TimestampsCacheEnabledImpl.class );
 
 	private final TimestampsRegion timestampsRegion;
+	private final long stalenessNanos;
+	private final ConcurrentMap<Serializable, NearEntry> nearCache;
 
 	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion) {
+		this( timestampsRegion, 0 );
+	}
+
+	/**
+	 * @param timestampsRegion The region used to store all timestamps data
+	 * @param stalenessMillis How long, in milliseconds, a locally cached timestamp may be used without reading the
+	 * region; {@code 0} disables the near-cache
+	 */
+	public TimestampsCacheEnabledImpl(TimestampsRegion timestampsRegion, long stalenessMillis) {
 		this.timestampsRegion = timestampsRegion;
+		this.stalenessNanos = TimeUnit.MILLISECONDS.toNanos( stalenessMillis );
+		this.nearCache = stalenessMillis > 0 ? new ConcurrentHashMap<>() : null;
 	}
 
 	@Override
@@ -67,6 +92,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 			finally {
 				eventListenerManager.cachePutEnd();
 			}
+			refreshNearCache( space, ts );
 
 			if ( stats ) {
 				statistics.updateTimestampsCachePut();
@@ -101,6 +127,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 					statistics.updateTimestampsCachePut();
 				}
 			}
+			refreshNearCache( space, ts );
 		}
 	}
 
@@ -115,7 +142,9 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		final boolean debugEnabled = log.isDebugEnabled();
 
 		for ( Serializable space : spaces ) {
-			final Long lastUpdate = getLastUpdateTimestampForSpace( space, session );
+			final Long lastUpdate = nearCache == null
+					? getLastUpdateTimestampForSpace( space, session )
+					: getNearCachedLastUpdateTimestampForSpace( space, session, statistics, stats );
 			if ( lastUpdate == null ) {
 				// the last update timestamp for the given space was evicted from the
 				// cache or there have been no writes to it since startup
@@ -154,4 +183,57 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return ts;
 	}
 
+	private Long getNearCachedLastUpdateTimestampForSpace(
+			Serializable space,
+			SharedSessionContractImplementor session,
+			StatisticsImplementor statistics,
+			boolean stats) {
+		final NearEntry cached = nearCache.get( space );
+		final long now = System.nanoTime();
+		if ( cached != null && now - cached.fetchedAt < stalenessNanos ) {
+			if ( stats ) {
+				statistics.updateTimestampsCacheNearHit();
+			}
+			return cached.timestamp;
+		}
+
+		final Long ts = getLastUpdateTimestampForSpace( space, session );
+		// an invalidation racing with the read has already put a fresher copy, which must not be replaced
+		final NearEntry fetched = new NearEntry( ts, now );
+		if ( cached == null ) {
+			nearCache.putIfAbsent( space, fetched );
+		}
+		else {
+			nearCache.replace( space, cached, fetched );
+		}
+		return ts;
+	}
+
+	private void refreshNearCache(Serializable space, Long ts) {
+		if ( nearCache != null ) {
+			nearCache.put( space, new NearEntry( ts, System.nanoTime() ) );
+		}
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		if ( nearCache != null ) {
+			nearCache.clear();
+		}
+		timestampsRegion.clear();
+	}
+
+	/**
+	 * A locally cached last update timestamp, possibly {@code null}, and when it was taken.  Compared by identity
+	 * so that only the copy a read started from is replaced.
+	 */
+	private static final class NearEntry {
+		private final Long timestamp;
+		private final long fetchedAt;
+
+		private NearEntry(Long timestamp, long fetchedAt) {
+			this.timestamp = timestamp;
+			this.fetchedAt = fetchedAt;
+		}
+	}
 }
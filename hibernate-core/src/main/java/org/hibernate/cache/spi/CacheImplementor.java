@@ -78,6 +78,32 @@ public interface CacheImplementor extends Service, Cache, org.hibernate.engine.s
 	 */
 	TimestampsCache getTimestampsCache();
 
+	/**
+	 * The partitioning applied to query spaces for fine-grained query cache invalidation.  Will return
+	 * {@code null} if Hibernate is not configured for query result caching or no partition keys are defined.
+	 *
+	 * @apiNote It is only valid to call this method once the SessionFactory is built
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITION_KEYS
+	 *
+	 * @since 5.5
+	 */
+	default QueryCachePartitioning getQueryCachePartitioning() {
+		return null;
+	}
+
+	/**
+	 * The warm-up of the regions started once the SessionFactory is built.  Will return {@code null} if no
+	 * region is configured to be warmed up.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CACHE_WARM_UP_REGIONS
+	 *
+	 * @since 5.5
+	 */
+	default CacheWarmUp getCacheWarmUp() {
+		return null;
+	}
+
 	/**
 	 * Access to the "default" region used to store query results when caching
 	 * was requested but no region was explicitly named.  Will return {@code null}
@@ -0,0 +1,278 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.SessionFactoryObserver;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The warm-up of second level cache regions, which loads the entities and collections cached in the regions
+ * named by {@link AvailableSettings#CACHE_WARM_UP_REGIONS} once the SessionFactory is built, so that a freshly
+ * started node does not send all of its reads to the database.
+ * <p/>
+ * Each entity hierarchy is read by its own task, which scrolls over all of its instances with a session in
+ * {@link CacheMode#REFRESH} mode.  The entities are therefore put into their region through the regular
+ * {@code putFromLoad} path, and so are the cached collections, which are initialized on the way.  The session
+ * is cleared after each batch.  The tasks run in parallel on a dedicated pool, optionally throttled to a maximum
+ * number of entities per second, and either delay the end of the SessionFactory build or run in the background.
+ *
+ * @since 5.5
+ */
+public final class CacheWarmUp implements SessionFactoryObserver {
+	private static final Logger LOG = CoreLogging.logger( CacheWarmUp.class );
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final Set<String> entityNames;
+	private final Set<String> collectionRoles;
+
+	private final int batchSize;
+	private final int threads;
+	private final long nanosPerEntity;
+	private final boolean async;
+
+	private final LongAdder entityLoadCount = new LongAdder();
+	private final LongAdder collectionLoadCount = new LongAdder();
+	private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+	private volatile boolean cancelled;
+	private volatile ExecutorService executor;
+	private long nextPermitted;
+
+	/**
+	 * Constructs a CacheWarmUp, configured by the {@code hibernate.cache.warm_up_*} settings.
+	 *
+	 * @param sessionFactory The session factory
+	 * @param entityNames The names of the root entities cached in the regions to warm up
+	 * @param collectionRoles The roles of the collections cached in the regions to warm up
+	 */
+	public CacheWarmUp(SessionFactoryImplementor sessionFactory, Set<String> entityNames, Set<String> collectionRoles) {
+		this.sessionFactory = sessionFactory;
+		this.entityNames = entityNames;
+		this.collectionRoles = collectionRoles;
+
+		final Map properties = sessionFactory.getProperties();
+		this.batchSize = Math.max( 1, ConfigurationHelper.getInt( AvailableSettings.CACHE_WARM_UP_BATCH_SIZE, properties, 100 ) );
+		this.threads = Math.max( 1, ConfigurationHelper.getInt( AvailableSettings.CACHE_WARM_UP_THREADS, properties, 1 ) );
+		final int maxRate = ConfigurationHelper.getInt( AvailableSettings.CACHE_WARM_UP_MAX_RATE, properties, 0 );
+		this.nanosPerEntity = maxRate > 0 ? TimeUnit.SECONDS.toNanos( 1 ) / maxRate : 0;
+		this.async = ConfigurationHelper.getBoolean( AvailableSettings.CACHE_WARM_UP_ASYNC, properties, false );
+	}
+
+	/**
+	 * The number of entities loaded into the second level cache so far.
+	 */
+	public long getEntityLoadCount() {
+		return entityLoadCount.sum();
+	}
+
+	/**
+	 * The number of collections loaded into the second level cache so far.
+	 */
+	public long getCollectionLoadCount() {
+		return collectionLoadCount.sum();
+	}
+
+	/**
+	 * Is the warm-up over, either complete or stopped by the SessionFactory being closed?
+	 */
+	public boolean isComplete() {
+		return completion.isDone();
+	}
+
+	/**
+	 * Waits for the warm-up to be over.
+	 *
+	 * @param timeout The maximum time to wait
+	 * @param unit The unit of the timeout
+	 *
+	 * @return {@code true} if the warm-up is over, {@code false} if the timeout elapsed first
+	 *
+	 * @throws InterruptedException If the current thread was interrupted while waiting
+	 */
+	public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+		try {
+			completion.get( timeout, unit );
+			return true;
+		}
+		catch (TimeoutException e) {
+			return false;
+		}
+		catch (ExecutionException e) {
+			// the tasks handle their own failures
+			return true;
+		}
+	}
+
+	@Override
+	public void sessionFactoryCreated(SessionFactory factory) {
+		final Map<EntityPersister, List<CollectionPersister>> tasks = new LinkedHashMap<>();
+		for ( String entityName : entityNames ) {
+			tasks.computeIfAbsent( sessionFactory.getMetamodel().entityPersister( entityName ), k -> new ArrayList<>() );
+		}
+		for ( String collectionRole : collectionRoles ) {
+			final CollectionPersister collectionPersister = sessionFactory.getMetamodel().collectionPersister( collectionRole );
+			final EntityPersister rootPersister = sessionFactory.getMetamodel().entityPersister(
+					collectionPersister.getOwnerEntityPersister().getRootEntityName()
+			);
+			tasks.computeIfAbsent( rootPersister, k -> new ArrayList<>() ).add( collectionPersister );
+		}
+
+		LOG.debugf( "Warming up the second level cache for %s entity hierarchies", tasks.size() );
+		final long start = System.nanoTime();
+		executor = Executors.newFixedThreadPool( Math.min( threads, tasks.size() ), new WarmUpThreadFactory() );
+		final CompletableFuture[] futures = new CompletableFuture[tasks.size()];
+		int i = 0;
+		for ( Map.Entry<EntityPersister, List<CollectionPersister>> task : tasks.entrySet() ) {
+			futures[i++] = CompletableFuture.runAsync( () -> warmUp( task.getKey(), task.getValue() ), executor );
+		}
+		executor.shutdown();
+		CompletableFuture.allOf( futures ).whenComplete(
+				(result, failure) -> {
+					LOG.infof(
+							"Second level cache warm-up loaded %s entities and %s collections in %s ms",
+							getEntityLoadCount(),
+							getCollectionLoadCount(),
+							TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start )
+					);
+					completion.complete( null );
+				}
+		);
+
+		if ( !async ) {
+			try {
+				completion.get();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			catch (ExecutionException e) {
+				// the tasks handle their own failures
+			}
+		}
+	}
+
+	@Override
+	public void sessionFactoryClosing(SessionFactory factory) {
+		cancelled = true;
+		if ( executor != null ) {
+			executor.shutdownNow();
+			// the tasks still queued will not run
+			completion.complete( null );
+		}
+	}
+
+	private void warmUp(EntityPersister rootPersister, List<CollectionPersister> collectionPersisters) {
+		final String entityName = rootPersister.getEntityName();
+		final long start = System.nanoTime();
+		long entities = 0;
+		try (Session session = sessionFactory.openSession()) {
+			session.setCacheMode( CacheMode.REFRESH );
+			session.setDefaultReadOnly( true );
+			final Transaction transaction = session.beginTransaction();
+			try (ScrollableResults results = session.createQuery( "select e from " + entityName + " e" )
+					.setFetchSize( batchSize )
+					.scroll( ScrollMode.FORWARD_ONLY )) {
+				int batch = 0;
+				while ( !cancelled && results.next() ) {
+					initializeCollections( results.get( 0 ), collectionPersisters );
+					if ( ++batch == batchSize ) {
+						session.clear();
+						entities += batch;
+						entityLoadCount.add( batch );
+						throttle( batch );
+						batch = 0;
+					}
+				}
+				entities += batch;
+				entityLoadCount.add( batch );
+			}
+			transaction.commit();
+			LOG.debugf(
+					"Second level cache warm-up loaded %s %s entities in %s ms",
+					entities,
+					entityName,
+					TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start )
+			);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (RuntimeException e) {
+			if ( !cancelled ) {
+				LOG.warnf( e, "Second level cache warm-up of %s failed after %s entities", entityName, entities );
+			}
+		}
+	}
+
+	private void initializeCollections(Object entity, List<CollectionPersister> collectionPersisters) {
+		for ( CollectionPersister collectionPersister : collectionPersisters ) {
+			final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
+			if ( ownerPersister.isInstance( entity ) ) {
+				final String propertyPath = collectionPersister.getRole().substring( ownerPersister.getEntityName().length() + 1 );
+				final Object collection = ownerPersister.getPropertyValue( entity, propertyPath );
+				if ( collection != null ) {
+					Hibernate.initialize( collection );
+					collectionLoadCount.increment();
+				}
+			}
+		}
+	}
+
+	private void throttle(int entities) throws InterruptedException {
+		if ( nanosPerEntity == 0 ) {
+			return;
+		}
+		final long delay;
+		synchronized ( this ) {
+			final long now = System.nanoTime();
+			final long permitted = Math.max( now, nextPermitted );
+			nextPermitted = permitted + entities * nanosPerEntity;
+			delay = permitted - now;
+		}
+		if ( delay > 0 ) {
+			TimeUnit.NANOSECONDS.sleep( delay );
+		}
+	}
+
+	private static class WarmUpThreadFactory implements ThreadFactory {
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread( runnable );
+			thread.setDaemon( true );
+			thread.setName( "Hibernate Cache Warm-up Thread" );
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.action.internal.AbstractEntityInsertAction;
+import org.hibernate.action.internal.EntityAction;
+import org.hibernate.action.internal.EntityDeleteAction;
+import org.hibernate.action.internal.EntityUpdateAction;
+import org.hibernate.action.spi.Executable;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.engine.internal.ForeignKeys;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.config.ConfigurationException;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * The partitioning of query spaces applied for fine-grained query cache invalidation.
+ * <p/>
+ * The tables of an entity with a partition key property have, next to their own update timestamp, one update
+ * timestamp per value of the partition key and one for the writes which cannot be attributed to a partition,
+ * such as bulk operations.  Writes of the entity bump the timestamps of the partitions found in its state before
+ * and after the write, as well as the timestamp of the table.  A cached query naming a partition is checked
+ * against the timestamps of that partition and of the unattributed writes instead of the table's, so it is not
+ * invalidated by writes to other partitions.  Queries not naming a partition keep being checked against the
+ * timestamp of the table.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_PARTITION_KEYS
+ * @see org.hibernate.annotations.QueryHints#CACHE_PARTITION
+ *
+ * @since 5.5
+ */
+public final class QueryCachePartitioning {
+	private static final char PARTITION_SEPARATOR = '#';
+
+	private final Map<String, PartitionKey> keysByEntityName;
+	private final Map<String, String> propertiesBySpace;
+
+	private QueryCachePartitioning(Map<String, PartitionKey> keysByEntityName, Map<String, String> propertiesBySpace) {
+		this.keysByEntityName = keysByEntityName;
+		this.propertiesBySpace = propertiesBySpace;
+	}
+
+	/**
+	 * Resolves the partition key properties against the mapped entities.
+	 *
+	 * @param partitionKeys The comma separated list of {@code entityName.propertyName}
+	 * @param factory The session factory
+	 *
+	 * @return The partitioning, or {@code null} if no partition keys are given
+	 */
+	public static QueryCachePartitioning resolve(String partitionKeys, SessionFactoryImplementor factory) {
+		if ( StringHelper.isEmpty( partitionKeys ) ) {
+			return null;
+		}
+
+		final Map<String, PartitionKey> keysByEntityName = new HashMap<>();
+		final Map<String, String> propertiesBySpace = new HashMap<>();
+		for ( String partitionKey : StringHelper.split( ", \t\n", partitionKeys ) ) {
+			final int separator = partitionKey.lastIndexOf( '.' );
+			if ( separator <= 0 ) {
+				throw new ConfigurationException(
+						"Query cache partition key [" + partitionKey + "] should be of the form entityName.propertyName"
+				);
+			}
+			final String entityName = factory.getImportedClassName( partitionKey.substring( 0, separator ) );
+			final String propertyName = partitionKey.substring( separator + 1 );
+			final EntityPersister rootPersister = factory.getMetamodel().entityPersister( entityName );
+			for ( Object subclassEntityName : rootPersister.getEntityMetamodel().getSubclassEntityNames() ) {
+				final EntityPersister persister = factory.getMetamodel().entityPersister( (String) subclassEntityName );
+				final int propertyIndex = persister.getEntityMetamodel().getPropertyIndex( propertyName );
+				final Type propertyType = persister.getPropertyTypes()[propertyIndex];
+				if ( propertyType.isComponentType() || propertyType.isCollectionType() ) {
+					throw new ConfigurationException(
+							"Query cache partition key [" + partitionKey + "] should be a basic or to-one property"
+					);
+				}
+				keysByEntityName.put( persister.getEntityName(), new PartitionKey( propertyIndex, propertyType ) );
+				for ( Serializable space : persister.getPropertySpaces() ) {
+					final String previous = propertiesBySpace.put( (String) space, propertyName );
+					if ( previous != null && !previous.equals( propertyName ) ) {
+						throw new ConfigurationException(
+								"Query space [" + space + "] cannot be partitioned by both [" + previous
+										+ "] and [" + propertyName + "]"
+						);
+					}
+				}
+			}
+		}
+		return new QueryCachePartitioning( keysByEntityName, propertiesBySpace );
+	}
+
+	/**
+	 * The spaces a cached query restricted to the given partition is to be checked against.
+	 *
+	 * @param querySpaces The tables the query reads
+	 * @param partition The partition key value the query is restricted to
+	 *
+	 * @return The spaces of the partition and of its unattributed writes for the partitioned tables, the
+	 * tables themselves otherwise
+	 */
+	public Set<Serializable> getQuerySpaces(Set<Serializable> querySpaces, Object partition) {
+		Set<Serializable> spaces = null;
+		for ( Serializable space : querySpaces ) {
+			final String propertyName = propertiesBySpace.get( space );
+			if ( propertyName != null ) {
+				if ( spaces == null ) {
+					spaces = new LinkedHashSet<>( querySpaces );
+				}
+				spaces.remove( space );
+				spaces.add( unattributedSpace( (String) space, propertyName ) );
+				spaces.add( partitionSpace( (String) space, propertyName, partition ) );
+			}
+		}
+		return spaces == null ? querySpaces : spaces;
+	}
+
+	/**
+	 * Collects the partition spaces to invalidate for an executed action, in addition to its own spaces.
+	 *
+	 * @param executable The executed action
+	 * @param spaces The spaces to invalidate
+	 */
+	public void collectSpacesToInvalidate(Executable executable, Set<String> spaces) {
+		final Serializable[] propertySpaces = executable.getPropertySpaces();
+		if ( propertySpaces == null || propertySpaces.length == 0 ) {
+			return;
+		}
+
+		Set<Object> partitions = null;
+		if ( executable instanceof EntityAction ) {
+			final EntityAction action = (EntityAction) executable;
+			final PartitionKey key = keysByEntityName.get( action.getPersister().getEntityName() );
+			if ( key != null ) {
+				partitions = key.partitionsOf( action );
+			}
+		}
+
+		for ( Serializable space : propertySpaces ) {
+			final String propertyName = propertiesBySpace.get( space );
+			if ( propertyName != null ) {
+				if ( partitions == null ) {
+					spaces.add( unattributedSpace( (String) space, propertyName ) );
+				}
+				else {
+					for ( Object partition : partitions ) {
+						spaces.add( partitionSpace( (String) space, propertyName, partition ) );
+					}
+				}
+			}
+		}
+	}
+
+	private static String unattributedSpace(String space, String propertyName) {
+		return space + PARTITION_SEPARATOR + propertyName;
+	}
+
+	private static String partitionSpace(String space, String propertyName, Object partition) {
+		return space + PARTITION_SEPARATOR + propertyName + '=' + partition;
+	}
+
+	private static final class PartitionKey {
+		private final int propertyIndex;
+		private final Type propertyType;
+
+		private PartitionKey(int propertyIndex, Type propertyType) {
+			this.propertyIndex = propertyIndex;
+			this.propertyType = propertyType;
+		}
+
+		/**
+		 * The partitions written by the action, or {@code null} if the action cannot be attributed to partitions.
+		 */
+		private Set<Object> partitionsOf(EntityAction action) {
+			final Set<Object> partitions = new LinkedHashSet<>( 2 );
+			if ( action instanceof AbstractEntityInsertAction ) {
+				return addPartition( partitions, ( (AbstractEntityInsertAction) action ).getState(), action );
+			}
+			else if ( action instanceof EntityUpdateAction ) {
+				final EntityUpdateAction update = (EntityUpdateAction) action;
+				return addPartition( addPartition( partitions, update.getState(), action ), update.getPreviousState(), action );
+			}
+			else if ( action instanceof EntityDeleteAction ) {
+				return addPartition( partitions, ( (EntityDeleteAction) action ).getState(), action );
+			}
+			return null;
+		}
+
+		private Set<Object> addPartition(Set<Object> partitions, Object[] state, EntityAction action) {
+			if ( partitions == null || state == null ) {
+				return null;
+			}
+			final Object value = state[propertyIndex];
+			if ( value == null || value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				return null;
+			}
+			if ( propertyType.isEntityType() ) {
+				partitions.add(
+						ForeignKeys.getEntityIdentifierIfNotUnsaved(
+								( (EntityType) propertyType ).getAssociatedEntityName(),
+								value,
+								action.getSession()
+						)
+				);
+			}
+			else {
+				partitions.add( value );
+			}
+			return partitions;
+		}
+
+	}
+}
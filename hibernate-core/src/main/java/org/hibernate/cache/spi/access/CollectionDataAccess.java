@@ -6,7 +6,10 @@
  */
 package org.hibernate.cache.spi.access;
 
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.entry.CollectionCacheEntryDelta;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 
 /**
@@ -15,6 +18,9 @@ import org.hibernate.persister.collection.CollectionPersister;
  * invalidate the entry(s).  The call sequence here is:
  * {@link #lockItem} -> {@link #remove} -> {@link #unlockItem}
  * <p/>
+ * When the changes made to the collection are known as a {@link CollectionCacheEntryDelta}, {@link #afterUpdate}
+ * is called instead of {@link #unlockItem}, to apply them to the cached entry.
+ * <p/>
  * There is another usage pattern that is used to invalidate entries
  * afterQuery performing "bulk" HQL/SQL operations:
  * {@link #lockRegion} -> {@link #removeAll} -> {@link #unlockRegion}
@@ -48,5 +54,30 @@ public interface CollectionDataAccess extends CachedDomainDataAccess {
 	 */
 	Object getCacheKeyId(Object cacheKey);
 
+	/**
+	 * Called afterQuery the collection has been updated (afterQuery the transaction completes), instead of
+	 * {@link #unlockItem}, with the changes made to the collection.  The default implementation ignores the
+	 * changes and unlocks the item, leaving it invalidated.
+	 *
+	 * @param session Current session
+	 * @param key The item key
+	 * @param delta The changes made to the collection
+	 * @param ownerVersion The current version of the collection owner, or {@code null} if it is not versioned
+	 * @param lock The lock previously obtained from {@link #lockItem}
+	 *
+	 * @return Were the contents of the cache actually changed by this operation?
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 */
+	default boolean afterUpdate(
+			SharedSessionContractImplementor session,
+			Object key,
+			CollectionCacheEntryDelta delta,
+			Object ownerVersion,
+			SoftLock lock) {
+		unlockItem( session, key, lock );
+		return false;
+	}
+
 
 }
@@ -47,4 +47,16 @@ public interface CacheEntry extends Serializable {
 	 * @return The disassembled state
 	 */
 	Serializable[] getDisassembledState();
+
+	/**
+	 * Get the disassembled state of a single property, which some entry formats can provide
+	 * without building the whole disassembled state.
+	 *
+	 * @param propertyIndex The index of the property
+	 *
+	 * @return The disassembled state of the property
+	 */
+	default Serializable getDisassembledState(int propertyIndex) {
+		return getDisassembledState()[propertyIndex];
+	}
 }
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.SetType;
+import org.hibernate.type.Type;
+
+/**
+ * The changes made to a collection, as a sequence of element additions and removals which can be applied to the
+ * {@link CollectionCacheEntry} cached for it instead of invalidating the entry.
+ * <p/>
+ * The changes are recorded from the operations queued by an uninitialized collection when the session is flushed,
+ * {@link #disassemble disassembled} once the elements have been written, and applied by the
+ * {@link org.hibernate.cache.spi.access.CollectionDataAccess} when the transaction completes.  Elements are
+ * appended to the cached state, so only collections without an index or an ordering are described this way.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#COLLECTION_CACHE_DELTA_UPDATES
+ */
+public final class CollectionCacheEntryDelta {
+	private enum Kind {
+		ADD,
+		REMOVE,
+		CLEAR
+	}
+
+	private static final class Operation {
+		private final Kind kind;
+		private Object element;
+
+		private Operation(Kind kind, Object element) {
+			this.kind = kind;
+			this.element = element;
+		}
+	}
+
+	private final List<Operation> operations = new ArrayList<>();
+
+	private CollectionPersister persister;
+	private SessionFactoryImplementor factory;
+	private boolean distinctElements;
+
+	/**
+	 * Records the addition of an element.
+	 *
+	 * @param element The added element
+	 */
+	public void add(Object element) {
+		operations.add( new Operation( Kind.ADD, element ) );
+	}
+
+	/**
+	 * Records the removal of an element.
+	 *
+	 * @param element The removed element
+	 */
+	public void remove(Object element) {
+		operations.add( new Operation( Kind.REMOVE, element ) );
+	}
+
+	/**
+	 * Records the removal of all the elements.
+	 */
+	public void clear() {
+		operations.add( new Operation( Kind.CLEAR, null ) );
+	}
+
+	/**
+	 * Replaces the recorded elements with their disassembled state, as found in the cached entry.
+	 *
+	 * @param persister The collection persister
+	 * @param session The session which wrote the changes
+	 */
+	public void disassemble(CollectionPersister persister, SharedSessionContractImplementor session) {
+		final Type elementType = persister.getElementType();
+		for ( Operation operation : operations ) {
+			if ( operation.kind != Kind.CLEAR ) {
+				operation.element = elementType.disassemble( operation.element, session, null );
+			}
+		}
+		this.persister = persister;
+		this.factory = session.getFactory();
+		// a set, or the rows of a one-to-many, can hold an element only once
+		this.distinctElements = persister.isOneToMany() || persister.getCollectionType() instanceof SetType;
+	}
+
+	/**
+	 * Applies the changes to a cached collection.
+	 *
+	 * @param cachedValue The value cached for the collection, as structured by its persister
+	 *
+	 * @return The value to cache for the changed collection, or {@code null} if the changes do not apply to the
+	 * cached value, which should then be invalidated
+	 */
+	public Object applyTo(Object cachedValue) {
+		if ( persister == null ) {
+			throw new AssertionFailure( "Collection cache entry delta was not disassembled" );
+		}
+		final CollectionCacheEntry entry = (CollectionCacheEntry) persister.getCacheEntryStructure()
+				.destructure( cachedValue, factory );
+		final List<Serializable> elements = new ArrayList<>( Arrays.asList( entry.getState() ) );
+		for ( Operation operation : operations ) {
+			switch ( operation.kind ) {
+				case ADD:
+					if ( !distinctElements || indexOf( elements, operation.element ) < 0 ) {
+						elements.add( (Serializable) operation.element );
+					}
+					break;
+				case REMOVE:
+					final int index = indexOf( elements, operation.element );
+					if ( index < 0 ) {
+						// the cached state does not hold what was removed from the database
+						return null;
+					}
+					elements.remove( index );
+					break;
+				case CLEAR:
+					elements.clear();
+					break;
+			}
+		}
+		final Serializable[] state = elements.toArray( new Serializable[elements.size()] );
+		return persister.getCacheEntryStructure().structure( new CollectionCacheEntry( state ) );
+	}
+
+	private static int indexOf(List<Serializable> elements, Object element) {
+		for ( int i = 0; i < elements.size(); i++ ) {
+			// elements with a composite identifier are disassembled to arrays
+			if ( Objects.deepEquals( elements.get( i ), element ) ) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Compact CacheEntry format for entities.  Used to store the entry into the second-level cache as a single
+ * {@code byte[]}, which is far smaller than the serialized form of a {@link StandardCacheEntryImpl} and cheap
+ * to copy for store-by-value caches.
+ * <p/>
+ * The entry starts with a header made of the format version, the entity name, the version value and the length
+ * of the encoding of each property.  The entity name is stored as such, rather than as a position within the
+ * hierarchy, so that entries stay valid for deployments of another set of subclasses sharing the cache.
+ * The header is read when the entry is destructured, the properties only once they are asked for, so that
+ * the lazy properties of an entity can be initialized from the cache without decoding the others.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#USE_COMPACT_CACHE_ENTRIES
+ */
+public class CompactCacheEntry implements CacheEntryStructure {
+	private static final byte FORMAT_VERSION = 1;
+
+	/**
+	 * Access to the singleton instance.
+	 */
+	public static final CompactCacheEntry INSTANCE = new CompactCacheEntry();
+
+	private CompactCacheEntry() {
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+
+		final CompactStateEncoding.Output properties = new CompactStateEncoding.Output();
+		final CompactStateEncoding.Output out = new CompactStateEncoding.Output();
+		out.writeByte( FORMAT_VERSION );
+		CompactStateEncoding.write( out, entry.getSubclass() );
+		CompactStateEncoding.write( out, entry.getVersion() );
+		out.writeVarLong( state.length );
+		for ( Serializable value : state ) {
+			final int start = properties.size();
+			CompactStateEncoding.write( properties, value );
+			out.writeVarLong( properties.size() - start );
+		}
+		properties.writeTo( out );
+		return out.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		if ( !( structured instanceof byte[] ) ) {
+			// cached before compact entries were enabled
+			return structured;
+		}
+
+		final byte[] data = (byte[]) structured;
+		final CompactStateEncoding.Input in = new CompactStateEncoding.Input( data, 0 );
+		final byte format = in.readByte();
+		if ( format != FORMAT_VERSION ) {
+			throw new CacheException( "Unsupported compact cache entry format [" + format + "]" );
+		}
+		final String subclass = (String) CompactStateEncoding.read( in );
+		final Object version = CompactStateEncoding.read( in );
+		final int[] offsets = new int[(int) in.readVarLong()];
+		int length = 0;
+		for ( int i = 0; i < offsets.length; i++ ) {
+			offsets[i] = length;
+			length += (int) in.readVarLong();
+		}
+		for ( int i = 0; i < offsets.length; i++ ) {
+			offsets[i] += in.position();
+		}
+		return new CompactCacheEntryImpl( data, offsets, subclass, version );
+	}
+}
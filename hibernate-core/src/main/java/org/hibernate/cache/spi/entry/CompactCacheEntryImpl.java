@@ -0,0 +1,51 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+/**
+ * Entity cached data read from its {@link CompactCacheEntry} form.  The disassembled state is decoded lazily,
+ * either property by property or all at once.
+ */
+public class CompactCacheEntryImpl extends StandardCacheEntryImpl {
+	private final byte[] data;
+	private final int[] offsets;
+
+	private transient Serializable[] disassembledState;
+
+	CompactCacheEntryImpl(byte[] data, int[] offsets, String subclass, Object version) {
+		super( null, subclass, version );
+		this.data = data;
+		this.offsets = offsets;
+	}
+
+	@Override
+	public Serializable[] getDisassembledState() {
+		Serializable[] state = disassembledState;
+		if ( state == null ) {
+			state = new Serializable[offsets.length];
+			if ( offsets.length > 0 ) {
+				final CompactStateEncoding.Input in = new CompactStateEncoding.Input( data, offsets[0] );
+				for ( int i = 0; i < state.length; i++ ) {
+					state[i] = CompactStateEncoding.read( in );
+				}
+			}
+			disassembledState = state;
+		}
+		return state;
+	}
+
+	@Override
+	public Serializable getDisassembledState(int propertyIndex) {
+		final Serializable[] state = disassembledState;
+		if ( state != null ) {
+			return state[propertyIndex];
+		}
+		return CompactStateEncoding.read( new CompactStateEncoding.Input( data, offsets[propertyIndex] ) );
+	}
+}
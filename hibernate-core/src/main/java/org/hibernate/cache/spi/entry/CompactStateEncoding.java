@@ -0,0 +1,337 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * Binary encoding of disassembled values used by {@link CompactCacheEntry}.
+ * <p/>
+ * Each value is written as a one byte tag followed by its payload.  Integral values are written as
+ * zig-zag varints, strings as their varint length and UTF-8 bytes; the arrays disassembled components
+ * are made of are written element by element.  Values of any other type fall back to Java serialization.
+ */
+final class CompactStateEncoding {
+	private static final byte NULL = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = 2;
+	private static final byte INTEGER = 3;
+	private static final byte LONG = 4;
+	private static final byte SHORT = 5;
+	private static final byte BYTE = 6;
+	private static final byte CHARACTER = 7;
+	private static final byte STRING = 8;
+	private static final byte DOUBLE = 9;
+	private static final byte FLOAT = 10;
+	private static final byte DATE = 11;
+	private static final byte TIMESTAMP = 12;
+	private static final byte SQL_DATE = 13;
+	private static final byte SQL_TIME = 14;
+	private static final byte BIG_DECIMAL = 15;
+	private static final byte BIG_INTEGER = 16;
+	private static final byte UUID_VALUE = 17;
+	private static final byte BYTES = 18;
+	private static final byte ARRAY = 19;
+	private static final byte UNFETCHED_PROPERTY = 20;
+	private static final byte UNKNOWN_BACKREF = 21;
+	private static final byte SERIALIZED = 22;
+
+	private CompactStateEncoding() {
+	}
+
+	static void write(Output out, Object value) {
+		if ( value == null ) {
+			out.writeByte( NULL );
+		}
+		else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+			out.writeByte( UNFETCHED_PROPERTY );
+		}
+		else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+			out.writeByte( UNKNOWN_BACKREF );
+		}
+		else {
+			final Class<?> valueClass = value.getClass();
+			if ( valueClass == String.class ) {
+				final byte[] bytes = ( (String) value ).getBytes( StandardCharsets.UTF_8 );
+				out.writeByte( STRING );
+				out.writeVarLong( bytes.length );
+				out.writeBytes( bytes, bytes.length );
+			}
+			else if ( valueClass == Integer.class ) {
+				out.writeByte( INTEGER );
+				out.writeZigZag( (Integer) value );
+			}
+			else if ( valueClass == Long.class ) {
+				out.writeByte( LONG );
+				out.writeZigZag( (Long) value );
+			}
+			else if ( valueClass == Boolean.class ) {
+				out.writeByte( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( valueClass == Short.class ) {
+				out.writeByte( SHORT );
+				out.writeZigZag( (Short) value );
+			}
+			else if ( valueClass == Byte.class ) {
+				out.writeByte( BYTE );
+				out.writeByte( (Byte) value );
+			}
+			else if ( valueClass == Character.class ) {
+				out.writeByte( CHARACTER );
+				out.writeVarLong( (Character) value );
+			}
+			else if ( valueClass == Double.class ) {
+				out.writeByte( DOUBLE );
+				out.writeFixedLong( Double.doubleToRawLongBits( (Double) value ) );
+			}
+			else if ( valueClass == Float.class ) {
+				out.writeByte( FLOAT );
+				out.writeFixedLong( Float.floatToRawIntBits( (Float) value ) );
+			}
+			else if ( valueClass == Date.class ) {
+				out.writeByte( DATE );
+				out.writeZigZag( ( (Date) value ).getTime() );
+			}
+			else if ( valueClass == Timestamp.class ) {
+				out.writeByte( TIMESTAMP );
+				out.writeZigZag( ( (Timestamp) value ).getTime() );
+				out.writeVarLong( ( (Timestamp) value ).getNanos() );
+			}
+			else if ( valueClass == java.sql.Date.class ) {
+				out.writeByte( SQL_DATE );
+				out.writeZigZag( ( (java.sql.Date) value ).getTime() );
+			}
+			else if ( valueClass == Time.class ) {
+				out.writeByte( SQL_TIME );
+				out.writeZigZag( ( (Time) value ).getTime() );
+			}
+			else if ( valueClass == BigDecimal.class ) {
+				final byte[] unscaled = ( (BigDecimal) value ).unscaledValue().toByteArray();
+				out.writeByte( BIG_DECIMAL );
+				out.writeZigZag( ( (BigDecimal) value ).scale() );
+				out.writeVarLong( unscaled.length );
+				out.writeBytes( unscaled, unscaled.length );
+			}
+			else if ( valueClass == BigInteger.class ) {
+				final byte[] bytes = ( (BigInteger) value ).toByteArray();
+				out.writeByte( BIG_INTEGER );
+				out.writeVarLong( bytes.length );
+				out.writeBytes( bytes, bytes.length );
+			}
+			else if ( valueClass == UUID.class ) {
+				out.writeByte( UUID_VALUE );
+				out.writeFixedLong( ( (UUID) value ).getMostSignificantBits() );
+				out.writeFixedLong( ( (UUID) value ).getLeastSignificantBits() );
+			}
+			else if ( valueClass == byte[].class ) {
+				final byte[] bytes = (byte[]) value;
+				out.writeByte( BYTES );
+				out.writeVarLong( bytes.length );
+				out.writeBytes( bytes, bytes.length );
+			}
+			else if ( valueClass == Object[].class || valueClass == Serializable[].class ) {
+				final Object[] array = (Object[]) value;
+				out.writeByte( ARRAY );
+				out.writeVarLong( array.length );
+				for ( Object element : array ) {
+					write( out, element );
+				}
+			}
+			else {
+				final byte[] bytes = SerializationHelper.serialize( (Serializable) value );
+				out.writeByte( SERIALIZED );
+				out.writeVarLong( bytes.length );
+				out.writeBytes( bytes, bytes.length );
+			}
+		}
+	}
+
+	static Serializable read(Input in) {
+		final byte tag = in.readByte();
+		switch ( tag ) {
+			case NULL:
+				return null;
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case INTEGER:
+				return (int) in.readZigZag();
+			case LONG:
+				return in.readZigZag();
+			case SHORT:
+				return (short) in.readZigZag();
+			case BYTE:
+				return in.readByte();
+			case CHARACTER:
+				return (char) in.readVarLong();
+			case STRING: {
+				final int length = (int) in.readVarLong();
+				final String value = new String( in.data, in.position, length, StandardCharsets.UTF_8 );
+				in.position += length;
+				return value;
+			}
+			case DOUBLE:
+				return Double.longBitsToDouble( in.readFixedLong() );
+			case FLOAT:
+				return Float.intBitsToFloat( (int) in.readFixedLong() );
+			case DATE:
+				return new Date( in.readZigZag() );
+			case TIMESTAMP: {
+				final Timestamp value = new Timestamp( in.readZigZag() );
+				value.setNanos( (int) in.readVarLong() );
+				return value;
+			}
+			case SQL_DATE:
+				return new java.sql.Date( in.readZigZag() );
+			case SQL_TIME:
+				return new Time( in.readZigZag() );
+			case BIG_DECIMAL: {
+				final int scale = (int) in.readZigZag();
+				return new BigDecimal( new BigInteger( in.readBytes() ), scale );
+			}
+			case BIG_INTEGER:
+				return new BigInteger( in.readBytes() );
+			case UUID_VALUE:
+				return new UUID( in.readFixedLong(), in.readFixedLong() );
+			case BYTES:
+				return in.readBytes();
+			case ARRAY: {
+				final Object[] array = new Object[(int) in.readVarLong()];
+				for ( int i = 0; i < array.length; i++ ) {
+					array[i] = read( in );
+				}
+				return array;
+			}
+			case UNFETCHED_PROPERTY:
+				return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+			case UNKNOWN_BACKREF:
+				return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+			case SERIALIZED:
+				return (Serializable) SerializationHelper.deserialize( in.readBytes() );
+			default:
+				throw new CacheException( "Unexpected tag [" + tag + "] in compact cache entry" );
+		}
+	}
+
+	static final class Output {
+		private byte[] buffer = new byte[128];
+		private int size;
+
+		int size() {
+			return size;
+		}
+
+		private void ensureCapacity(int additional) {
+			if ( size + additional > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length << 1, size + additional ) );
+			}
+		}
+
+		void writeByte(int value) {
+			ensureCapacity( 1 );
+			buffer[size++] = (byte) value;
+		}
+
+		void writeBytes(byte[] bytes, int length) {
+			ensureCapacity( length );
+			System.arraycopy( bytes, 0, buffer, size, length );
+			size += length;
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				buffer[size++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[size++] = (byte) value;
+		}
+
+		void writeZigZag(long value) {
+			writeVarLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		void writeFixedLong(long value) {
+			ensureCapacity( 8 );
+			for ( int i = 0; i < 8; i++ ) {
+				buffer[size++] = (byte) ( value >>> ( i << 3 ) );
+			}
+		}
+
+		void writeTo(Output out) {
+			out.writeBytes( buffer, size );
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf( buffer, size );
+		}
+	}
+
+	static final class Input {
+		private final byte[] data;
+		private int position;
+
+		Input(byte[] data, int position) {
+			this.data = data;
+			this.position = position;
+		}
+
+		int position() {
+			return position;
+		}
+
+		byte readByte() {
+			return data[position++];
+		}
+
+		byte[] readBytes() {
+			final int length = (int) readVarLong();
+			final byte[] bytes = Arrays.copyOfRange( data, position, position + length );
+			position += length;
+			return bytes;
+		}
+
+		long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = data[position++];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			} while ( b < 0 );
+			return value;
+		}
+
+		long readZigZag() {
+			final long value = readVarLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		long readFixedLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value |= ( data[position++] & 0xFFL ) << ( i << 3 );
+			}
+			return value;
+		}
+	}
+}
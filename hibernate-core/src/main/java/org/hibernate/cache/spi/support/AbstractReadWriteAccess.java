@@ -7,10 +7,14 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -18,25 +22,43 @@ import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 import org.jboss.logging.Logger;
 
 /**
+ * Base support for read-write access.
+ * <p/>
+ * The read-check-write sequences on a cache entry are guarded by a lock, which is picked by the hash of the
+ * cache key from a fixed set of lock stripes.  Operations on different keys therefore rarely contend, while
+ * operations on the same key are still serialized as before.
+ *
  * @author Steve Ebersole
  */
 public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAccess {
 	private static final Logger log = Logger.getLogger( AbstractReadWriteAccess.class );
 
+	private static final int LOCK_STRIPES = lockStripeCount();
+
 	private final UUID uuid = UUID.randomUUID();
 	private final AtomicLong nextLockId = new AtomicLong();
-	private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-	private final Lock readLock = reentrantReadWriteLock.readLock();
-	private final Lock writeLock = reentrantReadWriteLock.writeLock();
+	private final ReentrantReadWriteLock[] lockStripes = new ReentrantReadWriteLock[LOCK_STRIPES];
+	private final Lock regionReadLock = new AllStripesLock( false );
+	private final Lock regionWriteLock = new AllStripesLock( true );
 
 	protected AbstractReadWriteAccess(
 			DomainDataRegion domainDataRegion,
 			DomainDataStorageAccess storageAccess) {
 		super( domainDataRegion, storageAccess );
+		for ( int i = 0; i < lockStripes.length; i++ ) {
+			lockStripes[i] = new ReentrantReadWriteLock();
+		}
+	}
+
+	private static int lockStripeCount() {
+		// a power of two, roughly four stripes per core
+		final int cores = Runtime.getRuntime().availableProcessors();
+		return Math.max( 16, Integer.highestOneBit( cores * 4 - 1 ) << 1 );
 	}
 
 	protected abstract Comparator getVersionComparator();
@@ -49,12 +71,47 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		return nextLockId.getAndIncrement();
 	}
 
+	/**
+	 * The lock to hold while reading the entry stored under the given key.
+	 *
+	 * @param key The cache key
+	 *
+	 * @return The read lock of the stripe the key belongs to
+	 */
+	protected Lock readLock(Object key) {
+		return lockStripe( key ).readLock();
+	}
+
+	/**
+	 * The lock to hold while reading and replacing the entry stored under the given key.
+	 *
+	 * @param key The cache key
+	 *
+	 * @return The write lock of the stripe the key belongs to
+	 */
+	protected Lock writeLock(Object key) {
+		return lockStripe( key ).writeLock();
+	}
+
+	/**
+	 * @deprecated Acquires the read locks of all stripes, use {@link #readLock(Object)} instead.
+	 */
+	@Deprecated
 	protected Lock readLock() {
-		return readLock;
+		return regionReadLock;
 	}
 
+	/**
+	 * @deprecated Acquires the write locks of all stripes, use {@link #writeLock(Object)} instead.
+	 */
+	@Deprecated
 	protected Lock writeLock() {
-		return writeLock;
+		return regionWriteLock;
+	}
+
+	private ReentrantReadWriteLock lockStripe(Object key) {
+		final int hash = key == null ? 0 : key.hashCode();
+		return lockStripes[( hash ^ ( hash >>> 16 ) ) & ( lockStripes.length - 1 )];
 	}
 
 	/**
@@ -64,8 +121,9 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	@Override
 	public Object get(SharedSessionContractImplementor session, Object key) {
 		log.debugf( "Getting cached data from region [`%s` (%s)] by key [%s]", getRegion().getName(), getAccessType(), key );
+		final Lock readLock = readLock( key );
+		readLock.lock();
 		try {
-			readLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item == null ) {
@@ -88,15 +146,42 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Bulk form of {@link #get}: the items are read from the storage at once, without holding any stripe lock.
+	 * Entries are only ever replaced under the write lock of their stripe, an {@link Item} is immutable and a
+	 * {@link SoftLockImpl} is never readable, so each key yields exactly what {@link #get} would have returned
+	 * at the time the storage read it.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		log.debugf( "Getting cached data from region [`%s` (%s)] by %s keys", getRegion().getName(), getAccessType(), keys.size() );
+		final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+		final Map<Object, Object> values = CollectionHelper.mapOfSize( items.size() );
+		for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+			final Lockable item = (Lockable) entry.getValue();
+			if ( item != null && item.isReadable( session.getTransactionStartTimestamp() ) ) {
+				values.put( entry.getKey(), item.getValue() );
+			}
+		}
+		log.debugf(
+				"Cache hits : region = `%s`, %s of %s keys readable",
+				getRegion().getName(),
+				values.size(),
+				keys.size()
+		);
+		return values;
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
 			Object key,
 			Object value,
 			Object version) {
+		log.debugf( "Caching data from load [region=`%s` (%s)] : key[%s] -> value[%s]", getRegion().getName(), getAccessType(), key, value );
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			log.debugf( "Caching data from load [region=`%s` (%s)] : key[%s] -> value[%s]", getRegion().getName(), getAccessType(), key, value );
-			writeLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			boolean writable = item == null || item.isWriteable( session.getTransactionStartTimestamp(), version, getVersionComparator() );
@@ -138,9 +223,9 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 
 	@Override
 	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			writeLock.lock();
-
 			long timeout = getRegion().getRegionFactory().nextTimestamp() + getRegion().getRegionFactory().getTimeout();
 			log.debugf( "Locking cache item [region=`%s` (%s)] : `%s` (timeout=%s, version=%s)", getRegion().getName(), getAccessType(), key, timeout, version );
 
@@ -148,6 +233,9 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			final SoftLockImpl lock = ( item == null )
 					? new SoftLockImpl( timeout, uuid, nextLockId(), version )
 					: item.lock( timeout, uuid, nextLockId() );
+			if ( item instanceof Item && isLockedValueRetained( session ) ) {
+				lock.retainValue( item.getValue() );
+			}
 			getStorageAccess().putIntoCache( key, lock, session );
 			return lock;
 		}
@@ -156,11 +244,24 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Should locking an entry keep its value in the lock, so that the value can be changed rather than replaced
+	 * when the lock is released?
+	 *
+	 * @param session The session locking the entry
+	 *
+	 * @return {@code true} to keep the value, see {@link SoftLockImpl#getLockedValue()}
+	 */
+	protected boolean isLockedValueRetained(SharedSessionContractImplementor session) {
+		return false;
+	}
+
 	@Override
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
+		log.debugf( "Unlocking cache item [region=`%s` (%s)] : %s", getRegion().getName(), getAccessType(), key );
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			log.debugf( "Unlocking cache item [region=`%s` (%s)] : %s", getRegion().getName(), getAccessType(), key );
-			writeLock.lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( ( item != null ) && item.isUnlockable( lock ) ) {
@@ -210,6 +311,90 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		// A no-op
 	}
 
+	/**
+	 * Locks all stripes, in order, for the callers of the deprecated region-wide {@link #readLock()} and
+	 * {@link #writeLock()}.
+	 */
+	private class AllStripesLock implements Lock {
+		private final boolean exclusive;
+
+		private AllStripesLock(boolean exclusive) {
+			this.exclusive = exclusive;
+		}
+
+		private Lock stripe(int index) {
+			return exclusive ? lockStripes[index].writeLock() : lockStripes[index].readLock();
+		}
+
+		@Override
+		public void lock() {
+			for ( int i = 0; i < lockStripes.length; i++ ) {
+				stripe( i ).lock();
+			}
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			int locked = 0;
+			try {
+				for ( ; locked < lockStripes.length; locked++ ) {
+					stripe( locked ).lockInterruptibly();
+				}
+			}
+			finally {
+				if ( locked < lockStripes.length ) {
+					unlock( locked );
+				}
+			}
+		}
+
+		@Override
+		public boolean tryLock() {
+			for ( int i = 0; i < lockStripes.length; i++ ) {
+				if ( !stripe( i ).tryLock() ) {
+					unlock( i );
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			final long deadline = System.nanoTime() + unit.toNanos( time );
+			int locked = 0;
+			try {
+				for ( ; locked < lockStripes.length; locked++ ) {
+					if ( !stripe( locked ).tryLock( deadline - System.nanoTime(), TimeUnit.NANOSECONDS ) ) {
+						return false;
+					}
+				}
+				return true;
+			}
+			finally {
+				if ( locked < lockStripes.length ) {
+					unlock( locked );
+				}
+			}
+		}
+
+		@Override
+		public void unlock() {
+			unlock( lockStripes.length );
+		}
+
+		private void unlock(int count) {
+			for ( int i = count - 1; i >= 0; i-- ) {
+				stripe( i ).unlock();
+			}
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException();
+		}
+	}
+
 	/**
 	 * Interface type implemented by all wrapper objects in the cache.
 	 */
@@ -331,6 +516,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		private boolean concurrent;
 		private int multiplicity = 1;
 		private long unlockTimestamp;
+		private Object lockedValue;
 
 		/**
 		 * Creates a locked item with the given identifiers and object version.
@@ -419,10 +605,23 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			return concurrent;
 		}
 
+		/**
+		 * Returns the value of the entry this Lock replaced, if it was {@link AbstractReadWriteAccess#isLockedValueRetained retained} and
+		 * no other transaction locked the entry since.
+		 */
+		public Object getLockedValue() {
+			return lockedValue;
+		}
+
+		void retainValue(Object value) {
+			this.lockedValue = value;
+		}
+
 		@Override
 		public SoftLockImpl lock(long timeout, UUID uuid, long lockId) {
 			concurrent = true;
 			multiplicity++;
+			lockedValue = null;
 			this.timeout = timeout;
 			return this;
 		}
@@ -434,6 +633,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			if ( --multiplicity == 0 ) {
 				unlockTimestamp = timestamp;
 			}
+			lockedValue = null;
 		}
 
 		@Override
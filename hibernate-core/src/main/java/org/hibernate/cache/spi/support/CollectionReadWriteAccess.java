@@ -7,6 +7,7 @@
 package org.hibernate.cache.spi.support;
 
 import java.util.Comparator;
+import java.util.concurrent.locks.Lock;
 
 import org.hibernate.cache.cfg.spi.CollectionDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
@@ -14,6 +15,7 @@ import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.AccessType;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cache.spi.entry.CollectionCacheEntryDelta;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.model.domain.NavigableRole;
@@ -91,4 +93,49 @@ public class CollectionReadWriteAccess extends AbstractReadWriteAccess implement
 			SharedSessionContractImplementor session, Object key, SoftLock lock) {
 		super.unlockItem( session, key, lock );
 	}
+
+	@Override
+	protected boolean isLockedValueRetained(SharedSessionContractImplementor session) {
+		return session.getFactory().getSessionFactoryOptions().isCollectionCacheDeltaUpdatesEnabled();
+	}
+
+	@Override
+	public boolean afterUpdate(
+			SharedSessionContractImplementor session,
+			Object key,
+			CollectionCacheEntryDelta delta,
+			Object ownerVersion,
+			SoftLock lock) {
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
+		try {
+			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
+
+			if ( item != null && item.isUnlockable( lock ) ) {
+				final SoftLockImpl lockItem = (SoftLockImpl) item;
+				// a concurrent lock drops the value, which may no longer be the one the changes were made to
+				final Object lockedValue = lockItem.getLockedValue();
+				final Object value = lockedValue == null ? null : delta.applyTo( lockedValue );
+				if ( value == null ) {
+					decrementLock( session, key, lockItem );
+					return false;
+				}
+				else {
+					getStorageAccess().putIntoCache(
+							key,
+							new Item( value, ownerVersion, getRegion().getRegionFactory().nextTimestamp() ),
+							session
+					);
+					return true;
+				}
+			}
+			else {
+				handleLockExpiry( session, key, item );
+				return false;
+			}
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
 }
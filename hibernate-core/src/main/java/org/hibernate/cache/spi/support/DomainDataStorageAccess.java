@@ -6,7 +6,11 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * Specialization of StorageAccess for domain data regions
@@ -24,4 +28,35 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Get the items stored under several keys, in as few calls to the
+	 * underlying cache as it allows
+	 *
+	 * @return The items found, by key; keys without an item are left out
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Bulk form of {@link #putFromLoad}, for items which were all loaded
+	 * (read) from the database
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each item
+	 */
+	default void putAllFromLoad(Map<?, ?> items, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> item : items.entrySet() ) {
+			putFromLoad( item.getKey(), item.getValue(), session );
+		}
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.cache.spi.support;
 
 import java.util.Comparator;
+import java.util.concurrent.locks.Lock;
 
 import org.hibernate.cache.cfg.spi.NaturalIdDataCachingConfig;
 import org.hibernate.cache.spi.CacheKeysFactory;
@@ -71,8 +72,9 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value) {
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 			if ( item == null ) {
 				getStorageAccess().putIntoCache(
@@ -87,7 +89,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock.unlock();
 		}
 	}
 
@@ -98,8 +100,9 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 
 	@Override
 	public boolean afterUpdate(SharedSessionContractImplementor session, Object key, Object value, SoftLock lock) {
+		final Lock writeLock = writeLock( key );
+		writeLock.lock();
 		try {
-			writeLock().lock();
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item != null && item.isUnlockable( lock ) ) {
@@ -123,7 +126,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 			}
 		}
 		finally {
-			writeLock().unlock();
+			writeLock.unlock();
 		}
 	}
 }
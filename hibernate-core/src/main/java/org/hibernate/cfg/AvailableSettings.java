@@ -800,6 +800,27 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Should batched inserts be coalesced into multi-row {@code insert ... values (...), (...)} statements?
+	 * Only takes effect when JDBC batching is enabled and the Dialect reports a
+	 * {@link org.hibernate.dialect.Dialect#getMultiRowInsertLimit() multi-row insert limit}.
+	 * Default is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String BATCH_MULTI_ROW_INSERT = "hibernate.jdbc.batch_multi_row_insert";
+
+	/**
+	 * The maximum number of entity deletions (including orphan removals) which are coalesced into a single
+	 * {@code delete ... where id in (...)} statement.  Only consecutive deletions of instances of the same
+	 * unversioned entity mapped to a single table are coalesced; combine with
+	 * {@value #ORDER_DELETES} to group deletions of the same entity together.  Values of {@code 1} or
+	 * less disable the feature, which is the default.
+	 *
+	 * @since 5.5
+	 */
+	String BATCH_MULTI_ROW_DELETE = "hibernate.jdbc.batch_multi_row_delete";
+
 	/**
 	 * Default JDBC TimeZone. Unless specified, the JVM default TimeZone is going to be used by the underlying JDBC Driver.
 	 *
@@ -957,6 +978,15 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String ORDER_INSERTS = "hibernate.order_inserts";
 
+	/**
+	 * Enable ordering of delete statements for the purpose of more efficient JDBC batching: deletes against the
+	 * same entity are grouped together, deleting rows of referencing entities before the rows they reference.
+	 * Default is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String ORDER_DELETES = "hibernate.order_deletes";
+
 	/**
 	 * JPA Callbacks are enabled by default. Set this to {@code false} to disable them.
 	 * Mostly useful to save a bit of memory when they are not used.
@@ -1126,6 +1156,33 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * The number of milliseconds the standard {@link TimestampsCacheFactory timestamps cache} may answer
+	 * up-to-date checks from a local copy of the update timestamps instead of reading the timestamps region.
+	 * Writes made through this SessionFactory refresh the local copy immediately; writes made by other nodes of
+	 * a clustered timestamps region become visible once the local copy of the affected space has expired.
+	 * <p/>
+	 * Default is {@code 0}, which disables the local copy.
+	 *
+	 * @since 5.5
+	 */
+	String TIMESTAMPS_NEAR_CACHE_STALENESS = "hibernate.cache.timestamps_near_cache_staleness";
+
+	/**
+	 * Enables fine-grained invalidation of cached query results, given as a comma separated list of
+	 * {@code entityName.propertyName} partition keys.  Writes of these entities only invalidate the cached queries
+	 * which name, through the {@link org.hibernate.annotations.QueryHints#CACHE_PARTITION} hint, a value of the
+	 * partition key found in the written state, or no partition at all.
+	 * <p/>
+	 * The partition key should be a basic or to-one property; for a to-one property the partition named by queries
+	 * is the identifier of the associated entity.
+	 *
+	 * @see org.hibernate.cache.spi.QueryCachePartitioning
+	 *
+	 * @since 5.5
+	 */
+	String QUERY_CACHE_PARTITION_KEYS = "hibernate.cache.query_cache_partition_keys";
+
 	/**
 	 * The <tt>CacheProvider</tt> region name prefix
 	 */
@@ -1141,12 +1198,92 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enable use of compact binary second-level cache entries for entities: the disassembled state is encoded
+	 * into a single {@code byte[]}, decoded lazily property by property when read.  Takes precedence over
+	 * {@link #USE_STRUCTURED_CACHE} for entities.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CompactCacheEntry
+	 *
+	 * @since 5.5
+	 */
+	String USE_COMPACT_CACHE_ENTRIES = "hibernate.cache.use_compact_entries";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
 	 */
 	String AUTO_EVICT_COLLECTION_CACHE = "hibernate.cache.auto_evict_collection_cache";
 
+	/**
+	 * Enables delta updates of cached collections.  When the only changes made to an uninitialized set or bag are
+	 * the additions and removals queued by the collection, these are applied to the cached entry once the transaction
+	 * completes, instead of invalidating it.  Only the {@link org.hibernate.cache.spi.access.AccessType#READ_WRITE}
+	 * access type applies delta updates, the others keep invalidating the entry.
+	 * <p/>
+	 * As such operations are only queued by the inverse side of an association, the application must keep both
+	 * sides of the association consistent for the cached collection to reflect the database.
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @see org.hibernate.cache.spi.entry.CollectionCacheEntryDelta
+	 *
+	 * @since 5.5
+	 */
+	String COLLECTION_CACHE_DELTA_UPDATES = "hibernate.cache.collection_delta_updates";
+
+	/**
+	 * The comma separated list of the names of the entity and collection regions to warm up once the SessionFactory
+	 * is built, by loading all of the entities and collections cached in them.
+	 * <p/>
+	 * The warm-up is not supported for multi-tenant SessionFactories.
+	 *
+	 * @see org.hibernate.cache.spi.CacheWarmUp
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_WARM_UP_REGIONS = "hibernate.cache.warm_up_regions";
+
+	/**
+	 * The number of entities the cache warm-up fetches per round trip, and loads before clearing its session.
+	 * <p/>
+	 * Default is {@code 100}
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_WARM_UP_BATCH_SIZE = "hibernate.cache.warm_up_batch_size";
+
+	/**
+	 * The number of entity hierarchies the cache warm-up loads in parallel, each with its own session and
+	 * connection.
+	 * <p/>
+	 * Default is {@code 1}
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_WARM_UP_THREADS = "hibernate.cache.warm_up_threads";
+
+	/**
+	 * The maximum number of entities the cache warm-up loads per second, across all of its threads.
+	 * <p/>
+	 * Default is {@code 0}, which does not limit the rate.
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_WARM_UP_MAX_RATE = "hibernate.cache.warm_up_max_rate";
+
+	/**
+	 * Should the cache warm-up run in the background, instead of delaying the end of the SessionFactory build
+	 * until it is complete?
+	 * <p/>
+	 * Default is {@code false}
+	 *
+	 * @since 5.5
+	 */
+	String CACHE_WARM_UP_ASYNC = "hibernate.cache.warm_up_async";
+
 	/**
 	 * Enable direct storage of entity references into the second level cache when applicable (immutable data, etc).
 	 * Default is to not store direct references.
@@ -1210,7 +1347,8 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	/**
 	 * When a generator specified an increment-size and an optimizer was not explicitly specified, which of
 	 * the "pooled" optimizers should be preferred?  Can specify an optimizer short name or an Optimizer
-	 * impl FQN.
+	 * impl FQN.  The lock-free variants, {@code pooled-concurrent} and {@code pooled-lo-concurrent}, avoid
+	 * serializing concurrent inserts on the optimizer.
 	 */
 	String PREFERRED_POOLED_OPTIMIZER = "hibernate.id.optimizer.pooled.preferred";
 
@@ -1246,6 +1384,17 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * The maximum number of {@link org.hibernate.query.criteria.internal.compile.CriteriaPlan} maintained
+	 * by {@link org.hibernate.engine.query.spi.QueryPlanCache}, which hold the JPQL rendered from the JPA
+	 * Criteria queries keyed by the structure of the queries, so that the queries of an already known
+	 * structure are not rendered nor parsed again.  Queries using a construct that does not support this,
+	 * such as subqueries or treats, are always rendered.  Default is 0, which disables the cache.
+	 *
+	 * @since 5.5
+	 */
+	String CRITERIA_PLAN_CACHE_MAX_SIZE = "hibernate.criteria.plan_cache_max_size";
+
 	/**
 	 * Should we not use contextual LOB creation (aka based on {@link java.sql.Connection#createBlob()} et al).
 	 */
@@ -1663,6 +1812,30 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String DELAY_ENTITY_LOADER_CREATIONS = "hibernate.loader.delay_entity_loader_creations";
 
+	/**
+	 * Should {@link org.hibernate.MultiIdentifierLoadAccess#multiLoad} bind all the identifiers as a single
+	 * array parameter, using the same SQL regardless of the number of identifiers, where the
+	 * {@link org.hibernate.dialect.Dialect#getArrayParameterRestriction Dialect supports it}?  Applies to
+	 * single column identifiers of basic numeric or character types when no batch size is requested and no
+	 * filters are enabled; otherwise identifiers are loaded using IN lists, which is also the default.
+	 *
+	 * @since 5.5
+	 */
+	String MULTI_LOAD_ARRAY_BINDING = "hibernate.loader.multi_load_array_binding";
+
+	/**
+	 * The maximum number of natural id resolutions kept, per entity, in a SessionFactory-level cache shared by all
+	 * sessions and independent of the second-level cache.  Only applies to entities with an immutable natural id
+	 * made of a single String or primitive wrapper attribute, and is not used by sessions with a tenant identifier.
+	 * <p/>
+	 * Default is {@code 0}, which disables the cache.
+	 *
+	 * @see org.hibernate.engine.spi.SimpleNaturalIdResolutionCache
+	 *
+	 * @since 5.5
+	 */
+	String NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE = "hibernate.loader.natural_id_resolution_cache_max_size";
+
 	/**
 	 * A transaction can be rolled back by another thread ("tracking by thread")
 	 * -- not the original application. Examples of this include a JTA
@@ -2040,6 +2213,24 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * The number of rows of a {@link org.hibernate.query.Query#stream()} whose entities are kept in the session.
+	 * Once the stream has moved past them, the entities read by older rows are evicted from the session, along
+	 * with their collections, so that the memory used by a stream stays bounded whatever the size of its result.
+	 * Entities still referenced by a row of the window are kept.  Only the entities of the rows themselves are
+	 * evicted: the entities they reference are not.  Changes made to an entity after it has been evicted are
+	 * not flushed.
+	 * <p/>
+	 * Unless a fetch size is set on the query, the JDBC fetch size of the stream is set to the value given by
+	 * {@link org.hibernate.dialect.Dialect#getStreamFetchSize(int)} for the window size.  Note that the MySQL
+	 * driver reads the whole result unless {@code useCursorFetch=true} is set on the connection.
+	 * <p/>
+	 * Default is {@code 0}, which keeps all the entities read by a stream in the session.
+	 *
+	 * @since 5.5
+	 */
+	String QUERY_STREAM_WINDOW_SIZE = "hibernate.query.stream_window_size";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that will be stored by the Hibernate {@link org.hibernate.stat.Statistics} object.
@@ -2080,4 +2271,48 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String OMIT_JOIN_OF_SUPERCLASS_TABLES = "hibernate.query.omit_join_of_superclass_tables";
 
+	/**
+	 * Names the {@link org.hibernate.engine.spi.PersistenceContextStorageFactory} used to build the maps
+	 * in which a persistence context keeps its entity instances, entity snapshots and collection wrappers.
+	 * </p>
+	 * Can be a short name ({@code standard} or {@code open-addressing}), the name of an implementation
+	 * class or an instance.  The {@code open-addressing} storage allocates no node per entry and groups
+	 * entities by hierarchy, which reduces the memory footprint of sessions holding many entities.
+	 * </p>
+	 * The default value is {@code standard}, backed by {@link java.util.HashMap}.
+	 *
+	 * @since 5.5
+	 */
+	String PERSISTENCE_CONTEXT_STORAGE = "hibernate.persistence_context.storage";
+
+	/**
+	 * Enables incremental flushing: at flush time (including auto-flush before query execution) entities
+	 * which track their own dirtiness through bytecode enhancement (inline dirty checking), have no
+	 * collections and report no dirty attribute are skipped by the flush-time cascades and dirty checking.
+	 * Only entities possibly modified since the previous flush are then processed.
+	 * </p>
+	 * As skipped entities are not cascaded to on flush, changes made to associated entities without
+	 * touching the skipped entity (such as evicting a cascaded association) are not detected.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String INCREMENTAL_FLUSH = "hibernate.flush.incremental";
+
+	/**
+	 * Enables query-space aware auto-flushing: before a query is executed in {@link org.hibernate.FlushMode#AUTO},
+	 * the session is only flushed if one of its changed entities or collections could, once flushed, write to a
+	 * table the query reads from.  This considers each entity's own tables, the tables of its collections and,
+	 * transitively, those of the entities it cascades to.  Only the entities of the types writing to those tables
+	 * are dirty checked, without firing flush events.
+	 * </p>
+	 * When no changed state relates to the query, the flush-time cascades are deferred to the next flush.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.5
+	 */
+	String QUERY_SPACE_AWARE_AUTO_FLUSH = "hibernate.flush.auto.query_space_aware";
+
 }
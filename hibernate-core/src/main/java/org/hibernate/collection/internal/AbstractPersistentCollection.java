@@ -21,6 +21,7 @@ import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.LazyInitializationException;
 import org.hibernate.Session;
+import org.hibernate.cache.spi.entry.CollectionCacheEntryDelta;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.spi.CollectionEntry;
@@ -846,6 +847,20 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 		}
 	}
 
+	@Override
+	public final CollectionCacheEntryDelta getQueuedOperationsDelta() {
+		if ( !hasQueuedOperations() ) {
+			return null;
+		}
+		final CollectionCacheEntryDelta delta = new CollectionCacheEntryDelta();
+		for ( DelayedOperation operation : operationQueue ) {
+			if ( !operation.recordIn( delta ) ) {
+				return null;
+			}
+		}
+		return delta;
+	}
+
 	@Override
 	public void preInsert(CollectionPersister persister) throws HibernateException {
 	}
@@ -1185,6 +1200,15 @@ public abstract class AbstractPersistentCollection implements Serializable, Pers
 		public Object getAddedInstance();
 
 		public Object getOrphan();
+
+		/**
+		 * Record this operation in a delta of the cached collection state.
+		 *
+		 * @return {@code false} if the operation cannot be described in a delta
+		 */
+		default boolean recordIn(CollectionCacheEntryDelta delta) {
+			return false;
+		}
 	}
 
 	protected interface ValueDelayedOperation extends DelayedOperation {
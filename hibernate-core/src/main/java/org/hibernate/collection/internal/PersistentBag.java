@@ -19,6 +19,7 @@ import java.util.ListIterator;
 import java.util.Map;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.entry.CollectionCacheEntryDelta;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.CollectionAliases;
@@ -648,6 +649,12 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 			bag.clear();
 		}
 
+		@Override
+		public boolean recordIn(CollectionCacheEntryDelta delta) {
+			delta.clear();
+			return true;
+		}
+
 		@Override
 		public Object getAddedInstance() {
 			return null;
@@ -670,5 +677,11 @@ public class PersistentBag extends AbstractPersistentCollection implements List
 		public void operate() {
 			bag.add( getAddedInstance() );
 		}
+
+		@Override
+		public boolean recordIn(CollectionCacheEntryDelta delta) {
+			delta.add( getAddedInstance() );
+			return true;
+		}
 	}
 }
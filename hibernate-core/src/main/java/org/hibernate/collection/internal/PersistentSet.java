@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.entry.CollectionCacheEntryDelta;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.CollectionAliases;
@@ -477,6 +478,12 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 			set.clear();
 		}
 
+		@Override
+		public boolean recordIn(CollectionCacheEntryDelta delta) {
+			delta.clear();
+			return true;
+		}
+
 		@Override
 		public Object getAddedInstance() {
 			return null;
@@ -499,6 +506,12 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		public void operate() {
 			set.add( getAddedInstance() );
 		}
+
+		@Override
+		public boolean recordIn(CollectionCacheEntryDelta delta) {
+			delta.add( getAddedInstance() );
+			return true;
+		}
 	}
 
 	final class SimpleRemove extends AbstractValueDelayedOperation {
@@ -512,5 +525,11 @@ public class PersistentSet extends AbstractPersistentCollection implements java.
 		public void operate() {
 			set.remove( getOrphan() );
 		}
+
+		@Override
+		public boolean recordIn(CollectionCacheEntryDelta delta) {
+			delta.remove( getOrphan() );
+			return true;
+		}
 	}
 }
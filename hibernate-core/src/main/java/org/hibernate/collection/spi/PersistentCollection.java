@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.Iterator;
 
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.entry.CollectionCacheEntryDelta;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.loader.CollectionAliases;
 import org.hibernate.persister.collection.CollectionPersister;
@@ -365,6 +366,15 @@ public interface PersistentCollection {
 	 */
 	Collection getQueuedOrphans(String entityName);
 
+	/**
+	 * Describe the "queued" operations as a delta of the cached collection state
+	 *
+	 * @return The delta, or {@code null} if the queued operations cannot be described as one
+	 */
+	default CollectionCacheEntryDelta getQueuedOperationsDelta() {
+		return null;
+	}
+
 	/**
 	 * Get the current collection key value
 	 *
@@ -2741,6 +2741,73 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Return the limit that the underlying database (or its driver) places on the number of JDBC parameters in a
+	 * single statement.  If the database defines no such limits, simply return zero or less-than-zero.
+	 *
+	 * @return int The limit, or zero-or-less to indicate no limit.
+	 */
+	public int getParameterCountLimit() {
+		return 0;
+	}
+
+	/**
+	 * Return the maximum number of rows the database accepts in a single multi-row insert, that is an
+	 * {@code insert into ... values (...), (...)} statement.  Used when multi-row insert batching is enabled
+	 * through {@value org.hibernate.cfg.AvailableSettings#BATCH_MULTI_ROW_INSERT}.
+	 *
+	 * @return int The limit, or zero-or-less if multi-row inserts are not supported.
+	 */
+	public int getMultiRowInsertLimit() {
+		return 0;
+	}
+
+	/**
+	 * Build a restriction of the given column to the elements of an array bound as a single JDBC parameter,
+	 * for example {@code id = any(?)}.  The array is bound using {@link #bindArrayParameter}.
+	 *
+	 * @param columnName The (qualified) column name
+	 * @param sqlTypeCode The {@link Types} type code of the column
+	 *
+	 * @return The restriction, or {@code null} if binding arrays is not supported for the given type.
+	 */
+	public String getArrayParameterRestriction(String columnName, int sqlTypeCode) {
+		return null;
+	}
+
+	/**
+	 * Bind the given values as an array to the single parameter of a restriction obtained from
+	 * {@link #getArrayParameterRestriction}.
+	 *
+	 * @param statement The statement
+	 * @param position The parameter position
+	 * @param values The array elements
+	 * @param sqlTypeCode The {@link Types} type code of the elements
+	 *
+	 * @throws SQLException Indicates problems binding the array.
+	 */
+	public void bindArrayParameter(PreparedStatement statement, int position, Object[] values, int sqlTypeCode)
+			throws SQLException {
+		statement.setArray(
+				position,
+				statement.getConnection().createArrayOf( getArrayElementTypeName( sqlTypeCode ), values )
+		);
+	}
+
+	/**
+	 * The database type name of array elements of the given type, that is the default type name without
+	 * length, precision or scale.
+	 *
+	 * @param sqlTypeCode The {@link Types} type code of the elements
+	 *
+	 * @return The type name
+	 */
+	protected String getArrayElementTypeName(int sqlTypeCode) {
+		final String typeName = getTypeName( sqlTypeCode );
+		final int parameters = typeName.indexOf( '(' );
+		return parameters > 0 ? typeName.substring( 0, parameters ).trim() : typeName;
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
@@ -2888,6 +2955,20 @@ public abstract class Dialect implements ConversionContext {
 		return ScrollMode.SCROLL_INSENSITIVE;
 	}
 
+	/**
+	 * The JDBC fetch size of a {@link org.hibernate.query.Query#stream()} keeping the entities of the given number
+	 * of rows in the session, used unless a fetch size is set on the query.
+	 *
+	 * @param windowSize The number of rows whose entities are kept in the session
+	 *
+	 * @return The fetch size
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_WINDOW_SIZE
+	 */
+	public int getStreamFetchSize(int windowSize) {
+		return windowSize;
+	}
+
 	/**
 	 * Does this dialect support tuples in subqueries?  Ex:
 	 * delete from Table1 where (col1, col2) in (select col1, col2 from Table2)
@@ -6,6 +6,7 @@
  */
 package org.hibernate.dialect;
 
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
 
@@ -476,4 +477,29 @@ public class H2Dialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public String getArrayParameterRestriction(String columnName, int sqlTypeCode) {
+		switch ( sqlTypeCode ) {
+			case Types.BIGINT:
+			case Types.INTEGER:
+			case Types.SMALLINT:
+			case Types.VARCHAR:
+				return columnName + " in (select x from table(x " + getArrayElementTypeName( sqlTypeCode ) + " = ?))";
+			default:
+				return null;
+		}
+	}
+
+	@Override
+	public void bindArrayParameter(PreparedStatement statement, int position, Object[] values, int sqlTypeCode)
+			throws SQLException {
+		// the table function expands an Object[] bound as a parameter
+		statement.setObject( position, values );
+	}
+
 }
@@ -703,4 +703,9 @@ public class HSQLDialect extends Dialect {
 	public String getCascadeConstraintsString() {
 		return " CASCADE ";
 	}
+
+	@Override
+	public int getMultiRowInsertLimit() {
+		return Integer.MAX_VALUE;
+	}
 }
@@ -610,4 +610,15 @@ public class MySQLDialect extends Dialect {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		// prepared statement placeholders are counted using an unsigned 16 bit integer
+		return 65535;
+	}
+
 }
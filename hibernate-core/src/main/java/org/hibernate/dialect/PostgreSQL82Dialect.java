@@ -6,6 +6,8 @@
  */
 package org.hibernate.dialect;
 
+import java.sql.Types;
+
 import org.hibernate.boot.model.TypeContributions;
 import org.hibernate.hql.spi.id.IdTableSupportStandardImpl;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
@@ -62,6 +64,32 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 		return true;
 	}
 
+	@Override
+	public int getMultiRowInsertLimit() {
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public int getParameterCountLimit() {
+		// the v3 protocol sends the parameter count as a signed 16 bit integer
+		return Short.MAX_VALUE;
+	}
+
+	@Override
+	public String getArrayParameterRestriction(String columnName, int sqlTypeCode) {
+		switch ( sqlTypeCode ) {
+			case Types.BIGINT:
+			case Types.INTEGER:
+			case Types.SMALLINT:
+			case Types.VARCHAR:
+			case Types.CHAR:
+			case Types.OTHER:
+				return columnName + " = any(?)";
+			default:
+				return null;
+		}
+	}
+
 	public boolean supportsRowValueConstructorSyntaxInInList() {
 		return true;
 	}
@@ -14,7 +14,6 @@ import org.hibernate.action.internal.DelayedPostInsertIdentifier;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.spi.CollectionEntry;
 import org.hibernate.engine.spi.EntityEntry;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
@@ -84,8 +83,7 @@ public final class Collections {
 					throw new AssertionFailure( "Unable to determine collection owner identifier for orphan-delete processing" );
 				}
 			}
-			final EntityKey key = session.generateEntityKey( ownerId, loadedPersister.getOwnerEntityPersister() );
-			final Object owner = persistenceContext.getEntity( key );
+			final Object owner = persistenceContext.getEntity( ownerId, loadedPersister.getOwnerEntityPersister() );
 			if ( owner == null ) {
 				throw new AssertionFailure(
 						"collection owner not associated with session: " +
@@ -0,0 +1,477 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+/**
+ * A <tt>Map</tt> keyed by {@link EntityKey}, specialized for the needs of the persistence context.
+ * <p/>
+ * Entries are partitioned by root entity name.  Each partition is an open-addressing table (linear
+ * probing) holding keys and values in parallel arrays, so no node object is allocated per entry.  Within
+ * a partition entries are matched on the identifier alone, using the identifier {@link Type} of the
+ * hierarchy; this also allows to look up an entry from an identifier value without creating an
+ * EntityKey, see {@link #get(Serializable, EntityPersister)}, which backs
+ * {@link org.hibernate.engine.spi.PersistenceContext#getEntity(Serializable, EntityPersister)}.
+ * <p/>
+ * Removed slots are marked with a tombstone, which keeps removal through iterators safe; tombstones
+ * are purged whenever a partition is rebuilt.  Not thread safe.
+ *
+ * @see OpenAddressingPersistenceContextStorageFactory
+ */
+public final class EntityKeyOpenHashMap<V> extends AbstractMap<EntityKey, V> {
+	private static final int MIN_CAPACITY = 8;
+	private static final Object TOMBSTONE = new Object();
+
+	private final int initialCapacity;
+
+	private Partition[] partitions = new Partition[4];
+	private int partitionCount;
+	// the partition used by the latest operation: consecutive operations very often target the same hierarchy
+	private Partition lastPartition;
+
+	private int size;
+	private int modCount;
+
+	public EntityKeyOpenHashMap() {
+		this( MIN_CAPACITY );
+	}
+
+	public EntityKeyOpenHashMap(int initialCapacity) {
+		this.initialCapacity = initialCapacity;
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor at or below 0.75
+		final int minimum = Math.max( MIN_CAPACITY, expectedSize + ( expectedSize / 3 ) + 1 );
+		return Integer.highestOneBit( minimum - 1 ) << 1;
+	}
+
+	private static int spread(int hashCode, int mask) {
+		// Fibonacci hashing, so that sequential identifiers spread over the table
+		final int h = hashCode * 0x9E3779B9;
+		return ( h ^ ( h >>> 16 ) ) & mask;
+	}
+
+	private Partition findPartition(EntityPersister persister) {
+		final String rootEntityName = persister.getRootEntityName();
+		final Partition last = lastPartition;
+		if ( last != null && last.matches( rootEntityName ) ) {
+			return last;
+		}
+		for ( int i = 0; i < partitionCount; i++ ) {
+			final Partition partition = partitions[i];
+			if ( partition.matches( rootEntityName ) ) {
+				lastPartition = partition;
+				return partition;
+			}
+		}
+		return null;
+	}
+
+	private Partition findOrCreatePartition(EntityPersister persister) {
+		Partition partition = findPartition( persister );
+		if ( partition == null ) {
+			partition = new Partition( persister, capacityFor( initialCapacity ) );
+			if ( partitionCount == partitions.length ) {
+				partitions = Arrays.copyOf( partitions, partitionCount << 1 );
+			}
+			partitions[partitionCount++] = partition;
+			lastPartition = partition;
+		}
+		return partition;
+	}
+
+	/**
+	 * Get the value mapped to the given identifier of the given entity hierarchy, without requiring
+	 * an EntityKey to be instantiated.
+	 *
+	 * @param id The entity identifier
+	 * @param persister The persister of the entity, or of any entity of the same hierarchy
+	 *
+	 * @return The mapped value, or {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public V get(Serializable id, EntityPersister persister) {
+		final Partition partition = findPartition( persister );
+		if ( partition == null ) {
+			return null;
+		}
+		final int index = partition.indexOf( id, partition.hash( id ) );
+		return index < 0 ? null : (V) partition.values[index];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return false;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Partition partition = findPartition( entityKey.getPersister() );
+		return partition != null && partition.indexOf( entityKey.getIdentifier(), entityKey.hashCode() ) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Partition partition = findPartition( entityKey.getPersister() );
+		if ( partition == null ) {
+			return null;
+		}
+		final int index = partition.indexOf( entityKey.getIdentifier(), entityKey.hashCode() );
+		return index < 0 ? null : (V) partition.values[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(EntityKey key, V value) {
+		final Partition partition = findOrCreatePartition( key.getPersister() );
+		final Object old = partition.put( key, value );
+		if ( old == TOMBSTONE ) {
+			size++;
+			modCount++;
+			return null;
+		}
+		return (V) old;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if ( !( key instanceof EntityKey ) ) {
+			return null;
+		}
+		final EntityKey entityKey = (EntityKey) key;
+		final Partition partition = findPartition( entityKey.getPersister() );
+		if ( partition == null ) {
+			return null;
+		}
+		final int index = partition.indexOf( entityKey.getIdentifier(), entityKey.hashCode() );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V old = (V) partition.values[index];
+		removeAt( partition, index );
+		return old;
+	}
+
+	private void removeAt(Partition partition, int index) {
+		partition.removeAt( index );
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( partitionCount > 0 ) {
+			Arrays.fill( partitions, 0, partitionCount, null );
+			partitionCount = 0;
+			lastPartition = null;
+			size = 0;
+			modCount++;
+		}
+	}
+
+	@Override
+	public Set<Entry<EntityKey, V>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * The open-addressing table holding the entries of a single entity hierarchy.
+	 */
+	private static final class Partition {
+		private final String rootEntityName;
+		private final Type identifierType;
+		private final SessionFactoryImplementor factory;
+		// the part of EntityKey#hashCode() contributed by the root entity name
+		private final int hashSeed;
+
+		private EntityKey[] keys;
+		private Object[] values;
+		// live entries plus tombstones
+		private int used;
+		private int partitionSize;
+
+		private Partition(EntityPersister persister, int capacity) {
+			this.rootEntityName = persister.getRootEntityName();
+			this.identifierType = persister.getIdentifierType();
+			this.factory = persister.getFactory();
+			this.hashSeed = 37 * ( 37 * 17 + ( rootEntityName != null ? rootEntityName.hashCode() : 0 ) );
+			this.keys = new EntityKey[capacity];
+			this.values = new Object[capacity];
+		}
+
+		private boolean matches(String rootEntityName) {
+			//noinspection StringEquality
+			return this.rootEntityName == rootEntityName
+					|| ( this.rootEntityName != null && this.rootEntityName.equals( rootEntityName ) );
+		}
+
+		/**
+		 * Computes the same value as {@link EntityKey#hashCode()} would for the given identifier
+		 */
+		private int hash(Serializable id) {
+			return hashSeed + identifierType.getHashCode( id, factory );
+		}
+
+		private int indexOf(Serializable id, int hash) {
+			final EntityKey[] keys = this.keys;
+			final int mask = keys.length - 1;
+			int index = spread( hash, mask );
+			while ( true ) {
+				final EntityKey candidate = keys[index];
+				if ( candidate == null ) {
+					if ( values[index] != TOMBSTONE ) {
+						return -1;
+					}
+				}
+				else if ( candidate.hashCode() == hash && sameIdentifier( candidate.getIdentifier(), id ) ) {
+					return index;
+				}
+				index = ( index + 1 ) & mask;
+			}
+		}
+
+		private boolean sameIdentifier(Serializable id1, Serializable id2) {
+			return id1 == id2 || identifierType.isEqual( id1, id2, factory );
+		}
+
+		/**
+		 * @return The previously mapped value, or {@link #TOMBSTONE} if there was none
+		 */
+		private Object put(EntityKey key, Object value) {
+			final int hash = key.hashCode();
+			final Serializable id = key.getIdentifier();
+			final int mask = keys.length - 1;
+			int index = spread( hash, mask );
+			int firstTombstone = -1;
+			while ( true ) {
+				final EntityKey candidate = keys[index];
+				if ( candidate == null ) {
+					if ( values[index] != TOMBSTONE ) {
+						break;
+					}
+					if ( firstTombstone < 0 ) {
+						firstTombstone = index;
+					}
+				}
+				else if ( candidate.hashCode() == hash && sameIdentifier( candidate.getIdentifier(), id ) ) {
+					// like java.util.HashMap, keep the original key and replace the value
+					final Object old = values[index];
+					values[index] = value;
+					return old;
+				}
+				index = ( index + 1 ) & mask;
+			}
+
+			partitionSize++;
+			if ( firstTombstone >= 0 ) {
+				keys[firstTombstone] = key;
+				values[firstTombstone] = value;
+			}
+			else {
+				keys[index] = key;
+				values[index] = value;
+				used++;
+				if ( used > ( keys.length >> 2 ) * 3 ) {
+					rehash();
+				}
+			}
+			return TOMBSTONE;
+		}
+
+		private void removeAt(int index) {
+			keys[index] = null;
+			values[index] = TOMBSTONE;
+			partitionSize--;
+		}
+
+		private void rehash() {
+			final EntityKey[] oldKeys = keys;
+			final Object[] oldValues = values;
+			final int capacity = capacityFor( partitionSize );
+			keys = new EntityKey[capacity];
+			values = new Object[capacity];
+			used = partitionSize;
+			final int mask = capacity - 1;
+			for ( int i = 0; i < oldKeys.length; i++ ) {
+				final EntityKey key = oldKeys[i];
+				if ( key != null ) {
+					int index = spread( key.hashCode(), mask );
+					while ( keys[index] != null ) {
+						index = ( index + 1 ) & mask;
+					}
+					keys[index] = key;
+					values[index] = oldValues[i];
+				}
+			}
+		}
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<EntityKey, V>> {
+		@Override
+		public Iterator<Entry<EntityKey, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			EntityKeyOpenHashMap.this.clear();
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Entry<EntityKey, V>> {
+		private int expectedModCount = modCount;
+		private int partitionIndex;
+		private int next = -1;
+		private Partition currentPartition;
+		private int current = -1;
+
+		private EntryIterator() {
+			advance();
+		}
+
+		private void advance() {
+			while ( partitionIndex < partitionCount ) {
+				final EntityKey[] keys = partitions[partitionIndex].keys;
+				next++;
+				while ( next < keys.length && keys[next] == null ) {
+					next++;
+				}
+				if ( next < keys.length ) {
+					return;
+				}
+				partitionIndex++;
+				next = -1;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return partitionIndex < partitionCount;
+		}
+
+		@Override
+		public Entry<EntityKey, V> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( partitionIndex >= partitionCount ) {
+				throw new NoSuchElementException();
+			}
+			currentPartition = partitions[partitionIndex];
+			current = next;
+			advance();
+			return new SlotEntry( currentPartition, current );
+		}
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt( currentPartition, current );
+			expectedModCount = modCount;
+			current = -1;
+		}
+	}
+
+	private final class SlotEntry implements Map.Entry<EntityKey, V> {
+		private final Partition partition;
+		private final EntityKey key;
+		private final EntityKey[] keys;
+		private final int index;
+
+		private SlotEntry(Partition partition, int index) {
+			this.partition = partition;
+			this.keys = partition.keys;
+			this.key = keys[index];
+			this.index = index;
+		}
+
+		@Override
+		public EntityKey getKey() {
+			return key;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			// the partition may have been rebuilt since this entry was produced
+			return partition.keys == keys && keys[index] == key ? (V) partition.values[index] : get( key );
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V setValue(V value) {
+			if ( partition.keys == keys && keys[index] == key ) {
+				final V old = (V) partition.values[index];
+				partition.values[index] = value;
+				return old;
+			}
+			return put( key, value );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry that = (Map.Entry) o;
+			final Object value = getValue();
+			return key.equals( that.getKey() )
+					&& ( value == null ? that.getValue() == null : value.equals( that.getValue() ) );
+		}
+
+		@Override
+		public int hashCode() {
+			final Object value = getValue();
+			return key.hashCode() ^ ( value == null ? 0 : value.hashCode() );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+}
@@ -19,6 +19,7 @@ import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SimpleNaturalIdResolutionCache;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.internal.StatsHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
@@ -31,7 +32,9 @@ import org.jboss.logging.Logger;
  * identifiers and natural ids of entities associated with the PersistenceContext.
  * <p/>
  * Most operations resolve the proper {@link NaturalIdResolutionCache} to use based on the persister and 
- * simply delegate calls there.
+ * simply delegate calls there.  Resolutions of simple natural ids are keyed by the natural id value itself, so
+ * looking them up does not allocate; they are also looked up in the SessionFactory-level
+ * {@link SimpleNaturalIdResolutionCache}, when enabled, before the second-level cache.
  * 
  * @author Steve Ebersole
  */
@@ -103,7 +106,9 @@ public class NaturalIdXrefDelegate {
 			final CachedNaturalId cachedNaturalId = entityNaturalIdResolutionCache.pkToNaturalIdMap
 					.remove( pk );
 			if ( cachedNaturalId != null ) {
-				entityNaturalIdResolutionCache.naturalIdToPkMap.remove( cachedNaturalId );
+				entityNaturalIdResolutionCache.naturalIdToPkMap.remove(
+						entityNaturalIdResolutionCache.keyOf( cachedNaturalId.getValues() )
+				);
 				sessionCachedNaturalIdValues = cachedNaturalId.getValues();
 			}
 		}
@@ -211,9 +216,10 @@ public class NaturalIdXrefDelegate {
 		NaturalIdResolutionCache entityNaturalIdResolutionCache = naturalIdResolutionCacheMap.get( persister );
 
 		Serializable pk;
-		final CachedNaturalId cachedNaturalId = new CachedNaturalId( persister, naturalIdValues );
 		if ( entityNaturalIdResolutionCache != null ) {
-			pk = entityNaturalIdResolutionCache.naturalIdToPkMap.get( cachedNaturalId );
+			pk = entityNaturalIdResolutionCache.naturalIdToPkMap.get(
+					entityNaturalIdResolutionCache.keyOf( naturalIdValues )
+			);
 
 			// Found in session cache
 			if ( pk != null ) {
@@ -234,14 +240,32 @@ public class NaturalIdXrefDelegate {
 			}
 		}
 
-		// Session cache miss, see if second-level caching is enabled
+		// Session cache miss, see if the natural id is resolved at the SessionFactory level
+		final SharedSessionContractImplementor session = session();
+		final SimpleNaturalIdResolutionCache sharedResolutions = persister.getSimpleNaturalIdResolutionCache();
+		if ( sharedResolutions != null && session.getTenantIdentifier() == null ) {
+			pk = sharedResolutions.get( naturalIdValues[0] );
+			if ( pk != null ) {
+				if ( LOG.isTraceEnabled() ) {
+					LOG.tracef(
+							"Resolved natural key [%s] -> primary key [%s] in shared resolution cache for %s",
+							naturalIdValues[0],
+							pk,
+							persister.getRootEntityName()
+					);
+				}
+				cacheNaturalIdCrossReference( persister, pk, naturalIdValues );
+				return pk;
+			}
+		}
+
+		// see if second-level caching is enabled
 		if ( !persister.hasNaturalIdCache() ) {
 			return null;
 		}
 
 		// Try resolution from second-level cache
 		final NaturalIdDataAccess naturalIdCacheAccessStrategy = persister.getNaturalIdCacheAccessStrategy();
-		final SharedSessionContractImplementor session = session();
 		final Object naturalIdCacheKey = naturalIdCacheAccessStrategy.generateCacheKey( naturalIdValues, persister,
 																						session
 		);
@@ -278,8 +302,7 @@ public class NaturalIdXrefDelegate {
 				}
 			}
 
-			entityNaturalIdResolutionCache.pkToNaturalIdMap.put( pk, cachedNaturalId );
-			entityNaturalIdResolutionCache.naturalIdToPkMap.put( cachedNaturalId, pk );
+			entityNaturalIdResolutionCache.cache( pk, naturalIdValues );
 		}
 		else if ( statisticsEnabled ) {
 			statistics.naturalIdCacheMiss(
@@ -417,19 +440,41 @@ public class NaturalIdXrefDelegate {
 		}
 	}
 
+	/**
+	 * Stands for a {@code null} simple natural id, which a ConcurrentHashMap cannot hold as a key.
+	 */
+	private enum NullNaturalId {
+		INSTANCE
+	}
+
 	/**
 	 * Represents the persister-specific cross-reference cache.
 	 */
 	private static class NaturalIdResolutionCache implements Serializable {
 		private final EntityPersister persister;
+		private final boolean simpleNaturalId;
 
 		private Map<Serializable, CachedNaturalId> pkToNaturalIdMap = new ConcurrentHashMap<>();
-		private Map<CachedNaturalId, Serializable> naturalIdToPkMap = new ConcurrentHashMap<>();
+		// keyed by the natural id value for simple natural ids, by CachedNaturalId otherwise
+		private Map<Object, Serializable> naturalIdToPkMap = new ConcurrentHashMap<>();
 
 		private List<CachedNaturalId> invalidNaturalIdList;
 
 		private NaturalIdResolutionCache(EntityPersister persister) {
 			this.persister = persister;
+			final int[] naturalIdPropertyIndexes = persister.getNaturalIdentifierProperties();
+			this.simpleNaturalId = naturalIdPropertyIndexes.length == 1
+					&& SimpleNaturalIdResolutionCache.isSimpleValueType(
+							persister.getPropertyTypes()[naturalIdPropertyIndexes[0]]
+					);
+		}
+
+		private Object keyOf(Object[] naturalIdValues) {
+			if ( simpleNaturalId ) {
+				// String and primitive wrapper equality is the one of their type, see CachedNaturalId
+				return naturalIdValues[0] == null ? NullNaturalId.INSTANCE : naturalIdValues[0];
+			}
+			return new CachedNaturalId( persister, naturalIdValues );
 		}
 
 		public EntityPersister getPersister() {
@@ -458,12 +503,12 @@ public class NaturalIdXrefDelegate {
 				if ( initial.isSame( naturalIdValues ) ) {
 					return false;
 				}
-				naturalIdToPkMap.remove( initial );
+				naturalIdToPkMap.remove( keyOf( initial.getValues() ) );
 			}
 
 			final CachedNaturalId cachedNaturalId = new CachedNaturalId( persister, naturalIdValues );
 			pkToNaturalIdMap.put( pk, cachedNaturalId );
-			naturalIdToPkMap.put( cachedNaturalId, pk );
+			naturalIdToPkMap.put( simpleNaturalId ? keyOf( naturalIdValues ) : cachedNaturalId, pk );
 			
 			return true;
 		}
@@ -477,6 +522,7 @@ public class NaturalIdXrefDelegate {
 
 		public boolean containsInvalidNaturalIdReference(Object[] naturalIdValues) {
 			return invalidNaturalIdList != null
+					&& !invalidNaturalIdList.isEmpty()
 					&& invalidNaturalIdList.contains( new CachedNaturalId( persister, naturalIdValues ) );
 		}
 
@@ -0,0 +1,43 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.Map;
+
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContextStorageFactory;
+import org.hibernate.internal.util.collections.OpenAddressingHashMap;
+
+/**
+ * A {@link PersistenceContextStorageFactory} using open-addressing maps, which do not allocate
+ * a node per entry.  Entity-keyed maps are further partitioned per entity hierarchy and matched
+ * on the identifier value, see {@link EntityKeyOpenHashMap}.
+ * <p/>
+ * Meant for sessions holding a large number of entities, such as batch processing.
+ */
+public class OpenAddressingPersistenceContextStorageFactory implements PersistenceContextStorageFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final OpenAddressingPersistenceContextStorageFactory INSTANCE = new OpenAddressingPersistenceContextStorageFactory();
+
+	/**
+	 * The short name of this strategy
+	 */
+	public static final String SHORT_NAME = "open-addressing";
+
+	@Override
+	public <V> Map<EntityKey, V> createEntityKeyMap(int initialCapacity) {
+		return new EntityKeyOpenHashMap<>( initialCapacity );
+	}
+
+	@Override
+	public <V> Map<CollectionKey, V> createCollectionKeyMap(int initialCapacity) {
+		return new OpenAddressingHashMap<>( initialCapacity );
+	}
+}
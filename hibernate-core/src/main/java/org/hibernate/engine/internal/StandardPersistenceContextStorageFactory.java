@@ -0,0 +1,39 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.engine.spi.CollectionKey;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContextStorageFactory;
+
+/**
+ * The default {@link PersistenceContextStorageFactory}, backed by {@link HashMap}.
+ */
+public class StandardPersistenceContextStorageFactory implements PersistenceContextStorageFactory {
+	/**
+	 * Singleton access
+	 */
+	public static final StandardPersistenceContextStorageFactory INSTANCE = new StandardPersistenceContextStorageFactory();
+
+	/**
+	 * The short name of this strategy
+	 */
+	public static final String SHORT_NAME = "standard";
+
+	@Override
+	public <V> Map<EntityKey, V> createEntityKeyMap(int initialCapacity) {
+		return new HashMap<>( initialCapacity );
+	}
+
+	@Override
+	public <V> Map<CollectionKey, V> createCollectionKeyMap(int initialCapacity) {
+		return new HashMap<>( initialCapacity );
+	}
+}
@@ -51,11 +51,13 @@ import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.EntityUniqueKey;
 import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.PersistenceContextStorageFactory;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SimpleNaturalIdResolutionCache;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
@@ -98,6 +100,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	private SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
+	private final PersistenceContextStorageFactory storageFactory;
 
 	/*
 		Everything else below should be carefully initialized only on first need;
@@ -108,7 +111,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	private Map<EntityKey, Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -118,7 +121,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private Map<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection> arrayHolders;
@@ -127,7 +130,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection> collectionsByKey;
+	private Map<CollectionKey, PersistentCollection> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -166,6 +169,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.storageFactory = session.getFactory().getSessionFactoryOptions().getPersistenceContextStorageFactory();
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -319,7 +323,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = new HashMap<>( INIT_COLL_SIZE );
+				entitySnapshotsByKey = storageFactory.createEntityKeyMap( INIT_COLL_SIZE );
 			}
 			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
@@ -392,7 +396,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = storageFactory.createEntityKeyMap( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -406,6 +410,17 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey == null ? null : entitiesByKey.get( key );
 	}
 
+	@Override
+	public Object getEntity(Serializable id, EntityPersister persister) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		if ( entitiesByKey instanceof EntityKeyOpenHashMap ) {
+			return ( (EntityKeyOpenHashMap<Object>) entitiesByKey ).get( id, persister );
+		}
+		return entitiesByKey.get( session.generateEntityKey( id, persister ) );
+	}
+
 	@Override
 	public boolean containsEntity(EntityKey key) {
 		return entitiesByKey == null ? false : entitiesByKey.containsKey( key );
@@ -775,7 +790,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = storageFactory.createEntityKeyMap( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -788,7 +803,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
-			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+			return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 		}
 
 		// we have a property-ref type mapping for the collection key.  But that could show up a few ways here...
@@ -799,7 +814,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( owenerId == null ) {
 				return null;
 			}
-			return getEntity( session.generateEntityKey( owenerId, ownerPersister ) );
+			return getEntity( owenerId, ownerPersister );
 		}
 
 		final CollectionType collectionType = collectionPersister.getCollectionType();
@@ -836,11 +851,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			//			in place of natural id snapshots.  BUt really its better to just do it the right way ^^ if we start
 			// 			going that route
 			final Serializable ownerId = ownerPersister.getIdByUniqueKey( key, collectionType.getLHSPropertyName(), session );
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerId, ownerPersister );
 		}
 
 		// as a last resort this is what the old code did...
-		return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+		return getEntity( key, collectionPersister.getOwnerEntityPersister() );
 	}
 
 	@Override
@@ -1719,7 +1734,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByKey = rtn.storageFactory.createEntityKeyMap( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1758,7 +1773,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitySnapshotsByKey = rtn.storageFactory.createEntityKeyMap( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1769,7 +1784,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.collectionsByKey = rtn.storageFactory.createCollectionKeyMap( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put( CollectionKey.deserialize( ois, session ), (PersistentCollection) ois.readObject() );
 			}
@@ -1914,7 +1929,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection addCollectionByKey(CollectionKey collectionKey, PersistentCollection persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = new HashMap<>( INIT_COLL_SIZE );
+			collectionsByKey = storageFactory.createCollectionKeyMap( INIT_COLL_SIZE );
 		}
 		final PersistentCollection old = collectionsByKey.put( collectionKey, persistentCollection );
 		return old;
@@ -1963,8 +1978,37 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			// 'put' stats incrementing.
 			final boolean justAddedLocally = getNaturalIdXrefDelegate().cacheNaturalIdCrossReference( persister, id, naturalIdValues );
 
-			if ( justAddedLocally && persister.hasNaturalIdCache() ) {
-				managedSharedCacheEntries( persister, id, naturalIdValues, null, CachedNaturalIdValueSource.LOAD );
+			if ( justAddedLocally ) {
+				cacheSharedNaturalIdResolution( persister, id, naturalIdValues[0] );
+				if ( persister.hasNaturalIdCache() ) {
+					managedSharedCacheEntries( persister, id, naturalIdValues, null, CachedNaturalIdValueSource.LOAD );
+				}
+			}
+		}
+
+		private void cacheSharedNaturalIdResolution(EntityPersister persister, Serializable id, Object naturalId) {
+			if ( session.getTenantIdentifier() != null ) {
+				return;
+			}
+			final SimpleNaturalIdResolutionCache sharedResolutions = persister.getSimpleNaturalIdResolutionCache();
+			if ( sharedResolutions == null ) {
+				return;
+			}
+			if ( !session.isTransactionInProgress() ) {
+				sharedResolutions.put( naturalId, id );
+			}
+			else if ( session instanceof EventSource ) {
+				// the transaction may read its own uncommitted writes, only share the resolution once it committed
+				( (EventSource) session ).getActionQueue().registerProcess(
+						new AfterTransactionCompletionProcess() {
+							@Override
+							public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+								if ( success ) {
+									sharedResolutions.put( naturalId, id );
+								}
+							}
+						}
+				);
 			}
 		}
 
@@ -1999,12 +2043,19 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				return;
 			}
 
+			persister = locateProperPersister( persister );
+
+			final SimpleNaturalIdResolutionCache sharedResolutions = persister.getSimpleNaturalIdResolutionCache();
+			if ( sharedResolutions != null && source == CachedNaturalIdValueSource.INSERT ) {
+				// a resolution to a previously deleted entity may have been cached concurrently with its deletion
+				sharedResolutions.evict( extractNaturalIdValues( state, persister )[0] );
+			}
+
 			if ( !persister.hasNaturalIdCache() ) {
 				// nothing to do
 				return;
 			}
 
-			persister = locateProperPersister( persister );
 			final Object[] naturalIdValues = extractNaturalIdValues( state, persister );
 			final Object[] previousNaturalIdValues = previousState == null ? null : extractNaturalIdValues( previousState, persister );
 
@@ -2157,6 +2208,12 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				return;
 			}
 
+			final SimpleNaturalIdResolutionCache sharedResolutions =
+					locateProperPersister( persister ).getSimpleNaturalIdResolutionCache();
+			if ( sharedResolutions != null && naturalIdValues != null ) {
+				sharedResolutions.evict( naturalIdValues[0] );
+			}
+
 			if ( ! persister.hasNaturalIdCache() ) {
 				// nothing to do
 				return;
@@ -9,10 +9,12 @@ package org.hibernate.engine.jdbc.batch.internal;
 import java.util.Map;
 
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.batch.spi.Batch;
 import org.hibernate.engine.jdbc.batch.spi.BatchBuilder;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.config.ConfigurationHelper;
@@ -28,6 +30,7 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( BatchBuilderImpl.class );
 
 	private int jdbcBatchSize;
+	private boolean multiRowInsertEnabled;
 
 	/**
 	 * Constructs a BatchBuilderImpl
@@ -47,6 +50,11 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 	@Override
 	public void configure(Map configurationValues) {
 		jdbcBatchSize = ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, jdbcBatchSize );
+		multiRowInsertEnabled = ConfigurationHelper.getBoolean(
+				Environment.BATCH_MULTI_ROW_INSERT,
+				configurationValues,
+				multiRowInsertEnabled
+		);
 	}
 
 	@Override
@@ -59,6 +67,16 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 		this.jdbcBatchSize = jdbcBatchSize;
 	}
 
+	@Override
+	public boolean isMultiRowInsertEnabled() {
+		return multiRowInsertEnabled;
+	}
+
+	@Override
+	public void setMultiRowInsertEnabled(boolean multiRowInsertEnabled) {
+		this.multiRowInsertEnabled = multiRowInsertEnabled;
+	}
+
 	@Override
 	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
 		final Integer sessionJdbcBatchSize = jdbcCoordinator.getJdbcSessionOwner()
@@ -66,8 +84,25 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 		final int jdbcBatchSizeToUse = sessionJdbcBatchSize == null ?
 				this.jdbcBatchSize :
 				sessionJdbcBatchSize;
-		return jdbcBatchSizeToUse > 1
-				? new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse )
-				: new NonBatchingBatch( key, jdbcCoordinator );
+		if ( jdbcBatchSizeToUse <= 1 ) {
+			return new NonBatchingBatch( key, jdbcCoordinator );
+		}
+		if ( multiRowInsertEnabled ) {
+			final Dialect dialect = jdbcCoordinator.getJdbcSessionOwner()
+					.getJdbcSessionContext()
+					.getServiceRegistry()
+					.getService( JdbcServices.class )
+					.getDialect();
+			if ( dialect.getMultiRowInsertLimit() > 1 ) {
+				return new MultiRowInsertBatch(
+						key,
+						jdbcCoordinator,
+						jdbcBatchSizeToUse,
+						dialect.getMultiRowInsertLimit(),
+						dialect.getParameterCountLimit()
+				);
+			}
+		}
+		return new BatchingBatch( key, jdbcCoordinator, jdbcBatchSizeToUse );
 	}
 }
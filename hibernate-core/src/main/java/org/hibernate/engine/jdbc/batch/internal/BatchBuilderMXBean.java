@@ -14,4 +14,6 @@ package org.hibernate.engine.jdbc.batch.internal;
 public interface BatchBuilderMXBean {
 	int getJdbcBatchSize();
 	void setJdbcBatchSize(int size);
+	boolean isMultiRowInsertEnabled();
+	void setMultiRowInsertEnabled(boolean enabled);
 }
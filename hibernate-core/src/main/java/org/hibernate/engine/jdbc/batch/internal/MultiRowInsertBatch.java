@@ -0,0 +1,353 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.HibernateException;
+import org.hibernate.StaleStateException;
+import org.hibernate.engine.jdbc.batch.internal.RecordingPreparedStatement.ParameterBinding;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.jdbc.BatchedTooManyRowsAffectedException;
+import org.hibernate.jdbc.Expectation;
+import org.hibernate.jdbc.Expectations;
+import org.hibernate.resource.jdbc.spi.JdbcObserver;
+
+/**
+ * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} which coalesces the rows of batched inserts into
+ * multi-row {@code insert into ... values (...), (...)} statements, rather than relying on the driver to
+ * execute {@link PreparedStatement#addBatch()} parameter sets efficiently.
+ * <p/>
+ * Parameter values bound to an insert statement are recorded per row and only bound, with shifted parameter
+ * positions, when the batch is executed.  The number of rows per statement is bounded by the batch size and by
+ * the {@link org.hibernate.dialect.Dialect#getMultiRowInsertLimit() row} and
+ * {@link org.hibernate.dialect.Dialect#getParameterCountLimit() parameter} limits of the Dialect.
+ * <p/>
+ * Statements which are not plain single-row inserts (callable statements, custom SQL, updates and deletes) are
+ * batched exactly like {@link BatchingBatch} does.
+ */
+public class MultiRowInsertBatch extends AbstractBatchImpl {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( MultiRowInsertBatch.class );
+
+	private static final Pattern INSERT_PATTERN = Pattern.compile(
+			"^(.*?\\binsert\\s+into\\s+[^(]+\\([^)]*\\)\\s*values\\s*)(\\(.*\\))\\s*$",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL
+	);
+
+	private final int configuredBatchSize;
+	private final int multiRowInsertLimit;
+	private final int parameterCountLimit;
+
+	private final Map<String,PendingInserts> pendingInsertsBySql = new HashMap<>();
+
+	private int batchSize;
+	private int batchPosition;
+	private boolean batchExecuted;
+
+	private String currentStatementSql;
+	private PreparedStatement currentStatement;
+	private PendingInserts currentPendingInserts;
+
+	/**
+	 * Constructs a MultiRowInsertBatch
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param batchSize The batch size.
+	 * @param multiRowInsertLimit The maximum number of rows per insert statement
+	 * @param parameterCountLimit The maximum number of parameters per statement, or zero-or-less for no limit
+	 */
+	public MultiRowInsertBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			int multiRowInsertLimit,
+			int parameterCountLimit) {
+		super( key, jdbcCoordinator );
+		if ( ! key.getExpectation().canBeBatched() ) {
+			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
+		}
+		this.batchSize = batchSize;
+		this.configuredBatchSize = batchSize;
+		this.multiRowInsertLimit = multiRowInsertLimit;
+		this.parameterCountLimit = parameterCountLimit;
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		currentStatementSql = sql;
+		final int previousBatchSize = getStatements().size();
+		currentStatement = super.getBatchStatement( sql, callable );
+		final int currentBatchSize = getStatements().size();
+		if ( currentBatchSize > previousBatchSize ) {
+			// like BatchingBatch, allow configuredBatchSize rows for each of the statements of a multi-table key
+			batchSize = configuredBatchSize * currentBatchSize;
+		}
+		currentPendingInserts = pendingInsertsBySql.get( sql );
+		if ( currentPendingInserts == null && !callable && isCoalescible( getKey().getExpectation() ) ) {
+			final Matcher matcher = INSERT_PATTERN.matcher( sql );
+			if ( matcher.matches() ) {
+				currentPendingInserts = new PendingInserts( sql, matcher.group( 1 ), matcher.group( 2 ), currentStatement );
+				pendingInsertsBySql.put( sql, currentPendingInserts );
+			}
+		}
+		return currentPendingInserts == null ? currentStatement : currentPendingInserts.recordingStatement;
+	}
+
+	private static boolean isCoalescible(Expectation expectation) {
+		return expectation == Expectations.NONE || expectation == Expectations.BASIC;
+	}
+
+	@Override
+	public void addToBatch() {
+		if ( currentPendingInserts != null ) {
+			currentPendingInserts.endRow();
+		}
+		else {
+			try {
+				currentStatement.addBatch();
+			}
+			catch ( SQLException e ) {
+				abortBatch();
+				LOG.debugf( "SQLException escaped proxy", e );
+				throw sqlExceptionHelper().convert( e, "could not perform addBatch", currentStatementSql );
+			}
+		}
+		batchPosition++;
+		if ( batchPosition == batchSize ) {
+			notifyObserversImplicitExecution();
+			performExecution();
+			batchPosition = 0;
+			batchExecuted = true;
+		}
+	}
+
+	@Override
+	protected void doExecuteBatch() {
+		if ( batchPosition == 0 ) {
+			if ( !batchExecuted ) {
+				LOG.debug( "No batched statements to execute" );
+			}
+		}
+		else {
+			performExecution();
+		}
+	}
+
+	@Override
+	protected void releaseStatements() {
+		pendingInsertsBySql.clear();
+		currentPendingInserts = null;
+		super.releaseStatements();
+	}
+
+	private void performExecution() {
+		LOG.debugf( "Executing batch size: %s", batchPosition );
+		try {
+			for ( Map.Entry<String,PreparedStatement> entry : getStatements().entrySet() ) {
+				final String sql = entry.getKey();
+				try {
+					final PendingInserts pendingInserts = pendingInsertsBySql.get( sql );
+					if ( pendingInserts == null ) {
+						executeJdbcBatch( entry.getValue(), sql );
+					}
+					else if ( pendingInserts.fitsValuesTuple() ) {
+						executeMultiRowInserts( pendingInserts );
+					}
+					else {
+						// a parameter was bound outside the values tuple we parsed, play safe
+						pendingInserts.replayAsJdbcBatch();
+						executeJdbcBatch( entry.getValue(), sql );
+					}
+				}
+				catch ( SQLException e ) {
+					abortBatch();
+					LOG.unableToExecuteBatch( e, sql );
+					throw sqlExceptionHelper().convert( e, "could not execute batch", sql );
+				}
+				catch ( RuntimeException re ) {
+					abortBatch();
+					LOG.unableToExecuteBatch( re, sql );
+					throw re;
+				}
+			}
+		}
+		finally {
+			batchPosition = 0;
+			for ( PendingInserts pendingInserts : pendingInsertsBySql.values() ) {
+				pendingInserts.clear();
+			}
+		}
+	}
+
+	private void executeJdbcBatch(PreparedStatement statement, String sql) throws SQLException {
+		final JdbcObserver observer = getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+		final int[] rowCounts;
+		try {
+			observer.jdbcExecuteBatchStart();
+			rowCounts = statement.executeBatch();
+		}
+		finally {
+			observer.jdbcExecuteBatchEnd();
+		}
+		for ( int i = 0; i < rowCounts.length; i++ ) {
+			getKey().getExpectation().verifyOutcome( rowCounts[i], statement, i, sql );
+		}
+	}
+
+	private void executeMultiRowInserts(PendingInserts pendingInserts) throws SQLException {
+		final List<List<ParameterBinding>> rows = pendingInserts.rows;
+		final int rowsPerStatement = rowsPerStatement( pendingInserts.parameterCount );
+		final JdbcObserver observer = getJdbcCoordinator().getJdbcSessionOwner().getJdbcSessionContext().getObserver();
+
+		for ( int start = 0; start < rows.size(); start += rowsPerStatement ) {
+			final int rowCount = Math.min( rowsPerStatement, rows.size() - start );
+			final String sql = pendingInserts.sql( rowCount );
+			final PreparedStatement statement = getJdbcCoordinator().getStatementPreparer().prepareStatement( sql );
+			try {
+				for ( int i = 0; i < rowCount; i++ ) {
+					final int offset = i * pendingInserts.parameterCount;
+					for ( ParameterBinding binding : rows.get( start + i ) ) {
+						binding.bind( statement, offset );
+					}
+				}
+				final int updateCount;
+				try {
+					observer.jdbcExecuteStatementStart();
+					updateCount = statement.executeUpdate();
+				}
+				finally {
+					observer.jdbcExecuteStatementEnd();
+				}
+				if ( getKey().getExpectation() == Expectations.BASIC ) {
+					checkRowCount( updateCount, rowCount, start, sql );
+				}
+			}
+			finally {
+				getJdbcCoordinator().getResourceRegistry().release( statement );
+			}
+		}
+	}
+
+	private int rowsPerStatement(int parameterCount) {
+		// batchSize is scaled by the number of statements, each statement may hold all rows of the batch
+		int rows = Math.min( batchSize, multiRowInsertLimit );
+		if ( parameterCountLimit > 0 && parameterCount > 0 ) {
+			rows = Math.min( rows, parameterCountLimit / parameterCount );
+		}
+		return Math.max( rows, 1 );
+	}
+
+	private static void checkRowCount(int updateCount, int rowCount, int batchPosition, String sql) {
+		if ( updateCount == Statement.SUCCESS_NO_INFO || updateCount == rowCount ) {
+			return;
+		}
+		if ( updateCount < rowCount ) {
+			throw new StaleStateException(
+					"Batch update returned unexpected row count from update ["
+							+ batchPosition + "]; actual row count: " + updateCount
+							+ "; expected: " + rowCount + "; statement executed: " + sql
+			);
+		}
+		throw new BatchedTooManyRowsAffectedException(
+				"Batch update returned unexpected row count from update [" + batchPosition
+						+ "]; actual row count: " + updateCount + "; expected: " + rowCount,
+				rowCount,
+				updateCount,
+				batchPosition
+		);
+	}
+
+	/**
+	 * The rows recorded for one single-row insert statement.
+	 */
+	private static final class PendingInserts {
+		private final String prefix;
+		private final String valuesTuple;
+		private final int parameterCount;
+		private final PreparedStatement statement;
+		private final RecordingPreparedStatement recordingStatement;
+
+		private final List<List<ParameterBinding>> rows = new ArrayList<>();
+
+		private String fullStatementSql;
+		private int fullStatementRows;
+
+		private PendingInserts(String sql, String prefix, String valuesTuple, PreparedStatement statement) {
+			this.prefix = prefix;
+			this.valuesTuple = valuesTuple;
+			this.parameterCount = countParameters( valuesTuple );
+			this.statement = statement;
+			this.recordingStatement = new RecordingPreparedStatement( statement );
+			this.fullStatementSql = sql;
+			this.fullStatementRows = 1;
+		}
+
+		private static int countParameters(String valuesTuple) {
+			int count = 0;
+			for ( int i = 0; i < valuesTuple.length(); i++ ) {
+				if ( valuesTuple.charAt( i ) == '?' ) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		private void endRow() {
+			rows.add( recordingStatement.endRow() );
+		}
+
+		private boolean fitsValuesTuple() {
+			return parameterCount > 0 && recordingStatement.getMaxParameterPosition() <= parameterCount;
+		}
+
+		private String sql(int rowCount) {
+			if ( rowCount == fullStatementRows ) {
+				return fullStatementSql;
+			}
+			final StringBuilder buffer = new StringBuilder(
+					prefix.length() + rowCount * ( valuesTuple.length() + 2 )
+			);
+			buffer.append( prefix ).append( valuesTuple );
+			for ( int i = 1; i < rowCount; i++ ) {
+				buffer.append( ", " ).append( valuesTuple );
+			}
+			final String sql = buffer.toString();
+			if ( rowCount > fullStatementRows ) {
+				// remember the largest statement, all chunks but the last one have that size
+				fullStatementRows = rowCount;
+				fullStatementSql = sql;
+			}
+			return sql;
+		}
+
+		private void replayAsJdbcBatch() throws SQLException {
+			for ( List<ParameterBinding> row : rows ) {
+				for ( ParameterBinding binding : row ) {
+					binding.bind( statement, 0 );
+				}
+				statement.addBatch();
+			}
+		}
+
+		private void clear() {
+			rows.clear();
+			recordingStatement.reset();
+		}
+	}
+}
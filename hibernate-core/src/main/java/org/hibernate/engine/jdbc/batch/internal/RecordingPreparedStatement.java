@@ -0,0 +1,618 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLType;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+/**
+ * A {@link PreparedStatement} which records the parameter values bound to it, row by row, instead of binding them
+ * to the statement it wraps.  All other calls are delegated to the wrapped statement.
+ * <p/>
+ * Used by {@link MultiRowInsertBatch} to replay the recorded rows, with shifted parameter positions, against a
+ * multi-row insert statement.
+ */
+final class RecordingPreparedStatement implements PreparedStatement {
+	private final PreparedStatement statement;
+
+	private List<ParameterBinding> currentRow = new ArrayList<>();
+	private int maxParameterPosition;
+
+	RecordingPreparedStatement(PreparedStatement statement) {
+		this.statement = statement;
+	}
+
+	/**
+	 * Ends the current row.
+	 *
+	 * @return The parameter bindings recorded for the row
+	 */
+	List<ParameterBinding> endRow() {
+		final List<ParameterBinding> row = currentRow;
+		currentRow = new ArrayList<>( row.size() );
+		return row;
+	}
+
+	/**
+	 * The highest parameter position recorded since the last {@link #reset()}.
+	 */
+	int getMaxParameterPosition() {
+		return maxParameterPosition;
+	}
+
+	/**
+	 * Drops the current row and forgets the recorded parameter positions.
+	 */
+	void reset() {
+		currentRow.clear();
+		maxParameterPosition = 0;
+	}
+
+	private void record(int position, ParameterBinder binder) {
+		maxParameterPosition = Math.max( maxParameterPosition, position );
+		currentRow.add( new ParameterBinding( position, binder ) );
+	}
+
+	/**
+	 * Binds one recorded parameter value to a statement.
+	 */
+	@FunctionalInterface
+	interface ParameterBinder {
+		void bind(PreparedStatement statement, int position) throws SQLException;
+	}
+
+	/**
+	 * A recorded call to one of the {@code PreparedStatement#setXxx} methods.
+	 */
+	static final class ParameterBinding {
+		private final int position;
+		private final ParameterBinder binder;
+
+		private ParameterBinding(int position, ParameterBinder binder) {
+			this.position = position;
+			this.binder = binder;
+		}
+
+		void bind(PreparedStatement statement, int offset) throws SQLException {
+			binder.bind( statement, position + offset );
+		}
+	}
+
+	// recorded parameter setters ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType) {
+		record( parameterIndex, (st, position) -> st.setNull( position, sqlType ) );
+	}
+
+	@Override
+	public void setNull(int parameterIndex, int sqlType, String typeName) {
+		record( parameterIndex, (st, position) -> st.setNull( position, sqlType, typeName ) );
+	}
+
+	@Override
+	public void setBoolean(int parameterIndex, boolean x) {
+		record( parameterIndex, (st, position) -> st.setBoolean( position, x ) );
+	}
+
+	@Override
+	public void setByte(int parameterIndex, byte x) {
+		record( parameterIndex, (st, position) -> st.setByte( position, x ) );
+	}
+
+	@Override
+	public void setShort(int parameterIndex, short x) {
+		record( parameterIndex, (st, position) -> st.setShort( position, x ) );
+	}
+
+	@Override
+	public void setInt(int parameterIndex, int x) {
+		record( parameterIndex, (st, position) -> st.setInt( position, x ) );
+	}
+
+	@Override
+	public void setLong(int parameterIndex, long x) {
+		record( parameterIndex, (st, position) -> st.setLong( position, x ) );
+	}
+
+	@Override
+	public void setFloat(int parameterIndex, float x) {
+		record( parameterIndex, (st, position) -> st.setFloat( position, x ) );
+	}
+
+	@Override
+	public void setDouble(int parameterIndex, double x) {
+		record( parameterIndex, (st, position) -> st.setDouble( position, x ) );
+	}
+
+	@Override
+	public void setBigDecimal(int parameterIndex, BigDecimal x) {
+		record( parameterIndex, (st, position) -> st.setBigDecimal( position, x ) );
+	}
+
+	@Override
+	public void setString(int parameterIndex, String x) {
+		record( parameterIndex, (st, position) -> st.setString( position, x ) );
+	}
+
+	@Override
+	public void setNString(int parameterIndex, String value) {
+		record( parameterIndex, (st, position) -> st.setNString( position, value ) );
+	}
+
+	@Override
+	public void setBytes(int parameterIndex, byte[] x) {
+		record( parameterIndex, (st, position) -> st.setBytes( position, x ) );
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x) {
+		record( parameterIndex, (st, position) -> st.setDate( position, x ) );
+	}
+
+	@Override
+	public void setDate(int parameterIndex, Date x, Calendar cal) {
+		record( parameterIndex, (st, position) -> st.setDate( position, x, cal ) );
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x) {
+		record( parameterIndex, (st, position) -> st.setTime( position, x ) );
+	}
+
+	@Override
+	public void setTime(int parameterIndex, Time x, Calendar cal) {
+		record( parameterIndex, (st, position) -> st.setTime( position, x, cal ) );
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x) {
+		record( parameterIndex, (st, position) -> st.setTimestamp( position, x ) );
+	}
+
+	@Override
+	public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) {
+		record( parameterIndex, (st, position) -> st.setTimestamp( position, x, cal ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x) {
+		record( parameterIndex, (st, position) -> st.setAsciiStream( position, x ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, int length) {
+		record( parameterIndex, (st, position) -> st.setAsciiStream( position, x, length ) );
+	}
+
+	@Override
+	public void setAsciiStream(int parameterIndex, InputStream x, long length) {
+		record( parameterIndex, (st, position) -> st.setAsciiStream( position, x, length ) );
+	}
+
+	@Override
+	@Deprecated
+	public void setUnicodeStream(int parameterIndex, InputStream x, int length) {
+		record( parameterIndex, (st, position) -> st.setUnicodeStream( position, x, length ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x) {
+		record( parameterIndex, (st, position) -> st.setBinaryStream( position, x ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, int length) {
+		record( parameterIndex, (st, position) -> st.setBinaryStream( position, x, length ) );
+	}
+
+	@Override
+	public void setBinaryStream(int parameterIndex, InputStream x, long length) {
+		record( parameterIndex, (st, position) -> st.setBinaryStream( position, x, length ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader) {
+		record( parameterIndex, (st, position) -> st.setCharacterStream( position, reader ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, int length) {
+		record( parameterIndex, (st, position) -> st.setCharacterStream( position, reader, length ) );
+	}
+
+	@Override
+	public void setCharacterStream(int parameterIndex, Reader reader, long length) {
+		record( parameterIndex, (st, position) -> st.setCharacterStream( position, reader, length ) );
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value) {
+		record( parameterIndex, (st, position) -> st.setNCharacterStream( position, value ) );
+	}
+
+	@Override
+	public void setNCharacterStream(int parameterIndex, Reader value, long length) {
+		record( parameterIndex, (st, position) -> st.setNCharacterStream( position, value, length ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x) {
+		record( parameterIndex, (st, position) -> st.setObject( position, x ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType) {
+		record( parameterIndex, (st, position) -> st.setObject( position, x, targetSqlType ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) {
+		record( parameterIndex, (st, position) -> st.setObject( position, x, targetSqlType, scaleOrLength ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType) {
+		record( parameterIndex, (st, position) -> st.setObject( position, x, targetSqlType ) );
+	}
+
+	@Override
+	public void setObject(int parameterIndex, Object x, SQLType targetSqlType, int scaleOrLength) {
+		record( parameterIndex, (st, position) -> st.setObject( position, x, targetSqlType, scaleOrLength ) );
+	}
+
+	@Override
+	public void setRef(int parameterIndex, Ref x) {
+		record( parameterIndex, (st, position) -> st.setRef( position, x ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, Blob x) {
+		record( parameterIndex, (st, position) -> st.setBlob( position, x ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream) {
+		record( parameterIndex, (st, position) -> st.setBlob( position, inputStream ) );
+	}
+
+	@Override
+	public void setBlob(int parameterIndex, InputStream inputStream, long length) {
+		record( parameterIndex, (st, position) -> st.setBlob( position, inputStream, length ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Clob x) {
+		record( parameterIndex, (st, position) -> st.setClob( position, x ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader) {
+		record( parameterIndex, (st, position) -> st.setClob( position, reader ) );
+	}
+
+	@Override
+	public void setClob(int parameterIndex, Reader reader, long length) {
+		record( parameterIndex, (st, position) -> st.setClob( position, reader, length ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, NClob value) {
+		record( parameterIndex, (st, position) -> st.setNClob( position, value ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader) {
+		record( parameterIndex, (st, position) -> st.setNClob( position, reader ) );
+	}
+
+	@Override
+	public void setNClob(int parameterIndex, Reader reader, long length) {
+		record( parameterIndex, (st, position) -> st.setNClob( position, reader, length ) );
+	}
+
+	@Override
+	public void setArray(int parameterIndex, Array x) {
+		record( parameterIndex, (st, position) -> st.setArray( position, x ) );
+	}
+
+	@Override
+	public void setURL(int parameterIndex, URL x) {
+		record( parameterIndex, (st, position) -> st.setURL( position, x ) );
+	}
+
+	@Override
+	public void setRowId(int parameterIndex, RowId x) {
+		record( parameterIndex, (st, position) -> st.setRowId( position, x ) );
+	}
+
+	@Override
+	public void setSQLXML(int parameterIndex, SQLXML xmlObject) {
+		record( parameterIndex, (st, position) -> st.setSQLXML( position, xmlObject ) );
+	}
+
+	@Override
+	public void clearParameters() throws SQLException {
+		currentRow.clear();
+		statement.clearParameters();
+	}
+
+	// delegated ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	@Override
+	public ResultSet executeQuery() throws SQLException {
+		return statement.executeQuery();
+	}
+
+	@Override
+	public int executeUpdate() throws SQLException {
+		return statement.executeUpdate();
+	}
+
+	@Override
+	public boolean execute() throws SQLException {
+		return statement.execute();
+	}
+
+	@Override
+	public void addBatch() throws SQLException {
+		statement.addBatch();
+	}
+
+	@Override
+	public ResultSetMetaData getMetaData() throws SQLException {
+		return statement.getMetaData();
+	}
+
+	@Override
+	public ParameterMetaData getParameterMetaData() throws SQLException {
+		return statement.getParameterMetaData();
+	}
+
+	@Override
+	public ResultSet executeQuery(String sql) throws SQLException {
+		return statement.executeQuery( sql );
+	}
+
+	@Override
+	public int executeUpdate(String sql) throws SQLException {
+		return statement.executeUpdate( sql );
+	}
+
+	@Override
+	public int executeUpdate(String sql, int autoGeneratedKeys) throws SQLException {
+		return statement.executeUpdate( sql, autoGeneratedKeys );
+	}
+
+	@Override
+	public int executeUpdate(String sql, int[] columnIndexes) throws SQLException {
+		return statement.executeUpdate( sql, columnIndexes );
+	}
+
+	@Override
+	public int executeUpdate(String sql, String[] columnNames) throws SQLException {
+		return statement.executeUpdate( sql, columnNames );
+	}
+
+	@Override
+	public boolean execute(String sql) throws SQLException {
+		return statement.execute( sql );
+	}
+
+	@Override
+	public boolean execute(String sql, int autoGeneratedKeys) throws SQLException {
+		return statement.execute( sql, autoGeneratedKeys );
+	}
+
+	@Override
+	public boolean execute(String sql, int[] columnIndexes) throws SQLException {
+		return statement.execute( sql, columnIndexes );
+	}
+
+	@Override
+	public boolean execute(String sql, String[] columnNames) throws SQLException {
+		return statement.execute( sql, columnNames );
+	}
+
+	@Override
+	public void addBatch(String sql) throws SQLException {
+		statement.addBatch( sql );
+	}
+
+	@Override
+	public void clearBatch() throws SQLException {
+		statement.clearBatch();
+	}
+
+	@Override
+	public int[] executeBatch() throws SQLException {
+		return statement.executeBatch();
+	}
+
+	@Override
+	public void close() throws SQLException {
+		statement.close();
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return statement.isClosed();
+	}
+
+	@Override
+	public void cancel() throws SQLException {
+		statement.cancel();
+	}
+
+	@Override
+	public int getMaxFieldSize() throws SQLException {
+		return statement.getMaxFieldSize();
+	}
+
+	@Override
+	public void setMaxFieldSize(int max) throws SQLException {
+		statement.setMaxFieldSize( max );
+	}
+
+	@Override
+	public int getMaxRows() throws SQLException {
+		return statement.getMaxRows();
+	}
+
+	@Override
+	public void setMaxRows(int max) throws SQLException {
+		statement.setMaxRows( max );
+	}
+
+	@Override
+	public void setEscapeProcessing(boolean enable) throws SQLException {
+		statement.setEscapeProcessing( enable );
+	}
+
+	@Override
+	public int getQueryTimeout() throws SQLException {
+		return statement.getQueryTimeout();
+	}
+
+	@Override
+	public void setQueryTimeout(int seconds) throws SQLException {
+		statement.setQueryTimeout( seconds );
+	}
+
+	@Override
+	public SQLWarning getWarnings() throws SQLException {
+		return statement.getWarnings();
+	}
+
+	@Override
+	public void clearWarnings() throws SQLException {
+		statement.clearWarnings();
+	}
+
+	@Override
+	public void setCursorName(String name) throws SQLException {
+		statement.setCursorName( name );
+	}
+
+	@Override
+	public ResultSet getResultSet() throws SQLException {
+		return statement.getResultSet();
+	}
+
+	@Override
+	public int getUpdateCount() throws SQLException {
+		return statement.getUpdateCount();
+	}
+
+	@Override
+	public boolean getMoreResults() throws SQLException {
+		return statement.getMoreResults();
+	}
+
+	@Override
+	public boolean getMoreResults(int current) throws SQLException {
+		return statement.getMoreResults( current );
+	}
+
+	@Override
+	public void setFetchDirection(int direction) throws SQLException {
+		statement.setFetchDirection( direction );
+	}
+
+	@Override
+	public int getFetchDirection() throws SQLException {
+		return statement.getFetchDirection();
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		statement.setFetchSize( rows );
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		return statement.getFetchSize();
+	}
+
+	@Override
+	public int getResultSetConcurrency() throws SQLException {
+		return statement.getResultSetConcurrency();
+	}
+
+	@Override
+	public int getResultSetType() throws SQLException {
+		return statement.getResultSetType();
+	}
+
+	@Override
+	public int getResultSetHoldability() throws SQLException {
+		return statement.getResultSetHoldability();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return statement.getConnection();
+	}
+
+	@Override
+	public ResultSet getGeneratedKeys() throws SQLException {
+		return statement.getGeneratedKeys();
+	}
+
+	@Override
+	public void setPoolable(boolean poolable) throws SQLException {
+		statement.setPoolable( poolable );
+	}
+
+	@Override
+	public boolean isPoolable() throws SQLException {
+		return statement.isPoolable();
+	}
+
+	@Override
+	public void closeOnCompletion() throws SQLException {
+		statement.closeOnCompletion();
+	}
+
+	@Override
+	public boolean isCloseOnCompletion() throws SQLException {
+		return statement.isCloseOnCompletion();
+	}
+
+	@Override
+	public <T> T unwrap(Class<T> iface) throws SQLException {
+		return statement.unwrap( iface );
+	}
+
+	@Override
+	public boolean isWrapperFor(Class<?> iface) throws SQLException {
+		return statement.isWrapperFor( iface );
+	}
+}
@@ -11,6 +11,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -28,6 +29,8 @@ import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.ParameterMetadata;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
+import org.hibernate.query.criteria.internal.compile.CriteriaPlan;
 import org.hibernate.query.internal.ParameterMetadataImpl;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
@@ -74,6 +77,12 @@ public class QueryPlanCache implements Serializable {
 	 */
 	private final BoundedConcurrentHashMap<ParameterMetadataKey,ParameterMetadataImpl> parameterMetadataCache;
 
+	/**
+	 * cache of the JPQL rendered from criteria queries, based on the structure of the queries; {@code null} if
+	 * disabled
+	 */
+	private final BoundedConcurrentHashMap<List<Object>,CriteriaPlan> criteriaPlanCache;
+
 
 	private NativeQueryInterpreter nativeQueryInterpreter;
 
@@ -117,6 +126,15 @@ public class QueryPlanCache implements Serializable {
 				BoundedConcurrentHashMap.Eviction.LIRS
 		);
 
+		final int maxCriteriaPlanCount = ConfigurationHelper.getInt(
+				Environment.CRITERIA_PLAN_CACHE_MAX_SIZE,
+				factory.getProperties(),
+				0
+		);
+		criteriaPlanCache = maxCriteriaPlanCount > 0
+				? new BoundedConcurrentHashMap<>( maxCriteriaPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS )
+				: null;
+
 		nativeQueryInterpreter = factory.getServiceRegistry().getService( NativeQueryInterpreter.class );
 	}
 
@@ -239,6 +257,64 @@ public class QueryPlanCache implements Serializable {
 		return value;
 	}
 
+	/**
+	 * Is the cache of criteria plans enabled?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_MAX_SIZE
+	 */
+	public boolean isCriteriaPlanCacheEnabled() {
+		return criteriaPlanCache != null;
+	}
+
+	/**
+	 * Get the cached plan of the criteria queries of the given fingerprint
+	 *
+	 * @param fingerprint The fingerprint of the criteria query
+	 *
+	 * @return The plan, or {@code null} if not cached
+	 */
+	public CriteriaPlan getCriteriaPlan(CriteriaFingerprint fingerprint) {
+		final CriteriaPlan value = criteriaPlanCache.get( fingerprint.getKey() );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( value == null ) {
+			LOG.trace( "Unable to locate criteria plan in cache" );
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.criteriaPlanCacheMiss();
+			}
+		}
+		else {
+			LOG.tracev( "Located criteria plan in cache ({0})", value.getJpaqlString() );
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.criteriaPlanCacheHit();
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Cache the plan of the criteria queries of the given fingerprint
+	 *
+	 * @param fingerprint The fingerprint of the criteria query
+	 * @param plan The plan
+	 */
+	public void putCriteriaPlan(CriteriaFingerprint fingerprint, CriteriaPlan plan) {
+		criteriaPlanCache.putIfAbsent( fingerprint.getKey(), plan );
+	}
+
+	/**
+	 * The number of HQL and native SQL query plans currently cached.
+	 */
+	public int getQueryPlanCount() {
+		return queryPlanCache.size();
+	}
+
+	/**
+	 * The number of criteria plans currently cached.
+	 */
+	public int getCriteriaPlanCount() {
+		return criteriaPlanCache == null ? 0 : criteriaPlanCache.size();
+	}
+
 	/**
 	 * Clean up the caches when the SessionFactory is closed.
 	 * <p>
@@ -252,6 +328,9 @@ public class QueryPlanCache implements Serializable {
 		LOG.trace( "Cleaning QueryPlan Cache" );
 		queryPlanCache.clear();
 		parameterMetadataCache.clear();
+		if ( criteriaPlanCache != null ) {
+			criteriaPlanCache.clear();
+		}
 	}
 
 	public NativeQueryInterpreter getNativeQueryInterpreter() {
@@ -11,13 +11,15 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -30,6 +32,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -42,6 +45,7 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.QueryCachePartitioning;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
@@ -211,8 +215,16 @@ public class ActionQueue {
 						return instance.deletions;
 					}
 					ExecutableList<EntityDeleteAction> init(ActionQueue instance) {
-						// EntityDeleteAction executables never require sorting.
-						return instance.deletions = new ExecutableList<EntityDeleteAction>( false );
+						if ( instance.isOrderDeletesEnabled() ) {
+							return instance.deletions = new ExecutableList<EntityDeleteAction>(
+									new DeleteActionSorter()
+							);
+						}
+						else {
+							return instance.deletions = new ExecutableList<EntityDeleteAction>(
+									false
+							);
+						}
 					}
 				}
 		);
@@ -397,7 +409,15 @@ public class ActionQueue {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			final QueryCachePartitioning partitioning = session.getFactory().getCache().getQueryCachePartitioning();
+			if ( partitioning == null ) {
+				invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			}
+			else {
+				final Set<String> spaces = new HashSet<>( Arrays.asList( convertTimestampSpaces( executable.getPropertySpaces() ) ) );
+				partitioning.collectSpacesToInvalidate( executable, spaces );
+				invalidateSpaces( convertTimestampSpaces( spaces ) );
+			}
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -599,24 +619,37 @@ public class ActionQueue {
 		//		1) we explicitly iterate list here to perform Executable#execute()
 		//		2) ExecutableList#getQuerySpaces also iterates the Executables to collect query spaces.
 		try {
-			for ( E e : list ) {
-				try {
-					e.execute();
+			final int multiRowDeleteSize = session.getFactory().getSessionFactoryOptions().getMultiRowDeleteSize();
+			final int size = list.size();
+			int i = 0;
+			while ( i < size ) {
+				final E e = list.get( i );
+				int end = i + 1;
+				if ( multiRowDeleteSize > 1 && e instanceof EntityDeleteAction
+						&& ( (EntityDeleteAction) e ).isMultiDeleteSupported() ) {
+					while ( end < size && end - i < multiRowDeleteSize
+							&& ( (EntityDeleteAction) e ).isMultiDeleteCompatible( list.get( end ) ) ) {
+						end++;
+					}
 				}
-				finally {
-					if ( e.getBeforeTransactionCompletionProcess() != null ) {
-						if ( beforeTransactionProcesses == null ) {
-							beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+				try {
+					if ( end - i > 1 ) {
+						final List<EntityDeleteAction> deletions = new ArrayList<>( end - i );
+						for ( int j = i; j < end; j++ ) {
+							deletions.add( (EntityDeleteAction) list.get( j ) );
 						}
-						beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+						EntityDeleteAction.executeMultiDelete( deletions );
 					}
-					if ( e.getAfterTransactionCompletionProcess() != null ) {
-						if ( afterTransactionProcesses == null ) {
-							afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
-						}
-						afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+					else {
+						e.execute();
 					}
 				}
+				finally {
+					for ( int j = i; j < end; j++ ) {
+						registerTransactionCompletionProcesses( list.get( j ) );
+					}
+				}
+				i = end;
 			}
 		}
 		finally {
@@ -625,6 +658,14 @@ public class ActionQueue {
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
 				Set propertySpaces = list.getQuerySpaces();
+				final QueryCachePartitioning partitioning = session.getFactory().getCache().getQueryCachePartitioning();
+				if ( partitioning != null ) {
+					final Set<String> spaces = new HashSet<>( propertySpaces );
+					for ( int i = 0; i < list.size(); i++ ) {
+						partitioning.collectSpacesToInvalidate( list.get( i ), spaces );
+					}
+					propertySpaces = spaces;
+				}
 				invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
 			}
 		}
@@ -633,6 +674,21 @@ public class ActionQueue {
 		session.getJdbcCoordinator().executeBatch();
 	}
 
+	private void registerTransactionCompletionProcesses(Executable e) {
+		if ( e.getBeforeTransactionCompletionProcess() != null ) {
+			if ( beforeTransactionProcesses == null ) {
+				beforeTransactionProcesses = new BeforeTransactionCompletionProcessQueue( session );
+			}
+			beforeTransactionProcesses.register( e.getBeforeTransactionCompletionProcess() );
+		}
+		if ( e.getAfterTransactionCompletionProcess() != null ) {
+			if ( afterTransactionProcesses == null ) {
+				afterTransactionProcesses = new AfterTransactionCompletionProcessQueue( session );
+			}
+			afterTransactionProcesses.register( e.getAfterTransactionCompletionProcess() );
+		}
+	}
+
 	private static String[] convertTimestampSpaces(Set spaces) {
 		return (String[]) spaces.toArray( new String[ spaces.size() ] );
 	}
@@ -781,6 +837,9 @@ public class ActionQueue {
 		if ( isOrderInsertsEnabled() && insertions != null ) {
 			insertions.sort();
 		}
+		if ( isOrderDeletesEnabled() && deletions != null ) {
+			deletions.sort();
+		}
 	}
 
 	private boolean isOrderUpdatesEnabled() {
@@ -791,6 +850,10 @@ public class ActionQueue {
 		return session.getFactory().getSessionFactoryOptions().isOrderInsertsEnabled();
 	}
 
+	private boolean isOrderDeletesEnabled() {
+		return session.getFactory().getSessionFactoryOptions().isOrderDeletesEnabled();
+	}
+
 	public void clearFromFlushNeededCheck(int previousCollectionRemovalSize) {
 		if ( collectionCreations != null ) {
 			collectionCreations.clear();
@@ -1017,45 +1080,40 @@ public class ActionQueue {
 	}
 
 	/**
-	 * Order the {@link #insertions} queue such that we group inserts against the same entity together (without
-	 * violating constraints). The original order is generated by cascade order, which in turn is based on the
-	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
-	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
+	 * Groups entity actions against the same entity together, ordering the groups along the foreign-key
+	 * dependencies between their entity types.  The dependencies are collected into a graph whose nodes are the
+	 * entity types present in the list, which is then sorted topologically in time linear to the number of types and
+	 * dependencies; among the groups which are ready, the one whose first action came first is taken, so the
+	 * original (cascade) order is kept wherever the dependencies allow it.
 	 * <p>
-	 * Sorts the insert actions using more hashes.
+	 * If the dependencies between the entity types form a cycle, the actions are left in their original order.
 	 * </p>
 	 * NOTE: this class is not thread-safe.
 	 *
 	 * @author Jay Erb
 	 */
-	private static class InsertActionSorter implements ExecutableList.Sorter<AbstractEntityInsertAction> {
-		/**
-		 * Singleton access
-		 */
-		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
+	private abstract static class EntityActionSorter<E extends EntityAction> implements ExecutableList.Sorter<E> {
 
 		private static class BatchIdentifier {
 
 			private final String entityName;
 			private final String rootEntityName;
+			private final int index;
 
 			private Set<String> parentEntityNames = new HashSet<>( );
 
 			private Set<String> childEntityNames = new HashSet<>( );
 
-			private BatchIdentifier parent;
+			private final List<EntityAction> actions = new ArrayList<>();
 
-			BatchIdentifier(String entityName, String rootEntityName) {
-				this.entityName = entityName;
-				this.rootEntityName = rootEntityName;
-			}
+			private final List<BatchIdentifier> dependents = new ArrayList<>();
 
-			public BatchIdentifier getParent() {
-				return parent;
-			}
+			private int dependencyCount;
 
-			public void setParent(BatchIdentifier parent) {
-				this.parent = parent;
+			BatchIdentifier(String entityName, String rootEntityName, int index) {
+				this.entityName = entityName;
+				this.rootEntityName = rootEntityName;
+				this.index = index;
 			}
 
 			@Override
@@ -1091,164 +1149,143 @@ public class ActionQueue {
 				return childEntityNames;
 			}
 
-			boolean hasAnyParentEntityNames(BatchIdentifier batchIdentifier) {
-				return parentEntityNames.contains( batchIdentifier.getEntityName() ) ||
-						parentEntityNames.contains( batchIdentifier.getRootEntityName() );
-			}
-
-			boolean hasAnyChildEntityNames(BatchIdentifier batchIdentifier) {
-				return childEntityNames.contains( batchIdentifier.getEntityName() );
-			}
-
 			/**
-			 * Check if the this {@link BatchIdentifier} has a parent or grand parent
-			 * matching the given {@link BatchIdentifier} reference.
-			 *
-			 * @param batchIdentifier {@link BatchIdentifier} reference
-			 *
-			 * @return This {@link BatchIdentifier} has a parent matching the given {@link BatchIdentifier} reference
+			 * Record that the given {@link BatchIdentifier} references this one, and so has to be inserted after it.
 			 */
-			boolean hasParent(BatchIdentifier batchIdentifier) {
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-					|| ( parentEntityNames.contains( batchIdentifier.getRootEntityName() ) && !this.getEntityName().equals( batchIdentifier.getRootEntityName() ) )
-					|| parent != null && parent.hasParent( batchIdentifier, new ArrayList<>() )
-				);
-			}
-
-			private boolean hasParent(BatchIdentifier batchIdentifier, List<BatchIdentifier> stack) {
-				if ( !stack.contains( this ) && parent != null ) {
-					stack.add( this );
-					return parent.hasParent( batchIdentifier, stack );
+			void addDependent(BatchIdentifier dependent) {
+				if ( dependent != this ) {
+					dependents.add( dependent );
+					dependent.dependencyCount++;
 				}
-				return (
-					parent == batchIdentifier
-					|| parentEntityNames.contains( batchIdentifier.getEntityName() )
-				);
 			}
 		}
 
-		// the mapping of entity names to their latest batch numbers.
-		private List<BatchIdentifier> latestBatches;
-
-		// the map of batch numbers to EntityInsertAction lists
-		private Map<BatchIdentifier, List<AbstractEntityInsertAction>> actionBatches;
+		private final boolean dependentsFirst;
 
-		public InsertActionSorter() {
+		/**
+		 * @param dependentsFirst Whether the groups of actions against referencing (child) entities come before
+		 * the groups of the entities they reference, as required for deletions.
+		 */
+		EntityActionSorter(boolean dependentsFirst) {
+			this.dependentsFirst = dependentsFirst;
 		}
 
 		/**
-		 * Sort the insert actions.
+		 * The state whose values are inspected for associations, may be {@code null}.
 		 */
-		public void sort(List<AbstractEntityInsertAction> insertions) {
-			// optimize the hash size to eliminate a rehash.
-			this.latestBatches = new ArrayList<>( );
-			this.actionBatches = new HashMap<>();
-
-			for ( AbstractEntityInsertAction action : insertions ) {
-				BatchIdentifier batchIdentifier = new BatchIdentifier(
-						action.getEntityName(),
-						action.getSession()
-								.getFactory()
-								.getMetamodel()
-								.entityPersister( action.getEntityName() )
-								.getRootEntityName()
-				);
-
-				// the entity associated with the current action.
-				Object currentEntity = action.getInstance();
-				int index = latestBatches.indexOf( batchIdentifier );
+		protected abstract Object[] getState(E action);
 
-				if ( index != -1 )  {
-					batchIdentifier = latestBatches.get( index );
-				}
-				else {
-					latestBatches.add( batchIdentifier );
+		/**
+		 * Sort the actions.
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public void sort(List<E> actions) {
+			final Map<String, BatchIdentifier> batchesByEntityName = new HashMap<>();
+			final List<BatchIdentifier> batches = new ArrayList<>();
+			final Map<String, String> rootEntityNames = new HashMap<>();
+
+			for ( E action : actions ) {
+				BatchIdentifier batchIdentifier = batchesByEntityName.get( action.getEntityName() );
+				if ( batchIdentifier == null ) {
+					batchIdentifier = new BatchIdentifier(
+							action.getEntityName(),
+							action.getPersister().getRootEntityName(),
+							batches.size()
+					);
+					batchesByEntityName.put( batchIdentifier.getEntityName(), batchIdentifier );
+					batches.add( batchIdentifier );
 				}
-				addParentChildEntityNames( action, batchIdentifier );
-				addToBatch( batchIdentifier, action );
+				addParentChildEntityNames( action, batchIdentifier, rootEntityNames );
+				batchIdentifier.actions.add( action );
 			}
 
-			// Examine each entry in the batch list, and build the dependency graph.
-			for ( int i = 0; i < latestBatches.size(); i++ ) {
-				BatchIdentifier batchIdentifier = latestBatches.get( i );
+			if ( batches.size() < 2 ) {
+				return;
+			}
 
-				for ( int j = i - 1; j >= 0; j-- ) {
-					BatchIdentifier prevBatchIdentifier = latestBatches.get( j );
-					if ( prevBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
+			// Build the dependency graph, an edge leading from a referenced entity to the referencing one.
+			final Map<String, List<BatchIdentifier>> batchesByRootEntityName = new HashMap<>();
+			for ( BatchIdentifier batchIdentifier : batches ) {
+				batchesByRootEntityName.computeIfAbsent( batchIdentifier.getRootEntityName(), k -> new ArrayList<>() )
+						.add( batchIdentifier );
+			}
+			for ( BatchIdentifier batchIdentifier : batches ) {
+				for ( String parentEntityName : batchIdentifier.getParentEntityNames() ) {
+					final BatchIdentifier parent = batchesByEntityName.get( parentEntityName );
+					if ( parent != null ) {
+						addDependency( parent, batchIdentifier );
 					}
-					else if ( batchIdentifier.hasAnyChildEntityNames( prevBatchIdentifier ) ) {
-						prevBatchIdentifier.parent = batchIdentifier;
+					// a reference to the root of a hierarchy may point to any of its subclasses
+					if ( !parentEntityName.equals( batchIdentifier.getEntityName() ) ) {
+						final List<BatchIdentifier> hierarchy = batchesByRootEntityName.get( parentEntityName );
+						if ( hierarchy != null ) {
+							for ( BatchIdentifier subclass : hierarchy ) {
+								if ( subclass != parent ) {
+									addDependency( subclass, batchIdentifier );
+								}
+							}
+						}
 					}
 				}
-
-				for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-					BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-					if ( nextBatchIdentifier.hasAnyParentEntityNames( batchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-						nextBatchIdentifier.getParentEntityNames().add( batchIdentifier.getEntityName() );
-					}
-					else if ( batchIdentifier.hasAnyChildEntityNames( nextBatchIdentifier ) ) {
-						nextBatchIdentifier.parent = batchIdentifier;
-						nextBatchIdentifier.getParentEntityNames().add( batchIdentifier.getEntityName() );
+				for ( String childEntityName : batchIdentifier.getChildEntityNames() ) {
+					final BatchIdentifier child = batchesByEntityName.get( childEntityName );
+					if ( child != null ) {
+						addDependency( batchIdentifier, child );
 					}
 				}
 			}
 
-			boolean sorted = false;
-
-			long maxIterations = latestBatches.size() * latestBatches.size();
-			long iterations = 0;
-
-			sort:
-			do {
-				// Examine each entry in the batch list, sorting them based on parent/child association
-				// as depicted by the dependency graph.
-				iterations++;
-
-				for ( int i = 0; i < latestBatches.size(); i++ ) {
-					BatchIdentifier batchIdentifier = latestBatches.get( i );
-
-					// Iterate next batches and make sure that children types are after parents.
-					// Since the outer loop looks at each batch entry individually and the prior loop will reorder
-					// entries as well, we need to look and verify if the current batch is a child of the next
-					// batch or if the current batch is seen as a parent or child of the next batch.
-					for ( int j = i + 1; j < latestBatches.size(); j++ ) {
-						BatchIdentifier nextBatchIdentifier = latestBatches.get( j );
-
-						if ( batchIdentifier.hasParent( nextBatchIdentifier ) ) {
-							if ( nextBatchIdentifier.hasParent( batchIdentifier ) ) {
-								//cycle detected, no need to continue
-								break sort;
-							}
-
-							latestBatches.remove( batchIdentifier );
-							latestBatches.add( j, batchIdentifier );
+			// Kahn's algorithm, taking the ready batch which came first in the original order
+			final PriorityQueue<BatchIdentifier> ready = new PriorityQueue<>(
+					batches.size(),
+					Comparator.comparingInt( batchIdentifier -> batchIdentifier.index )
+			);
+			for ( BatchIdentifier batchIdentifier : batches ) {
+				if ( batchIdentifier.dependencyCount == 0 ) {
+					ready.add( batchIdentifier );
+				}
+			}
+			final List<BatchIdentifier> sorted = new ArrayList<>( batches.size() );
+			while ( !ready.isEmpty() ) {
+				final BatchIdentifier batchIdentifier = ready.poll();
+				sorted.add( batchIdentifier );
+				for ( BatchIdentifier dependent : batchIdentifier.dependents ) {
+					if ( --dependent.dependencyCount == 0 ) {
+						ready.add( dependent );
+					}
+				}
+			}
 
-							continue sort;
+			if ( sorted.size() < batches.size() ) {
+				if ( LOG.isDebugEnabled() ) {
+					final List<String> cyclic = new ArrayList<>();
+					for ( BatchIdentifier batchIdentifier : batches ) {
+						if ( batchIdentifier.dependencyCount > 0 ) {
+							cyclic.add( batchIdentifier.getEntityName() );
 						}
 					}
+					LOG.debugf(
+							"Circular dependency between entities %s, actions are executed in their original order",
+							cyclic
+					);
 				}
-				sorted = true;
+				return;
 			}
-			while ( !sorted && iterations <= maxIterations );
 
-			if ( iterations > maxIterations ) {
-				LOG.warn( "The batch containing " + latestBatches.size() + " statements could not be sorted after " + maxIterations + " iterations. " +
-								"This might indicate a circular entity relationship." );
+			// Now, rebuild the action list. There is a batch for each entry in the sorted list.
+			actions.clear();
+			for ( BatchIdentifier batchIdentifier : sorted ) {
+				actions.addAll( (List<E>) batchIdentifier.actions );
 			}
+		}
 
-			// Now, rebuild the insertions list. There is a batch for each entry in the name list.
-			if ( sorted ) {
-				insertions.clear();
-
-				for ( BatchIdentifier rootIdentifier : latestBatches ) {
-					List<AbstractEntityInsertAction> batch = actionBatches.get( rootIdentifier );
-					insertions.addAll( batch );
-				}
+		private void addDependency(BatchIdentifier referenced, BatchIdentifier referencing) {
+			if ( dependentsFirst ) {
+				referencing.addDependent( referenced );
+			}
+			else {
+				referenced.addDependent( referencing );
 			}
 		}
 
@@ -1257,18 +1294,22 @@ public class ActionQueue {
 		 *
 		 * @param action The action being sorted
 		 * @param batchIdentifier The batch identifier of the entity affected by the action
+		 * @param rootEntityNames Cache of root entity names by entity name
 		 */
-		private void addParentChildEntityNames(AbstractEntityInsertAction action, BatchIdentifier batchIdentifier) {
-			Object[] propertyValues = action.getState();
+		private void addParentChildEntityNames(
+				E action,
+				BatchIdentifier batchIdentifier,
+				Map<String, String> rootEntityNames) {
+			Object[] propertyValues = getState( action );
 			ClassMetadata classMetadata = action.getPersister().getClassMetadata();
 			if ( classMetadata != null ) {
 				Type[] propertyTypes = classMetadata.getPropertyTypes();
 				Type identifierType = classMetadata.getIdentifierType();
 
-				for ( int i = 0; i < propertyValues.length; i++ ) {
-					Object value = propertyValues[i];
+				for ( int i = 0; i < propertyTypes.length; i++ ) {
+					Object value = propertyValues == null ? null : propertyValues[i];
 					Type type = propertyTypes[i];
-					addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, type, value );
+					addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, type, value, rootEntityNames );
 				}
 
 				if ( identifierType.isComponentType() ) {
@@ -1276,17 +1317,22 @@ public class ActionQueue {
 					Type[] compositeIdentifierTypes = compositeType.getSubtypes();
 
 					for ( Type type : compositeIdentifierTypes ) {
-						addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, type, null );
+						addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, type, null, rootEntityNames );
 					}
 				}
 			}
 		}
 
-		private void addParentChildEntityNameByPropertyAndValue(AbstractEntityInsertAction action, BatchIdentifier batchIdentifier, Type type, Object value) {
+		private void addParentChildEntityNameByPropertyAndValue(
+				E action,
+				BatchIdentifier batchIdentifier,
+				Type type,
+				Object value,
+				Map<String, String> rootEntityNames) {
 			if ( type.isEntityType() ) {
 				final EntityType entityType = (EntityType) type;
 				final String entityName = entityType.getName();
-				final String rootEntityName = action.getSession().getFactory().getMetamodel().entityPersister( entityName ).getRootEntityName();
+				final String rootEntityName = rootEntityName( action, entityName, rootEntityNames );
 
 				if ( entityType.isOneToOne() && OneToOneType.class.cast( entityType ).getForeignKeyDirection() == ForeignKeyDirection.TO_PARENT ) {
 					if ( !entityType.isReferenceToPrimaryKey() ) {
@@ -1318,7 +1364,7 @@ public class ActionQueue {
 				if ( collectionType.getElementType( sessionFactory ).isEntityType() &&
 						!sessionFactory.getMetamodel().collectionPersister( collectionType.getRole() ).isManyToMany() ) {
 					String entityName = collectionType.getAssociatedEntityName( sessionFactory );
-					String rootEntityName = action.getSession().getFactory().getMetamodel().entityPersister( entityName ).getRootEntityName();
+					String rootEntityName = rootEntityName( action, entityName, rootEntityNames );
 					batchIdentifier.getChildEntityNames().add( entityName );
 					if ( !rootEntityName.equals( entityName ) ) {
 						batchIdentifier.getChildEntityNames().add( rootEntityName );
@@ -1333,21 +1379,56 @@ public class ActionQueue {
 				for ( int j = 0; j < componentValues.length; ++j ) {
 					Type componentValueType = compositeType.getSubtypes()[j];
 					Object componentValue = componentValues[j];
-					addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, componentValueType, componentValue );
+					addParentChildEntityNameByPropertyAndValue( action, batchIdentifier, componentValueType, componentValue, rootEntityNames );
 				}
 			}
 		}
 
-		private void addToBatch(BatchIdentifier batchIdentifier, AbstractEntityInsertAction action) {
-			List<AbstractEntityInsertAction> actions = actionBatches.get( batchIdentifier );
-
-			if ( actions == null ) {
-				actions = new LinkedList<>();
-				actionBatches.put( batchIdentifier, actions );
+		private static String rootEntityName(EntityAction action, String entityName, Map<String, String> rootEntityNames) {
+			String rootEntityName = rootEntityNames.get( entityName );
+			if ( rootEntityName == null ) {
+				rootEntityName = action.getSession().getFactory().getMetamodel().entityPersister( entityName ).getRootEntityName();
+				rootEntityNames.put( entityName, rootEntityName );
 			}
-			actions.add( action );
+			return rootEntityName;
+		}
+	}
+
+	/**
+	 * Order the {@link #insertions} queue such that we group inserts against the same entity together (without
+	 * violating constraints). The original order is generated by cascade order, which in turn is based on the
+	 * directionality of foreign-keys. So even though we will be changing the ordering here, we need to make absolutely
+	 * certain that we do not circumvent this FK ordering to the extent of causing constraint violations.
+	 */
+	private static class InsertActionSorter extends EntityActionSorter<AbstractEntityInsertAction> {
+		/**
+		 * Singleton access
+		 */
+		public static final InsertActionSorter INSTANCE = new InsertActionSorter();
+
+		public InsertActionSorter() {
+			super( false );
+		}
+
+		@Override
+		protected Object[] getState(AbstractEntityInsertAction action) {
+			return action.getState();
 		}
+	}
 
+	/**
+	 * Order the {@link #deletions} queue such that we group deletes against the same entity together, deleting
+	 * the rows of referencing entities before the rows they reference.
+	 */
+	private static class DeleteActionSorter extends EntityActionSorter<EntityDeleteAction> {
+		public DeleteActionSorter() {
+			super( true );
+		}
+
+		@Override
+		protected Object[] getState(EntityDeleteAction action) {
+			return action.getState();
+		}
 	}
 
 	private abstract static class ListProvider<T extends Executable & Comparable & Serializable> {
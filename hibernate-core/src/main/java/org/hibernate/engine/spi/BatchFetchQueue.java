@@ -8,12 +8,17 @@ package org.hibernate.engine.spi;
 
 import java.io.Serializable;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.hibernate.EntityMode;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -206,6 +211,7 @@ public class BatchFetchQueue {
 
 		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( persister.getEntityName() );
 		if ( set != null ) {
+			final SharedCacheProbe<EntityKey> cacheProbe = entityCacheProbe( set, persister, batchSize );
 			for ( EntityKey key : set ) {
 				if ( checkForEnd && i == end ) {
 					//the first id found after the given id
@@ -215,7 +221,7 @@ public class BatchFetchQueue {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, persister ) ) {
+					if ( cacheProbe == null || !cacheProbe.isCached( key ) ) {
 						ids[i++] = key.getIdentifier();
 					}
 				}
@@ -230,19 +236,27 @@ public class BatchFetchQueue {
 		return ids; //we ran out of ids to try
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private SharedCacheProbe<EntityKey> entityCacheProbe(
+			LinkedHashSet<EntityKey> set,
+			EntityPersister persister,
+			int batchSize) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			return new SharedCacheProbe<>(
+					session,
+					cache,
+					set.iterator(),
+					entityKey -> cache.generateCacheKey(
+							entityKey.getIdentifier(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					batchSize
 			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
 		}
-		return false;
+		return null;
 	}
 
 
@@ -308,6 +322,7 @@ public class BatchFetchQueue {
 
 		final LinkedHashMap<CollectionEntry, PersistentCollection> map =  batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
+			final SharedCacheProbe<CollectionEntry> cacheProbe = collectionCacheProbe( map, collectionPersister, batchSize );
 			for ( Entry<CollectionEntry, PersistentCollection> me : map.entrySet() ) {
 				final CollectionEntry ce = me.getKey();
 				final PersistentCollection collection = me.getValue();
@@ -341,7 +356,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
+				else if ( cacheProbe == null || !cacheProbe.isCached( ce ) ) {
 					keys[i++] = ce.getLoadedKey();
 					//count++;
 				}
@@ -357,19 +372,87 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Serializable collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	private SharedCacheProbe<CollectionEntry> collectionCacheProbe(
+			LinkedHashMap<CollectionEntry, PersistentCollection> map,
+			CollectionPersister persister,
+			int batchSize) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			return new SharedCacheProbe<>(
+					session,
+					cache,
+					map.keySet().iterator(),
+					ce -> ce.getLoadedKey() == null ? null : cache.generateCacheKey(
+							ce.getLoadedKey(),
+							persister,
+							session.getFactory(),
+							session.getTenantIdentifier()
+					),
+					batchSize
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
 		}
-		return false;
+		return null;
+	}
+
+	/**
+	 * Tells which of the queued entries are already in the second-level cache.  The queue is read ahead of the
+	 * iteration of the caller, and the entries are looked up a chunk at a time, in a single access to the
+	 * cache per chunk.
+	 */
+	private static final class SharedCacheProbe<E> {
+		private final SharedSessionContractImplementor session;
+		private final CachedDomainDataAccess cacheAccess;
+		private final Iterator<E> lookAhead;
+		private final Function<E, Object> cacheKeyGenerator;
+		private final int chunkSize;
+
+		private final Set<E> probed = new HashSet<>();
+		private final Set<E> cached = new HashSet<>();
+
+		private SharedCacheProbe(
+				SharedSessionContractImplementor session,
+				CachedDomainDataAccess cacheAccess,
+				Iterator<E> lookAhead,
+				Function<E, Object> cacheKeyGenerator,
+				int chunkSize) {
+			this.session = session;
+			this.cacheAccess = cacheAccess;
+			this.lookAhead = lookAhead;
+			this.cacheKeyGenerator = cacheKeyGenerator;
+			this.chunkSize = chunkSize;
+		}
+
+		boolean isCached(E entry) {
+			if ( !probed.contains( entry ) ) {
+				probeUpTo( entry );
+			}
+			return cached.contains( entry );
+		}
+
+		private void probeUpTo(E entry) {
+			final Map<Object, E> entriesByCacheKey = new HashMap<>();
+			boolean reached = false;
+			while ( lookAhead.hasNext() && ( !reached || entriesByCacheKey.size() < chunkSize ) ) {
+				final E next = lookAhead.next();
+				probed.add( next );
+				reached = reached || next.equals( entry );
+				final Object cacheKey = cacheKeyGenerator.apply( next );
+				if ( cacheKey != null ) {
+					entriesByCacheKey.put( cacheKey, next );
+				}
+			}
+			if ( !entriesByCacheKey.isEmpty() ) {
+				final Map<Object, Object> cachedValues = CacheHelper.fromSharedCache(
+						session,
+						entriesByCacheKey.keySet(),
+						cacheAccess
+				);
+				for ( Object cacheKey : cachedValues.keySet() ) {
+					cached.add( entriesByCacheKey.get( cacheKey ) );
+				}
+			}
+		}
 	}
 
 }
@@ -166,6 +166,20 @@ public interface PersistenceContext {
 	 */
 	Object getEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance associated with the given identifier of the given entity hierarchy.  Unlike
+	 * {@link #getEntity(EntityKey)}, this does not require an EntityKey when the storage of the persistence context
+	 * can do without.
+	 *
+	 * @param id The entity identifier
+	 * @param persister The persister of the entity, or of any entity of the same hierarchy
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	default Object getEntity(Serializable id, EntityPersister persister) {
+		return getEntity( new EntityKey( id, persister ) );
+	}
+
 	/**
 	 * Is there an entity with the given key in the persistence context
 	 *
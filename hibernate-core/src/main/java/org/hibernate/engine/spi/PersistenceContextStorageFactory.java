@@ -0,0 +1,35 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.util.Map;
+
+/**
+ * Builds the keyed storage a {@link PersistenceContext} uses for its managed entity instances,
+ * entity snapshots and collection wrappers.
+ * <p/>
+ * The maps are only ever accessed by the owning session, so implementations need not be thread safe.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#PERSISTENCE_CONTEXT_STORAGE
+ *
+ * @since 5.5
+ */
+public interface PersistenceContextStorageFactory {
+	/**
+	 * Build the storage for values keyed by {@link EntityKey}
+	 *
+	 * @param initialCapacity The expected number of entries
+	 */
+	<V> Map<EntityKey, V> createEntityKeyMap(int initialCapacity);
+
+	/**
+	 * Build the storage for values keyed by {@link CollectionKey}
+	 *
+	 * @param initialCapacity The expected number of entries
+	 */
+	<V> Map<CollectionKey, V> createCollectionKeyMap(int initialCapacity);
+}
@@ -0,0 +1,86 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+
+/**
+ * A SessionFactory-level cache of the identifiers simple natural ids resolve to, shared by all sessions of an
+ * entity and independent of the second-level cache.
+ * <p/>
+ * Only kept for entities whose natural id is immutable and made of a single String or primitive wrapper attribute,
+ * so the natural id value itself serves as the key.  Resolutions read within a transaction are only cached once it
+ * commits.  Entries are evicted when an entity with the natural id is inserted or deleted, and all entries of an
+ * entity are cleared by bulk operations affecting it and by
+ * {@link org.hibernate.Cache#evictNaturalIdData(String) natural-id cache eviction}.  A resolution read by a session
+ * before a concurrent deletion commits may be cached after it, so natural ids which are re-assigned to a new entity
+ * right after the deletion of the previous one should not rely on this cache.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE
+ *
+ * @since 5.5
+ */
+public final class SimpleNaturalIdResolutionCache {
+	private static final Set<Class<?>> SIMPLE_VALUE_CLASSES = new HashSet<>(
+			Arrays.asList(
+					String.class,
+					Long.class,
+					Integer.class,
+					Short.class,
+					Byte.class,
+					Character.class,
+					Boolean.class
+			)
+	);
+
+	private final BoundedConcurrentHashMap<Object, Serializable> resolutions;
+
+	public SimpleNaturalIdResolutionCache(int maxSize) {
+		this.resolutions = new BoundedConcurrentHashMap<>( maxSize, 20, BoundedConcurrentHashMap.Eviction.LIRS );
+	}
+
+	/**
+	 * Can values of the given natural id type be compared through their own {@code equals} and {@code hashCode}?
+	 *
+	 * @param type The type of the single natural id attribute
+	 *
+	 * @return {@code true} for the standard String and primitive wrapper types
+	 */
+	public static boolean isSimpleValueType(Type type) {
+		return type instanceof AbstractStandardBasicType && SIMPLE_VALUE_CLASSES.contains( type.getReturnedClass() );
+	}
+
+	/**
+	 * The identifier the natural id value resolves to, or {@code null} if not cached.
+	 */
+	public Serializable get(Object naturalId) {
+		return naturalId == null ? null : resolutions.get( naturalId );
+	}
+
+	public void put(Object naturalId, Serializable id) {
+		if ( naturalId != null && id != null ) {
+			resolutions.put( naturalId, id );
+		}
+	}
+
+	public void evict(Object naturalId) {
+		if ( naturalId != null ) {
+			resolutions.remove( naturalId );
+		}
+	}
+
+	public void clear() {
+		resolutions.clear();
+	}
+}
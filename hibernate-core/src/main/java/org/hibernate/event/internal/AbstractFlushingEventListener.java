@@ -26,6 +26,7 @@ import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.CollectionKey;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.service.spi.EventListenerRegistry;
@@ -139,17 +140,49 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		LOG.debug( "Processing flush-time cascades" );
 
 		final Object anything = getAnything();
+		final boolean incremental = session.getFactory().getSessionFactoryOptions().isIncrementalFlushEnabled();
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
 		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = (EntityEntry) me.getValue();
 			Status status = entry.getStatus();
 			if ( status == Status.MANAGED || status == Status.SAVING || status == Status.READ_ONLY ) {
+				if ( incremental && isUnchangedSinceLastFlush( me.getKey(), entry ) ) {
+					continue;
+				}
 				cascadeOnFlush( session, entry.getPersister(), me.getKey(), anything );
 			}
 		}
 	}
 
+	/**
+	 * Used for incremental flushing, see {@link org.hibernate.cfg.AvailableSettings#INCREMENTAL_FLUSH}.
+	 * <p/>
+	 * An entity tracking its own dirtiness, which has no collections and no dirty attribute, has not been
+	 * modified since it was loaded or last flushed: cascading to it, or dirty checking it, cannot produce
+	 * anything.
+	 */
+	private static boolean isUnchangedSinceLastFlush(Object entity, EntityEntry entry) {
+		final Status status = entry.getStatus();
+		return ( status == Status.MANAGED || status == Status.READ_ONLY )
+				&& entity instanceof SelfDirtinessTracker
+				&& !entry.getPersister().hasCollections()
+				&& !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+	}
+
+	/**
+	 * The entities skipped under incremental flushing would be ignored by the standard flush-entity
+	 * listener; that does not hold for any other listener.
+	 */
+	private static boolean areStandardFlushEntityListeners(Iterable<FlushEntityEventListener> listeners) {
+		for ( FlushEntityEventListener listener : listeners ) {
+			if ( listener.getClass() != DefaultFlushEntityEventListener.class ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private void cascadeOnFlush(EventSource session, EntityPersister persister, Object object, Object anything)
 	throws HibernateException {
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -219,6 +252,9 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
 		final int count = entityEntries.length;
 
+		final boolean incremental = source.getFactory().getSessionFactoryOptions().isIncrementalFlushEnabled()
+				&& areStandardFlushEntityListeners( flushListeners );
+
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
 
 			// Update the status of the object and if necessary, schedule an update
@@ -226,6 +262,10 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 			EntityEntry entry = me.getValue();
 			Status status = entry.getStatus();
 
+			if ( incremental && isUnchangedSinceLastFlush( me.getKey(), entry ) ) {
+				continue;
+			}
+
 			if ( status != Status.LOADING && status != Status.GONE ) {
 				final FlushEntityEvent entityEvent = new FlushEntityEvent( source, me.getKey(), entry );
 				for ( FlushEntityEventListener listener : flushListeners ) {
@@ -6,16 +6,36 @@
  */
 package org.hibernate.event.internal;
 
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
 import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.CascadeStyle;
+import org.hibernate.engine.spi.CascadeStyles;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.Status;
 import org.hibernate.event.spi.AutoFlushEvent;
 import org.hibernate.event.spi.AutoFlushEventListener;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.stat.spi.StatisticsImplementor;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
 
@@ -29,6 +49,13 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 
 	private static final CoreMessageLogger LOG = Logger.getMessageLogger( CoreMessageLogger.class, DefaultAutoFlushEventListener.class.getName() );
 
+	private static final Set<Serializable> ALL_SPACES = Collections.emptySet();
+
+	// the spaces possibly written by flushing an instance of a given entity, see #getFlushSpaces
+	private final ConcurrentMap<String, Set<Serializable>> flushSpacesByEntityName = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Set<Serializable>> flushSpacesByCollectionRole = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Boolean> uncheckedCascadesByEntityName = new ConcurrentHashMap<>();
+
 	/**
 	 * Handle the given auto-flush event.
 	 * 
@@ -43,6 +70,12 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 			eventListenerManager.partialFlushStart();
 
 			if ( flushMightBeNeeded( source ) ) {
+				if ( isQuerySpaceAware( source ) && !mightAffectQuerySpaces( event.getQuerySpaces(), source ) ) {
+					LOG.trace( "Don't need to execute flush: no changed state maps to the query spaces" );
+					event.setFlushRequired( false );
+					return;
+				}
+
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final ActionQueue actionQueue = source.getActionQueue();
@@ -84,6 +117,268 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	private boolean isQuerySpaceAware(EventSource source) {
+		return source.getHibernateFlushMode() != FlushMode.ALWAYS
+				&& source.getFactory().getSessionFactoryOptions().isQuerySpaceAwareAutoFlushEnabled();
+	}
+
+	/**
+	 * Could flushing the session change anything in the given query spaces?  Either an already queued action
+	 * writes to one of the spaces, or a managed entity or collection which is dirty, or is not managed as
+	 * unchanged, could lead to a write to one of the spaces once flushed.  Entities are only dirty checked when
+	 * their type could write to the spaces, and without firing any flush event.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean mightAffectQuerySpaces(Set querySpaces, EventSource source) {
+		if ( querySpaces == null ) {
+			// unknown query spaces
+			return true;
+		}
+		if ( querySpaces.isEmpty() ) {
+			return false;
+		}
+		if ( source.getActionQueue().areTablesToBeUpdated( querySpaces ) ) {
+			return true;
+		}
+
+		final SessionFactoryImplementor factory = source.getFactory();
+		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
+		final Map<EntityPersister, Boolean> decisions = new IdentityHashMap<>();
+		for ( Map.Entry<Object, EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+			final EntityEntry entry = me.getValue();
+			final EntityPersister persister = entry.getPersister();
+			Boolean affected = decisions.get( persister );
+			if ( affected == null ) {
+				affected = intersects( getFlushSpaces( persister, factory ), querySpaces );
+				decisions.put( persister, affected );
+			}
+			if ( affected && mightBeWritten( me.getKey(), entry, source ) ) {
+				return true;
+			}
+		}
+
+		// collections are reached from their owner, but the persistence context may also hold
+		// collections whose owner is not (or no longer) managed
+		final boolean[] collectionAffected = new boolean[1];
+		persistenceContext.forEachCollectionEntry(
+				(collection, entry) -> {
+					if ( !collectionAffected[0] && ( collection.isDirty() || collection.hasQueuedOperations() ) ) {
+						collectionAffected[0] = affectsQuerySpaces( entry.getLoadedPersister(), querySpaces, factory )
+								|| affectsQuerySpaces( entry.getCurrentPersister(), querySpaces, factory );
+					}
+				},
+				false
+		);
+		return collectionAffected[0];
+	}
+
+	/**
+	 * Could flushing the given managed entity write anything?  Answers {@code false} only for an entity managed as
+	 * unchanged: not dirty, holding the same collections as when it was loaded, and without cascades the dirty
+	 * check cannot see.  Collections which changed are checked on their own.
+	 */
+	private boolean mightBeWritten(Object entity, EntityEntry entry, EventSource source) {
+		if ( entry.getStatus() != Status.MANAGED ) {
+			return entry.getStatus() != Status.READ_ONLY;
+		}
+		if ( !entry.requiresDirtyCheck( entity ) ) {
+			return false;
+		}
+		final EntityPersister persister = entry.getPersister();
+		if ( hasUncheckedCascades( persister, source.getFactory() ) ) {
+			return true;
+		}
+		final Object[] loadedState = entry.getLoadedState();
+		if ( loadedState == null ) {
+			return true;
+		}
+
+		final Object[] currentState = persister.getPropertyValues( entity );
+		final Type[] types = persister.getPropertyTypes();
+		for ( int i = 0; i < types.length; i++ ) {
+			// a collection replaced by another instance: its dereferencing and the new one are both written
+			if ( types[i].isCollectionType() && currentState[i] != loadedState[i] ) {
+				return true;
+			}
+		}
+
+		int[] dirty = source.getInterceptor().findDirty(
+				entity,
+				entry.getId(),
+				currentState,
+				loadedState,
+				persister.getPropertyNames(),
+				types
+		);
+		if ( dirty == null ) {
+			dirty = persister.findDirty( currentState, loadedState, entity, source );
+		}
+		return dirty != null && dirty.length > 0;
+	}
+
+	/**
+	 * Does the given entity cascade through one-to-one or any associations, which the dirty check ignores, so that
+	 * an unchanged instance may still lead to the insertion of a new associated instance?
+	 */
+	private boolean hasUncheckedCascades(EntityPersister persister, SessionFactoryImplementor factory) {
+		return uncheckedCascadesByEntityName.computeIfAbsent(
+				persister.getEntityName(),
+				entityName -> {
+					final Type[] types = persister.getPropertyTypes();
+					final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+					for ( int i = 0; i < types.length; i++ ) {
+						if ( hasUncheckedCascades( types[i], cascadeStyles[i] != CascadeStyles.NONE ) ) {
+							return true;
+						}
+					}
+					return false;
+				}
+		);
+	}
+
+	private static boolean hasUncheckedCascades(Type type, boolean cascades) {
+		if ( type.isAnyType() ) {
+			return cascades;
+		}
+		else if ( type.isEntityType() ) {
+			return cascades && ( (EntityType) type ).isOneToOne();
+		}
+		else if ( type.isComponentType() ) {
+			final CompositeType componentType = (CompositeType) type;
+			final Type[] subtypes = componentType.getSubtypes();
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				final boolean subCascades = cascades || componentType.getCascadeStyle( i ) != CascadeStyles.NONE;
+				if ( hasUncheckedCascades( subtypes[i], subCascades ) ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private boolean affectsQuerySpaces(CollectionPersister persister, Set querySpaces, SessionFactoryImplementor factory) {
+		return persister != null && intersects( getFlushSpaces( persister, factory ), querySpaces );
+	}
+
+	private static boolean intersects(Set<Serializable> flushSpaces, Set querySpaces) {
+		if ( flushSpaces == ALL_SPACES ) {
+			return true;
+		}
+		for ( Serializable space : flushSpaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * The spaces a flush of an instance of the given entity might write to: the entity's own tables,
+	 * the tables of its collections and, transitively, the spaces of the entities it cascades to.
+	 */
+	private Set<Serializable> getFlushSpaces(EntityPersister persister, SessionFactoryImplementor factory) {
+		return flushSpacesByEntityName.computeIfAbsent(
+				persister.getEntityName(),
+				entityName -> {
+					final Set<Serializable> spaces = new HashSet<>();
+					return collectFlushSpaces( persister, factory, spaces, new HashSet<>() ) ? spaces : ALL_SPACES;
+				}
+		);
+	}
+
+	/**
+	 * The spaces a flush of a changed collection might write to: the collection's own tables and, should it
+	 * cascade, the spaces of its elements.
+	 */
+	private Set<Serializable> getFlushSpaces(CollectionPersister persister, SessionFactoryImplementor factory) {
+		return flushSpacesByCollectionRole.computeIfAbsent(
+				persister.getRole(),
+				role -> {
+					final Set<Serializable> spaces = new HashSet<>();
+					Collections.addAll( spaces, persister.getCollectionSpaces() );
+					final Set<String> visited = new HashSet<>();
+					return collectFlushSpaces( persister.getElementType(), true, factory, spaces, visited )
+							&& collectFlushSpaces( persister.getIndexType(), true, factory, spaces, visited )
+							? spaces
+							: ALL_SPACES;
+				}
+		);
+	}
+
+	/**
+	 * @return {@code false} if the spaces cannot be bounded
+	 */
+	private static boolean collectFlushSpaces(
+			EntityPersister persister,
+			SessionFactoryImplementor factory,
+			Set<Serializable> spaces,
+			Set<String> visited) {
+		if ( !visited.add( persister.getEntityName() ) ) {
+			return true;
+		}
+		Collections.addAll( spaces, persister.getQuerySpaces() );
+
+		final Type[] types = persister.getPropertyTypes();
+		final CascadeStyle[] cascadeStyles = persister.getPropertyCascadeStyles();
+		for ( int i = 0; i < types.length; i++ ) {
+			final boolean cascades = cascadeStyles[i] != CascadeStyles.NONE;
+			if ( !collectFlushSpaces( types[i], cascades, factory, spaces, visited ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean collectFlushSpaces(
+			Type type,
+			boolean cascades,
+			SessionFactoryImplementor factory,
+			Set<Serializable> spaces,
+			Set<String> visited) {
+		if ( type == null ) {
+			return true;
+		}
+		else if ( type.isCollectionType() ) {
+			final CollectionPersister collectionPersister = factory.getMetamodel()
+					.collectionPersister( ( (CollectionType) type ).getRole() );
+			Collections.addAll( spaces, collectionPersister.getCollectionSpaces() );
+			return !cascades
+					|| collectFlushSpaces( collectionPersister.getElementType(), true, factory, spaces, visited )
+					&& collectFlushSpaces( collectionPersister.getIndexType(), true, factory, spaces, visited );
+		}
+		else if ( type.isAnyType() ) {
+			// could be any entity
+			return !cascades;
+		}
+		else if ( type.isEntityType() ) {
+			if ( cascades ) {
+				final EntityPersister associated = factory.getMetamodel()
+						.entityPersister( ( (EntityType) type ).getAssociatedEntityName( factory ) );
+				// an instance of any subclass might be reached
+				for ( Object subclassEntityName : associated.getEntityMetamodel().getSubclassEntityNames() ) {
+					final EntityPersister subclassPersister = factory.getMetamodel()
+							.entityPersister( (String) subclassEntityName );
+					if ( !collectFlushSpaces( subclassPersister, factory, spaces, visited ) ) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+		else if ( type.isComponentType() ) {
+			final CompositeType componentType = (CompositeType) type;
+			final Type[] subtypes = componentType.getSubtypes();
+			for ( int i = 0; i < subtypes.length; i++ ) {
+				final boolean subCascades = cascades || componentType.getCascadeStyle( i ) != CascadeStyles.NONE;
+				if ( !collectFlushSpaces( subtypes[i], subCascades, factory, spaces, visited ) ) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return true;
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
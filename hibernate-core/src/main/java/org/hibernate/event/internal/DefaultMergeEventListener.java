@@ -20,7 +20,6 @@ import org.hibernate.engine.internal.CascadePoint;
 import org.hibernate.engine.spi.CascadingAction;
 import org.hibernate.engine.spi.CascadingActions;
 import org.hibernate.engine.spi.EntityEntry;
-import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
@@ -149,8 +148,7 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 					EntityPersister persister = source.getEntityPersister( event.getEntityName(), entity );
 					Serializable id = persister.getIdentifier( entity, source );
 					if ( id != null ) {
-						final EntityKey key = source.generateEntityKey( id, persister );
-						final Object managedEntity = persistenceContext.getEntity( key );
+						final Object managedEntity = persistenceContext.getEntity( id, persister );
 						entry = persistenceContext.getEntry( managedEntity );
 						if ( entry != null ) {
 							// we have specialized case of a detached entity from the
@@ -433,8 +431,7 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 		if ( entry == null ) {
 			Serializable id = persister.getIdentifier( entity, source );
 			if ( id != null ) {
-				final EntityKey key = source.generateEntityKey( id, persister );
-				final Object managedEntity = persistenceContext.getEntity( key );
+				final Object managedEntity = persistenceContext.getEntity( id, persister );
 				entry = persistenceContext.getEntry( managedEntity );
 			}
 		}
@@ -0,0 +1,233 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.HibernateException;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Common support for the lock-free optimizers, which hand out the values of a block as primitive {@code long}s
+ * claimed by compare-and-swap instead of synchronizing every call to {@link #generate}.
+ * <p/>
+ * Only the retrieval of a new block from the database is serialized, all other threads keep drawing values
+ * from the current block meanwhile.  Optionally the next block is fetched ahead of time: the thread drawing the
+ * value which leaves {@link #injectPrefetchThreshold prefetch threshold} values in the current block fetches
+ * the next one, so that threads exhausting the block find it ready instead of waiting for the database.
+ * <p/>
+ * Limited to {@link Long}, {@link Integer} and {@link Short} identifiers.
+ */
+public abstract class AbstractConcurrentOptimizer extends AbstractOptimizer implements PrefetchAwareOptimizer {
+	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( AbstractConcurrentOptimizer.class );
+
+	/**
+	 * A block of values, from {@code lowerLimit} (inclusive) up to {@code upperLimit} (exclusive).
+	 */
+	protected static final class Block {
+		private final IntegralDataTypeHolder lastSourceValue;
+		private final long upperLimit;
+		private final long prefetchValue;
+		private final AtomicLong next;
+
+		private Block(IntegralDataTypeHolder lastSourceValue, long lowerLimit, long upperLimit, int prefetchThreshold) {
+			this.lastSourceValue = lastSourceValue;
+			this.upperLimit = upperLimit;
+			this.prefetchValue = prefetchThreshold > 0
+					? Math.max( lowerLimit, upperLimit - prefetchThreshold )
+					: Long.MIN_VALUE;
+			this.next = new AtomicLong( lowerLimit );
+		}
+	}
+
+	private static final class GenerationState {
+		private final AtomicReference<Block> current = new AtomicReference<>();
+		// guarded by the state monitor
+		private Block prefetched;
+	}
+
+	private final Class<?> primitiveReturnClass;
+	private final GenerationState noTenantState = new GenerationState();
+	private final Map<String,GenerationState> tenantSpecificState = new ConcurrentHashMap<>();
+	private volatile int prefetchThreshold;
+
+	/**
+	 * Constructs an AbstractConcurrentOptimizer
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	AbstractConcurrentOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+		if ( incrementSize < 1 ) {
+			throw new HibernateException( "increment size cannot be less than 1" );
+		}
+		if ( returnClass == Long.class || returnClass == long.class ) {
+			primitiveReturnClass = long.class;
+		}
+		else if ( returnClass == Integer.class || returnClass == int.class ) {
+			primitiveReturnClass = int.class;
+		}
+		else if ( returnClass == Short.class || returnClass == short.class ) {
+			primitiveReturnClass = short.class;
+		}
+		else {
+			throw new HibernateException(
+					"Optimizer [" + getClass().getName() + "] does not support identifiers of type ["
+							+ returnClass.getName() + "]"
+			);
+		}
+	}
+
+	@Override
+	public void injectPrefetchThreshold(int prefetchThreshold) {
+		this.prefetchThreshold = prefetchThreshold;
+	}
+
+	/**
+	 * The number of values remaining in the current block when the next block is fetched.
+	 *
+	 * @return The prefetch threshold; {@code 0} if prefetching is disabled
+	 */
+	public int getPrefetchThreshold() {
+		return prefetchThreshold;
+	}
+
+	@Override
+	public Serializable generate(AccessCallback callback) {
+		final GenerationState generationState = locateGenerationState( callback.getTenantIdentifier() );
+		while ( true ) {
+			final Block block = generationState.current.get();
+			if ( block != null ) {
+				final long value = block.next.getAndIncrement();
+				if ( value < block.upperLimit ) {
+					if ( value == block.prefetchValue ) {
+						prefetch( generationState, block, callback );
+					}
+					return toIdentifier( value );
+				}
+			}
+			nextBlock( generationState, block, callback );
+		}
+	}
+
+	private void nextBlock(GenerationState generationState, Block exhausted, AccessCallback callback) {
+		synchronized ( generationState ) {
+			if ( generationState.current.get() != exhausted ) {
+				// another thread already moved on
+				return;
+			}
+			Block block = generationState.prefetched;
+			if ( block == null ) {
+				block = createBlock( exhausted == null, callback );
+			}
+			else {
+				generationState.prefetched = null;
+			}
+			generationState.current.set( block );
+		}
+	}
+
+	private void prefetch(GenerationState generationState, Block block, AccessCallback callback) {
+		synchronized ( generationState ) {
+			if ( generationState.current.get() == block && generationState.prefetched == null ) {
+				generationState.prefetched = createBlock( false, callback );
+				LOG.tracef( "Prefetched block of identifiers, %s values left in the current one", prefetchThreshold );
+			}
+		}
+	}
+
+	private Block createBlock(boolean initial, AccessCallback callback) {
+		return initial ? initialBlock( callback ) : subsequentBlock( callback );
+	}
+
+	/**
+	 * Builds a block of values.
+	 *
+	 * @param lastSourceValue The source value the block was derived from
+	 * @param lowerLimit The first value of the block
+	 * @param upperLimit The value following the last value of the block
+	 *
+	 * @return The block
+	 */
+	protected final Block block(IntegralDataTypeHolder lastSourceValue, long lowerLimit, long upperLimit) {
+		return new Block( lastSourceValue, lowerLimit, upperLimit, prefetchThreshold );
+	}
+
+	/**
+	 * Obtains the first block of values from the source.
+	 *
+	 * @param callback Access to the underlying value source
+	 *
+	 * @return The first block
+	 */
+	protected abstract Block initialBlock(AccessCallback callback);
+
+	/**
+	 * Obtains the next block of values from the source.
+	 *
+	 * @param callback Access to the underlying value source
+	 *
+	 * @return The next block
+	 */
+	protected abstract Block subsequentBlock(AccessCallback callback);
+
+	private Serializable toIdentifier(long value) {
+		if ( primitiveReturnClass == long.class ) {
+			return value;
+		}
+		else if ( primitiveReturnClass == int.class ) {
+			return (int) value;
+		}
+		else {
+			return (short) value;
+		}
+	}
+
+	private GenerationState locateGenerationState(String tenantIdentifier) {
+		if ( tenantIdentifier == null ) {
+			return noTenantState;
+		}
+		return tenantSpecificState.computeIfAbsent( tenantIdentifier, tenant -> new GenerationState() );
+	}
+
+	private Block noTenantBlock() {
+		final Block block = noTenantState.current.get();
+		if ( block == null ) {
+			throw new IllegalStateException( "Could not locate previous generation state for no-tenant" );
+		}
+		return block;
+	}
+
+	@Override
+	public IntegralDataTypeHolder getLastSourceValue() {
+		return noTenantBlock().lastSourceValue;
+	}
+
+	/**
+	 * Getter for property 'lastValue'.
+	 * <p/>
+	 * Exposure intended for testing purposes.
+	 *
+	 * @return Value for property 'lastValue'.
+	 */
+	public long getLastValue() {
+		final Block block = noTenantBlock();
+		return Math.min( block.next.get(), block.upperLimit ) - 1;
+	}
+
+	static long toLong(IntegralDataTypeHolder holder) {
+		return IdentifierGeneratorHelper.extractLong( holder );
+	}
+}
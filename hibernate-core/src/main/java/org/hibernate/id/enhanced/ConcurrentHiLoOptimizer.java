@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+
+/**
+ * Lock-free variant of {@link HiLoOptimizer}, generating the same values.
+ *
+ * @see AbstractConcurrentOptimizer
+ */
+public class ConcurrentHiLoOptimizer extends AbstractConcurrentOptimizer {
+	/**
+	 * Constructs a ConcurrentHiLoOptimizer
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public ConcurrentHiLoOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+	}
+
+	@Override
+	protected Block initialBlock(AccessCallback callback) {
+		IntegralDataTypeHolder lastSourceValue = callback.getNextValue();
+		while ( lastSourceValue.lt( 1 ) ) {
+			lastSourceValue = callback.getNextValue();
+		}
+		return bucket( lastSourceValue );
+	}
+
+	@Override
+	protected Block subsequentBlock(AccessCallback callback) {
+		return bucket( callback.getNextValue() );
+	}
+
+	private Block bucket(IntegralDataTypeHolder lastSourceValue) {
+		final long upperLimit = toLong( lastSourceValue ) * incrementSize + 1;
+		return block( lastSourceValue, upperLimit - incrementSize, upperLimit );
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return false;
+	}
+}
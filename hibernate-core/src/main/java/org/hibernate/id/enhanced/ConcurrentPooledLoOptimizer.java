@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+
+/**
+ * Lock-free variant of {@link PooledLoOptimizer}, generating the same values.
+ *
+ * @see AbstractConcurrentOptimizer
+ */
+public class ConcurrentPooledLoOptimizer extends AbstractConcurrentOptimizer {
+	/**
+	 * Constructs a ConcurrentPooledLoOptimizer
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public ConcurrentPooledLoOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+	}
+
+	@Override
+	protected Block initialBlock(AccessCallback callback) {
+		return subsequentBlock( callback );
+	}
+
+	@Override
+	protected Block subsequentBlock(AccessCallback callback) {
+		final IntegralDataTypeHolder lastSourceValue = callback.getNextValue();
+		final long lowerLimit = toLong( lastSourceValue );
+		// handle cases where initial-value is less that one (hsqldb for instance).
+		return block( lastSourceValue, Math.max( lowerLimit, 1 ), lowerLimit + incrementSize );
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+}
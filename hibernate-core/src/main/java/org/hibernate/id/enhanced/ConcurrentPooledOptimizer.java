@@ -0,0 +1,66 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.internal.CoreMessageLogger;
+
+/**
+ * Lock-free variant of {@link PooledOptimizer}, generating the same values.
+ *
+ * @see AbstractConcurrentOptimizer
+ */
+public class ConcurrentPooledOptimizer extends AbstractConcurrentOptimizer implements InitialValueAwareOptimizer {
+	private static final CoreMessageLogger log = CoreLogging.messageLogger( ConcurrentPooledOptimizer.class );
+
+	private long initialValue = -1;
+
+	/**
+	 * Constructs a ConcurrentPooledOptimizer
+	 *
+	 * @param returnClass The Java type of the values to be generated
+	 * @param incrementSize The increment size.
+	 */
+	public ConcurrentPooledOptimizer(Class returnClass, int incrementSize) {
+		super( returnClass, incrementSize );
+	}
+
+	@Override
+	protected Block initialBlock(AccessCallback callback) {
+		final IntegralDataTypeHolder value = callback.getNextValue();
+		if ( value.lt( 1 ) ) {
+			log.pooledOptimizerReportedInitialValue( value );
+		}
+		// the call to obtain next-value just gave us the initialValue
+		if ( ( initialValue == -1 && value.lt( incrementSize ) ) || value.eq( initialValue ) ) {
+			final IntegralDataTypeHolder hiValue = callback.getNextValue();
+			return block( hiValue, toLong( value ), toLong( hiValue ) + 1 );
+		}
+		return pool( value );
+	}
+
+	@Override
+	protected Block subsequentBlock(AccessCallback callback) {
+		return pool( callback.getNextValue() );
+	}
+
+	private Block pool(IntegralDataTypeHolder hiValue) {
+		final long upperLimit = toLong( hiValue ) + 1;
+		return block( hiValue, upperLimit - incrementSize, upperLimit );
+	}
+
+	@Override
+	public boolean applyIncrementSizeToSourceValues() {
+		return true;
+	}
+
+	@Override
+	public void injectInitialValue(long initialValue) {
+		this.initialValue = initialValue;
+	}
+}
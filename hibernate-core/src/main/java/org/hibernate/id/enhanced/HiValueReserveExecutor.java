@@ -0,0 +1,31 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import org.hibernate.service.Service;
+
+/**
+ * SessionFactory scoped service running the refills of the hi value reserves of all the
+ * {@link TableGenerator}s of the SessionFactory, see {@link TableGenerator#PREFETCH_BLOCKS_PARAM}.
+ * <p/>
+ * The refills are run one at a time, on a single background thread.  The thread is stopped along with the
+ * SessionFactory.
+ *
+ * @since 5.5
+ */
+public interface HiValueReserveExecutor extends Service {
+	/**
+	 * Runs a refill in the background.
+	 *
+	 * @param refill The refill
+	 *
+	 * @throws RejectedExecutionException If the SessionFactory is being closed
+	 */
+	void execute(Runnable refill);
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Standard initiator for the {@link HiValueReserveExecutor} service.
+ */
+public class HiValueReserveExecutorInitiator implements SessionFactoryServiceInitiator<HiValueReserveExecutor> {
+	/**
+	 * Singleton access
+	 */
+	public static final HiValueReserveExecutorInitiator INSTANCE = new HiValueReserveExecutorInitiator();
+
+	@Override
+	public HiValueReserveExecutor initiateService(
+			SessionFactoryImplementor sessionFactory,
+			SessionFactoryOptions sessionFactoryOptions,
+			ServiceRegistryImplementor registry) {
+		return new StandardHiValueReserveExecutor();
+	}
+
+	@Override
+	public HiValueReserveExecutor initiateService(SessionFactoryServiceInitiatorContext context) {
+		return new StandardHiValueReserveExecutor();
+	}
+
+	@Override
+	public Class<HiValueReserveExecutor> getServiceInitiated() {
+		return HiValueReserveExecutor.class;
+	}
+
+	private static final class StandardHiValueReserveExecutor implements HiValueReserveExecutor, Stoppable {
+		// a single thread, only started on the first refill and going away when the reserves are idle
+		private final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+				1,
+				1,
+				60,
+				TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(),
+				runnable -> {
+					final Thread thread = new Thread( runnable );
+					thread.setDaemon( true );
+					thread.setName( "Hibernate Table Generator Reserve Thread" );
+					return thread;
+				}
+		);
+
+		private StandardHiValueReserveExecutor() {
+			executor.allowCoreThreadTimeOut( true );
+		}
+
+		@Override
+		public void execute(Runnable refill) {
+			executor.execute( refill );
+		}
+
+		@Override
+		public void stop() {
+			executor.shutdown();
+		}
+	}
+}
@@ -104,6 +104,33 @@ public class OptimizerFactory {
 		return optimizer;
 	}
 
+	/**
+	 * Builds an optimizer
+	 *
+	 * @param type The optimizer type, either a short-hand name or the {@link Optimizer} class name.
+	 * @param returnClass The generated value java type
+	 * @param incrementSize The increment size.
+	 * @param explicitInitialValue The user supplied initial-value (-1 indicates the user did not specify).
+	 * @param prefetchThreshold The user supplied prefetch threshold (0 indicates no prefetching).
+	 *
+	 * @return The built optimizer
+	 */
+	public static Optimizer buildOptimizer(
+			String type,
+			Class returnClass,
+			int incrementSize,
+			long explicitInitialValue,
+			int prefetchThreshold) {
+		final Optimizer optimizer = buildOptimizer( type, returnClass, incrementSize, explicitInitialValue );
+		if ( PrefetchAwareOptimizer.class.isInstance( optimizer ) ) {
+			( (PrefetchAwareOptimizer) optimizer ).injectPrefetchThreshold( prefetchThreshold );
+		}
+		else if ( prefetchThreshold > 0 ) {
+			LOG.debugf( "Optimizer [%s] does not support prefetching, ignoring the prefetch threshold", type );
+		}
+		return optimizer;
+	}
+
 	/**
 	 * Deprecated!
 	 *
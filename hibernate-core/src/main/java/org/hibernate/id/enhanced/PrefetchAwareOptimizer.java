@@ -0,0 +1,23 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.id.enhanced;
+
+/**
+ * Marker interface for optimizer which is able to fetch the next block of values before the current one
+ * runs out.
+ *
+ * @see InitialValueAwareOptimizer
+ */
+public interface PrefetchAwareOptimizer {
+	/**
+	 * Reports the user specified prefetch threshold to the optimizer.
+	 *
+	 * @param prefetchThreshold The number of values left in the current block at which the next block
+	 * is fetched; <tt>0</tt> disables prefetching.
+	 */
+	public void injectPrefetchThreshold(int prefetchThreshold);
+}
@@ -76,6 +76,11 @@ import org.jboss.logging.Logger;
  *     <td>Allows explicit definition of which optimization strategy to use</td>
  *   </tr>
  *   <tr>
+ *     <td>{@link #OPT_PREFETCH_PARAM}</td>
+ *     <td><b><i>0</i></b></td>
+ *     <td>The number of values left in the current block at which the next block is fetched, for optimizers supporting it</td>
+ *   </tr>
+ *   <tr>
  *     <td>{@link #FORCE_TBL_PARAM}</td>
  *     <td><b><i>false</i></b></td>
  *     <td>Allows explicit definition of which optimization strategy to use</td>
@@ -172,6 +177,12 @@ public class SequenceStyleGenerator
 	 */
 	public static final String FORCE_TBL_PARAM = "force_table_use";
 
+	/**
+	 * Indicates the number of values left in the current block at which an optimizer supporting it
+	 * ({@link PrefetchAwareOptimizer}) fetches the next block.  The default is {@code 0}, no prefetching.
+	 */
+	public static final String OPT_PREFETCH_PARAM = "optimizer_prefetch_threshold";
+
 
 	// table-specific parameters ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
@@ -295,7 +306,8 @@ public class SequenceStyleGenerator
 				optimizationStrategy,
 				identifierType.getReturnedClass(),
 				incrementSize,
-				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 )
+				ConfigurationHelper.getInt( INITIAL_PARAM, params, -1 ),
+				ConfigurationHelper.getInt( OPT_PREFETCH_PARAM, params, 0 )
 		);
 		this.databaseStructure.prepare( optimizer );
 	}
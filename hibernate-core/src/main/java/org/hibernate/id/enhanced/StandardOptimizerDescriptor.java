@@ -43,7 +43,19 @@ public enum StandardOptimizerDescriptor {
 	 * Describes the optimizer for use with tables/sequences that store the chunk information.  Here, specifically the
 	 * lo value is stored in the database and ThreadLocal used to cache the generation state.
 	 */
-	POOLED_LOTL( "pooled-lotl", PooledLoThreadLocalOptimizer.class, true );
+	POOLED_LOTL( "pooled-lotl", PooledLoThreadLocalOptimizer.class, true ),
+	/**
+	 * Describes the lock-free variant of {@link #HILO}
+	 */
+	HILO_CONCURRENT( "hilo-concurrent", ConcurrentHiLoOptimizer.class ),
+	/**
+	 * Describes the lock-free variant of {@link #POOLED}
+	 */
+	POOLED_CONCURRENT( "pooled-concurrent", ConcurrentPooledOptimizer.class, true ),
+	/**
+	 * Describes the lock-free variant of {@link #POOLED_LO}
+	 */
+	POOLED_LO_CONCURRENT( "pooled-lo-concurrent", ConcurrentPooledLoOptimizer.class, true );
 
 	private static final Logger log = Logger.getLogger( StandardOptimizerDescriptor.class );
 
@@ -104,6 +116,15 @@ public enum StandardOptimizerDescriptor {
 		else if ( POOLED_LOTL.externalName.equals( externalName ) ) {
 			return POOLED_LOTL;
 		}
+		else if ( HILO_CONCURRENT.externalName.equals( externalName ) ) {
+			return HILO_CONCURRENT;
+		}
+		else if ( POOLED_CONCURRENT.externalName.equals( externalName ) ) {
+			return POOLED_CONCURRENT;
+		}
+		else if ( POOLED_LO_CONCURRENT.externalName.equals( externalName ) ) {
+			return POOLED_LO_CONCURRENT;
+		}
 		else {
 			log.debugf( "Unknown optimizer key [%s]; returning null assuming Optimizer impl class name", externalName );
 			return null;
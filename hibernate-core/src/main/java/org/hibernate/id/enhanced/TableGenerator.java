@@ -15,6 +15,11 @@ import java.sql.Types;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -30,11 +35,14 @@ import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.config.spi.ConfigurationService;
 import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.internal.SessionEventListenerManagerImpl;
+import org.hibernate.engine.jdbc.connections.spi.JdbcConnectionAccess;
 import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.jdbc.spi.SqlStatementLogger;
 import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.id.Configurable;
 import org.hibernate.id.ExportableColumn;
@@ -50,6 +58,7 @@ import org.hibernate.mapping.Column;
 import org.hibernate.mapping.PrimaryKey;
 import org.hibernate.mapping.Table;
 import org.hibernate.service.ServiceRegistry;
+import org.hibernate.stat.spi.StatisticsImplementor;
 import org.hibernate.type.LongType;
 import org.hibernate.type.StringType;
 import org.hibernate.type.Type;
@@ -125,6 +134,16 @@ import org.jboss.logging.Logger;
  *     <td><i>depends on defined increment size</i></td>
  *     <td>Allows explicit definition of which optimization strategy to use</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@link #OPT_PREFETCH_PARAM}</td>
+ *     <td><b><i>0</i></b></td>
+ *     <td>The number of values left in the current block at which the next block is fetched, for optimizers supporting it</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@link #PREFETCH_BLOCKS_PARAM}</td>
+ *     <td><b><i>0</i></b></td>
+ *     <td>The number of hi values kept reserved ahead of demand by a background thread</td>
+ *   </tr>
  * </table>
  *
  * @author Steve Ebersole
@@ -227,6 +246,20 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	 */
 	public static final String OPT_PARAM = "optimizer";
 
+	/**
+	 * Indicates the number of values left in the current block at which an optimizer supporting it
+	 * ({@link PrefetchAwareOptimizer}) fetches the next block.  The default is {@code 0}, no prefetching.
+	 */
+	public static final String OPT_PREFETCH_PARAM = "optimizer_prefetch_threshold";
+
+	/**
+	 * Indicates the number of hi values to keep reserved ahead of demand.  The reserve is refilled on the background
+	 * thread of the SessionFactory's {@link HiValueReserveExecutor}, using a connection obtained through the session
+	 * which triggered the refill and a transaction of its own; values still reserved when the application stops are
+	 * lost.  Not applied to sessions with a tenant identifier.  The default is {@code 0}, no reserve.
+	 */
+	public static final String PREFETCH_BLOCKS_PARAM = "prefetch_blocks";
+
 	private boolean storeLastUsedValue;
 
 
@@ -248,7 +281,8 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	private String updateQuery;
 
 	private Optimizer optimizer;
-	private long accessCount;
+	private HiValueReserve hiValueReserve;
+	private final AtomicLong accessCount = new AtomicLong();
 
 	@Override
 	public Object generatorKey() {
@@ -353,7 +387,7 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 	 * @return Value for property 'tableAccessCount'.
 	 */
 	public final long getTableAccessCount() {
-		return accessCount;
+		return accessCount.get();
 	}
 
 	@Override
@@ -384,8 +418,14 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 				optimizationStrategy,
 				identifierType.getReturnedClass(),
 				incrementSize,
-				optimizerInitialValue
+				optimizerInitialValue,
+				ConfigurationHelper.getInt( OPT_PREFETCH_PARAM, params, 0 )
 		);
+
+		final int prefetchBlocks = ConfigurationHelper.getInt( PREFETCH_BLOCKS_PARAM, params, 0 );
+		if ( prefetchBlocks > 0 ) {
+			hiValueReserve = new HiValueReserve( prefetchBlocks );
+		}
 	}
 
 	/**
@@ -571,94 +611,17 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 				new AccessCallback() {
 					@Override
 					public IntegralDataTypeHolder getNextValue() {
+						if ( hiValueReserve != null && session.getTenantIdentifier() == null ) {
+							final IntegralDataTypeHolder reservedValue = hiValueReserve.take( session );
+							if ( reservedValue != null ) {
+								return reservedValue;
+							}
+						}
 						return session.getTransactionCoordinator().createIsolationDelegate().delegateWork(
 								new AbstractReturningWork<IntegralDataTypeHolder>() {
 									@Override
 									public IntegralDataTypeHolder execute(Connection connection) throws SQLException {
-										final IntegralDataTypeHolder value = makeValue();
-										int rows;
-										do {
-
-											try (PreparedStatement selectPS = prepareStatement(
-													connection,
-													selectQuery,
-													statementLogger,
-													statsCollector
-											)) {
-												selectPS.setString( 1, segmentValue );
-												final ResultSet selectRS = executeQuery( selectPS, statsCollector );
-												if ( !selectRS.next() ) {
-													long initializationValue;
-													if ( storeLastUsedValue ) {
-														initializationValue = initialValue - 1;
-													}
-													else {
-														initializationValue = initialValue;
-													}
-													value.initialize( initializationValue );
-
-													try (PreparedStatement insertPS = prepareStatement(
-															connection,
-															insertQuery,
-															statementLogger,
-															statsCollector
-													)) {
-														LOG.tracef( "binding parameter [%s] - [%s]", 1, segmentValue );
-														insertPS.setString( 1, segmentValue );
-														value.bind( insertPS, 2 );
-														executeUpdate( insertPS, statsCollector );
-													}
-												}
-												else {
-													int defaultValue;
-													if ( storeLastUsedValue ) {
-														defaultValue = 0;
-													}
-													else {
-														defaultValue = 1;
-													}
-													value.initialize( selectRS, defaultValue );
-												}
-												selectRS.close();
-											}
-											catch (SQLException e) {
-												LOG.unableToReadOrInitHiValue( e );
-												throw e;
-											}
-
-
-											try (PreparedStatement updatePS = prepareStatement(
-													connection,
-													updateQuery,
-													statementLogger,
-													statsCollector
-											)) {
-												final IntegralDataTypeHolder updateValue = value.copy();
-												if ( optimizer.applyIncrementSizeToSourceValues() ) {
-													updateValue.add( incrementSize );
-												}
-												else {
-													updateValue.increment();
-												}
-												updateValue.bind( updatePS, 1 );
-												value.bind( updatePS, 2 );
-												updatePS.setString( 3, segmentValue );
-												rows = executeUpdate( updatePS, statsCollector );
-											}
-											catch (SQLException e) {
-												LOG.unableToUpdateQueryHiValue( renderedTableName, e );
-												throw e;
-											}
-										}
-										while ( rows == 0 );
-
-										accessCount++;
-										if ( storeLastUsedValue ) {
-											return value.increment();
-										}
-										else {
-											return value;
-										}
+										return nextValue( connection, statementLogger, statsCollector );
 									}
 								},
 								true
@@ -673,6 +636,96 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 		);
 	}
 
+	private IntegralDataTypeHolder nextValue(
+			Connection connection,
+			SqlStatementLogger statementLogger,
+			SessionEventListenerManager statsCollector) throws SQLException {
+		final IntegralDataTypeHolder value = makeValue();
+		int rows;
+		do {
+
+			try (PreparedStatement selectPS = prepareStatement(
+					connection,
+					selectQuery,
+					statementLogger,
+					statsCollector
+			)) {
+				selectPS.setString( 1, segmentValue );
+				final ResultSet selectRS = executeQuery( selectPS, statsCollector );
+				if ( !selectRS.next() ) {
+					long initializationValue;
+					if ( storeLastUsedValue ) {
+						initializationValue = initialValue - 1;
+					}
+					else {
+						initializationValue = initialValue;
+					}
+					value.initialize( initializationValue );
+
+					try (PreparedStatement insertPS = prepareStatement(
+							connection,
+							insertQuery,
+							statementLogger,
+							statsCollector
+					)) {
+						LOG.tracef( "binding parameter [%s] - [%s]", 1, segmentValue );
+						insertPS.setString( 1, segmentValue );
+						value.bind( insertPS, 2 );
+						executeUpdate( insertPS, statsCollector );
+					}
+				}
+				else {
+					int defaultValue;
+					if ( storeLastUsedValue ) {
+						defaultValue = 0;
+					}
+					else {
+						defaultValue = 1;
+					}
+					value.initialize( selectRS, defaultValue );
+				}
+				selectRS.close();
+			}
+			catch (SQLException e) {
+				LOG.unableToReadOrInitHiValue( e );
+				throw e;
+			}
+
+
+			try (PreparedStatement updatePS = prepareStatement(
+					connection,
+					updateQuery,
+					statementLogger,
+					statsCollector
+			)) {
+				final IntegralDataTypeHolder updateValue = value.copy();
+				if ( optimizer.applyIncrementSizeToSourceValues() ) {
+					updateValue.add( incrementSize );
+				}
+				else {
+					updateValue.increment();
+				}
+				updateValue.bind( updatePS, 1 );
+				value.bind( updatePS, 2 );
+				updatePS.setString( 3, segmentValue );
+				rows = executeUpdate( updatePS, statsCollector );
+			}
+			catch (SQLException e) {
+				LOG.unableToUpdateQueryHiValue( renderedTableName, e );
+				throw e;
+			}
+		}
+		while ( rows == 0 );
+
+		accessCount.incrementAndGet();
+		if ( storeLastUsedValue ) {
+			return value.increment();
+		}
+		else {
+			return value;
+		}
+	}
+
 	private PreparedStatement prepareStatement(
 			Connection connection,
 			String sql,
@@ -772,4 +825,110 @@ public class TableGenerator implements PersistentIdentifierGenerator, Configurab
 		this.updateQuery = buildUpdateQuery();
 		this.insertQuery = buildInsertQuery();
 	}
+
+	private IntegralDataTypeHolder reserveValue(SessionFactoryImplementor factory, JdbcConnectionAccess connectionAccess) {
+		final JdbcServices jdbcServices = factory.getJdbcServices();
+		boolean wasAutoCommit = false;
+		try {
+			final Connection connection = connectionAccess.obtainConnection();
+			try {
+				if ( connection.getAutoCommit() ) {
+					wasAutoCommit = true;
+					connection.setAutoCommit( false );
+				}
+				final IntegralDataTypeHolder value = nextValue(
+						connection,
+						jdbcServices.getSqlStatementLogger(),
+						new SessionEventListenerManagerImpl()
+				);
+				connection.commit();
+				return value;
+			}
+			catch (SQLException e) {
+				try {
+					connection.rollback();
+				}
+				catch (SQLException ignore) {
+					LOG.unableToRollbackConnection( ignore );
+				}
+				throw jdbcServices.getSqlExceptionHelper().convert( e, "could not reserve hi value" );
+			}
+			finally {
+				if ( wasAutoCommit ) {
+					try {
+						connection.setAutoCommit( true );
+					}
+					catch (SQLException ignore) {
+						LOG.trace( "was unable to reset connection back to auto-commit" );
+					}
+				}
+				connectionAccess.releaseConnection( connection );
+			}
+		}
+		catch (SQLException e) {
+			throw jdbcServices.getSqlExceptionHelper().convert( e, "unable to obtain JDBC connection to reserve hi value" );
+		}
+	}
+
+	/**
+	 * The hi values reserved ahead of demand, see {@link #PREFETCH_BLOCKS_PARAM}.
+	 */
+	private final class HiValueReserve {
+		private final int size;
+		private final Queue<IntegralDataTypeHolder> values = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean refilling = new AtomicBoolean();
+
+		private HiValueReserve(int size) {
+			this.size = size;
+		}
+
+		/**
+		 * Takes a reserved value, and triggers refilling the reserve through the connection access of the session.
+		 *
+		 * @return The reserved value, or {@code null} if the reserve is empty
+		 */
+		private IntegralDataTypeHolder take(SharedSessionContractImplementor session) {
+			final SessionFactoryImplementor factory = session.getFactory();
+			final IntegralDataTypeHolder value = values.poll();
+			final StatisticsImplementor statistics = factory.getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( value == null ) {
+					statistics.identifierBlockPrefetchMiss();
+				}
+				else {
+					statistics.identifierBlockPrefetchHit();
+				}
+			}
+			if ( values.size() < size && refilling.compareAndSet( false, true ) ) {
+				try {
+					final JdbcConnectionAccess connectionAccess = session.getJdbcConnectionAccess();
+					factory.getServiceRegistry()
+							.getService( HiValueReserveExecutor.class )
+							.execute( () -> refill( factory, connectionAccess ) );
+				}
+				catch (RejectedExecutionException e) {
+					refilling.set( false );
+				}
+			}
+			return value;
+		}
+
+		private void refill(SessionFactoryImplementor factory, JdbcConnectionAccess connectionAccess) {
+			try {
+				while ( values.size() < size && !factory.isClosed() ) {
+					values.add( reserveValue( factory, connectionAccess ) );
+					final StatisticsImplementor statistics = factory.getStatistics();
+					if ( statistics.isStatisticsEnabled() ) {
+						statistics.identifierBlockPrefetched();
+					}
+				}
+			}
+			catch (RuntimeException e) {
+				LOG.debugf( e, "Unable to reserve hi values in table [%s], falling back to on demand", renderedTableName );
+			}
+			finally {
+				refilling.set( false );
+			}
+		}
+	}
 }
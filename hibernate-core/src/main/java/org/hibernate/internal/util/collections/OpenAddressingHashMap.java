@@ -0,0 +1,324 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A <tt>Map</tt> using open addressing with linear probing: keys and values are kept in two parallel
+ * arrays, so no node object is allocated per entry.  Removed slots are marked with a tombstone, which
+ * keeps removal through iterators safe; tombstones are purged whenever the table is rebuilt.
+ * <p/>
+ * Keys are compared using <tt>equals()</tt> and must not be <tt>null</tt>; they are expected
+ * to have a cheap (ideally cached) <tt>hashCode()</tt>.  Not thread safe.
+ */
+public final class OpenAddressingHashMap<K,V> extends AbstractMap<K,V> {
+	private static final int MIN_CAPACITY = 8;
+	private static final Object TOMBSTONE = new Object();
+
+	private Object[] keys;
+	private Object[] values;
+	private int size;
+	// live entries plus tombstones
+	private int used;
+	private int modCount;
+
+	public OpenAddressingHashMap() {
+		this( MIN_CAPACITY );
+	}
+
+	public OpenAddressingHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	static int capacityFor(int expectedSize) {
+		// keep the load factor at or below 0.75
+		final int minimum = Math.max( MIN_CAPACITY, expectedSize + ( expectedSize / 3 ) + 1 );
+		return Integer.highestOneBit( minimum - 1 ) << 1;
+	}
+
+	static int spread(int hashCode, int mask) {
+		// Fibonacci hashing, so that sequential hash codes (sequential identifiers) spread over the table
+		final int h = hashCode * 0x9E3779B9;
+		return ( h ^ ( h >>> 16 ) ) & mask;
+	}
+
+	private void allocate(int capacity) {
+		keys = new Object[capacity];
+		values = new Object[capacity];
+		used = size;
+	}
+
+	private int indexOf(Object key) {
+		final Object[] keys = this.keys;
+		final int mask = keys.length - 1;
+		int index = spread( key.hashCode(), mask );
+		while ( true ) {
+			final Object candidate = keys[index];
+			if ( candidate == null ) {
+				if ( values[index] != TOMBSTONE ) {
+					return -1;
+				}
+			}
+			else if ( candidate == key || candidate.equals( key ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && indexOf( key ) >= 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int index = indexOf( key );
+		return index < 0 ? null : (V) values[index];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if ( key == null ) {
+			throw new IllegalArgumentException( "null keys are not supported" );
+		}
+		final int mask = keys.length - 1;
+		int index = spread( key.hashCode(), mask );
+		int firstTombstone = -1;
+		while ( true ) {
+			final Object candidate = keys[index];
+			if ( candidate == null ) {
+				if ( values[index] != TOMBSTONE ) {
+					break;
+				}
+				if ( firstTombstone < 0 ) {
+					firstTombstone = index;
+				}
+			}
+			else if ( candidate == key || candidate.equals( key ) ) {
+				final V old = (V) values[index];
+				values[index] = value;
+				return old;
+			}
+			index = ( index + 1 ) & mask;
+		}
+
+		modCount++;
+		if ( firstTombstone >= 0 ) {
+			keys[firstTombstone] = key;
+			values[firstTombstone] = value;
+			size++;
+			return null;
+		}
+		keys[index] = key;
+		values[index] = value;
+		size++;
+		used++;
+		if ( used > ( keys.length >> 2 ) * 3 ) {
+			rehash();
+		}
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int index = indexOf( key );
+		if ( index < 0 ) {
+			return null;
+		}
+		final V old = (V) values[index];
+		removeAt( index );
+		return old;
+	}
+
+	private void removeAt(int index) {
+		keys[index] = null;
+		values[index] = TOMBSTONE;
+		size--;
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		if ( used > 0 ) {
+			Arrays.fill( keys, null );
+			Arrays.fill( values, null );
+			size = 0;
+			used = 0;
+			modCount++;
+		}
+	}
+
+	private void rehash() {
+		final Object[] oldKeys = keys;
+		final Object[] oldValues = values;
+		allocate( capacityFor( size ) );
+		final int mask = keys.length - 1;
+		for ( int i = 0; i < oldKeys.length; i++ ) {
+			final Object key = oldKeys[i];
+			if ( key != null ) {
+				int index = spread( key.hashCode(), mask );
+				while ( keys[index] != null ) {
+					index = ( index + 1 ) & mask;
+				}
+				keys[index] = key;
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	@Override
+	public Set<Entry<K,V>> entrySet() {
+		return new EntrySet();
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K,V>> {
+		@Override
+		public Iterator<Entry<K,V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			OpenAddressingHashMap.this.clear();
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Entry<K,V>> {
+		private int next;
+		private int current = -1;
+		private int expectedModCount = modCount;
+
+		private EntryIterator() {
+			advance();
+		}
+
+		private void advance() {
+			while ( next < keys.length && keys[next] == null ) {
+				next++;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next < keys.length;
+		}
+
+		@Override
+		public Entry<K,V> next() {
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( next >= keys.length ) {
+				throw new NoSuchElementException();
+			}
+			current = next++;
+			advance();
+			return new SlotEntry( current );
+		}
+
+		@Override
+		public void remove() {
+			if ( current < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( modCount != expectedModCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt( current );
+			expectedModCount = modCount;
+			current = -1;
+		}
+	}
+
+	private final class SlotEntry implements Map.Entry<K,V> {
+		private final K key;
+		private final int index;
+
+		@SuppressWarnings("unchecked")
+		private SlotEntry(int index) {
+			this.key = (K) keys[index];
+			this.index = index;
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public V getValue() {
+			return keys[index] == key ? (V) values[index] : get( key );
+		}
+
+		@Override
+		public V setValue(V value) {
+			if ( keys[index] == key ) {
+				@SuppressWarnings("unchecked")
+				final V old = (V) values[index];
+				values[index] = value;
+				return old;
+			}
+			return put( key, value );
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry that = (Map.Entry) o;
+			final Object value = getValue();
+			return key.equals( that.getKey() )
+					&& ( value == null ? that.getValue() == null : value.equals( that.getValue() ) );
+		}
+
+		@Override
+		public int hashCode() {
+			final Object value = getValue();
+			return key.hashCode() ^ ( value == null ? 0 : value.hashCode() );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+}
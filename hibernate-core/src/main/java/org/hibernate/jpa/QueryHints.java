@@ -13,6 +13,7 @@ import org.hibernate.graph.GraphSemantic;
 
 import static org.hibernate.annotations.QueryHints.CACHEABLE;
 import static org.hibernate.annotations.QueryHints.CACHE_MODE;
+import static org.hibernate.annotations.QueryHints.CACHE_PARTITION;
 import static org.hibernate.annotations.QueryHints.CACHE_REGION;
 import static org.hibernate.annotations.QueryHints.COMMENT;
 import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
@@ -77,6 +78,12 @@ public class QueryHints {
 	 */
 	public static final String HINT_CACHE_MODE = CACHE_MODE;
 
+	/**
+	 * The hint key for specifying the partition key value the query is restricted to, for fine-grained
+	 * invalidation of its cached results.
+	 */
+	public static final String HINT_CACHE_PARTITION = CACHE_PARTITION;
+
 	/**
 	 * The hint key for specifying the flush mode ({@link org.hibernate.FlushMode}) to be in effect for the
 	 * execution of the hinted query.
@@ -123,6 +130,7 @@ public class QueryHints {
 		hints.add( HINT_CACHEABLE );
 		hints.add( HINT_READONLY );
 		hints.add( HINT_CACHE_MODE );
+		hints.add( HINT_CACHE_PARTITION );
 		hints.add( HINT_FLUSH_MODE );
 		hints.add( HINT_NATIVE_LOCKMODE );
 		hints.add( HINT_FETCHGRAPH );
@@ -8,6 +8,8 @@ package org.hibernate.loader;
 
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.internal.util.StringHelper;
@@ -32,6 +34,12 @@ public class DefaultEntityAliases implements EntityAliases {
 	private final String rowIdAlias;
 	private final Map userProvidedAliases;
 
+	/**
+	 * The suffixed property aliases of the subclasses, which are read for every row of a subclass entity;
+	 * keyed by persister
+	 */
+	private final ConcurrentMap<Loadable, String[][]> subclassSuffixedPropertyColumns = new ConcurrentHashMap<>();
+
 	/**
 	 * Calculate and cache select-clause aliases
 	 *
@@ -86,7 +94,24 @@ public class DefaultEntityAliases implements EntityAliases {
 	}
 
 	private String[][] determinePropertyAliases(Loadable persister) {
-		return getSuffixedPropertyAliases( persister );
+		final String[] propertyNames = persister.getPropertyNames();
+		final int size = propertyNames.length;
+		final String[][] suffixedPropertyAliases;
+		if ( size > 0 ) {
+			suffixedPropertyAliases = new String[size][];
+			final Dialect dialect = persister.getFactory().getDialect();
+			for ( int j = 0; j < size; j++ ) {
+				suffixedPropertyAliases[j] = getUserProvidedAliases(
+						propertyNames[j],
+						getPropertyAliases( persister, j )
+				);
+				suffixedPropertyAliases[j] = StringHelper.unquote( suffixedPropertyAliases[j], dialect );
+			}
+		}
+		else {
+			suffixedPropertyAliases = EMPTY_ARRAY_OF_ARRAY_OF_STRINGS;
+		}
+		return suffixedPropertyAliases;
 	}
 
 	private String determineDiscriminatorAlias(Loadable persister, String suffix) {
@@ -134,24 +159,12 @@ public class DefaultEntityAliases implements EntityAliases {
 
 	@Override
 	public String[][] getSuffixedPropertyAliases(Loadable persister) {
-		final String[] propertyNames = persister.getPropertyNames();
-		final int size = propertyNames.length;
-		final String[][] suffixedPropertyAliases;
-		if ( size > 0 ) {
-			suffixedPropertyAliases = new String[size][];
-			final Dialect dialect = persister.getFactory().getDialect();
-			for ( int j = 0; j < size; j++ ) {
-				suffixedPropertyAliases[j] = getUserProvidedAliases(
-						propertyNames[j],
-						getPropertyAliases( persister, j )
-				);
-				suffixedPropertyAliases[j] = StringHelper.unquote( suffixedPropertyAliases[j], dialect );
-			}
+		// the aliases only depend on the persister, so they are determined once rather than for every row
+		final String[][] cached = subclassSuffixedPropertyColumns.get( persister );
+		if ( cached != null ) {
+			return cached;
 		}
-		else {
-			suffixedPropertyAliases = EMPTY_ARRAY_OF_ARRAY_OF_STRINGS;
-		}
-		return suffixedPropertyAliases;
+		return subclassSuffixedPropertyColumns.computeIfAbsent( persister, this::determinePropertyAliases );
 	}
 
 	@Override
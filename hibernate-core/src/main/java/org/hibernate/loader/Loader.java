@@ -33,6 +33,7 @@ import org.hibernate.StaleObjectStateException;
 import org.hibernate.WrongClassException;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.cache.spi.FilterKey;
+import org.hibernate.cache.spi.QueryCachePartitioning;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.access.EntityDataAccess;
@@ -2772,10 +2773,17 @@ public abstract class Loader {
 				// Use the default read-only/modifiable from the persistence context instead.
 				queryParameters.setReadOnly( persistenceContext.isDefaultReadOnly() );
 			}
+			Set<Serializable> spaces = querySpaces;
+			if ( queryParameters.getCachePartition() != null ) {
+				final QueryCachePartitioning partitioning = factory.getCache().getQueryCachePartitioning();
+				if ( partitioning != null ) {
+					spaces = partitioning.getQuerySpaces( querySpaces, queryParameters.getCachePartition() );
+				}
+			}
 			try {
 				result = queryCache.get(
 						key,
-						querySpaces,
+						spaces,
 						key.getResultTransformer().getCachedResultTypes( resultTypes ),
 						session
 				);
@@ -7,9 +7,14 @@
 package org.hibernate.loader.entity;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
 import org.hibernate.WrongClassException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
@@ -37,6 +42,7 @@ import org.hibernate.event.spi.PostLoadEventListener;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FastSessionServices;
+import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -151,6 +157,81 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 		return processCachedEntry( event, persister, ce, source, entityKey );
 	}
 
+	/**
+	 * Attempts to load several entities from the second-level cache, reading the cache once for all of them.
+	 *
+	 * @param session The originating session
+	 * @param persister The persister of the entities
+	 * @param lockOptions The lock options of the load
+	 * @param entityKeys The keys of the entities to look for
+	 *
+	 * @return The entities found in the cache, by key
+	 */
+	public Map<EntityKey, Object> loadFromSecondLevelCache(
+			final EventSource session,
+			final EntityPersister persister,
+			final LockOptions lockOptions,
+			final Collection<EntityKey> entityKeys) {
+		final boolean useCache = persister.canReadFromCache()
+				&& session.getCacheMode().isGetEnabled()
+				&& lockOptions.getLockMode().lessThan( LockMode.READ );
+
+		if ( !useCache || entityKeys.isEmpty() ) {
+			return Collections.emptyMap();
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = session.getFactory();
+		final Map<Object, EntityKey> entityKeysByCacheKey = new LinkedHashMap<>( entityKeys.size() );
+		for ( EntityKey entityKey : entityKeys ) {
+			final Object ck = cache.generateCacheKey(
+					entityKey.getIdentifier(),
+					persister,
+					factory,
+					session.getTenantIdentifier()
+			);
+			entityKeysByCacheKey.put( ck, entityKey );
+		}
+
+		final Map<Object, Object> cachedEntries = CacheHelper.fromSharedCache(
+				session,
+				entityKeysByCacheKey.keySet(),
+				cache
+		);
+
+		final StatisticsImplementor statistics = factory.getStatistics();
+		final Map<EntityKey, Object> entities = CollectionHelper.mapOfSize( cachedEntries.size() );
+		for ( Map.Entry<Object, EntityKey> entry : entityKeysByCacheKey.entrySet() ) {
+			final Object ce = cachedEntries.get( entry.getKey() );
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+			if ( ce != null ) {
+				final EntityKey entityKey = entry.getValue();
+				final LoadEvent event = new LoadEvent(
+						entityKey.getIdentifier(),
+						persister.getEntityName(),
+						lockOptions,
+						session,
+						null
+				);
+				entities.put( entityKey, processCachedEntry( event, persister, ce, session, entityKey ) );
+			}
+		}
+		return entities;
+	}
+
 
 	private Object processCachedEntry(
 			final LoadEvent event,
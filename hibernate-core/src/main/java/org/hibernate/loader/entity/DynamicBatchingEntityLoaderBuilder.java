@@ -8,12 +8,16 @@ package org.hibernate.loader.entity;
 
 import java.io.Serializable;
 import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -40,7 +44,9 @@ import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.converter.AttributeConverterTypeAdapter;
 
 import org.jboss.logging.Logger;
 
@@ -82,8 +88,12 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
 
+		final Integer arrayParameterSqlType = determineArrayParameterSqlType( persister, session, loadOptions );
 		final int maxBatchSize;
-		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+		if ( arrayParameterSqlType != null ) {
+			maxBatchSize = Integer.MAX_VALUE;
+		}
+		else if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
 		else {
@@ -95,12 +105,13 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 
 		final List<Serializable> idsInBatch = new ArrayList<>();
 		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
+		final List<EntityKey> entityKeysToCheckInCache = new ArrayList<>();
 
 		for ( int i = 0; i < ids.length; i++ ) {
 			final Serializable id = ids[i];
 			final EntityKey entityKey = new EntityKey( id, persister );
 
-			if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+			if ( loadOptions.isSessionCheckingEnabled() ) {
 				LoadEvent loadEvent = new LoadEvent(
 						id,
 						persister.getMappedClass().getName(),
@@ -109,39 +120,53 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 						null
 				);
 
-				Object managedEntity = null;
-
-				if ( loadOptions.isSessionCheckingEnabled() ) {
-					// look for it in the Session first
-					CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.INSTANCE
-							.loadFromSessionCache(
-									loadEvent,
-									entityKey,
-									LoadEventListener.GET
-							);
-					managedEntity = persistenceContextEntry.getEntity();
+				// look for it in the Session first
+				CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.INSTANCE
+						.loadFromSessionCache(
+								loadEvent,
+								entityKey,
+								LoadEventListener.GET
+						);
+				final Object managedEntity = persistenceContextEntry.getEntity();
 
-					if ( managedEntity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() && !persistenceContextEntry
-							.isManaged() ) {
+				if ( managedEntity != null ) {
+					if ( !loadOptions.isReturnOfDeletedEntitiesEnabled() && !persistenceContextEntry.isManaged() ) {
 						// put a null in the result
 						result.add( i, null );
-						continue;
 					}
+					else {
+						result.add( i, managedEntity );
+					}
+					continue;
 				}
+			}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							persister,
-							entityKey
-					);
-				}
+			if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				entityKeysToCheckInCache.add( entityKey );
+			}
 
-				if ( managedEntity != null ) {
-					result.add( i, managedEntity );
-					continue;
-				}
+			// Save the EntityKey instance for use later!
+			result.add( i, entityKey );
+		}
+
+		// look for the remaining ones in the SessionFactory, all at once
+		final Map<EntityKey, Object> cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+				(EventSource) session,
+				persister,
+				lockOptions,
+				entityKeysToCheckInCache
+		);
+
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( !( result.get( i ) instanceof EntityKey ) ) {
+				continue;
+			}
+			final EntityKey entityKey = (EntityKey) result.get( i );
+
+			final Object cachedEntity = cachedEntities.get( entityKey );
+			if ( cachedEntity != null ) {
+				result.set( i, cachedEntity );
+				continue;
 			}
 
 			// if we did not hit any of the continues above, then we need to batch
@@ -149,16 +174,14 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			idsInBatch.add( ids[i] );
 
 			if ( idsInBatch.size() >= maxBatchSize ) {
-				performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
+				performOrderedBatchLoad( idsInBatch, lockOptions, persister, session, arrayParameterSqlType );
 			}
 
-			// Save the EntityKey instance for use later!
-			result.add( i, entityKey );
 			elementPositionsLoadedByBatch.add( i );
 		}
 
 		if ( !idsInBatch.isEmpty() ) {
-			performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
+			performOrderedBatchLoad( idsInBatch, lockOptions, persister, session, arrayParameterSqlType );
 		}
 
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
@@ -185,14 +208,16 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			List<Serializable> idsInBatch,
 			LockOptions lockOptions,
 			OuterJoinLoadable persister,
-			SharedSessionContractImplementor session) {
+			SharedSessionContractImplementor session,
+			Integer arrayParameterSqlType) {
 		final int batchSize =  idsInBatch.size();
 		final DynamicEntityLoader batchingLoader = new DynamicEntityLoader(
 				persister,
 				batchSize,
 				lockOptions,
 				session.getFactory(),
-				session.getLoadQueryInfluencers()
+				session.getLoadQueryInfluencers(),
+				arrayParameterSqlType
 		);
 
 		final Serializable[] idsInBatchArray = idsInBatch.toArray( new Serializable[ idsInBatch.size() ] );
@@ -224,7 +249,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			// entity associated with the PC - if it does we add it to the result
 			// list immediately and remove its id from the group of ids to load.
 			boolean foundAnyManagedEntities = false;
-			final List<Serializable> nonManagedIds = new ArrayList<Serializable>();
+			final List<EntityKey> nonManagedKeys = new ArrayList<>();
 			for ( Serializable id : ids ) {
 				final EntityKey entityKey = new EntityKey( id, persister );
 
@@ -256,20 +281,38 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 					}
 				}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							persister,
-							entityKey
-					);
-				}
-
 				if ( managedEntity != null ) {
 					foundAnyManagedEntities = true;
 					result.add( managedEntity );
 				}
 				else {
-					nonManagedIds.add( id );
+					nonManagedKeys.add( entityKey );
+				}
+			}
+
+			final List<Serializable> nonManagedIds = new ArrayList<>( nonManagedKeys.size() );
+			if ( loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				// look for the remaining ones in the SessionFactory, all at once
+				final Map<EntityKey, Object> cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+						(EventSource) session,
+						persister,
+						lockOptions,
+						nonManagedKeys
+				);
+				for ( EntityKey entityKey : nonManagedKeys ) {
+					final Object cachedEntity = cachedEntities.get( entityKey );
+					if ( cachedEntity != null ) {
+						foundAnyManagedEntities = true;
+						result.add( cachedEntity );
+					}
+					else {
+						nonManagedIds.add( entityKey.getIdentifier() );
+					}
+				}
+			}
+			else {
+				for ( EntityKey entityKey : nonManagedKeys ) {
+					nonManagedIds.add( entityKey.getIdentifier() );
 				}
 			}
 
@@ -292,8 +335,12 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		}
 
 		int numberOfIdsLeft = ids.length;
+		final Integer arrayParameterSqlType = determineArrayParameterSqlType( persister, session, loadOptions );
 		final int maxBatchSize;
-		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
+		if ( arrayParameterSqlType != null ) {
+			maxBatchSize = Integer.MAX_VALUE;
+		}
+		else if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
 		else {
@@ -311,7 +358,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 					batchSize,
 					lockOptions,
 					session.getFactory(),
-					session.getLoadQueryInfluencers()
+					session.getLoadQueryInfluencers(),
+					arrayParameterSqlType
 			);
 
 			Serializable[] idsInBatch = new Serializable[batchSize];
@@ -327,6 +375,64 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 		return result;
 	}
 
+	/**
+	 * Determines whether the ids can be bound as a single array parameter, see
+	 * {@link org.hibernate.cfg.AvailableSettings#MULTI_LOAD_ARRAY_BINDING}.
+	 *
+	 * @return The {@link Types} type code of the array elements, or {@code null} if ids are to be bound
+	 * individually.
+	 */
+	private static Integer determineArrayParameterSqlType(
+			OuterJoinLoadable persister,
+			SharedSessionContractImplementor session,
+			MultiLoadOptions loadOptions) {
+		final SessionFactoryImplementor factory = session.getFactory();
+		if ( !factory.getSessionFactoryOptions().isMultiLoadArrayBindingEnabled()
+				|| ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 )
+				|| session.getLoadQueryInfluencers().hasEnabledFilters() ) {
+			return null;
+		}
+
+		// the ids are bound as they are, so make sure no conversion would have been applied to them
+		final Type identifierType = persister.getIdentifierType();
+		if ( !( identifierType instanceof AbstractStandardBasicType )
+				|| identifierType instanceof AttributeConverterTypeAdapter ) {
+			return null;
+		}
+		final int sqlTypeCode = identifierType.sqlTypes( factory )[0];
+		final Class javaType = identifierType.getReturnedClass();
+		final boolean boundAsIs;
+		switch ( sqlTypeCode ) {
+			case Types.BIGINT:
+				boundAsIs = javaType == Long.class;
+				break;
+			case Types.INTEGER:
+				boundAsIs = javaType == Integer.class;
+				break;
+			case Types.SMALLINT:
+				boundAsIs = javaType == Short.class;
+				break;
+			case Types.VARCHAR:
+			case Types.CHAR:
+				boundAsIs = javaType == String.class;
+				break;
+			case Types.OTHER:
+				boundAsIs = javaType == UUID.class;
+				break;
+			default:
+				boundAsIs = false;
+		}
+		if ( !boundAsIs ) {
+			return null;
+		}
+
+		final String restriction = factory.getDialect().getArrayParameterRestriction(
+				persister.getIdentifierColumnNames()[0],
+				sqlTypeCode
+		);
+		return restriction == null ? null : sqlTypeCode;
+	}
+
 	public static QueryParameters buildMultiLoadQueryParameters(
 			OuterJoinLoadable persister,
 			Serializable[] ids,
@@ -449,6 +555,8 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 
 		private final String sqlTemplate;
 		private final String alias;
+		// when not null, all ids are bound as a single array parameter
+		private final Integer arrayParameterSqlType;
 
 		public DynamicEntityLoader(
 				OuterJoinLoadable persister,
@@ -456,7 +564,17 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				LockOptions lockOptions,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
-			this( persister, maxBatchSize, lockOptions.getLockMode(), factory, loadQueryInfluencers );
+			this( persister, maxBatchSize, lockOptions, factory, loadQueryInfluencers, null );
+		}
+
+		public DynamicEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers,
+				Integer arrayParameterSqlType) {
+			this( persister, maxBatchSize, lockOptions.getLockMode(), factory, loadQueryInfluencers, arrayParameterSqlType );
 		}
 
 		public DynamicEntityLoader(
@@ -465,7 +583,18 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				LockMode lockMode,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, lockMode, factory, loadQueryInfluencers, null );
+		}
+
+		public DynamicEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockMode lockMode,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers,
+				Integer arrayParameterSqlType) {
 			super( persister, -1, lockMode, factory, loadQueryInfluencers );
+			this.arrayParameterSqlType = arrayParameterSqlType;
 
 			EntityJoinWalker walker = new EntityJoinWalker(
 					persister,
@@ -476,6 +605,14 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 					loadQueryInfluencers) {
 				@Override
 				protected StringBuilder whereString(String alias, String[] columnNames, int batchSize) {
+					if ( arrayParameterSqlType != null ) {
+						return new StringBuilder(
+								getFactory().getDialect().getArrayParameterRestriction(
+										StringHelper.qualify( alias, columnNames[0] ),
+										arrayParameterSqlType
+								)
+						);
+					}
 					return StringHelper.buildBatchFetchRestrictionFragment(
 							alias,
 							columnNames,
@@ -514,7 +651,7 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 				QueryParameters queryParameters,
 				Serializable[] ids) {
 			final JdbcServices jdbcServices = session.getJdbcServices();
-			final String sql = StringHelper.expandBatchIdPlaceholder(
+			final String sql = arrayParameterSqlType != null ? sqlTemplate : StringHelper.expandBatchIdPlaceholder(
 					sqlTemplate,
 					ids,
 					alias,
@@ -566,6 +703,24 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			}
 		}
 
+		@Override
+		protected int bindPositionalParameters(
+				PreparedStatement statement,
+				QueryParameters queryParameters,
+				int startIndex,
+				SharedSessionContractImplementor session) throws SQLException {
+			if ( arrayParameterSqlType == null ) {
+				return super.bindPositionalParameters( statement, queryParameters, startIndex, session );
+			}
+			getFactory().getDialect().bindArrayParameter(
+					statement,
+					startIndex,
+					queryParameters.getPositionalParameterValues(),
+					arrayParameterSqlType
+			);
+			return 1;
+		}
+
 		private List doTheLoad(String sql, QueryParameters queryParameters, SharedSessionContractImplementor session) throws SQLException {
 			final RowSelection selection = queryParameters.getRowSelection();
 			final int maxRows = LimitHelper.hasMaxRows( selection ) ?
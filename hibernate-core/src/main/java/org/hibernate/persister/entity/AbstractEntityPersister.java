@@ -50,6 +50,7 @@ import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
@@ -83,6 +84,7 @@ import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SimpleNaturalIdResolutionCache;
 import org.hibernate.engine.spi.ValueInclusion;
 import org.hibernate.event.spi.EventSource;
 import org.hibernate.event.spi.LoadEvent;
@@ -173,6 +175,7 @@ public abstract class AbstractEntityPersister
 	private final boolean invalidateCache;
 	private final EntityDataAccess cacheAccessStrategy;
 	private final NaturalIdDataAccess naturalIdRegionAccessStrategy;
+	private final SimpleNaturalIdResolutionCache simpleNaturalIdResolutionCache;
 	private final boolean isLazyPropertiesCacheable;
 	private final CacheEntryHelper cacheEntryHelper;
 	private final EntityMetamodel entityMetamodel;
@@ -613,6 +616,20 @@ public abstract class AbstractEntityPersister
 		else {
 			this.entityEntryFactory = ImmutableEntityEntryFactory.INSTANCE;
 		}
+
+		final int naturalIdResolutionCacheMaxSize = sessionFactoryOptions.getNaturalIdResolutionCacheMaxSize();
+		if ( naturalIdResolutionCacheMaxSize > 0
+				&& !entityMetamodel.isInherited()
+				&& entityMetamodel.hasImmutableNaturalId()
+				&& entityMetamodel.getNaturalIdentifierProperties().length == 1
+				&& SimpleNaturalIdResolutionCache.isSimpleValueType(
+						entityMetamodel.getProperties()[entityMetamodel.getNaturalIdentifierProperties()[0]].getType()
+				) ) {
+			this.simpleNaturalIdResolutionCache = new SimpleNaturalIdResolutionCache( naturalIdResolutionCacheMaxSize );
+		}
+		else {
+			this.simpleNaturalIdResolutionCache = null;
+		}
 		// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 		final JdbcServices jdbcServices = factory.getServiceRegistry().getService( JdbcServices.class );
@@ -1015,6 +1032,10 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		if ( factory.getSessionFactoryOptions().isCompactCacheEntriesEnabled() ) {
+			return new CompactCacheEntryHelper( this );
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
 				? new StructuredCacheEntryHelper( this )
 				: new StandardCacheEntryHelper( this );
@@ -1323,9 +1344,8 @@ public abstract class AbstractEntityPersister
 		LOG.trace( "Initializing lazy properties from second-level cache" );
 
 		Object result = null;
-		Serializable[] disassembledValues = cacheEntry.getDisassembledState();
 		for ( int j = 0; j < lazyPropertyNames.length; j++ ) {
-			final Serializable cachedValue = disassembledValues[lazyPropertyNumbers[j]];
+			final Serializable cachedValue = cacheEntry.getDisassembledState( lazyPropertyNumbers[j] );
 			final Type lazyPropertyType = lazyPropertyTypes[j];
 			final String propertyName = lazyPropertyNames[j];
 			if (cachedValue == LazyPropertyInitializer.UNFETCHED_PROPERTY) {
@@ -3814,9 +3834,8 @@ public abstract class AbstractEntityPersister
 			// first we need to locate the "loaded" state
 			//
 			// Note, it potentially could be a proxy, so doAfterTransactionCompletion the location the safe way...
-			final EntityKey key = session.generateEntityKey( id, this );
 			final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-			Object entity = persistenceContext.getEntity( key );
+			Object entity = persistenceContext.getEntity( id, this );
 			if ( entity != null ) {
 				EntityEntry entry = persistenceContext.getEntry( entity );
 				loadedState = entry.getLoadedState();
@@ -3839,6 +3858,125 @@ public abstract class AbstractEntityPersister
 
 	}
 
+	/**
+	 * Can several instances of this entity be deleted by a single {@code delete ... where id in (...)} statement
+	 * (see {@link #multiDelete})?  This is the case for unversioned entities mapped to a single table with a single
+	 * column identifier, which use the generated delete statement and no implied optimistic locking.
+	 */
+	public boolean isMultiDeleteSupported() {
+		return getTableSpan() == 1
+				&& !isVersioned()
+				&& !isAllOrDirtyOptLocking()
+				&& customSQLDelete[0] == null
+				&& getIdentifierColumnSpan() == 1
+				&& !isInverseTable( 0 )
+				&& !isTableCascadeDeleteEnabled( 0 )
+				&& Expectations.appropriateExpectation( deleteResultCheckStyles[0] ).canBeBatched();
+	}
+
+	/**
+	 * Delete the rows of the given entity instances using {@code delete ... where id in (...)} statements, whose
+	 * size is bounded by the limits of the Dialect.  Only valid when {@link #isMultiDeleteSupported()}.
+	 *
+	 * @param ids The identifiers of the instances to delete
+	 * @param session The originating session
+	 */
+	public void multiDelete(Serializable[] ids, SharedSessionContractImplementor session) throws HibernateException {
+		final Dialect dialect = getFactory().getJdbcServices().getDialect();
+		int chunkSize = ids.length;
+		if ( dialect.getInExpressionCountLimit() > 0 ) {
+			chunkSize = Math.min( chunkSize, dialect.getInExpressionCountLimit() );
+		}
+		if ( dialect.getParameterCountLimit() > 0 ) {
+			chunkSize = Math.min( chunkSize, dialect.getParameterCountLimit() );
+		}
+
+		final Expectation expectation = Expectations.appropriateExpectation( deleteResultCheckStyles[0] );
+		String fullChunkSql = null;
+		for ( int start = 0; start < ids.length; start += chunkSize ) {
+			final int count = Math.min( chunkSize, ids.length - start );
+			final String sql;
+			if ( count == chunkSize ) {
+				if ( fullChunkSql == null ) {
+					fullChunkSql = generateMultiDeleteString( count );
+				}
+				sql = fullChunkSql;
+			}
+			else {
+				sql = generateMultiDeleteString( count );
+			}
+			multiDelete( ids, start, count, sql, expectation, session );
+		}
+	}
+
+	private String generateMultiDeleteString(int count) {
+		final StringBuilder where = new StringBuilder( getKeyColumns( 0 )[0] ).append( " in (" );
+		for ( int i = 0; i < count; i++ ) {
+			if ( i > 0 ) {
+				where.append( ", " );
+			}
+			where.append( '?' );
+		}
+		where.append( ')' );
+
+		final Delete delete = createDelete().setTableName( getTableName( 0 ) ).setWhere( where.toString() );
+		if ( getFactory().getSessionFactoryOptions().isCommentsEnabled() ) {
+			delete.setComment( "delete " + getEntityName() );
+		}
+		return delete.toStatementString();
+	}
+
+	private void multiDelete(
+			Serializable[] ids,
+			int start,
+			int count,
+			String sql,
+			Expectation expectation,
+			SharedSessionContractImplementor session) {
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev( "Deleting {0} instances of entity: {1}", count, getEntityName() );
+		}
+		try {
+			final PreparedStatement delete = session
+					.getJdbcCoordinator()
+					.getStatementPreparer()
+					.prepareStatement( sql, false );
+			try {
+				int index = 1;
+				for ( int i = start; i < start + count; i++ ) {
+					getIdentifierType().nullSafeSet( delete, ids[i], index, session );
+					index += getIdentifierColumnSpan();
+				}
+				final int rows = session.getJdbcCoordinator().getResultSetReturn().executeUpdate( delete );
+				if ( expectation != Expectations.NONE ) {
+					if ( rows < count ) {
+						throw new StaleStateException(
+								"Unexpected row count: " + rows + "; expected: " + count + "; statement executed: " + sql
+						);
+					}
+					if ( rows > count ) {
+						throw new TooManyRowsAffectedException(
+								"Unexpected row count: " + rows + "; expected: " + count,
+								count,
+								rows
+						);
+					}
+				}
+			}
+			finally {
+				session.getJdbcCoordinator().getResourceRegistry().release( delete );
+				session.getJdbcCoordinator().afterStatementExecution();
+			}
+		}
+		catch (SQLException sqle) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					sqle,
+					"could not delete: " + MessageHelper.infoString( this, ids[start], getFactory() ),
+					sql
+			);
+		}
+	}
+
 	protected boolean isAllOrDirtyOptLocking() {
 		return entityMetamodel.getOptimisticLockStyle() == OptimisticLockStyle.DIRTY
 				|| entityMetamodel.getOptimisticLockStyle() == OptimisticLockStyle.ALL;
@@ -4729,6 +4867,11 @@ public abstract class AbstractEntityPersister
 		return naturalIdRegionAccessStrategy;
 	}
 
+	@Override
+	public SimpleNaturalIdResolutionCache getSimpleNaturalIdResolutionCache() {
+		return simpleNaturalIdResolutionCache;
+	}
+
 	public Comparator getVersionComparator() {
 		return isVersioned() ? getVersionType().getComparator() : null;
 	}
@@ -5440,8 +5583,7 @@ public abstract class AbstractEntityPersister
 					if ( !rs.next() ) {
 						return null;
 					}
-					final EntityKey key = session.generateEntityKey( id, this );
-					Object owner = session.getPersistenceContextInternal().getEntity( key );
+					Object owner = session.getPersistenceContextInternal().getEntity( id, this );
 					for ( int i = 0; i < naturalIdPropertyCount; i++ ) {
 						snapshot[i] = extractionTypes[i].hydrate(
 								rs, getPropertyAliases(
@@ -5783,6 +5925,30 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class CompactCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+
+		private CompactCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return CompactCacheEntry.INSTANCE;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl(
+					state,
+					persister,
+					version,
+					session,
+					entity
+			);
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
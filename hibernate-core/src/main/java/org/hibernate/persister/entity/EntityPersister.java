@@ -26,6 +26,7 @@ import org.hibernate.engine.spi.CascadeStyle;
 import org.hibernate.engine.spi.EntityEntryFactory;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SimpleNaturalIdResolutionCache;
 import org.hibernate.engine.spi.ValueInclusion;
 import org.hibernate.id.IdentifierGenerator;
 import org.hibernate.internal.FilterAliasGenerator;
@@ -562,6 +563,20 @@ public interface EntityPersister extends EntityDefinition {
 	 */
 	NaturalIdDataAccess getNaturalIdCacheAccessStrategy();
 
+	/**
+	 * Get the SessionFactory-level cache of natural id resolutions, if this entity has a simple immutable natural
+	 * id and the cache is enabled.
+	 *
+	 * @return The cache, or {@code null}
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE
+	 *
+	 * @since 5.5
+	 */
+	default SimpleNaturalIdResolutionCache getSimpleNaturalIdResolutionCache() {
+		return null;
+	}
+
 	/**
 	 * Get the user-visible metadata for the class (optional operation)
 	 */
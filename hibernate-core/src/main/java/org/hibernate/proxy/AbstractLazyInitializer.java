@@ -252,11 +252,10 @@ public abstract class AbstractLazyInitializer implements LazyInitializer {
 	 */
 	public final void initializeWithoutLoadIfPossible() {
 		if ( !initialized && session != null && session.isOpenOrWaitingForAutoClose() ) {
-			final EntityKey key = session.generateEntityKey(
+			final Object entity = session.getPersistenceContextInternal().getEntity(
 					getIdentifier(),
 					session.getFactory().getMetamodel().entityPersister( getEntityName() )
 			);
-			final Object entity = session.getPersistenceContextInternal().getEntity( key );
 			if ( entity != null ) {
 				setImplementation( entity );
 			}
@@ -89,6 +89,8 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 	 *
 	 * @return The results Stream
 	 *
+	 * @see RangePartitionedStream for a parallel stream over the entities of a type
+	 *
 	 * @since 5.2
 	 */
 	Stream<R> stream();
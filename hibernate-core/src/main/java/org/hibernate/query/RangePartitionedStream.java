@@ -0,0 +1,230 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.hibernate.Incubating;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.internal.RangePartitionedSpliterator;
+import org.hibernate.type.Type;
+
+/**
+ * A parallel stream over the entities of a type, split into ranges of an integral key, the identifier by default.
+ * <p/>
+ * The lowest and highest values of the key are read first.  The stream then splits this range into halves, as its
+ * fork-join consumption asks for it, until the number of {@linkplain #partitions(int) partitions} is reached.  Each
+ * partition reads the entities of its range with its own query, run by its own {@link StatelessSession} and
+ * therefore on its own connection: the connection pool must allow for as many connections as partitions run at a
+ * time.  The entities are read by stateless sessions, so they are detached and their lazy associations cannot be
+ * initialized.
+ * <p/>
+ * The stream is not ordered.  It should be closed, to release the connections of the partitions still running
+ * when it is not consumed entirely.
+ *
+ * <pre>
+ * try ( Stream&lt;Order&gt; orders = RangePartitionedStream.of( sessionFactory, Order.class )
+ *         .restriction( "e.status = :status" )
+ *         .setParameter( "status", Status.SHIPPED )
+ *         .stream() ) {
+ *     orders.forEach( ... );
+ * }
+ * </pre>
+ *
+ * @param <R> The entity type
+ *
+ * @since 5.5
+ */
+@Incubating
+public final class RangePartitionedStream<R> {
+	private static final String ALIAS = "e";
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final EntityPersister persister;
+
+	private String key;
+	private String restriction;
+	private final Map<String, Object> parameters = new HashMap<>();
+	private int partitions = Math.max( 1, ForkJoinPool.getCommonPoolParallelism() );
+	private Integer fetchSize;
+
+	private RangePartitionedStream(SessionFactory sessionFactory, Class<R> entityClass) {
+		this.sessionFactory = sessionFactory.unwrap( SessionFactoryImplementor.class );
+		this.persister = this.sessionFactory.getMetamodel().entityPersister( entityClass );
+		this.key = persister.getIdentifierPropertyName();
+	}
+
+	/**
+	 * Starts the definition of a stream over the entities of the given type.
+	 *
+	 * @param sessionFactory The session factory
+	 * @param entityClass The entity type
+	 * @param <R> The entity type
+	 *
+	 * @return The definition of the stream
+	 */
+	public static <R> RangePartitionedStream<R> of(SessionFactory sessionFactory, Class<R> entityClass) {
+		return new RangePartitionedStream<>( sessionFactory, entityClass );
+	}
+
+	/**
+	 * The attribute whose ranges partition the stream, which must be of an integral type.  Default is the identifier.
+	 *
+	 * @param key The name of the attribute
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public RangePartitionedStream<R> key(String key) {
+		this.key = key;
+		return this;
+	}
+
+	/**
+	 * Restricts the entities of the stream, by an HQL condition on the entity aliased {@code e}.
+	 *
+	 * @param restriction The HQL condition
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public RangePartitionedStream<R> restriction(String restriction) {
+		this.restriction = restriction;
+		return this;
+	}
+
+	/**
+	 * Binds a value to a named parameter of the {@linkplain #restriction(String) restriction}.
+	 *
+	 * @param name The name of the parameter
+	 * @param value The value
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public RangePartitionedStream<R> setParameter(String name, Object value) {
+		parameters.put( name, value );
+		return this;
+	}
+
+	/**
+	 * The maximum number of partitions, thus of queries and connections.  Default is the parallelism of the common
+	 * fork-join pool.
+	 *
+	 * @param partitions The maximum number of partitions
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public RangePartitionedStream<R> partitions(int partitions) {
+		if ( partitions < 1 ) {
+			throw new IllegalArgumentException( "The number of partitions must be positive: " + partitions );
+		}
+		this.partitions = partitions;
+		return this;
+	}
+
+	/**
+	 * The JDBC fetch size of the queries of the partitions.
+	 *
+	 * @param fetchSize The fetch size
+	 *
+	 * @return {@code this}, for method chaining
+	 */
+	public RangePartitionedStream<R> fetchSize(int fetchSize) {
+		this.fetchSize = fetchSize;
+		return this;
+	}
+
+	/**
+	 * Reads the range of the key, and returns the spliterator of the stream.
+	 * {@link RangePartitionedSpliterator#close()} releases the partitions still running.
+	 *
+	 * @return The spliterator, empty if no entity matches
+	 */
+	public Spliterator<R> spliterator() {
+		final LongFunction<?> keyFactory = keyFactory();
+
+		final Object[] bounds;
+		try (StatelessSession session = sessionFactory.openStatelessSession()) {
+			final Query<Object[]> query = session.createQuery(
+					"select min(" + keyPath() + "), max(" + keyPath() + ") from " + persister.getEntityName() + " " + ALIAS
+							+ ( restriction == null ? "" : " where " + restriction ),
+					Object[].class
+			);
+			for ( Map.Entry<String, Object> parameter : parameters.entrySet() ) {
+				query.setParameter( parameter.getKey(), parameter.getValue() );
+			}
+			bounds = query.getSingleResult();
+		}
+		if ( bounds[0] == null ) {
+			return Spliterators.emptySpliterator();
+		}
+
+		return new RangePartitionedSpliterator<>(
+				sessionFactory,
+				"select " + ALIAS + " from " + persister.getEntityName() + " " + ALIAS
+						+ " where " + keyPath() + " between :lowerBound and :upperBound"
+						+ ( restriction == null ? "" : " and (" + restriction + ")" ),
+				new HashMap<>( parameters ),
+				keyFactory,
+				fetchSize,
+				( (Number) bounds[0] ).longValue(),
+				( (Number) bounds[1] ).longValue(),
+				partitions
+		);
+	}
+
+	/**
+	 * Reads the range of the key, and returns the parallel stream.
+	 *
+	 * @return The stream
+	 */
+	public Stream<R> stream() {
+		final Spliterator<R> spliterator = spliterator();
+		final Stream<R> stream = StreamSupport.stream( spliterator, true );
+		return spliterator instanceof RangePartitionedSpliterator
+				? stream.onClose( ( (RangePartitionedSpliterator<R>) spliterator )::close )
+				: stream;
+	}
+
+	private String keyPath() {
+		return ALIAS + '.' + key;
+	}
+
+	private LongFunction<?> keyFactory() {
+		final Type keyType = key.equals( persister.getIdentifierPropertyName() )
+				? persister.getIdentifierType()
+				: persister.getPropertyType( key );
+		final Class<?> keyClass = keyType.getReturnedClass();
+		if ( keyClass == Long.class || keyClass == long.class ) {
+			return Long::valueOf;
+		}
+		else if ( keyClass == Integer.class || keyClass == int.class ) {
+			return value -> (int) value;
+		}
+		else if ( keyClass == Short.class || keyClass == short.class ) {
+			return value -> (short) value;
+		}
+		else if ( keyClass == Byte.class || keyClass == byte.class ) {
+			return value -> (byte) value;
+		}
+		else if ( keyClass == BigInteger.class ) {
+			return BigInteger::valueOf;
+		}
+		throw new IllegalArgumentException(
+				"Attribute [" + persister.getEntityName() + '.' + key + "] is not of an integral type: " + keyClass.getName()
+		);
+	}
+}
@@ -26,9 +26,10 @@ import javax.persistence.metamodel.EntityType;
 
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.jpa.spi.HibernateEntityManagerImplementor;
-import org.hibernate.query.criteria.internal.compile.CompilableCriteria;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.CriteriaInterpretation;
 import org.hibernate.query.criteria.internal.compile.CriteriaQueryTypeQueryAdapter;
+import org.hibernate.query.criteria.internal.compile.FingerprintableCriteria;
 import org.hibernate.query.criteria.internal.compile.ImplicitParameterBinding;
 import org.hibernate.query.criteria.internal.compile.InterpretedParameterMetadata;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
@@ -44,7 +45,7 @@ import org.jboss.logging.Logger;
  *
  * @author Steve Ebersole
  */
-public class CriteriaQueryImpl<T> extends AbstractNode implements CriteriaQuery<T>, CompilableCriteria, Serializable {
+public class CriteriaQueryImpl<T> extends AbstractNode implements CriteriaQuery<T>, FingerprintableCriteria, Serializable {
 	private static final Logger log = Logger.getLogger( CriteriaQueryImpl.class );
 
 	private final Class<T> returnType;
@@ -292,6 +293,18 @@ public class CriteriaQueryImpl<T> extends AbstractNode implements CriteriaQuery<
 
 	@Override
 	public CriteriaInterpretation interpret(RenderingContext renderingContext) {
+		return interpret( render( renderingContext ) );
+	}
+
+	@Override
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		queryStructure.fingerprint( fingerprint );
+
+		fingerprintOrderByClause( fingerprint );
+	}
+
+	@Override
+	public String render(RenderingContext renderingContext) {
 		final StringBuilder jpaqlBuffer = new StringBuilder();
 
 		queryStructure.render( jpaqlBuffer, renderingContext );
@@ -302,6 +315,11 @@ public class CriteriaQueryImpl<T> extends AbstractNode implements CriteriaQuery<
 
 		log.debugf( "Rendered criteria query -> %s", jpaqlString );
 
+		return jpaqlString;
+	}
+
+	@Override
+	public CriteriaInterpretation interpret(final String jpaqlString) {
 		return new CriteriaInterpretation() {
 			@Override
 			@SuppressWarnings("unchecked")
@@ -402,4 +420,22 @@ public class CriteriaQueryImpl<T> extends AbstractNode implements CriteriaQuery<
 			renderingContext.getClauseStack().pop();
 		}
 	}
+
+	protected void fingerprintOrderByClause(CriteriaFingerprint fingerprint) {
+		fingerprint.append( getOrderList().size() );
+		if ( getOrderList().isEmpty() ) {
+			return;
+		}
+
+		fingerprint.getClauseStack().push( Clause.ORDER );
+		try {
+			for ( Order orderSpec : getOrderList() ) {
+				fingerprint.visit( orderSpec.getExpression() );
+				fingerprint.append( orderSpec.isAscending() );
+			}
+		}
+		finally {
+			fingerprint.getClauseStack().pop();
+		}
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.query.criteria.internal;
 import javax.persistence.criteria.From;
 
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -18,6 +19,13 @@ public interface FromImplementor<Z,X> extends PathImplementor<X>, From<Z,X> {
 	void prepareAlias(RenderingContext renderingContext);
 	String renderTableExpression(RenderingContext renderingContext);
 
+	/**
+	 * Adds to the given fingerprint what {@link #renderTableExpression} renders.
+	 */
+	default void fingerprintTableExpression(CriteriaFingerprint fingerprint) {
+		fingerprint.unsupported();
+	}
+
 
 	FromImplementor<Z,X> correlateTo(CriteriaSubqueryImpl subquery);
 	void prepareCorrelationDelegate(FromImplementor<Z,X> parent);
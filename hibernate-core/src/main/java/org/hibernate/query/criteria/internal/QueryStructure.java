@@ -28,6 +28,7 @@ import javax.persistence.criteria.Selection;
 import javax.persistence.criteria.Subquery;
 import javax.persistence.metamodel.EntityType;
 
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.path.RootImpl;
 import org.hibernate.query.criteria.internal.path.RootImpl.TreatedRoot;
@@ -485,4 +486,139 @@ public class QueryStructure<T> implements Serializable {
 			renderFetches( jpaqlQuery, renderingContext, fetch.getFetches() );
 		}
 	}
+
+	// FINGERPRINT ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Adds this query structure to the given fingerprint, visiting it the way {@link #render} renders it.
+	 */
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		if ( isSubQuery ) {
+			// correlations are not supported
+			fingerprint.unsupported();
+			return;
+		}
+
+		fingerprintSelectClause( fingerprint );
+
+		fingerprintFromClause( fingerprint );
+
+		fingerprintWhereClause( fingerprint );
+
+		fingerprintGroupByClause( fingerprint );
+	}
+
+	private void fingerprintSelectClause(CriteriaFingerprint fingerprint) {
+		fingerprint.getClauseStack().push( Clause.SELECT );
+		try {
+			fingerprint.append( isDistinct() );
+			if ( getSelection() == null ) {
+				fingerprint.visit( locateImplicitSelection() );
+			}
+			else {
+				fingerprint.visit( getSelection() );
+			}
+		}
+		finally {
+			fingerprint.getClauseStack().pop();
+		}
+	}
+
+	private void fingerprintFromClause(CriteriaFingerprint fingerprint) {
+		fingerprint.getClauseStack().push( Clause.FROM );
+		try {
+			fingerprint.append( getRoots().size() );
+			for ( Root root : getRoots() ) {
+				fingerprintTableExpression( fingerprint, root );
+			}
+
+			for ( Root root : getRoots() ) {
+				if ( root instanceof RootImpl && !( (RootImpl) root ).getTreats().isEmpty() ) {
+					fingerprint.unsupported();
+					return;
+				}
+				fingerprintJoins( fingerprint, root.getJoins() );
+				fingerprintFetches( fingerprint, root.getFetches() );
+			}
+		}
+		finally {
+			fingerprint.getClauseStack().pop();
+		}
+	}
+
+	private void fingerprintWhereClause(CriteriaFingerprint fingerprint) {
+		if ( getRestriction() == null ) {
+			fingerprint.append( false );
+			return;
+		}
+
+		fingerprint.append( true );
+		fingerprint.getClauseStack().push( Clause.WHERE );
+		try {
+			fingerprint.visit( getRestriction() );
+		}
+		finally {
+			fingerprint.getClauseStack().pop();
+		}
+	}
+
+	private void fingerprintGroupByClause(CriteriaFingerprint fingerprint) {
+		fingerprint.append( getGroupings().size() );
+		if ( getGroupings().isEmpty() ) {
+			return;
+		}
+
+		fingerprint.getClauseStack().push( Clause.GROUP );
+		try {
+			for ( Expression grouping : getGroupings() ) {
+				fingerprint.visit( grouping );
+			}
+
+			fingerprint.append( getHaving() != null );
+			if ( getHaving() != null ) {
+				fingerprint.getClauseStack().push( Clause.HAVING );
+				try {
+					fingerprint.visit( getHaving() );
+				}
+				finally {
+					fingerprint.getClauseStack().pop();
+				}
+			}
+		}
+		finally {
+			fingerprint.getClauseStack().pop();
+		}
+	}
+
+	private void fingerprintJoins(CriteriaFingerprint fingerprint, Collection<? extends Join<?,?>> joins) {
+		fingerprint.append( joins == null ? 0 : joins.size() );
+		if ( joins == null ) {
+			return;
+		}
+
+		for ( Join join : joins ) {
+			fingerprint.append( join.getJoinType() );
+			fingerprintTableExpression( fingerprint, join );
+			fingerprintJoins( fingerprint, join.getJoins() );
+			fingerprintFetches( fingerprint, join.getFetches() );
+		}
+	}
+
+	private void fingerprintFetches(CriteriaFingerprint fingerprint, Collection<? extends Fetch> fetches) {
+		fingerprint.append( fetches == null ? 0 : fetches.size() );
+		if ( fetches == null ) {
+			return;
+		}
+
+		for ( Fetch fetch : fetches ) {
+			fingerprint.append( fetch.getJoinType() );
+			fingerprintTableExpression( fingerprint, fetch );
+			fingerprintFetches( fingerprint, fetch.getFetches() );
+		}
+	}
+
+	private void fingerprintTableExpression(CriteriaFingerprint fingerprint, Object from) {
+		fingerprint.append( from.getClass() );
+		( (FromImplementor) from ).fingerprintTableExpression( fingerprint );
+	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.query.criteria.internal;
 
 
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -21,4 +22,14 @@ public interface Renderable {
 	 * Perform the rendering, returning the rendition
 	 */
 	String render(RenderingContext renderingContext);
+
+	/**
+	 * Add everything the rendition depends on to the fingerprint, visiting the operands in the order they are
+	 * rendered.  Nodes which do not override this method cannot be compiled from the criteria plan cache.
+	 *
+	 * @see CriteriaFingerprint
+	 */
+	default void fingerprint(CriteriaFingerprint fingerprint) {
+		fingerprint.unsupported();
+	}
 }
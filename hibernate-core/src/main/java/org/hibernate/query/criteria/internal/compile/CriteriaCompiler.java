@@ -16,6 +16,7 @@ import javax.persistence.criteria.ParameterExpression;
 
 import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
+import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.StringHelper;
@@ -33,6 +34,9 @@ import org.hibernate.type.Type;
  * <p/>
  * NOTE : This is a temporary implementation which simply translates the criteria query into a JPAQL query string.  A
  * better, long-term solution is being implemented as part of refactoring the JPAQL/HQL translator.
+ * <p/>
+ * When the criteria plan cache is enabled, the JPAQL rendered from a criteria query is cached by the
+ * {@link CriteriaFingerprint} of the query, so that the queries of the same structure are not rendered again.
  *
  * @author Steve Ebersole
  */
@@ -51,17 +55,52 @@ public class CriteriaCompiler implements Serializable {
 			throw new IllegalArgumentException( "Error occurred validating the Criteria", ise );
 		}
 
-		final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap = new HashMap<>();
-		final List<ImplicitParameterBinding> implicitParameterBindings = new ArrayList<>();
-
 		final SessionFactoryImplementor sessionFactory = entityManager.getFactory();
 
 		final LiteralHandlingMode criteriaLiteralHandlingMode = sessionFactory
 				.getSessionFactoryOptions()
 				.getCriteriaLiteralHandlingMode();
+		final boolean inClauseParameterPaddingEnabled = sessionFactory
+				.getSessionFactoryOptions()
+				.inClauseParameterPaddingEnabled();
 
 		final Dialect dialect = sessionFactory.getServiceRegistry().getService( JdbcServices.class ).getDialect();
 
+		final QueryPlanCache queryPlanCache = sessionFactory.getQueryPlanCache();
+		final FingerprintableCriteria fingerprintableCriteria;
+		final CriteriaFingerprint fingerprint;
+		if ( queryPlanCache.isCriteriaPlanCacheEnabled() && criteria instanceof FingerprintableCriteria ) {
+			fingerprintableCriteria = (FingerprintableCriteria) criteria;
+			final CriteriaFingerprint candidate = new CriteriaFingerprint(
+					criteriaLiteralHandlingMode,
+					inClauseParameterPaddingEnabled,
+					dialect
+			);
+			fingerprintableCriteria.fingerprint( candidate );
+			fingerprint = candidate.isSupported() ? candidate : null;
+		}
+		else {
+			fingerprintableCriteria = null;
+			fingerprint = null;
+		}
+
+		if ( fingerprint != null ) {
+			final CriteriaPlan plan = queryPlanCache.getCriteriaPlan( fingerprint );
+			if ( plan != null ) {
+				return fingerprintableCriteria.interpret( plan.getJpaqlString() ).buildCompiledQuery(
+						entityManager,
+						parameterMetadata(
+								plan.explicitParameterInfoMap( fingerprint ),
+								plan.implicitParameterBindings( fingerprint )
+						)
+				);
+			}
+		}
+
+		final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap = new HashMap<>();
+		final List<ImplicitParameterBinding> implicitParameterBindings = new ArrayList<>();
+		final List<Object> boundLiteralValues = new ArrayList<>();
+
 		RenderingContext renderingContext = new RenderingContext() {
 			private int aliasCount;
 			private int explicitParameterCount;
@@ -122,21 +161,8 @@ public class CriteriaCompiler implements Serializable {
 
 			public String registerLiteralParameterBinding(final Object literal, final Class javaType) {
 				final String parameterName = generateParameterName();
-				final ImplicitParameterBinding binding = new ImplicitParameterBinding() {
-					public String getParameterName() {
-						return parameterName;
-					}
-
-					public Class getJavaType() {
-						return javaType;
-					}
-
-					public void bind(TypedQuery typedQuery) {
-						typedQuery.setParameter( parameterName, literal );
-					}
-				};
-
-				implicitParameterBindings.add( binding );
+				implicitParameterBindings.add( implicitParameterBinding( parameterName, literal, javaType ) );
+				boundLiteralValues.add( literal );
 				return parameterName;
 			}
 
@@ -160,22 +186,67 @@ public class CriteriaCompiler implements Serializable {
 			public LiteralHandlingMode getCriteriaLiteralHandlingMode() {
 				return criteriaLiteralHandlingMode;
 			}
+
+			@Override
+			public boolean isInClauseParameterPaddingEnabled() {
+				return inClauseParameterPaddingEnabled;
+			}
 		};
 
-		return criteria.interpret( renderingContext ).buildCompiledQuery(
-				entityManager,
-				new InterpretedParameterMetadata() {
-					@Override
-					public Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap() {
-						return explicitParameterInfoMap;
-					}
+		final InterpretedParameterMetadata parameterMetadata = parameterMetadata(
+				explicitParameterInfoMap,
+				implicitParameterBindings
+		);
+		if ( fingerprint == null ) {
+			return criteria.interpret( renderingContext ).buildCompiledQuery( entityManager, parameterMetadata );
+		}
 
-					@Override
-					public List<ImplicitParameterBinding> implicitParameterBindings() {
-						return implicitParameterBindings;
-					}
-				}
+		final String jpaqlString = fingerprintableCriteria.render( renderingContext );
+		final CriteriaPlan plan = CriteriaPlan.create(
+				fingerprint,
+				jpaqlString,
+				explicitParameterInfoMap,
+				implicitParameterBindings,
+				boundLiteralValues
 		);
+		if ( plan != null ) {
+			queryPlanCache.putCriteriaPlan( fingerprint, plan );
+		}
+		return fingerprintableCriteria.interpret( jpaqlString ).buildCompiledQuery( entityManager, parameterMetadata );
+	}
+
+	static ImplicitParameterBinding implicitParameterBinding(
+			final String parameterName,
+			final Object literal,
+			final Class javaType) {
+		return new ImplicitParameterBinding() {
+			public String getParameterName() {
+				return parameterName;
+			}
+
+			public Class getJavaType() {
+				return javaType;
+			}
+
+			public void bind(TypedQuery typedQuery) {
+				typedQuery.setParameter( parameterName, literal );
+			}
+		};
 	}
 
+	private static InterpretedParameterMetadata parameterMetadata(
+			final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap,
+			final List<ImplicitParameterBinding> implicitParameterBindings) {
+		return new InterpretedParameterMetadata() {
+			@Override
+			public Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap() {
+				return explicitParameterInfoMap;
+			}
+
+			@Override
+			public List<ImplicitParameterBinding> implicitParameterBindings() {
+				return implicitParameterBindings;
+			}
+		};
+	}
 }
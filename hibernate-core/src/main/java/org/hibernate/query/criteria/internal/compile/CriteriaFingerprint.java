@@ -0,0 +1,214 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.criteria.internal.compile;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.criteria.ParameterExpression;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.internal.util.collections.Stack;
+import org.hibernate.internal.util.collections.StandardStack;
+import org.hibernate.query.criteria.LiteralHandlingMode;
+import org.hibernate.query.criteria.internal.FromImplementor;
+import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.expression.LiteralExpression;
+import org.hibernate.sql.ast.Clause;
+
+/**
+ * The structure of a criteria query, used to look its {@link CriteriaPlan} up in the criteria plan cache.
+ * <p/>
+ * The nodes of the criteria tree add to the fingerprint everything their rendition depends on, visiting their
+ * operands in the order they render them, except for the values they bind as parameters: two criteria with
+ * the same fingerprint render the same JPQL, and differ by the values bound to its parameters only.  These
+ * literals and the explicit parameters of the criteria are collected apart, to be bound to the JPQL of the plan.
+ * <p/>
+ * A node which does not implement fingerprinting marks the fingerprint as {@linkplain #unsupported() unsupported},
+ * in which case the criteria is rendered as usual.
+ *
+ * @since 5.5
+ */
+public final class CriteriaFingerprint {
+	/**
+	 * The maximum number of tokens of a fingerprint, beyond which the criteria is not worth caching
+	 */
+	private static final int MAXIMUM_SIZE = 1024;
+
+	private final LiteralHandlingMode criteriaLiteralHandlingMode;
+	private final boolean inClauseParameterPaddingEnabled;
+	private final Dialect dialect;
+
+	private final List<Object> tokens = new ArrayList<>();
+	private final Stack<Clause> clauseStack = new StandardStack<>();
+	private final Map<FromImplementor, Integer> froms = new IdentityHashMap<>();
+	private final Map<ParameterExpression<?>, Integer> parameterOrdinals = new IdentityHashMap<>();
+	private final List<ParameterExpression<?>> parameters = new ArrayList<>();
+	private final List<LiteralExpression<?>> boundLiterals = new ArrayList<>();
+
+	private boolean supported = true;
+
+	public CriteriaFingerprint(
+			LiteralHandlingMode criteriaLiteralHandlingMode,
+			boolean inClauseParameterPaddingEnabled,
+			Dialect dialect) {
+		this.criteriaLiteralHandlingMode = criteriaLiteralHandlingMode;
+		this.inClauseParameterPaddingEnabled = inClauseParameterPaddingEnabled;
+		this.dialect = dialect;
+	}
+
+	/**
+	 * How literals are going to be handled.
+	 *
+	 * @see RenderingContext#getCriteriaLiteralHandlingMode()
+	 */
+	public LiteralHandlingMode getCriteriaLiteralHandlingMode() {
+		return criteriaLiteralHandlingMode;
+	}
+
+	/**
+	 * Whether in clause value lists are padded.
+	 *
+	 * @see RenderingContext#isInClauseParameterPaddingEnabled()
+	 */
+	public boolean isInClauseParameterPaddingEnabled() {
+		return inClauseParameterPaddingEnabled;
+	}
+
+	/**
+	 * The dialect the criteria is going to be rendered for.
+	 *
+	 * @see RenderingContext#getDialect()
+	 */
+	public Dialect getDialect() {
+		return dialect;
+	}
+
+	/**
+	 * The clauses being visited, pushed and popped as they are while rendering.
+	 *
+	 * @see RenderingContext#getClauseStack()
+	 */
+	public Stack<Clause> getClauseStack() {
+		return clauseStack;
+	}
+
+	/**
+	 * Can the criteria be compiled from the criteria plan cache?
+	 */
+	public boolean isSupported() {
+		return supported;
+	}
+
+	/**
+	 * Indicates that the rendition of the criteria depends on something the fingerprint does not capture.
+	 */
+	public void unsupported() {
+		supported = false;
+	}
+
+	/**
+	 * Adds a token, which must have a value based {@code equals}, to the fingerprint.
+	 */
+	public void append(Object token) {
+		if ( supported ) {
+			tokens.add( token );
+			if ( tokens.size() > MAXIMUM_SIZE ) {
+				unsupported();
+			}
+		}
+	}
+
+	/**
+	 * Visits a node of the criteria tree, that is any of the operands of a node.
+	 */
+	public void visit(Object node) {
+		if ( !supported ) {
+			return;
+		}
+		if ( node instanceof Renderable ) {
+			append( node.getClass() );
+			( (Renderable) node ).fingerprint( this );
+		}
+		else {
+			unsupported();
+		}
+	}
+
+	/**
+	 * Adds a reference to the identification variable of a from element.  The alias of each from element is
+	 * generated when it is first rendered, so from elements are referenced by the order they are first visited.
+	 */
+	public void alias(FromImplementor<?, ?> from) {
+		if ( !supported ) {
+			return;
+		}
+		if ( from.isCorrelated() ) {
+			unsupported();
+			return;
+		}
+		Integer ordinal = froms.get( from );
+		if ( ordinal == null ) {
+			ordinal = froms.size();
+			froms.put( from, ordinal );
+			append( ordinal );
+			append( from.getAlias() );
+		}
+		else {
+			append( ordinal );
+		}
+	}
+
+	/**
+	 * Adds an explicit parameter.  Its occurrences are referenced by the order the parameter is first visited.
+	 */
+	public void parameter(ParameterExpression<?> parameter) {
+		if ( !supported ) {
+			return;
+		}
+		Integer ordinal = parameterOrdinals.get( parameter );
+		if ( ordinal == null ) {
+			ordinal = parameters.size();
+			parameterOrdinals.put( parameter, ordinal );
+			parameters.add( parameter );
+			append( ordinal );
+			append( parameter.getName() );
+			append( parameter.getPosition() );
+			append( parameter.getJavaType() );
+		}
+		else {
+			append( ordinal );
+		}
+	}
+
+	/**
+	 * Adds a literal which is rendered as a parameter, and bound to it.
+	 */
+	public void boundLiteral(LiteralExpression<?> literal) {
+		if ( !supported ) {
+			return;
+		}
+		boundLiterals.add( literal );
+		append( literal.getJavaType() );
+	}
+
+	/**
+	 * The key of the criteria plan cache.
+	 */
+	public List<Object> getKey() {
+		return tokens;
+	}
+
+	List<ParameterExpression<?>> getParameters() {
+		return parameters;
+	}
+
+	List<LiteralExpression<?>> getBoundLiterals() {
+		return boundLiterals;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.criteria.internal.compile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.criteria.ParameterExpression;
+
+import org.hibernate.query.criteria.internal.expression.LiteralExpression;
+
+/**
+ * The JPQL rendered from a criteria query, along with what is needed to bind the values of any other criteria of
+ * the same {@link CriteriaFingerprint} to it.
+ *
+ * @since 5.5
+ */
+public final class CriteriaPlan {
+	private final String jpaqlString;
+	private final String[] literalParameterNames;
+	private final ExplicitParameterInfo<?>[] explicitParameterInfos;
+
+	private CriteriaPlan(
+			String jpaqlString,
+			String[] literalParameterNames,
+			ExplicitParameterInfo<?>[] explicitParameterInfos) {
+		this.jpaqlString = jpaqlString;
+		this.literalParameterNames = literalParameterNames;
+		this.explicitParameterInfos = explicitParameterInfos;
+	}
+
+	/**
+	 * Creates the plan of a criteria, given the outcome of its rendering.
+	 *
+	 * @param fingerprint The fingerprint of the criteria
+	 * @param jpaqlString The JPQL rendered from the criteria
+	 * @param explicitParameterInfoMap The explicit parameters registered while rendering
+	 * @param implicitParameterBindings The literals bound while rendering
+	 * @param boundLiteralValues The values of these literals
+	 *
+	 * @return The plan, or {@code null} if the rendering does not match the fingerprint
+	 */
+	static CriteriaPlan create(
+			CriteriaFingerprint fingerprint,
+			String jpaqlString,
+			Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap,
+			List<ImplicitParameterBinding> implicitParameterBindings,
+			List<Object> boundLiteralValues) {
+		final List<LiteralExpression<?>> boundLiterals = fingerprint.getBoundLiterals();
+		if ( boundLiterals.size() != implicitParameterBindings.size() ) {
+			return null;
+		}
+		final String[] literalParameterNames = new String[boundLiterals.size()];
+		for ( int i = 0; i < literalParameterNames.length; i++ ) {
+			final LiteralExpression<?> literal = boundLiterals.get( i );
+			final ImplicitParameterBinding binding = implicitParameterBindings.get( i );
+			if ( literal.getLiteral() != boundLiteralValues.get( i ) || literal.getJavaType() != binding.getJavaType() ) {
+				return null;
+			}
+			literalParameterNames[i] = binding.getParameterName();
+		}
+
+		final List<ParameterExpression<?>> parameters = fingerprint.getParameters();
+		if ( parameters.size() != explicitParameterInfoMap.size() ) {
+			return null;
+		}
+		final ExplicitParameterInfo<?>[] explicitParameterInfos = new ExplicitParameterInfo[parameters.size()];
+		for ( int i = 0; i < explicitParameterInfos.length; i++ ) {
+			explicitParameterInfos[i] = explicitParameterInfoMap.get( parameters.get( i ) );
+			if ( explicitParameterInfos[i] == null ) {
+				return null;
+			}
+		}
+
+		return new CriteriaPlan( jpaqlString, literalParameterNames, explicitParameterInfos );
+	}
+
+	public String getJpaqlString() {
+		return jpaqlString;
+	}
+
+	/**
+	 * Binds the explicit parameters of a criteria of the same fingerprint to the parameters of this plan.
+	 */
+	Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap(CriteriaFingerprint fingerprint) {
+		final List<ParameterExpression<?>> parameters = fingerprint.getParameters();
+		final Map<ParameterExpression<?>, ExplicitParameterInfo<?>> explicitParameterInfoMap = new HashMap<>();
+		for ( int i = 0; i < explicitParameterInfos.length; i++ ) {
+			explicitParameterInfoMap.put( parameters.get( i ), explicitParameterInfos[i] );
+		}
+		return explicitParameterInfoMap;
+	}
+
+	/**
+	 * Binds the literals of a criteria of the same fingerprint to the parameters of this plan.
+	 */
+	List<ImplicitParameterBinding> implicitParameterBindings(CriteriaFingerprint fingerprint) {
+		final List<LiteralExpression<?>> boundLiterals = fingerprint.getBoundLiterals();
+		final List<ImplicitParameterBinding> implicitParameterBindings = new ArrayList<>( literalParameterNames.length );
+		for ( int i = 0; i < literalParameterNames.length; i++ ) {
+			final LiteralExpression<?> literal = boundLiterals.get( i );
+			implicitParameterBindings.add(
+					CriteriaCompiler.implicitParameterBinding(
+							literalParameterNames[i],
+							literal.getLiteral(),
+							literal.getJavaType()
+					)
+			);
+		}
+		return implicitParameterBindings;
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.criteria.internal.compile;
+
+/**
+ * A {@link CompilableCriteria} which can be compiled from the criteria plan cache: its structure is described by a
+ * {@link CriteriaFingerprint}, and its interpretation can be built from the JPQL rendered for any criteria of the
+ * same fingerprint.
+ *
+ * @since 5.5
+ */
+public interface FingerprintableCriteria extends CompilableCriteria {
+
+	/**
+	 * Adds the structure of this criteria to the given fingerprint, or marks it unsupported if this criteria cannot
+	 * be compiled from the criteria plan cache.
+	 *
+	 * @param fingerprint The fingerprint
+	 */
+	void fingerprint(CriteriaFingerprint fingerprint);
+
+	/**
+	 * Renders this criteria as JPQL.
+	 *
+	 * @param renderingContext The context for rendering
+	 *
+	 * @return The JPQL
+	 */
+	String render(RenderingContext renderingContext);
+
+	/**
+	 * Interprets this criteria as the given JPQL, rendered from this criteria or from a criteria of the same
+	 * fingerprint.
+	 *
+	 * @param jpaqlString The JPQL
+	 *
+	 * @return The interpretation
+	 */
+	CriteriaInterpretation interpret(String jpaqlString);
+}
@@ -71,6 +71,17 @@ public interface RenderingContext {
 		return LiteralHandlingMode.AUTO;
 	}
 
+	/**
+	 * Should the value lists of IN predicates be padded to the next power of two?
+	 *
+	 * @return {@code true} if the value lists are to be padded
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING
+	 */
+	default boolean isInClauseParameterPaddingEnabled() {
+		return false;
+	}
+
 	Stack<Clause> getClauseStack();
 
 	Stack<FunctionExpression> getFunctionStack();
@@ -18,6 +18,7 @@ import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
 import org.hibernate.query.criteria.internal.TupleElementImplementor;
 import org.hibernate.query.criteria.internal.ValueHandlerFactory;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -90,4 +91,16 @@ public class CompoundSelectionImpl<X>
 
 		return buff.toString();
 	}
+
+	@Override
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		fingerprint.append( isConstructor );
+		if ( isConstructor ) {
+			fingerprint.append( getJavaType() );
+		}
+		fingerprint.append( selectionItems.size() );
+		for ( Selection selection : selectionItems ) {
+			fingerprint.visit( selection );
+		}
+	}
 }
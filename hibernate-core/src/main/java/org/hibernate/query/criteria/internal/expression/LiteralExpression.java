@@ -14,6 +14,7 @@ import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.ValueHandlerFactory;
 import org.hibernate.query.criteria.internal.ValueHandlerFactory.ValueHandler;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -132,6 +133,55 @@ public class LiteralExpression<T> extends ExpressionImpl<T> implements Serializa
 		return ':' + parameterName;
 	}
 
+	@Override
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		// the literal is part of the fingerprint when it is inlined, following the rules of render()
+		if ( literal == null ) {
+			fingerprint.unsupported();
+		}
+		else if ( literal instanceof Enum ) {
+			fingerprint.boundLiteral( this );
+		}
+		else {
+			switch ( fingerprint.getClauseStack().getCurrent() ) {
+				case SELECT:
+				case GROUP: {
+					if ( ValueHandlerFactory.isCharacter( literal )
+							|| ValueHandlerFactory.determineAppropriateHandler( literal.getClass() ) != null ) {
+						fingerprint.append( literal );
+					}
+					else {
+						fingerprint.boundLiteral( this );
+					}
+					break;
+				}
+				default: {
+					if ( isInlined( fingerprint.getCriteriaLiteralHandlingMode() ) ) {
+						fingerprint.append( literal );
+					}
+					else {
+						fingerprint.boundLiteral( this );
+					}
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private boolean isInlined(LiteralHandlingMode literalHandlingMode) {
+		switch ( literalHandlingMode ) {
+			case AUTO: {
+				return ValueHandlerFactory.isNumeric( literal );
+			}
+			case INLINE: {
+				return ValueHandlerFactory.determineAppropriateHandler( (Class) literal.getClass() ) != null;
+			}
+			default: {
+				return false;
+			}
+		}
+	}
+
 	@Override
 	@SuppressWarnings({ "unchecked" })
 	protected void resetJavaType(Class targetType) {
@@ -11,6 +11,7 @@ import javax.persistence.criteria.ParameterExpression;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.ExplicitParameterInfo;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
@@ -77,4 +78,9 @@ public class ParameterExpressionImpl<T>
 		final ExplicitParameterInfo parameterInfo = renderingContext.registerExplicitParameter( this );
 		return parameterInfo.render();
 	}
+
+	@Override
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		fingerprint.parameter( this );
+	}
 }
@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -59,4 +60,10 @@ public class UnaryArithmeticOperation<T>
 		return ( getOperation() == Operation.UNARY_MINUS ? '-' : '+' )
 				+ ( (Renderable) getOperand() ).render( renderingContext );
 	}
+
+	@Override
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		fingerprint.append( getOperation() );
+		fingerprint.visit( getOperand() );
+	}
 }
@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Root;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 
@@ -108,6 +109,13 @@ public class AggregationFunction<T>
 			super.renderArguments(buffer, renderingContext);
 		}
 
+		@Override
+		protected void fingerprintArguments(CriteriaFingerprint fingerprint) {
+			// whether the entity of a single root argument has a composite id follows from the root
+			fingerprint.append( isDistinct() );
+			super.fingerprintArguments( fingerprint );
+		}
+
 		public boolean isDistinct() {
 			return distinct;
 		}
@@ -15,6 +15,7 @@ import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterContainer;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -123,6 +124,20 @@ public class ParameterizedFunctionExpression<X>
 		}
 	}
 
+	@Override
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		fingerprint.append( getFunctionName() );
+		fingerprint.append( isStandardJpaFunction() );
+		fingerprintArguments( fingerprint );
+	}
+
+	protected void fingerprintArguments(CriteriaFingerprint fingerprint) {
+		fingerprint.append( argumentExpressions.size() );
+		for ( Expression argument : argumentExpressions ) {
+			fingerprint.visit( argument );
+		}
+	}
+
 
 
 }
@@ -38,6 +38,7 @@ import org.hibernate.query.criteria.internal.ListJoinImplementor;
 import org.hibernate.query.criteria.internal.MapJoinImplementor;
 import org.hibernate.query.criteria.internal.PathSource;
 import org.hibernate.query.criteria.internal.SetJoinImplementor;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -96,6 +97,11 @@ public abstract class AbstractFromImpl<Z, X>
 		return getAlias();
 	}
 
+	@Override
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		fingerprint.alias( this );
+	}
+
 	@Override
 	public Attribute<?, ?> getAttribute() {
 		return null;
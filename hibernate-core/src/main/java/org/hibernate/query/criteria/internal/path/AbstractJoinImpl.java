@@ -18,6 +18,7 @@ import org.hibernate.query.criteria.internal.CriteriaSubqueryImpl;
 import org.hibernate.query.criteria.internal.FromImplementor;
 import org.hibernate.query.criteria.internal.JoinImplementor;
 import org.hibernate.query.criteria.internal.PathSource;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.predicate.PredicateImplementor;
 
@@ -88,6 +89,17 @@ public abstract class AbstractJoinImpl<Z, X>
 		return tableExpression.toString();
 	}
 
+	@Override
+	public void fingerprintTableExpression(CriteriaFingerprint fingerprint) {
+		fingerprint.alias( this );
+		fingerprint.visit( getParent() );
+		fingerprint.append( getAttribute().getName() );
+		fingerprint.append( suppliedJoinCondition != null );
+		if ( suppliedJoinCondition != null ) {
+			fingerprint.visit( suppliedJoinCondition );
+		}
+	}
+
 	@Override
 	public JoinImplementor<Z, X> correlateTo(CriteriaSubqueryImpl subquery) {
 		return (JoinImplementor<Z, X>) super.correlateTo( subquery );
@@ -21,6 +21,7 @@ import org.hibernate.query.criteria.internal.FromImplementor;
 import org.hibernate.query.criteria.internal.MapJoinImplementor;
 import org.hibernate.query.criteria.internal.PathImplementor;
 import org.hibernate.query.criteria.internal.PathSource;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.MapEntryExpression;
 
@@ -153,6 +154,12 @@ public class MapAttributeJoin<O,K,V>
 			return "treat(" + original.render( renderingContext ) + " as " + treatAsType.getName() + ")";
 		}
 
+		@Override
+		public void fingerprint(CriteriaFingerprint fingerprint) {
+			// the treated type is not part of the fingerprint
+			fingerprint.unsupported();
+		}
+
 		@Override
 		protected ManagedType<T> locateManagedType() {
 			return criteriaBuilder().getEntityManagerFactory().getMetamodel().managedType( treatAsType );
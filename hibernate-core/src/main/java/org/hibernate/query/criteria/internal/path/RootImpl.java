@@ -18,6 +18,7 @@ import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.CriteriaSubqueryImpl;
 import org.hibernate.query.criteria.internal.FromImplementor;
 import org.hibernate.query.criteria.internal.PathSource;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -80,6 +81,12 @@ public class RootImpl<X> extends AbstractFromImpl<X,X> implements Root<X>, Seria
 		return getModel().getName() + " as " + getAlias();
 	}
 
+	@Override
+	public void fingerprintTableExpression(CriteriaFingerprint fingerprint) {
+		fingerprint.append( getModel().getName() );
+		fingerprint.alias( this );
+	}
+
 	@Override
 	public String getPathIdentifier() {
 		return getAlias();
@@ -133,6 +140,12 @@ public class RootImpl<X> extends AbstractFromImpl<X,X> implements Root<X>, Seria
 			return getTreatFragment();
 		}
 
+		@Override
+		public void fingerprint(CriteriaFingerprint fingerprint) {
+			// the treated type is not part of the fingerprint
+			fingerprint.unsupported();
+		}
+
 		protected String getTreatFragment() {
 			return "treat(" + original.getAlias() + " as " + treatAsType.getName() + ")";
 		}
@@ -20,6 +20,7 @@ import org.hibernate.query.criteria.internal.FromImplementor;
 import org.hibernate.query.criteria.internal.PathImplementor;
 import org.hibernate.query.criteria.internal.PathSource;
 import org.hibernate.query.criteria.internal.SetJoinImplementor;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -129,6 +130,12 @@ public class SetAttributeJoin<O,E>
 			return "treat(" + original.render( renderingContext ) + " as " + treatAsType.getName() + ")";
 		}
 
+		@Override
+		public void fingerprint(CriteriaFingerprint fingerprint) {
+			// the treated type is not part of the fingerprint
+			fingerprint.unsupported();
+		}
+
 		@Override
 		protected ManagedType<T> locateManagedType() {
 			return criteriaBuilder().getEntityManagerFactory().getMetamodel().managedType( treatAsType );
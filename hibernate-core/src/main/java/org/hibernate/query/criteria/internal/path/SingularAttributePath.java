@@ -16,6 +16,7 @@ import javax.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.PathSource;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -77,6 +78,17 @@ public class SingularAttributePath<X> extends AbstractPathImpl<X> implements Ser
 		return attribute;
 	}
 
+	@Override
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		// rendered as the identifier of the source, which is what sources render, followed by the attribute name
+		final PathSource<?> source = getPathSource();
+		fingerprint.append( source != null );
+		if ( source != null ) {
+			fingerprint.visit( source );
+		}
+		fingerprint.append( getAttribute().getName() );
+	}
+
 	@Override
 	public <T extends X> SingularAttributePath<T> treatAs(Class<T> treatAsType) {
 		return new TreatedSingularAttributePath<T>( this, treatAsType );
@@ -112,5 +124,11 @@ public class SingularAttributePath<X> extends AbstractPathImpl<X> implements Ser
 		public String render(RenderingContext renderingContext) {
 			return "treat(" + original.render( renderingContext ) + " as " + treatAsType.getName() + ")";
 		}
+
+		@Override
+		public void fingerprint(CriteriaFingerprint fingerprint) {
+			// the treated type is not part of the fingerprint
+			fingerprint.unsupported();
+		}
 	}
 }
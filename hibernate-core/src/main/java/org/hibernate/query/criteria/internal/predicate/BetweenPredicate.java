@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -78,4 +79,12 @@ public class BetweenPredicate<Y>
 				+ " and "
 				+ ( (Renderable) getUpperBound() ).render( renderingContext );
 	}
+
+	@Override
+	public void fingerprint(boolean isNegated, CriteriaFingerprint fingerprint) {
+		fingerprint.visit( getExpression() );
+		fingerprint.append( isNegated );
+		fingerprint.visit( getLowerBound() );
+		fingerprint.visit( getUpperBound() );
+	}
 }
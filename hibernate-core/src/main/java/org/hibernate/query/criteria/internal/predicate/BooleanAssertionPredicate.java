@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -61,4 +62,11 @@ public class BooleanAssertionPredicate
 				+ operator
 				+ assertionLiteral;
 	}
+
+	@Override
+	public void fingerprint(boolean isNegated, CriteriaFingerprint fingerprint) {
+		fingerprint.visit( expression );
+		fingerprint.append( isNegated );
+		fingerprint.append( assertedValue );
+	}
 }
@@ -10,6 +10,7 @@ import java.io.Serializable;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -47,4 +48,9 @@ public class BooleanStaticAssertionPredicate
 		return isTrue ? "1=1" : "0=1";
 	}
 
+	@Override
+	public void fingerprint(boolean isNegated, CriteriaFingerprint fingerprint) {
+		fingerprint.append( getAssertedValue() != isNegated );
+	}
+
 }
@@ -13,6 +13,7 @@ import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
 import org.hibernate.query.criteria.internal.ValueHandlerFactory;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.BinaryOperatorExpression;
 import org.hibernate.query.criteria.internal.expression.LiteralExpression;
@@ -171,4 +172,11 @@ public class ComparisonPredicate
 				+ getComparisonOperator( isNegated ).rendered()
 				+ ( (Renderable) getRightHandOperand() ).render( renderingContext );
 	}
+
+	@Override
+	public void fingerprint(boolean isNegated, CriteriaFingerprint fingerprint) {
+		fingerprint.visit( getLeftHandOperand() );
+		fingerprint.append( getComparisonOperator( isNegated ) );
+		fingerprint.visit( getRightHandOperand() );
+	}
 }
@@ -16,6 +16,7 @@ import javax.persistence.criteria.Predicate;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -118,6 +119,16 @@ public class CompoundPredicate
 		return render( this, renderingContext );
 	}
 
+	@Override
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		fingerprint( this, fingerprint );
+	}
+
+	@Override
+	public void fingerprint(boolean isNegated, CriteriaFingerprint fingerprint) {
+		fingerprint( this, fingerprint );
+	}
+
 	/**
 	 * Create negation of compound predicate by using logic rules:
 	 * 1. not (x || y) is (not x && not y)
@@ -169,6 +180,18 @@ public class CompoundPredicate
 		return buffer.toString();
 	}
 
+	/**
+	 * Adds a junction to the given fingerprint, the way {@link #render(PredicateImplementor, RenderingContext)}
+	 * renders it.
+	 */
+	public static void fingerprint(PredicateImplementor predicate, CriteriaFingerprint fingerprint) {
+		fingerprint.append( predicate.getOperator() );
+		fingerprint.append( predicate.getExpressions().size() );
+		for ( Expression expression : predicate.getExpressions() ) {
+			fingerprint.visit( expression );
+		}
+	}
+
 	private static String operatorTextWithSeparator(BooleanOperator operator) {
 		return operator == BooleanOperator.AND
 				? " and "
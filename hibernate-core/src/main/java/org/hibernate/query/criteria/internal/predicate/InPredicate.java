@@ -14,11 +14,14 @@ import java.util.List;
 import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.Subquery;
 
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.MathHelper;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
 import org.hibernate.query.criteria.internal.ValueHandlerFactory;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 import org.hibernate.query.criteria.internal.expression.ParameterExpressionImpl;
@@ -200,14 +203,56 @@ public class InPredicate<T>
 				buffer.append( '(' );
 				String sep = "";
 				for ( Expression value : values) {
-					buffer.append( sep )
-							.append( ( (Renderable) value )
-									.render( renderingContext ) );
+					buffer.append( sep ).append( ( (Renderable) value ).render( renderingContext ) );
 					sep = ", ";
 				}
+				// render the last value again for each padding slot, a bound literal then gets a parameter of its
+				// own per slot, so that the value lists of similar sizes render the same JPQL
+				final Renderable lastValue = (Renderable) values.get( values.size() - 1 );
+				final int paddedValueCount = paddedValueCount(
+						values.size(),
+						renderingContext.isInClauseParameterPaddingEnabled(),
+						renderingContext.getDialect()
+				);
+				for ( int i = values.size(); i < paddedValueCount; i++ ) {
+					buffer.append( sep ).append( lastValue.render( renderingContext ) );
+				}
 				buffer.append( ')' );
 			}
 		}
 		return buffer.toString();
 	}
+
+	private static int paddedValueCount(int valueCount, boolean inClauseParameterPaddingEnabled, Dialect dialect) {
+		if ( !inClauseParameterPaddingEnabled || valueCount <= 2 ) {
+			return valueCount;
+		}
+		int paddedValueCount = MathHelper.ceilingPowerOfTwo( valueCount );
+		final int inExprLimit = dialect.getInExpressionCountLimit();
+		if ( inExprLimit > 0 && paddedValueCount > inExprLimit ) {
+			paddedValueCount = inExprLimit;
+		}
+		return Math.max( valueCount, paddedValueCount );
+	}
+
+	@Override
+	public void fingerprint(boolean isNegated, CriteriaFingerprint fingerprint) {
+		// the cast of a parameter expression follows from the type of the parameter
+		fingerprint.visit( getExpression() );
+		fingerprint.append( isNegated );
+
+		// the values are visited as they are rendered, padding included
+		final List<Expression<? extends T>> values = getValues();
+		final boolean isInSubqueryPredicate = values.size() == 1 && Subquery.class.isInstance( values.get( 0 ) );
+		final int paddedValueCount = isInSubqueryPredicate || values.isEmpty()
+				? values.size()
+				: paddedValueCount( values.size(), fingerprint.isInClauseParameterPaddingEnabled(), fingerprint.getDialect() );
+		fingerprint.append( paddedValueCount );
+		for ( Expression value : values ) {
+			fingerprint.visit( value );
+		}
+		for ( int i = values.size(); i < paddedValueCount; i++ ) {
+			fingerprint.visit( values.get( values.size() - 1 ) );
+		}
+	}
 }
@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.LiteralExpression;
 
@@ -120,4 +121,15 @@ public class LikePredicate extends AbstractSimplePredicate implements Serializab
 		}
 		return buffer.toString();
 	}
+
+	@Override
+	public void fingerprint(boolean isNegated, CriteriaFingerprint fingerprint) {
+		fingerprint.visit( getMatchExpression() );
+		fingerprint.append( isNegated );
+		fingerprint.visit( getPattern() );
+		fingerprint.append( escapeCharacter != null );
+		if ( escapeCharacter != null ) {
+			fingerprint.visit( getEscapeCharacter() );
+		}
+	}
 }
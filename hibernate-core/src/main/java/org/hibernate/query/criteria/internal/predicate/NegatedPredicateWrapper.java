@@ -16,6 +16,7 @@ import javax.persistence.criteria.Predicate;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterContainer;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.ExpressionImpl;
 
@@ -102,4 +103,20 @@ public class NegatedPredicateWrapper extends ExpressionImpl<Boolean> implements
 	public String render(RenderingContext renderingContext) {
 		return render( isNegated(), renderingContext );
 	}
+
+	@Override
+	public void fingerprint(boolean isNegated, CriteriaFingerprint fingerprint) {
+		if ( isJunction() ) {
+			CompoundPredicate.fingerprint( this, fingerprint );
+		}
+		else {
+			fingerprint.append( predicate.getClass() );
+			predicate.fingerprint( isNegated, fingerprint );
+		}
+	}
+
+	@Override
+	public void fingerprint(CriteriaFingerprint fingerprint) {
+		fingerprint( isNegated(), fingerprint );
+	}
 }
@@ -12,6 +12,7 @@ import javax.persistence.criteria.Expression;
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.ParameterRegistry;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 import org.hibernate.query.criteria.internal.expression.UnaryOperatorExpression;
 
@@ -57,6 +58,12 @@ public class NullnessPredicate
 		return ( (Renderable) operand ).render( renderingContext ) + check( isNegated );
 	}
 
+	@Override
+	public void fingerprint(boolean isNegated, CriteriaFingerprint fingerprint) {
+		fingerprint.visit( operand );
+		fingerprint.append( isNegated );
+	}
+
 	private String check(boolean negated) {
 		return negated ? " is not null" : " is null";
 	}
@@ -10,6 +10,7 @@ import javax.persistence.criteria.Predicate;
 
 import org.hibernate.query.criteria.internal.CriteriaBuilderImpl;
 import org.hibernate.query.criteria.internal.Renderable;
+import org.hibernate.query.criteria.internal.compile.CriteriaFingerprint;
 import org.hibernate.query.criteria.internal.compile.RenderingContext;
 
 /**
@@ -43,4 +44,14 @@ public interface PredicateImplementor extends Predicate, Renderable {
 	 * @return The rendered predicate fragment.
 	 */
 	public String render(boolean isNegated, RenderingContext renderingContext);
+
+	/**
+	 * Form of {@link Renderable#fingerprint} matching {@link #render(boolean, RenderingContext)}.
+	 *
+	 * @param isNegated Should the predicate be negated.
+	 * @param fingerprint The fingerprint
+	 */
+	default void fingerprint(boolean isNegated, CriteriaFingerprint fingerprint) {
+		fingerprint.unsupported();
+	}
 }
@@ -47,11 +47,13 @@ import org.hibernate.PropertyNotFoundException;
 import org.hibernate.QueryParameterException;
 import org.hibernate.ScrollMode;
 import org.hibernate.TypeMismatchException;
+import org.hibernate.dialect.Dialect;
 import org.hibernate.engine.query.spi.EntityGraphQueryHint;
 import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.spi.ExceptionConverter;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.TypedValue;
 import org.hibernate.graph.GraphSemantic;
@@ -94,6 +96,7 @@ import static org.hibernate.cfg.AvailableSettings.JPA_SHARED_CACHE_STORE_MODE;
 import static org.hibernate.jpa.AvailableSettings.ALIAS_SPECIFIC_LOCK_MODE;
 import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
 import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_PARTITION;
 import static org.hibernate.jpa.QueryHints.HINT_CACHE_REGION;
 import static org.hibernate.jpa.QueryHints.HINT_COMMENT;
 import static org.hibernate.jpa.QueryHints.HINT_FETCHGRAPH;
@@ -120,6 +123,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 	private CacheRetrieveMode cacheRetrieveMode;
 	private boolean cacheable;
 	private String cacheRegion;
+	private Object cachePartition;
 	private Boolean readOnly;
 
 	private LockOptions lockOptions = new LockOptions();
@@ -986,6 +990,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		if ( isCacheable() ) {
 			hints.put( HINT_CACHEABLE, true );
 			putIfNotNull( hints, HINT_CACHE_REGION, getCacheRegion() );
+			putIfNotNull( hints, HINT_CACHE_PARTITION, cachePartition );
 		}
 
 		if ( isReadOnly() ) {
@@ -1041,6 +1046,9 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			else if ( HINT_CACHE_REGION.equals( hintName ) ) {
 				applied = applyCacheRegionHint( (String) value );
 			}
+			else if ( HINT_CACHE_PARTITION.equals( hintName ) ) {
+				applied = applyCachePartitionHint( value );
+			}
 			else if ( HINT_READONLY.equals( hintName ) ) {
 				applied = applyReadOnlyHint( ConfigurationHelper.getBoolean( value ) );
 			}
@@ -1206,6 +1214,18 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return true;
 	}
 
+	/**
+	 * Apply the cache partition hint
+	 *
+	 * @param partition The partition key value specified as a hint
+	 *
+	 * @return {@code true} if the hint was "applied"
+	 */
+	protected boolean applyCachePartitionHint(Object partition) {
+		this.cachePartition = partition;
+		return true;
+	}
+
 	/**
 	 * Apply the read-only (true/false) hint.
 	 *
@@ -1394,6 +1414,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		if ( passDistinctThrough != null ) {
 			queryParameters.setPassDistinctThrough( passDistinctThrough );
 		}
+		queryParameters.setCachePartition( cachePartition );
 		return queryParameters;
 	}
 
@@ -1509,8 +1530,25 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 			final Spliterator<R> spliterator = Spliterators.emptySpliterator();
 			return StreamSupport.stream( spliterator, false );
 		}
-		final ScrollableResultsImplementor scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
-		final ScrollableResultsIterator<R> iterator = new ScrollableResultsIterator<>( scrollableResults );
+		final int windowSize = getProducer().getFactory().getSessionFactoryOptions().getQueryStreamWindowSize();
+		final ScrollableResultsImplementor scrollableResults;
+		if ( windowSize > 0 && queryOptions.getFetchSize() == null ) {
+			// applies to this execution only
+			final Dialect dialect = getProducer().getJdbcServices().getJdbcEnvironment().getDialect();
+			queryOptions.setFetchSize( dialect.getStreamFetchSize( windowSize ) );
+			try {
+				scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+			}
+			finally {
+				queryOptions.setFetchSize( null );
+			}
+		}
+		else {
+			scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		}
+		final ScrollableResultsIterator<R> iterator = windowSize > 0 && getProducer() instanceof SessionImplementor
+				? new EvictingScrollableResultsIterator<>( scrollableResults, (SessionImplementor) getProducer(), windowSize )
+				: new ScrollableResultsIterator<>( scrollableResults );
 		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
 
 		final Stream<R> stream = new StreamDecorator(
@@ -0,0 +1,114 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link ScrollableResultsIterator} which evicts the entities read by a row from the session once the given number
+ * of rows have been read after it, unless a more recent row holds them as well.
+ * <p/>
+ * Only entities which were not yet managed by the session when the iteration started are evicted, so that
+ * instances the application already held are left alone. Entities which have been modified, deleted or are
+ * otherwise no longer in their loaded state are not evicted either, so that their changes are still flushed.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_STREAM_WINDOW_SIZE
+ *
+ * @since 5.5
+ */
+class EvictingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final SessionImplementor session;
+	private final int windowSize;
+
+	private final ArrayDeque<Object> window;
+	private final Map<Object, Integer> windowEntityCounts = new IdentityHashMap<>();
+	private final Set<Object> preexistingEntities = Collections.newSetFromMap( new IdentityHashMap<>() );
+
+	EvictingScrollableResultsIterator(
+			ScrollableResultsImplementor scrollableResults,
+			SessionImplementor session,
+			int windowSize) {
+		super( scrollableResults );
+		this.session = session;
+		this.windowSize = windowSize;
+		this.window = new ArrayDeque<>( windowSize + 1 );
+		for ( Map.Entry<Object, EntityEntry> entry : session.getPersistenceContextInternal().reentrantSafeEntityEntries() ) {
+			preexistingEntities.add( entry.getKey() );
+		}
+	}
+
+	@Override
+	public T next() {
+		final T next = super.next();
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		if ( next instanceof Object[] ) {
+			for ( Object value : (Object[]) next ) {
+				enter( value, persistenceContext );
+			}
+		}
+		else {
+			enter( next, persistenceContext );
+		}
+		window.addLast( next );
+
+		if ( window.size() > windowSize ) {
+			final Object past = window.removeFirst();
+			if ( past instanceof Object[] ) {
+				for ( Object value : (Object[]) past ) {
+					leave( value, persistenceContext );
+				}
+			}
+			else {
+				leave( past, persistenceContext );
+			}
+		}
+		return next;
+	}
+
+	private void enter(Object value, PersistenceContext persistenceContext) {
+		if ( value != null && !preexistingEntities.contains( value ) && persistenceContext.isEntryFor( value ) ) {
+			windowEntityCounts.merge( value, 1, Integer::sum );
+		}
+	}
+
+	private void leave(Object value, PersistenceContext persistenceContext) {
+		final Integer count = value == null ? null : windowEntityCounts.get( value );
+		if ( count == null ) {
+			return;
+		}
+		if ( count == 1 ) {
+			windowEntityCounts.remove( value );
+			// the consumer may have evicted it already
+			final EntityEntry entry = persistenceContext.getEntry( value );
+			if ( entry != null && entry.getStatus() == Status.MANAGED && !isDirty( value, entry ) ) {
+				session.evict( value );
+			}
+		}
+		else {
+			windowEntityCounts.put( value, count - 1 );
+		}
+	}
+
+	private boolean isDirty(Object entity, EntityEntry entry) {
+		if ( entry.isReadOnly() || entry.getLoadedState() == null || !entry.requiresDirtyCheck( entity ) ) {
+			return false;
+		}
+		final EntityPersister persister = entry.getPersister();
+		return persister.findDirty( persister.getPropertyValues( entity ), entry.getLoadedState(), entity, session ) != null;
+	}
+}
@@ -0,0 +1,242 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.query.Query;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A {@link Spliterator} over the results of a query restricted to a range of an integral key, which splits into the
+ * halves of its range until the given number of partitions is reached.  Each partition runs its own query, with its
+ * own {@link StatelessSession}, and therefore its own connection, once it is first advanced.
+ *
+ * @see org.hibernate.query.RangePartitionedStream
+ *
+ * @since 5.5
+ */
+public class RangePartitionedSpliterator<R> implements Spliterator<R> {
+	private static final Logger LOG = CoreLogging.logger( RangePartitionedSpliterator.class );
+
+	private final Partitioning partitioning;
+
+	private long lower;
+	private final long upper;
+	private int partitions;
+
+	private StatelessSession session;
+	private Transaction transaction;
+	private ScrollableResults results;
+	private volatile boolean exhausted;
+
+	/**
+	 * Constructs the spliterator covering the given range of the key.
+	 *
+	 * @param sessionFactory The session factory
+	 * @param queryString The HQL query, restricted by the {@code :lowerBound} and {@code :upperBound} inclusive
+	 * bounds of the key
+	 * @param parameters The values of the other parameters of the query
+	 * @param keyFactory Converts a bound to the Java type of the key
+	 * @param fetchSize The JDBC fetch size of the queries, or {@code null} for the default
+	 * @param lower The lowest value of the key
+	 * @param upper The highest value of the key
+	 * @param partitions The maximum number of partitions
+	 */
+	public RangePartitionedSpliterator(
+			SessionFactory sessionFactory,
+			String queryString,
+			Map<String, Object> parameters,
+			LongFunction<?> keyFactory,
+			Integer fetchSize,
+			long lower,
+			long upper,
+			int partitions) {
+		this( new Partitioning( sessionFactory, queryString, parameters, keyFactory, fetchSize ), lower, upper, partitions );
+	}
+
+	private RangePartitionedSpliterator(Partitioning partitioning, long lower, long upper, int partitions) {
+		this.partitioning = partitioning;
+		this.lower = lower;
+		this.upper = upper;
+		this.partitions = partitions;
+	}
+
+	/**
+	 * Closes the sessions of all the partitions still running, for the stream to release them when it is closed
+	 * before it is exhausted.  This may happen while other threads still advance some partitions, when one of
+	 * them failed: the partitions not opened yet will not open.
+	 */
+	public void close() {
+		partitioning.closed = true;
+		for ( RangePartitionedSpliterator<?> partition : partitioning.running ) {
+			partition.release();
+		}
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super R> action) {
+		final R next = next();
+		if ( next == null ) {
+			return false;
+		}
+		action.accept( next );
+		return true;
+	}
+
+	/**
+	 * Reads the next result, holding the lock {@link #release()} also holds, so that closing the stream never
+	 * closes the results or the session of this partition while they are being opened or read.
+	 *
+	 * @return The next result, or {@code null} once the partition is exhausted or released
+	 */
+	private synchronized R next() {
+		if ( exhausted ) {
+			return null;
+		}
+		try {
+			if ( results == null ) {
+				partitioning.running.add( this );
+				// the stream may have been closed before this partition became one of the running ones
+				if ( partitioning.closed ) {
+					release();
+					return null;
+				}
+				open();
+			}
+			if ( results.next() ) {
+				@SuppressWarnings("unchecked")
+				final R next = (R) results.get( 0 );
+				return next;
+			}
+			if ( transaction.isActive() ) {
+				transaction.commit();
+			}
+		}
+		catch (RuntimeException e) {
+			release();
+			throw e;
+		}
+		release();
+		return null;
+	}
+
+	private void open() {
+		LOG.debugf( "Opening partition [%s, %s] of query: %s", lower, upper, partitioning.queryString );
+		session = partitioning.sessionFactory.openStatelessSession();
+		transaction = session.beginTransaction();
+		final Query<?> query = session.createQuery( partitioning.queryString );
+		for ( Map.Entry<String, Object> parameter : partitioning.parameters.entrySet() ) {
+			query.setParameter( parameter.getKey(), parameter.getValue() );
+		}
+		query.setParameter( "lowerBound", partitioning.keyFactory.apply( lower ) );
+		query.setParameter( "upperBound", partitioning.keyFactory.apply( upper ) );
+		if ( partitioning.fetchSize != null ) {
+			query.setFetchSize( partitioning.fetchSize );
+		}
+		results = query.scroll( ScrollMode.FORWARD_ONLY );
+	}
+
+	private synchronized void release() {
+		exhausted = true;
+		partitioning.running.remove( this );
+		try {
+			if ( results != null ) {
+				results.close();
+			}
+		}
+		catch (HibernateException e) {
+			LOG.debug( "Unable to close the results of a partition", e );
+		}
+		finally {
+			results = null;
+			if ( session != null ) {
+				// the partition failed, or the stream was closed before the partition was exhausted
+				if ( transaction != null && transaction.isActive() ) {
+					transaction.rollback();
+				}
+				session.close();
+				session = null;
+			}
+		}
+	}
+
+	@Override
+	public Spliterator<R> trySplit() {
+		// a partition cannot be split once its query has run
+		if ( results != null || exhausted || partitions <= 1 || upper <= lower ) {
+			return null;
+		}
+		// the unsigned shift keeps the middle right when the width overflows a long
+		final long middle = lower + ( ( upper - lower ) >>> 1 );
+		final int prefixPartitions = partitions / 2;
+		final RangePartitionedSpliterator<R> prefix = new RangePartitionedSpliterator<>(
+				partitioning,
+				lower,
+				middle,
+				prefixPartitions
+		);
+		lower = middle + 1;
+		partitions -= prefixPartitions;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		if ( exhausted ) {
+			return 0;
+		}
+		final long width = upper - lower + 1;
+		// the width of the whole range of a long overflows
+		return width > 0 ? width : Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return NONNULL;
+	}
+
+	/**
+	 * What the partitions of a query have in common
+	 */
+	private static class Partitioning {
+		private final SessionFactory sessionFactory;
+		private final String queryString;
+		private final Map<String, Object> parameters;
+		private final LongFunction<?> keyFactory;
+		private final Integer fetchSize;
+
+		private final Set<RangePartitionedSpliterator<?>> running = ConcurrentHashMap.newKeySet();
+		private volatile boolean closed;
+
+		private Partitioning(
+				SessionFactory sessionFactory,
+				String queryString,
+				Map<String, Object> parameters,
+				LongFunction<?> keyFactory,
+				Integer fetchSize) {
+			this.sessionFactory = sessionFactory;
+			this.queryString = queryString;
+			this.parameters = parameters;
+			this.keyFactory = keyFactory;
+			this.fetchSize = fetchSize;
+		}
+	}
+}
@@ -386,4 +386,76 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the global number of criteria queries compiled from the criteria plan cache, without being rendered
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#CRITERIA_PLAN_CACHE_MAX_SIZE
+	 */
+	default long getCriteriaPlanCacheHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the global number of criteria plan cache lookups *not* found in cache
+	 */
+	default long getCriteriaPlanCacheMissCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the number of HQL and native SQL query plans currently held by the query plan cache.  Every
+	 * size of the list bound to a collection-valued parameter takes a plan of its own, unless
+	 * {@link org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_PADDING} is enabled.
+	 */
+	default long getQueryPlanCacheSize() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the number of criteria plans currently held by the criteria plan cache
+	 */
+	default long getCriteriaPlanCacheSize() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the global number of identifier blocks (hi values) reserved ahead of demand by
+	 * {@link org.hibernate.id.enhanced.TableGenerator table generators}
+	 */
+	default long getIdentifierBlockPrefetchCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the global number of identifier blocks taken from a table generator's reserve
+	 */
+	default long getIdentifierBlockPrefetchHitCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the global number of identifier blocks fetched on demand because a table generator's reserve was empty
+	 */
+	default long getIdentifierBlockPrefetchMissCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the global number of up-to-date checks of a query space answered from the local copy of the update
+	 * timestamps, that is the number of timestamps region reads avoided
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#TIMESTAMPS_NEAR_CACHE_STALENESS
+	 */
+	default long getUpdateTimestampsCacheNearHitCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
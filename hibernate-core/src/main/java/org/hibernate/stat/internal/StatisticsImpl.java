@@ -15,6 +15,7 @@ import org.hibernate.cache.spi.CacheImplementor;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.Region;
+import org.hibernate.engine.query.spi.QueryPlanCache;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
@@ -40,6 +41,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final MetamodelImplementor metamodel;
 	private final CacheImplementor cache;
+	private final QueryPlanCache queryPlanCache;
 	private final String cacheRegionPrefix;
 	private final boolean secondLevelCacheEnabled;
 	private final boolean queryCacheEnabled;
@@ -88,9 +90,17 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
 
+	private final LongAdder criteriaPlanCacheHitCount = new LongAdder();
+	private final LongAdder criteriaPlanCacheMissCount = new LongAdder();
+
+	private final LongAdder identifierBlockPrefetchCount = new LongAdder();
+	private final LongAdder identifierBlockPrefetchHitCount = new LongAdder();
+	private final LongAdder identifierBlockPrefetchMissCount = new LongAdder();
+
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
 	private final LongAdder updateTimestampsCachePutCount = new LongAdder();
+	private final LongAdder updateTimestampsCacheNearHitCount = new LongAdder();
 
 	private final LongAdder committedTransactionCount = new LongAdder();
 	private final LongAdder transactionCount = new LongAdder();
@@ -125,6 +135,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		clear();
 		metamodel = sessionFactory.getMetamodel();
 		cache = sessionFactory.getCache();
+		queryPlanCache = sessionFactory.getQueryPlanCache();
 		cacheRegionPrefix = sessionFactoryOptions.getCacheRegionPrefix();
 		secondLevelCacheEnabled = sessionFactoryOptions.isSecondLevelCacheEnabled();
 		queryCacheEnabled = sessionFactoryOptions.isQueryCacheEnabled();
@@ -176,6 +187,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		updateTimestampsCacheMissCount.reset();
 		updateTimestampsCacheHitCount.reset();
 		updateTimestampsCachePutCount.reset();
+		updateTimestampsCacheNearHitCount.reset();
 
 		transactionCount.reset();
 		committedTransactionCount.reset();
@@ -192,6 +204,13 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
 
+		criteriaPlanCacheHitCount.reset();
+		criteriaPlanCacheMissCount.reset();
+
+		identifierBlockPrefetchCount.reset();
+		identifierBlockPrefetchHitCount.reset();
+		identifierBlockPrefetchMissCount.reset();
+
 		startTime = System.currentTimeMillis();
 	}
 
@@ -677,6 +696,16 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		updateTimestampsCachePutCount.increment();
 	}
 
+	@Override
+	public long getUpdateTimestampsCacheNearHitCount() {
+		return updateTimestampsCacheNearHitCount.sum();
+	}
+
+	@Override
+	public void updateTimestampsCacheNearHit() {
+		updateTimestampsCacheNearHitCount.increment();
+	}
+
 
 	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 	// Query statistics
@@ -813,6 +842,66 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		}
 	}
 
+	@Override
+	public long getCriteriaPlanCacheHitCount() {
+		return criteriaPlanCacheHitCount.sum();
+	}
+
+	@Override
+	public long getCriteriaPlanCacheMissCount() {
+		return criteriaPlanCacheMissCount.sum();
+	}
+
+	@Override
+	public long getQueryPlanCacheSize() {
+		return queryPlanCache.getQueryPlanCount();
+	}
+
+	@Override
+	public long getCriteriaPlanCacheSize() {
+		return queryPlanCache.getCriteriaPlanCount();
+	}
+
+	@Override
+	public void criteriaPlanCacheHit() {
+		criteriaPlanCacheHitCount.increment();
+	}
+
+	@Override
+	public void criteriaPlanCacheMiss() {
+		criteriaPlanCacheMissCount.increment();
+	}
+
+	@Override
+	public long getIdentifierBlockPrefetchCount() {
+		return identifierBlockPrefetchCount.sum();
+	}
+
+	@Override
+	public long getIdentifierBlockPrefetchHitCount() {
+		return identifierBlockPrefetchHitCount.sum();
+	}
+
+	@Override
+	public long getIdentifierBlockPrefetchMissCount() {
+		return identifierBlockPrefetchMissCount.sum();
+	}
+
+	@Override
+	public void identifierBlockPrefetched() {
+		identifierBlockPrefetchCount.increment();
+	}
+
+	@Override
+	public void identifierBlockPrefetchHit() {
+		identifierBlockPrefetchHitCount.increment();
+	}
+
+	@Override
+	public void identifierBlockPrefetchMiss() {
+		identifierBlockPrefetchMissCount.increment();
+	}
+
 	private CacheRegionStatisticsImpl getQueryRegionStats(String regionName) {
 		return l2CacheStatsMap.getOrCompute(
 				regionName,
@@ -983,9 +1072,17 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				.append(",update timestamps cache puts=").append(updateTimestampsCachePutCount)
 				.append(",update timestamps cache hits=").append(updateTimestampsCacheHitCount)
 				.append(",update timestamps cache misses=").append(updateTimestampsCacheMissCount)
+				.append(",update timestamps cache near hits=").append(updateTimestampsCacheNearHitCount)
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
 				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",criteria plan cache hits=" ).append( criteriaPlanCacheHitCount )
+				.append( ",criteria plan cache misses=" ).append( criteriaPlanCacheMissCount )
+				.append( ",query plan cache size=" ).append( getQueryPlanCacheSize() )
+				.append( ",criteria plan cache size=" ).append( getCriteriaPlanCacheSize() )
+				.append( ",identifier blocks prefetched=" ).append( identifierBlockPrefetchCount )
+				.append( ",identifier block prefetch hits=" ).append( identifierBlockPrefetchHitCount )
+				.append( ",identifier block prefetch misses=" ).append( identifierBlockPrefetchMissCount )
 				.append( ']' )
 				.toString();
 	}
@@ -266,4 +266,46 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating a criteria query was compiled from the criteria plan cache.
+	 */
+	default void criteriaPlanCacheHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a criteria query had to be rendered because it was not found in the criteria plan cache.
+	 */
+	default void criteriaPlanCacheMiss() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an identifier block was reserved ahead of demand.
+	 */
+	default void identifierBlockPrefetched() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an identifier block was taken from the reserve.
+	 */
+	default void identifierBlockPrefetchHit() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an identifier block had to be fetched on demand because the reserve was empty.
+	 */
+	default void identifierBlockPrefetchMiss() {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating an update timestamp was taken from the local copy instead of the timestamps region.
+	 */
+	default void updateTimestampsCacheNearHit() {
+		//For backward compatibility
+	}
 }
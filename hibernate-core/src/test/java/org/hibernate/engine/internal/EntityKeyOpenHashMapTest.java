@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.LongType;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that {@link EntityKeyOpenHashMap} behaves like the {@link HashMap} it replaces.
+ */
+public class EntityKeyOpenHashMapTest {
+
+	@Test
+	public void testPutGetRemoveAcrossHierarchies() {
+		final EntityPersister animal = persister( "Animal", "Animal" );
+		final EntityPersister dog = persister( "Dog", "Animal" );
+		final EntityPersister person = persister( "Person", "Person" );
+
+		final Map<EntityKey, Object> map = new EntityKeyOpenHashMap<>();
+		final Map<EntityKey, Object> reference = new HashMap<>();
+		for ( long id = 0; id < 1000; id++ ) {
+			final EntityKey animalKey = new EntityKey( id, id % 2 == 0 ? animal : dog );
+			final EntityKey personKey = new EntityKey( id, person );
+			assertNull( map.put( animalKey, "animal#" + id ) );
+			assertNull( map.put( personKey, "person#" + id ) );
+			reference.put( animalKey, "animal#" + id );
+			reference.put( personKey, "person#" + id );
+		}
+		assertEquals( reference.size(), map.size() );
+		assertEquals( reference, map );
+
+		// keys of the same hierarchy are equal regardless of the concrete persister
+		assertEquals( "animal#3", map.get( new EntityKey( 3L, animal ) ) );
+		assertEquals( "animal#4", ( (EntityKeyOpenHashMap<Object>) map ).get( 4L, dog ) );
+		assertEquals( "person#4", ( (EntityKeyOpenHashMap<Object>) map ).get( 4L, person ) );
+
+		for ( long id = 0; id < 1000; id += 3 ) {
+			assertEquals( "person#" + id, map.remove( new EntityKey( id, person ) ) );
+			reference.remove( new EntityKey( id, person ) );
+		}
+		assertFalse( map.containsKey( new EntityKey( 0L, person ) ) );
+		assertTrue( map.containsKey( new EntityKey( 1L, person ) ) );
+		assertEquals( reference, map );
+
+		// re-inserting into removed slots
+		for ( long id = 0; id < 1000; id += 3 ) {
+			assertNull( map.put( new EntityKey( id, person ), "again#" + id ) );
+		}
+		assertEquals( "again#0", map.get( new EntityKey( 0L, person ) ) );
+		assertEquals( 2000, map.size() );
+
+		final EntityKey existing = new EntityKey( 7L, animal );
+		assertEquals( "animal#7", map.put( existing, "replaced" ) );
+		assertEquals( "replaced", map.get( new EntityKey( 7L, dog ) ) );
+		assertEquals( 2000, map.size() );
+	}
+
+	@Test
+	public void testIteratorRemoval() {
+		final EntityPersister person = persister( "Person", "Person" );
+		final Map<EntityKey, Object> map = new EntityKeyOpenHashMap<>();
+		for ( long id = 0; id < 100; id++ ) {
+			map.put( new EntityKey( id, person ), id );
+		}
+
+		final Iterator<Map.Entry<EntityKey, Object>> iterator = map.entrySet().iterator();
+		int visited = 0;
+		while ( iterator.hasNext() ) {
+			final Map.Entry<EntityKey, Object> entry = iterator.next();
+			visited++;
+			if ( ( (Long) entry.getValue() ) % 2 == 0 ) {
+				iterator.remove();
+			}
+		}
+		assertEquals( 100, visited );
+		assertEquals( 50, map.size() );
+		assertNull( map.get( new EntityKey( 10L, person ) ) );
+		assertEquals( 11L, map.get( new EntityKey( 11L, person ) ) );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertFalse( map.entrySet().iterator().hasNext() );
+	}
+
+	@Test
+	public void testOriginalKeyIsRetained() {
+		final EntityPersister person = persister( "Person", "Person" );
+		final Map<EntityKey, Object> map = new EntityKeyOpenHashMap<>();
+		final EntityKey first = new EntityKey( 1L, person );
+		map.put( first, "a" );
+		map.put( new EntityKey( 1L, person ), "b" );
+		assertSame( first, map.keySet().iterator().next() );
+	}
+
+	private static EntityPersister persister(String entityName, String rootEntityName) {
+		final EntityPersister persister = mock( EntityPersister.class );
+		when( persister.getEntityName() ).thenReturn( entityName );
+		when( persister.getRootEntityName() ).thenReturn( rootEntityName );
+		when( persister.getIdentifierType() ).thenReturn( LongType.INSTANCE );
+		return persister;
+	}
+}
@@ -6,6 +6,14 @@
  */
 package org.hibernate.id.enhanced;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -294,6 +302,97 @@ public class OptimizerUnitTest extends BaseUnitTestCase {
 
 	}
 
+	@Test
+	public void testConcurrentOptimizersMatchStandardOptimizers() {
+		assertSameValues( StandardOptimizerDescriptor.HILO, StandardOptimizerDescriptor.HILO_CONCURRENT, 0, 10 );
+		assertSameValues( StandardOptimizerDescriptor.HILO, StandardOptimizerDescriptor.HILO_CONCURRENT, 1, 10 );
+		assertSameValues( StandardOptimizerDescriptor.POOLED, StandardOptimizerDescriptor.POOLED_CONCURRENT, 1, 10 );
+		assertSameValues( StandardOptimizerDescriptor.POOLED_LO, StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, 1, 3 );
+		assertSameValues( StandardOptimizerDescriptor.POOLED_LO, StandardOptimizerDescriptor.POOLED_LO_CONCURRENT, 0, 3 );
+	}
+
+	@Test
+	public void testPrefetchingPooledOptimizerUsage() {
+		final SourceMock sequence = new SourceMock( 1, 10 );
+		final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+				StandardOptimizerDescriptor.POOLED_CONCURRENT.getExternalName(),
+				Long.class,
+				10,
+				-1,
+				3
+		);
+		// the first block holds 1..11, the next one is fetched when 3 values are left
+		for ( int i = 1; i <= 8; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		assertEquals( 2, sequence.getTimesCalled() );
+		assertEquals( 9, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		assertEquals( 3, sequence.getTimesCalled() );
+		assertEquals( 21, sequence.getCurrentValue() );
+		for ( int i = 10; i <= 21; i++ ) {
+			assertEquals( i, ( (Long) optimizer.generate( sequence ) ).intValue() );
+		}
+		// switching to the prefetched block did not hit the source, prefetching the following one did
+		assertEquals( 4, sequence.getTimesCalled() );
+		assertEquals( 31, sequence.getCurrentValue() );
+	}
+
+	@Test
+	public void testConcurrentPooledOptimizerUsage() throws Exception {
+		final int threads = 8;
+		final int valuesPerThread = 1000;
+		final SourceMock sequence = new SourceMock( 1, 7 );
+		final Optimizer optimizer = OptimizerFactory.buildOptimizer(
+				StandardOptimizerDescriptor.POOLED_LO_CONCURRENT.getExternalName(),
+				Long.class,
+				7,
+				1,
+				2
+		);
+		final Set<Long> values = ConcurrentHashMap.newKeySet();
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+		try {
+			final List<Future<?>> futures = new ArrayList<>();
+			for ( int i = 0; i < threads; i++ ) {
+				futures.add(
+						executor.submit(
+								() -> {
+									for ( int j = 0; j < valuesPerThread; j++ ) {
+										values.add( (Long) optimizer.generate( sequence ) );
+									}
+								}
+						)
+				);
+			}
+			for ( Future<?> future : futures ) {
+				future.get();
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+		assertEquals( threads * valuesPerThread, values.size() );
+	}
+
+	private static void assertSameValues(
+			StandardOptimizerDescriptor standard,
+			StandardOptimizerDescriptor concurrent,
+			long initial,
+			int increment) {
+		final SourceMock standardSequence = new SourceMock( initial, increment );
+		final Optimizer standardOptimizer = buildOptimizer( standard, initial, increment );
+		final SourceMock concurrentSequence = new SourceMock( initial, increment );
+		final Optimizer concurrentOptimizer = buildOptimizer( concurrent, initial, increment );
+		for ( int i = 0; i < increment * 5; i++ ) {
+			assertEquals( standardOptimizer.generate( standardSequence ), concurrentOptimizer.generate( concurrentSequence ) );
+			assertEquals( standardSequence.getTimesCalled(), concurrentSequence.getTimesCalled() );
+		}
+		assertEquals(
+				standardOptimizer.getLastSourceValue().makeValue(),
+				concurrentOptimizer.getLastSourceValue().makeValue()
+		);
+	}
+
 	private static Optimizer buildNoneOptimizer(long initial, int increment) {
 		return buildOptimizer( StandardOptimizerDescriptor.NONE, initial, increment );
 	}
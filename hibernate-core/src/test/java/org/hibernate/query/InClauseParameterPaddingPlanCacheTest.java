@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+public class InClauseParameterPaddingPlanCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Person.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.IN_CLAUSE_PARAMETER_PADDING, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void setUp() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 8; i++ ) {
+				session.persist( new Person( i, "Person " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testHqlListSizesShareQueryPlans() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		final long initialSize = statistics.getQueryPlanCacheSize();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int count = 3; count <= 8; count++ ) {
+				final List<Person> persons = session.createQuery( "select p from Person p where p.id in :ids", Person.class )
+						.setParameterList( "ids", ids( count ) )
+						.getResultList();
+				assertEquals( count, persons.size() );
+			}
+		} );
+		// the query as written, then the lists of 3 to 4 values and of 5 to 8 values
+		assertEquals( initialSize + 3, statistics.getQueryPlanCacheSize() );
+	}
+
+	@Test
+	public void testNativeListSizesShareQueryPlans() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		final long initialSize = statistics.getQueryPlanCacheSize();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int count = 5; count <= 8; count++ ) {
+				final List<?> ids = session.createNativeQuery( "select id from Person where id in (:ids)" )
+						.setParameterList( "ids", ids( count ) )
+						.getResultList();
+				assertEquals( count, ids.size() );
+			}
+		} );
+		assertEquals( initialSize + 1, statistics.getQueryPlanCacheSize() );
+	}
+
+	@Test
+	public void testCriteriaValueListsArePadded() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		final long initialSize = statistics.getQueryPlanCacheSize();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int count = 5; count <= 8; count++ ) {
+				final CriteriaBuilder cb = session.getCriteriaBuilder();
+				final CriteriaQuery<Person> criteria = cb.createQuery( Person.class );
+				final Root<Person> root = criteria.from( Person.class );
+				final CriteriaBuilder.In<Object> in = cb.in( root.get( "name" ) );
+				for ( int i = 1; i <= count; i++ ) {
+					in.value( "Person " + i );
+				}
+				criteria.where( in );
+				assertEquals( count, session.createQuery( criteria ).getResultList().size() );
+			}
+		} );
+		assertEquals( initialSize + 1, statistics.getQueryPlanCacheSize() );
+	}
+
+	private static List<Integer> ids(int count) {
+		final List<Integer> ids = new ArrayList<>();
+		for ( int i = 1; i <= count; i++ ) {
+			ids.add( i );
+		}
+		return ids;
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_MULTI_ROW_DELETE}.
+ */
+public class MultiRowDeleteTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Parent.class, Child.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.BATCH_MULTI_ROW_DELETE, "4" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Test
+	public void testOrphanRemovalAndDeletes() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Parent parent = new Parent( 1L );
+			for ( long i = 1; i <= 10; i++ ) {
+				final Child child = new Child( i, parent );
+				parent.children.add( child );
+			}
+			session.persist( parent );
+		} );
+
+		sqlStatementInterceptor.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final Parent parent = session.get( Parent.class, 1L );
+			// orphan removal of 6 children, in statements of 4 and 2 rows
+			parent.children.subList( 0, 6 ).clear();
+		} );
+		assertEquals( 2, countDeletes() );
+
+		sqlStatementInterceptor.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 7; i <= 10; i++ ) {
+				session.remove( session.get( Child.class, i ) );
+			}
+		} );
+		assertEquals( 1, countDeletes() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 10; i++ ) {
+				assertNull( session.get( Child.class, i ) );
+			}
+		} );
+	}
+
+	private long countDeletes() {
+		return sqlStatementInterceptor.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "delete from child" ) && sql.contains( " in (" ) )
+				.count();
+	}
+
+	@Entity(name = "Parent")
+	public static class Parent {
+		@Id
+		private Long id;
+
+		@OneToMany(mappedBy = "parent", cascade = CascadeType.ALL, orphanRemoval = true)
+		private List<Child> children = new ArrayList<>();
+
+		public Parent() {
+		}
+
+		public Parent(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Child")
+	public static class Child {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Parent parent;
+
+		public Child() {
+		}
+
+		public Child(Long id, Parent parent) {
+			this.id = id;
+			this.parent = parent;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tests for {@link AvailableSettings#BATCH_MULTI_ROW_INSERT}.
+ */
+@RequiresDialect(H2Dialect.class)
+public class MultiRowInsertBatchTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "5" );
+		settings.put( AvailableSettings.BATCH_MULTI_ROW_INSERT, "true" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Test
+	public void testInsertsAreCoalesced() {
+		sqlStatementInterceptor.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 7; i++ ) {
+				session.persist( new Product( i, i % 2 == 0 ? null : "product " + i ) );
+			}
+		} );
+
+		final List<String> multiRowInserts = sqlStatementInterceptor.getSqlQueries()
+				.stream()
+				.filter( sql -> sql.toLowerCase().startsWith( "insert" ) && sql.contains( "), (" ) )
+				.collect( Collectors.toList() );
+		assertEquals( 2, multiRowInserts.size() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Product> products = session.createQuery( "from Product order by id", Product.class ).list();
+			assertEquals( 7, products.size() );
+			for ( int i = 1; i <= 7; i++ ) {
+				final Product product = products.get( i - 1 );
+				assertEquals( Integer.valueOf( i ), product.id );
+				if ( i % 2 == 0 ) {
+					assertNull( product.name );
+				}
+				else {
+					assertEquals( "product " + i, product.name );
+				}
+			}
+		} );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.dirty;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that {@link AvailableSettings#INCREMENTAL_FLUSH} still flushes every change.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+@EnhancementOptions(inlineDirtyChecking = true)
+public class IncrementalFlushTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Customer.class, Purchase.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.INCREMENTAL_FLUSH, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Before
+	public void prepare() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Purchase" ).executeUpdate();
+			session.createQuery( "delete from Customer" ).executeUpdate();
+			for ( long i = 0; i < 20; i++ ) {
+				final Customer customer = new Customer( i, "customer #" + i );
+				session.persist( customer );
+				session.persist( new Purchase( i, customer, 10 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testOnlyModifiedEntitiesAreUpdated() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Purchase> purchases = session.createQuery( "from Purchase", Purchase.class ).list();
+			assertEquals( 20, purchases.size() );
+
+			purchases.get( 3 ).setAmount( 42 );
+			purchases.get( 3 ).getCustomer().setName( "renamed" );
+
+			// auto-flush before the query must see both changes
+			assertEquals(
+					1L,
+					(long) session.createQuery( "select count(p) from Purchase p where p.amount = 42", Long.class )
+							.uniqueResult()
+			);
+			assertEquals(
+					1L,
+					(long) session.createQuery( "select count(c) from Customer c where c.name = 'renamed'", Long.class )
+							.uniqueResult()
+			);
+		} );
+
+		assertEquals( 2, statistics.getEntityUpdateCount() );
+	}
+
+	@Test
+	public void testEntityModifiedAfterPersistIsFlushed() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer customer = session.get( Customer.class, 1L );
+			final Purchase purchase = new Purchase( 100L, customer, 1 );
+			session.persist( purchase );
+			session.flush();
+
+			purchase.setAmount( 2 );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 2, session.get( Purchase.class, 100L ).getAmount() );
+		} );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Customer() {
+		}
+
+		public Customer(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Purchase")
+	public static class Purchase {
+		@Id
+		private Long id;
+
+		@ManyToOne
+		private Customer customer;
+
+		private int amount;
+
+		public Purchase() {
+		}
+
+		public Purchase(Long id, Customer customer, int amount) {
+			this.id = id;
+			this.customer = customer;
+			this.amount = amount;
+		}
+
+		public Customer getCustomer() {
+			return customer;
+		}
+
+		public int getAmount() {
+			return amount;
+		}
+
+		public void setAmount(int amount) {
+			this.amount = amount;
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.CacheWarmUp;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class CacheWarmUpTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.CACHE_WARM_UP_REGIONS, "authors" );
+		settings.put( AvailableSettings.CACHE_WARM_UP_BATCH_SIZE, "2" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testWarmUpRunsWhenSessionFactoryIsBuilt() {
+		final CacheWarmUp cacheWarmUp = sessionFactory().getCache().getCacheWarmUp();
+		assertNotNull( cacheWarmUp );
+		assertTrue( cacheWarmUp.isComplete() );
+	}
+
+	@Test
+	public void testEntitiesAndCollectionsAreLoaded() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				final Author author = new Author( i );
+				session.persist( author );
+				session.persist( new Book( i * 10, author ) );
+			}
+		} );
+		sessionFactory().getCache().evictAllRegions();
+
+		final CacheWarmUp cacheWarmUp = new CacheWarmUp(
+				sessionFactory(),
+				Collections.singleton( Author.class.getName() ),
+				Collections.singleton( Author.class.getName() + ".books" )
+		);
+		cacheWarmUp.sessionFactoryCreated( sessionFactory() );
+		assertTrue( cacheWarmUp.isComplete() );
+		assertEquals( 3, cacheWarmUp.getEntityLoadCount() );
+		assertEquals( 3, cacheWarmUp.getCollectionLoadCount() );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 3; i++ ) {
+				assertEquals( 1, session.get( Author.class, i ).books.size() );
+			}
+		} );
+		assertEquals( 0, statistics.getEntityLoadCount() );
+		assertEquals( 0, statistics.getCollectionLoadCount() );
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors")
+	public static class Author {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "author")
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "authors")
+		private List<Book> books = new ArrayList<>();
+
+		public Author() {
+		}
+
+		public Author(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Book {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Author author;
+
+		public Book() {
+		}
+
+		public Book(Integer id, Author author) {
+			this.id = id;
+			this.author = author;
+		}
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class CollectionCacheDeltaUpdateTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Department.class, Employee.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.COLLECTION_CACHE_DELTA_UPDATES, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected void prepareTest() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Department department = new Department( 1 );
+			session.persist( department );
+			session.persist( new Employee( 1, department ) );
+			session.persist( new Employee( 2, department ) );
+		} );
+		// caches the collection
+		doInHibernate( this::sessionFactory, session -> {
+			Hibernate.initialize( session.get( Department.class, 1 ).employees );
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testQueuedAdditionIsAppliedToCachedCollection() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Department department = session.get( Department.class, 1 );
+			final Employee employee = new Employee( 3, department );
+			department.employees.add( employee );
+			assertFalse( Hibernate.isInitialized( department.employees ) );
+			session.persist( employee );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final Department department = session.get( Department.class, 1 );
+			final List<Integer> ids = new ArrayList<>();
+			for ( Employee employee : department.employees ) {
+				ids.add( employee.id );
+			}
+			ids.sort( null );
+			assertEquals( 3, ids.size() );
+			assertEquals( Integer.valueOf( 3 ), ids.get( 2 ) );
+		} );
+		assertEquals( 0, statistics.getCollectionLoadCount() );
+	}
+
+	@Test
+	public void testQueuedAdditionOfContainedElementIsNotDuplicated() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Department department = session.get( Department.class, 1 );
+			department.employees.add( session.get( Employee.class, 1 ) );
+			assertFalse( Hibernate.isInitialized( department.employees ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			// the rows of a one-to-many hold each element once
+			assertEquals( 2, session.get( Department.class, 1 ).employees.size() );
+		} );
+		assertEquals( 0, statistics.getCollectionLoadCount() );
+	}
+
+	@Test
+	public void testChangeToInitializedCollectionInvalidatesCachedCollection() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Department department = session.get( Department.class, 1 );
+			final Employee employee = new Employee( 3, department );
+			Hibernate.initialize( department.employees );
+			department.employees.add( employee );
+			session.persist( employee );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 3, session.get( Department.class, 1 ).employees.size() );
+		} );
+		assertEquals( 1, statistics.getCollectionLoadCount() );
+	}
+
+	@Entity(name = "Department")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Department {
+		@Id
+		private Integer id;
+
+		@OneToMany(mappedBy = "department")
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private List<Employee> employees = new ArrayList<>();
+
+		public Department() {
+		}
+
+		public Department(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Employee")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Employee {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Department department;
+
+		public Employee() {
+		}
+
+		public Employee(Integer id, Department department) {
+			this.id = id;
+			this.department = department;
+		}
+	}
+}
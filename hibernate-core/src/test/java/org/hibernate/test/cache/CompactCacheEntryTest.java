@@ -0,0 +1,223 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.persistence.Version;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CompactCacheEntry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CompactCacheEntryTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final Date PURCHASED = new Date( 1_500_000_000_000L );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Vehicle.class, Car.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_COMPACT_CACHE_ENTRIES, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testEntityIsAssembledFromCompactEntry() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = new Owner( 1, "Jane" );
+			session.persist( owner );
+			final Car car = new Car( 2, "Roadster", owner );
+			car.price = new BigDecimal( "24999.95" );
+			car.purchased = PURCHASED;
+			car.fuel = Fuel.ELECTRIC;
+			car.engine = new Engine( 350, 7.5d );
+			car.plate = new byte[] { 'A', 'B', 1, 2 };
+			session.persist( car );
+			session.persist( new Vehicle( 3, "Trailer" ) );
+		} );
+
+		sessionFactory().getStatistics().clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final Car car = (Car) session.get( Vehicle.class, 2 );
+			assertEquals( "Roadster", car.name );
+			assertEquals( new BigDecimal( "24999.95" ), car.price );
+			assertEquals( PURCHASED.getTime(), car.purchased.getTime() );
+			assertEquals( Fuel.ELECTRIC, car.fuel );
+			assertEquals( Integer.valueOf( 350 ), car.engine.power );
+			assertEquals( 7.5d, car.engine.displacement, 0d );
+			assertArrayEquals( new byte[] { 'A', 'B', 1, 2 }, car.plate );
+			assertEquals( 0, car.version );
+			assertEquals( "Jane", car.owner.name );
+
+			final Vehicle trailer = session.get( Vehicle.class, 3 );
+			assertEquals( "Trailer", trailer.name );
+			assertNull( trailer.engine );
+		} );
+		assertEquals( 0, sessionFactory().getStatistics().getEntityLoadCount() );
+		assertEquals( 3, sessionFactory().getStatistics().getSecondLevelCacheHitCount() );
+	}
+
+	@Test
+	public void testEntryIsStoredAsBytes() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Car car = new Car( 1, "Roadster", null );
+			car.price = new BigDecimal( "24999.95" );
+			car.purchased = PURCHASED;
+			car.engine = new Engine( 350, 7.5d );
+			session.persist( car );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Vehicle.class );
+			assertTrue( persister.getCacheEntryStructure() instanceof CompactCacheEntry );
+
+			final EntityDataAccess cacheAccess = persister.getCacheAccessStrategy();
+			final Object cacheKey = cacheAccess.generateCacheKey( 1, persister, sessionFactory(), null );
+			final Object cached = cacheAccess.get( (SessionImplementor) session, cacheKey );
+			assertTrue( cached instanceof byte[] );
+
+			final CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure()
+					.destructure( cached, sessionFactory() );
+			assertEquals( Car.class.getName(), entry.getSubclass() );
+			assertEquals( 0, entry.getVersion() );
+
+			final Serializable[] state = entry.getDisassembledState();
+			assertTrue( ( (byte[]) cached ).length < SerializationHelper.serialize( state ).length );
+			for ( int i = 0; i < state.length; i++ ) {
+				if ( state[i] instanceof Object[] ) {
+					assertArrayEquals( (Object[]) state[i], (Object[]) entry.getDisassembledState( i ) );
+				}
+				else {
+					assertEquals( state[i], entry.getDisassembledState( i ) );
+				}
+			}
+		} );
+	}
+
+	public enum Fuel {
+		DIESEL,
+		ELECTRIC
+	}
+
+	@Embeddable
+	public static class Engine {
+		private Integer power;
+
+		private Double displacement;
+
+		public Engine() {
+		}
+
+		public Engine(Integer power, Double displacement) {
+			this.power = power;
+			this.displacement = displacement;
+		}
+	}
+
+	@Entity(name = "Owner")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Owner {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Owner() {
+		}
+
+		public Owner(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Vehicle")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Vehicle {
+		@Id
+		Integer id;
+
+		@Version
+		int version;
+
+		String name;
+
+		BigDecimal price;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		Date purchased;
+
+		@Enumerated(EnumType.STRING)
+		Fuel fuel;
+
+		@Embedded
+		Engine engine;
+
+		public Vehicle() {
+		}
+
+		public Vehicle(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Car")
+	public static class Car extends Vehicle {
+		@ManyToOne
+		private Owner owner;
+
+		private byte[] plate;
+
+		public Car() {
+		}
+
+		public Car(Integer id, String name, Owner owner) {
+			super( id, name );
+			this.owner = owner;
+		}
+	}
+}
@@ -0,0 +1,176 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache.bulk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BulkCacheAccessTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int COUNT = 20;
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Product( i, "Product #" + i ) );
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testMultiLoadReadsCacheOnce() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final CacheAccessCounter counter = new CacheAccessCounter();
+			session.addEventListeners( counter );
+			sqlStatementInterceptor.clear();
+
+			final List<Integer> ids = new ArrayList<>();
+			for ( int i = COUNT; i > 0; i-- ) {
+				ids.add( i );
+			}
+			final List<Product> products = session.byMultipleIds( Product.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( ids );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertEquals( ids.get( i ), products.get( i ).id );
+			}
+
+			assertEquals( 1, counter.cacheGets );
+			assertEquals( COUNT, statistics.getSecondLevelCacheHitCount() );
+			assertEquals( 0, sqlStatementInterceptor.getSqlQueries().size() );
+		} );
+	}
+
+	@Test
+	public void testMultiLoadLoadsCacheMissesFromDatabase() {
+		for ( int i = 1; i <= COUNT; i += 2 ) {
+			sessionFactory().getCache().evictEntityData( Product.class, i );
+		}
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final CacheAccessCounter counter = new CacheAccessCounter();
+			session.addEventListeners( counter );
+
+			final List<Integer> ids = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				ids.add( i );
+			}
+			final List<Product> products = session.byMultipleIds( Product.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( ids );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertEquals( "Product #" + ( i + 1 ), products.get( i ).name );
+			}
+
+			assertEquals( 1, counter.cacheGets );
+			assertEquals( COUNT / 2, statistics.getSecondLevelCacheHitCount() );
+			assertEquals( COUNT / 2, statistics.getSecondLevelCacheMissCount() );
+		} );
+	}
+
+	@Test
+	public void testBatchFetchChecksQueuedKeysInBulk() {
+		for ( int i = 1; i <= COUNT / 2; i++ ) {
+			sessionFactory().getCache().evictEntityData( Product.class, i );
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Product> proxies = new ArrayList<>();
+			for ( int i = 1; i <= COUNT; i++ ) {
+				proxies.add( session.load( Product.class, i ) );
+			}
+
+			final CacheAccessCounter counter = new CacheAccessCounter();
+			session.addEventListeners( counter );
+			sqlStatementInterceptor.clear();
+
+			Hibernate.initialize( proxies.get( 0 ) );
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+			// the lookup of the requested product, then a single one for the queued products
+			assertTrue( counter.cacheGets <= 2 );
+
+			// the evicted products were fetched together, the cached ones were left to be read from the cache
+			for ( Product proxy : proxies ) {
+				Hibernate.initialize( proxy );
+			}
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+		} );
+	}
+
+	private static class CacheAccessCounter extends BaseSessionEventListener {
+		private int cacheGets;
+
+		@Override
+		public void cacheGetStart() {
+			cacheGets++;
+		}
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	@BatchSize(size = COUNT / 2)
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.criteria;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.ParameterExpression;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Subquery;
+
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+public class CriteriaPlanCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.CRITERIA_PLAN_CACHE_MAX_SIZE, "16" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void setUp() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 1, "apple", 3 ) );
+			session.persist( new Product( 2, "pear", 5 ) );
+			session.persist( new Product( 3, "apple", 7 ) );
+		} );
+		sessionFactory().getStatistics().clear();
+	}
+
+	@Test
+	public void testSameStructureIsCompiledOnce() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 2, findByName( session, "apple" ).size() );
+			assertEquals( 1, statistics.getCriteriaPlanCacheMissCount() );
+			assertEquals( 0, statistics.getCriteriaPlanCacheHitCount() );
+
+			final List<Product> pears = findByName( session, "pear" );
+			assertEquals( 1, pears.size() );
+			assertEquals( 2, pears.get( 0 ).id.intValue() );
+			assertEquals( 1, statistics.getCriteriaPlanCacheMissCount() );
+			assertEquals( 1, statistics.getCriteriaPlanCacheHitCount() );
+
+			assertEquals( 0, findByName( session, "plum" ).size() );
+			assertEquals( 2, statistics.getCriteriaPlanCacheHitCount() );
+		} );
+	}
+
+	@Test
+	public void testExplicitParametersAreRebound() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 1, findByMinimumPrice( session, 6 ).size() );
+			assertEquals( 2, findByMinimumPrice( session, 4 ).size() );
+			assertEquals( 1, statistics.getCriteriaPlanCacheMissCount() );
+			assertEquals( 1, statistics.getCriteriaPlanCacheHitCount() );
+		} );
+	}
+
+	@Test
+	public void testSubqueryIsNotCached() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				final CriteriaBuilder cb = session.getCriteriaBuilder();
+				final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+				final Root<Product> root = criteria.from( Product.class );
+				final Subquery<Integer> subquery = criteria.subquery( Integer.class );
+				final Root<Product> subRoot = subquery.from( Product.class );
+				subquery.select( cb.max( subRoot.get( "price" ) ) );
+				criteria.where( cb.equal( root.get( "price" ), subquery ) );
+				assertEquals( 3, session.createQuery( criteria ).getSingleResult().id.intValue() );
+			}
+			assertEquals( 0, statistics.getCriteriaPlanCacheMissCount() );
+			assertEquals( 0, statistics.getCriteriaPlanCacheHitCount() );
+		} );
+	}
+
+	private static List<Product> findByName(Session session, String name) {
+		final CriteriaBuilder cb = session.getCriteriaBuilder();
+		final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+		final Root<Product> root = criteria.from( Product.class );
+		criteria.where( cb.equal( root.get( "name" ), name ) );
+		criteria.orderBy( cb.asc( root.get( "id" ) ) );
+		return session.createQuery( criteria ).getResultList();
+	}
+
+	private static List<Product> findByMinimumPrice(Session session, int price) {
+		final CriteriaBuilder cb = session.getCriteriaBuilder();
+		final CriteriaQuery<Product> criteria = cb.createQuery( Product.class );
+		final Root<Product> root = criteria.from( Product.class );
+		final ParameterExpression<Integer> parameter = cb.parameter( Integer.class );
+		criteria.where( cb.ge( root.get( "price" ), parameter ) );
+		return session.createQuery( criteria ).setParameter( parameter, price ).getResultList();
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		private int price;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name, int price) {
+			this.id = id;
+			this.name = name;
+			this.price = price;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.flush;
+
+import java.util.Map;
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link AvailableSettings#QUERY_SPACE_AWARE_AUTO_FLUSH}.
+ */
+public class QuerySpaceAwareAutoFlushTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Invoice.class, Country.class, Address.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.QUERY_SPACE_AWARE_AUTO_FLUSH, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testUnrelatedQueryDoesNotFlush() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Invoice( 1L, 10 ) );
+			session.persist( new Country( 1L, "France" ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Invoice.class, 1L ).amount = 20;
+
+			session.createQuery( "from Country" ).list();
+			assertEquals( 0, statistics.getEntityUpdateCount() );
+
+			assertEquals( 1, session.createQuery( "from Invoice i where i.amount = 20" ).list().size() );
+			assertEquals( 1, statistics.getEntityUpdateCount() );
+		} );
+	}
+
+	@Test
+	public void testUnchangedEntitiesOfTheQueriedTypeDoNotFlush() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Invoice( 3L, 10 ) );
+			session.persist( new Country( 3L, "Spain" ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Invoice.class, 3L );
+			session.get( Country.class, 3L ).name = "Portugal";
+
+			// the managed Invoice is unchanged, the changed Country does not relate to the query
+			session.createQuery( "from Invoice" ).list();
+			assertEquals( 0, statistics.getEntityUpdateCount() );
+
+			session.get( Invoice.class, 3L ).amount = 30;
+			session.createQuery( "from Invoice" ).list();
+			assertEquals( 2, statistics.getEntityUpdateCount() );
+		} );
+	}
+
+	@Test
+	public void testCascadedTablesAreConsidered() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Address( 2L, null ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			// the new Country is only reachable through the cascade from the dirty Address
+			session.get( Address.class, 2L ).country = new Country( 2L, "Belgium" );
+
+			assertEquals( 1, session.createQuery( "from Country c where c.name = 'Belgium'" ).list().size() );
+		} );
+	}
+
+	@Entity(name = "Invoice")
+	public static class Invoice {
+		@Id
+		private Long id;
+
+		private int amount;
+
+		public Invoice() {
+		}
+
+		public Invoice(Long id, int amount) {
+			this.id = id;
+			this.amount = amount;
+		}
+	}
+
+	@Entity(name = "Country")
+	public static class Country {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Country() {
+		}
+
+		public Country(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Address")
+	public static class Address {
+		@Id
+		private Long id;
+
+		@ManyToOne(cascade = CascadeType.ALL)
+		private Country country;
+
+		public Address() {
+		}
+
+		public Address(Long id, Country country) {
+			this.id = id;
+			this.country = country;
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.idgen.enhanced.table;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.GeneratedValue;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class PrefetchBlocksTableTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int INCREMENT_SIZE = 5;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Test
+	public void testBlocksAreReservedAheadOfDemand() throws Exception {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		final Set<Long> ids = new HashSet<>();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Item item = new Item();
+			session.persist( item );
+			ids.add( item.id );
+		} );
+		// the reserve was empty, the first block was fetched on demand
+		assertEquals( 1, statistics.getIdentifierBlockPrefetchMissCount() );
+		awaitPrefetchCount( statistics, 2 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < INCREMENT_SIZE; i++ ) {
+				final Item item = new Item();
+				session.persist( item );
+				ids.add( item.id );
+			}
+		} );
+		assertEquals( 1, statistics.getIdentifierBlockPrefetchHitCount() );
+		assertEquals( 1, statistics.getIdentifierBlockPrefetchMissCount() );
+		assertEquals( INCREMENT_SIZE + 1, ids.size() );
+	}
+
+	@Test
+	public void testReserveThreadStopsWithTheSessionFactory() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Item() );
+		} );
+		rebuildSessionFactory();
+
+		final long deadline = System.currentTimeMillis() + 10_000;
+		while ( isReserveThreadAlive() ) {
+			if ( System.currentTimeMillis() > deadline ) {
+				fail( "Reserve thread still running after the SessionFactory was closed" );
+			}
+			Thread.sleep( 10 );
+		}
+	}
+
+	private static boolean isReserveThreadAlive() {
+		for ( Thread thread : Thread.getAllStackTraces().keySet() ) {
+			if ( thread.isAlive() && thread.getName().equals( "Hibernate Table Generator Reserve Thread" ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void awaitPrefetchCount(Statistics statistics, long count) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 10_000;
+		while ( statistics.getIdentifierBlockPrefetchCount() < count ) {
+			if ( System.currentTimeMillis() > deadline ) {
+				fail( "Reserve was not refilled, blocks prefetched: " + statistics.getIdentifierBlockPrefetchCount() );
+			}
+			Thread.sleep( 10 );
+		}
+	}
+
+	@javax.persistence.Entity(name = "Item")
+	public static class Item {
+		@Id
+		@GeneratedValue(generator = "prefetching")
+		@GenericGenerator(
+				name = "prefetching",
+				strategy = "org.hibernate.id.enhanced.TableGenerator",
+				parameters = {
+						@Parameter(name = "table_name", value = "ID_TBL_PREFETCH"),
+						@Parameter(name = "increment_size", value = "" + INCREMENT_SIZE),
+						@Parameter(name = "optimizer", value = "pooled-lo"),
+						@Parameter(name = "prefetch_blocks", value = "2")
+				}
+		)
+		private Long id;
+
+		private String name;
+	}
+}
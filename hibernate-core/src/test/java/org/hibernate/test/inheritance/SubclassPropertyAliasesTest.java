@@ -0,0 +1,103 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.inheritance;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.loader.DefaultEntityAliases;
+import org.hibernate.persister.entity.Loadable;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class SubclassPropertyAliasesTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Animal.class, Dog.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.WRAP_RESULT_SETS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testSubclassAliasesAreDeterminedOnce() {
+		final Loadable animalPersister = (Loadable) sessionFactory().getMetamodel().entityPersister( Animal.class );
+		final Loadable dogPersister = (Loadable) sessionFactory().getMetamodel().entityPersister( Dog.class );
+		final DefaultEntityAliases aliases = new DefaultEntityAliases( animalPersister, "0_" );
+
+		final String[][] dogAliases = aliases.getSuffixedPropertyAliases( dogPersister );
+		assertEquals( dogPersister.getPropertyNames().length, dogAliases.length );
+		assertSame( dogAliases, aliases.getSuffixedPropertyAliases( dogPersister ) );
+	}
+
+	@Test
+	public void testPolymorphicQueryReadsSubclassProperties() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Animal( 1, "Cat" ) );
+			for ( int i = 2; i <= 4; i++ ) {
+				session.persist( new Dog( i, "Dog " + i, i % 2 == 0 ) );
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Animal> animals = session.createQuery( "from Animal a order by a.id", Animal.class )
+					.getResultList();
+			assertEquals( 4, animals.size() );
+			assertEquals( "Cat", animals.get( 0 ).name );
+			for ( int i = 1; i < 4; i++ ) {
+				final Dog dog = (Dog) animals.get( i );
+				assertEquals( "Dog " + ( i + 1 ), dog.name );
+				assertEquals( ( i + 1 ) % 2 == 0, dog.trained );
+			}
+		} );
+	}
+
+	@Entity(name = "Animal")
+	public static class Animal {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Animal() {
+		}
+
+		public Animal(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Dog")
+	public static class Dog extends Animal {
+		private boolean trained;
+
+		public Dog() {
+		}
+
+		public Dog(Integer id, String name, boolean trained) {
+			super( id, name );
+			this.trained = trained;
+		}
+	}
+}
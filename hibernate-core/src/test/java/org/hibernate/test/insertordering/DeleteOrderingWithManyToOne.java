@@ -0,0 +1,124 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.insertordering;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Map;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.Environment;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link org.hibernate.cfg.AvailableSettings#ORDER_DELETES}.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsJdbcDriverProxying.class)
+public class DeleteOrderingWithManyToOne extends BaseNonConfigCoreFunctionalTestCase {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( true, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Address.class, Person.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( Environment.ORDER_DELETES, "true" );
+		settings.put( Environment.STATEMENT_BATCH_SIZE, "10" );
+		settings.put(
+				org.hibernate.cfg.AvailableSettings.CONNECTION_PROVIDER,
+				connectionProvider
+		);
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testBatching() throws SQLException {
+		doInHibernate( this::sessionFactory, session -> {
+			Address home = new Address( 1L );
+			Address office = new Address( 2L );
+			session.persist( home );
+			session.persist( office );
+			session.persist( new Person( 1L, home ) );
+			session.persist( new Person( 2L, office ) );
+			session.persist( new Person( 3L, home ) );
+			session.persist( new Person( 4L, office ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			// addresses are removed before the persons referencing them
+			session.remove( session.get( Person.class, 1L ) );
+			session.remove( session.get( Address.class, 1L ) );
+			session.remove( session.get( Person.class, 2L ) );
+			session.remove( session.get( Address.class, 2L ) );
+			session.remove( session.get( Person.class, 3L ) );
+			session.remove( session.get( Person.class, 4L ) );
+
+			connectionProvider.clear();
+		} );
+
+		PreparedStatement personPreparedStatement = connectionProvider.getPreparedStatement(
+				"delete from Person where ID=?" );
+		verify( personPreparedStatement, times( 4 ) ).addBatch();
+		verify( personPreparedStatement, times( 1 ) ).executeBatch();
+		PreparedStatement addressPreparedStatement = connectionProvider.getPreparedStatement(
+				"delete from Address where ID=?" );
+		verify( addressPreparedStatement, times( 2 ) ).addBatch();
+		verify( addressPreparedStatement, times( 1 ) ).executeBatch();
+	}
+
+	@Entity(name = "Address")
+	public static class Address {
+		@Id
+		@Column(name = "ID", nullable = false)
+		private Long id;
+
+		public Address() {
+		}
+
+		public Address(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Person")
+	public static class Person {
+		@Id
+		@Column(name = "ID", nullable = false)
+		private Long id;
+
+		@ManyToOne
+		private Address address;
+
+		public Person() {
+		}
+
+		public Person(Long id, Address address) {
+			this.id = id;
+			this.address = address;
+		}
+	}
+}
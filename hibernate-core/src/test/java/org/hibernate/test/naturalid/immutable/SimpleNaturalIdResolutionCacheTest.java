@@ -0,0 +1,154 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.naturalid.immutable;
+
+import java.sql.Statement;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.Session;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class SimpleNaturalIdResolutionCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.NATURAL_ID_RESOLUTION_CACHE_MAX_SIZE, "100" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	private Integer idOf(String sku) {
+		return doInHibernate( this::sessionFactory, session -> {
+			final Product product = session.bySimpleNaturalId( Product.class ).load( sku );
+			return product == null ? null : product.id;
+		} );
+	}
+
+	@Test
+	public void testResolutionIsSharedBetweenSessions() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 1, "A-1" ) );
+		} );
+		assertNotNull( sessionFactory().getMetamodel().entityPersister( Product.class ).getSimpleNaturalIdResolutionCache() );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertEquals( Integer.valueOf( 1 ), idOf( "A-1" ) );
+		assertEquals( 1, statistics.getNaturalIdQueryExecutionCount() );
+
+		assertEquals( Integer.valueOf( 1 ), idOf( "A-1" ) );
+		assertEquals( 1, statistics.getNaturalIdQueryExecutionCount() );
+	}
+
+	@Test
+	public void testLoadingByIdResolvesTheNaturalId() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 1, "A-1" ) );
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Product.class, 1 );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertEquals( Integer.valueOf( 1 ), idOf( "A-1" ) );
+		assertEquals( 0, statistics.getNaturalIdQueryExecutionCount() );
+	}
+
+	@Test
+	public void testDeletionAndReinsertionEvict() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 1, "A-1" ) );
+		} );
+		assertEquals( Integer.valueOf( 1 ), idOf( "A-1" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.remove( session.get( Product.class, 1 ) );
+		} );
+		assertNull( idOf( "A-1" ) );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 2, "A-1" ) );
+		} );
+		assertEquals( Integer.valueOf( 2 ), idOf( "A-1" ) );
+	}
+
+	@Test
+	public void testBulkDeletionAndCacheEvictionClear() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Product( 1, "A-1" ) );
+		} );
+		assertEquals( Integer.valueOf( 1 ), idOf( "A-1" ) );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		sessionFactory().getCache().evictNaturalIdData( Product.class );
+		assertEquals( Integer.valueOf( 1 ), idOf( "A-1" ) );
+		assertEquals( 1, statistics.getNaturalIdQueryExecutionCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Product" ).executeUpdate();
+		} );
+		assertNull( idOf( "A-1" ) );
+	}
+
+	@Test
+	public void testRolledBackResolutionIsNotShared() {
+		try ( Session session = openSession() ) {
+			session.beginTransaction();
+			// bypass Hibernate, so nothing but the load knows about the row
+			session.doWork( connection -> {
+				try ( Statement statement = connection.createStatement() ) {
+					statement.executeUpdate( "insert into Product (id, sku) values (1, 'A-1')" );
+				}
+			} );
+			assertNotNull( session.bySimpleNaturalId( Product.class ).load( "A-1" ) );
+			session.getTransaction().rollback();
+		}
+
+		assertNull( idOf( "A-1" ) );
+	}
+
+	@Entity(name = "Product")
+	public static class Product {
+		@Id
+		private Integer id;
+
+		@NaturalId
+		private String sku;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String sku) {
+			this.id = id;
+			this.sku = sku;
+		}
+	}
+}
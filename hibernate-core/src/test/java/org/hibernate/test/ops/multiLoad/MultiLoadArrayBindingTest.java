@@ -0,0 +1,156 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops.multiLoad;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.CacheMode;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL82Dialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RequiresDialect({ H2Dialect.class, PostgreSQL82Dialect.class })
+public class MultiLoadArrayBindingTest extends BaseNonConfigCoreFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.MULTI_LOAD_ARRAY_BINDING, "true" );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.setCacheMode( CacheMode.IGNORE );
+			for ( int i = 1; i <= 3000; i++ ) {
+				session.persist( new Product( i, "Product #" + i ) );
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testSingleStatementRegardlessOfIdCount() {
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Product> products = session.byMultipleIds( Product.class ).multiLoad( ids( 1, 2500 ) );
+			assertEquals( 2500, products.size() );
+			for ( int i = 0; i < products.size(); i++ ) {
+				assertEquals( i + 1, products.get( i ).id.intValue() );
+			}
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Product> products = session.byMultipleIds( Product.class )
+					.enableOrderedReturn( false )
+					.multiLoad( ids( 2001, 3 ) );
+			assertEquals( 3, products.size() );
+			// the same statement is used for any number of ids
+			assertEquals( 2, sqlStatementInterceptor.getSqlQueries().size() );
+			assertEquals( sqlStatementInterceptor.getSqlQueries().get( 0 ), sqlStatementInterceptor.getSqlQueries().get( 1 ) );
+		} );
+	}
+
+	@Test
+	public void testManagedAndCachedEntitiesAreNotLoadedAgain() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		sessionFactory().getCache().evictAll();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Product.class, 2 );
+		} );
+		assertTrue( sessionFactory().getCache().containsEntity( Product.class, 2 ) );
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Product managed = session.get( Product.class, 1 );
+			sqlStatementInterceptor.clear();
+			final List<Product> products = session.byMultipleIds( Product.class )
+					.with( CacheMode.NORMAL )
+					.enableSessionCheck( true )
+					.multiLoad( ids( 1, 4 ) );
+			assertEquals( 4, products.size() );
+			assertSame( managed, products.get( 0 ) );
+			for ( int i = 0; i < products.size(); i++ ) {
+				assertEquals( i + 1, products.get( i ).id.intValue() );
+			}
+			assertEquals( 1, statistics.getSecondLevelCacheHitCount() );
+
+			// only the ids neither managed nor cached, 3 and 4, are bound as an array to a single statement
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+			final String restriction = getDialect().getArrayParameterRestriction( "", Types.INTEGER );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().get( 0 ).contains( restriction ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Product> products = session.byMultipleIds( Product.class ).multiLoad( ids( 2999, 4 ) );
+			assertEquals( 4, products.size() );
+			assertNull( products.get( 2 ) );
+			assertNull( products.get( 3 ) );
+		} );
+	}
+
+	private static List<Integer> ids(int first, int count) {
+		final List<Integer> ids = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			ids.add( first + i );
+		}
+		return ids;
+	}
+
+	@Entity(name = "Product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Product() {
+		}
+
+		public Product(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class QueryCacheBulkResolutionTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int COUNT = 120;
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= COUNT; i++ ) {
+				session.persist( new Author( i, "Author #" + i ) );
+				session.persist( new Book( i, "Book #" + i ) );
+			}
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testUncachedEntitiesAreBatchLoaded() {
+		final String query = "select b from Book b order by b.id";
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( query, Book.class ).setCacheable( true ).list();
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Book> books = session.createQuery( query, Book.class ).setCacheable( true ).list();
+			assertEquals( 1, statistics.getQueryCacheHitCount() );
+			assertEquals( COUNT, books.size() );
+			for ( int i = 0; i < COUNT; i++ ) {
+				assertEquals( "Book #" + ( i + 1 ), books.get( i ).title );
+			}
+			// one statement per batch of ids instead of one per book
+			assertTrue( sqlStatementInterceptor.getSqlQueries().size() < COUNT / 10 );
+		} );
+	}
+
+	@Test
+	public void testCachedEntitiesAreResolvedFromEntityCache() {
+		final String query = "select a, a.name from Author a order by a.id";
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( query, Object[].class ).setCacheable( true ).list();
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Object[]> rows = session.createQuery( query, Object[].class ).setCacheable( true ).list();
+			assertEquals( 1, statistics.getQueryCacheHitCount() );
+			assertEquals( COUNT, rows.size() );
+			for ( int i = 0; i < COUNT; i++ ) {
+				final Author author = (Author) rows.get( i )[0];
+				assertEquals( i + 1, author.id.intValue() );
+				assertEquals( author.name, rows.get( i )[1] );
+			}
+			assertEquals( 0, sqlStatementInterceptor.getSqlQueries().size() );
+			assertEquals( COUNT, statistics.getSecondLevelCacheHitCount() );
+		} );
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.QueryHints;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+public class QueryCachePartitionTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { PurchaseOrder.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.QUERY_CACHE_PARTITION_KEYS, "PurchaseOrder.customerId" );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new PurchaseOrder( 1, 1L ) );
+			session.persist( new PurchaseOrder( 2, 2L ) );
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	private List<Integer> ordersOf(long customerId) {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery(
+					"select o.id from PurchaseOrder o where o.customerId = :customerId order by o.id",
+					Integer.class
+			)
+					.setParameter( "customerId", customerId )
+					.setCacheable( true )
+					.setHint( QueryHints.CACHE_PARTITION, customerId )
+					.list();
+		} );
+	}
+
+	private List<Integer> allOrders() {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "select o.id from PurchaseOrder o order by o.id", Integer.class )
+					.setCacheable( true )
+					.list();
+		} );
+	}
+
+	@Test
+	public void testWritesToOtherPartitionsDoNotInvalidate() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		ordersOf( 1 );
+		allOrders();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new PurchaseOrder( 3, 2L ) );
+			session.find( PurchaseOrder.class, 2 ).amount = 10;
+		} );
+		statistics.clear();
+
+		assertEquals( 1, ordersOf( 1 ).size() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		// queries not naming a partition are invalidated by any write
+		assertEquals( 3, allOrders().size() );
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+	}
+
+	@Test
+	public void testWritesToThePartitionInvalidate() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		ordersOf( 1 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new PurchaseOrder( 3, 1L ) );
+		} );
+		statistics.clear();
+
+		assertEquals( 2, ordersOf( 1 ).size() );
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+	}
+
+	@Test
+	public void testMovingBetweenPartitionsInvalidatesBoth() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		ordersOf( 1 );
+		ordersOf( 2 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.find( PurchaseOrder.class, 2 ).customerId = 1L;
+		} );
+		statistics.clear();
+
+		assertEquals( 2, ordersOf( 1 ).size() );
+		assertEquals( 0, ordersOf( 2 ).size() );
+		assertEquals( 2, statistics.getQueryCacheMissCount() );
+	}
+
+	@Test
+	public void testBulkWritesInvalidateAllPartitions() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		ordersOf( 1 );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "update PurchaseOrder set customerId = 1 where id = 2" ).executeUpdate();
+		} );
+		statistics.clear();
+
+		assertEquals( 2, ordersOf( 1 ).size() );
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+	}
+
+	@Entity(name = "PurchaseOrder")
+	public static class PurchaseOrder {
+		@Id
+		private Integer id;
+
+		private Long customerId;
+
+		private int amount;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Integer id, Long customerId) {
+			this.id = id;
+			this.customerId = customerId;
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+public class TimestampsNearCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final String QUERY = "select c.name from City c order by c.id";
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { City.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.TIMESTAMPS_NEAR_CACHE_STALENESS, "60000" );
+	}
+
+	@Override
+	protected void prepareTest() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new City( 1, "Lisbon" ) );
+			session.persist( new City( 2, "Porto" ) );
+		} );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	private List<String> names() {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( QUERY, String.class ).setCacheable( true ).list();
+		} );
+	}
+
+	@Test
+	public void testUpToDateChecksAreServedLocally() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		names();
+		statistics.clear();
+
+		for ( int i = 0; i < 3; i++ ) {
+			assertEquals( 2, names().size() );
+		}
+		assertEquals( 3, statistics.getQueryCacheHitCount() );
+		assertEquals( 3, statistics.getUpdateTimestampsCacheNearHitCount() );
+	}
+
+	@Test
+	public void testLocalUpdateIsSeenImmediately() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		names();
+		assertEquals( 2, names().size() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.find( City.class, 2 ).name = "Braga";
+		} );
+		statistics.clear();
+
+		final List<String> names = names();
+		assertEquals( "Braga", names.get( 1 ) );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+		assertEquals( 1, statistics.getQueryCacheMissCount() );
+		assertEquals( 1, statistics.getUpdateTimestampsCacheNearHitCount() );
+	}
+
+	@Test
+	public void testEvictionClearsLocalCopy() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		names();
+		sessionFactory().getCache().getTimestampsCache().clear();
+		statistics.clear();
+
+		assertEquals( 2, names().size() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 0, statistics.getUpdateTimestampsCacheNearHitCount() );
+	}
+
+	@Entity(name = "City")
+	public static class City {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public City() {
+		}
+
+		public City(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stream.basic;
+
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.query.RangePartitionedStream;
+import org.hibernate.query.internal.RangePartitionedSpliterator;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RangePartitionedStreamTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Reading.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void setUp() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 100; i++ ) {
+				session.persist( new Reading( i, (int) ( i % 3 ), i * 10 ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testAllEntitiesAreStreamed() {
+		try (Stream<Reading> readings = RangePartitionedStream.of( sessionFactory(), Reading.class )
+				.partitions( 4 )
+				.stream()) {
+			assertEquals( 5050L, readings.mapToLong( reading -> reading.id ).sum() );
+		}
+	}
+
+	@Test
+	public void testRestrictionAndKey() {
+		try (Stream<Reading> readings = RangePartitionedStream.of( sessionFactory(), Reading.class )
+				.key( "measure" )
+				.restriction( "e.sensor = :sensor" )
+				.setParameter( "sensor", 0 )
+				.partitions( 3 )
+				.stream()) {
+			assertEquals(
+					33,
+					readings.map( reading -> reading.id ).collect( Collectors.toSet() ).size()
+			);
+		}
+	}
+
+	@Test
+	public void testSplitsIntoRangesUpToThePartitions() {
+		final Spliterator<Reading> spliterator = RangePartitionedStream.of( sessionFactory(), Reading.class )
+				.partitions( 2 )
+				.spliterator();
+		final Spliterator<Reading> prefix = spliterator.trySplit();
+		assertNotNull( prefix );
+		assertNull( spliterator.trySplit() );
+		assertNull( prefix.trySplit() );
+
+		// the identifiers 1 to 50, then 51 to 100
+		assertEquals( 1275L, StreamSupport.stream( prefix, false ).mapToLong( reading -> reading.id ).sum() );
+		assertEquals( 3775L, StreamSupport.stream( spliterator, false ).mapToLong( reading -> reading.id ).sum() );
+	}
+
+	@Test
+	public void testNoPartitionAdvancesOnceClosed() {
+		final RangePartitionedSpliterator<Reading> spliterator = (RangePartitionedSpliterator<Reading>) RangePartitionedStream
+				.of( sessionFactory(), Reading.class )
+				.partitions( 2 )
+				.spliterator();
+		final Spliterator<Reading> prefix = spliterator.trySplit();
+		assertTrue( spliterator.tryAdvance( reading -> {
+		} ) );
+
+		// the running partition is released, the other one does not open
+		spliterator.close();
+		assertFalse( spliterator.tryAdvance( reading -> {
+		} ) );
+		assertFalse( prefix.tryAdvance( reading -> {
+		} ) );
+	}
+
+	@Test
+	public void testNoEntityMatches() {
+		try (Stream<Reading> readings = RangePartitionedStream.of( sessionFactory(), Reading.class )
+				.restriction( "e.sensor > 3" )
+				.stream()) {
+			assertFalse( readings.findAny().isPresent() );
+		}
+	}
+
+	@Entity(name = "Reading")
+	public static class Reading {
+		@Id
+		private Long id;
+
+		private int sensor;
+
+		private long measure;
+
+		public Reading() {
+		}
+
+		public Reading(Long id, int sensor, long measure) {
+			this.id = id;
+			this.sensor = sensor;
+			this.measure = measure;
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stream.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.Query;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class WindowedStreamTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final int WINDOW_SIZE = 5;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Customer.class, Purchase.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.QUERY_STREAM_WINDOW_SIZE, Integer.toString( WINDOW_SIZE ) );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void setUp() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 50; i++ ) {
+				final Customer customer = new Customer( i );
+				session.persist( customer );
+				session.persist( new Purchase( i, customer ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesAreEvictedBehindTheWindow() {
+		doInHibernate( this::sessionFactory, session -> {
+			final AtomicInteger count = new AtomicInteger();
+			try (Stream<Customer> stream = session.createQuery( "from Customer c order by c.id", Customer.class ).stream()) {
+				stream.forEach( customer -> {
+					assertTrue( session.contains( customer ) );
+					assertTrue( session.getStatistics().getEntityCount() <= WINDOW_SIZE );
+					count.incrementAndGet();
+				} );
+			}
+			assertEquals( 50, count.get() );
+		} );
+	}
+
+	@Test
+	public void testCollectionsAreEvictedWithTheirOwner() {
+		doInHibernate( this::sessionFactory, session -> {
+			try (Stream<Customer> stream = session.createQuery( "from Customer c order by c.id", Customer.class ).stream()) {
+				stream.forEach( customer -> {
+					assertEquals( 1, customer.purchases.size() );
+					assertTrue( session.getStatistics().getCollectionCount() <= WINDOW_SIZE );
+				} );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesOfTheWindowStayManaged() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Customer> customers = new ArrayList<>();
+			try (Stream<Customer> stream = session.createQuery( "from Customer c order by c.id", Customer.class ).stream()) {
+				stream.limit( 20 ).forEach( customers::add );
+			}
+			for ( int i = 0; i < customers.size(); i++ ) {
+				assertEquals( i >= customers.size() - WINDOW_SIZE, session.contains( customers.get( i ) ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntitiesManagedBeforeTheStreamAreNotEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Customer first = session.get( Customer.class, 1 );
+			try (Stream<Customer> stream = session.createQuery( "from Customer c order by c.id", Customer.class ).stream()) {
+				assertEquals( 50, stream.count() );
+			}
+			assertTrue( session.contains( first ) );
+		} );
+	}
+
+	@Test
+	public void testModifiedEntitiesAreNotEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Customer> customers = new ArrayList<>();
+			try (Stream<Customer> stream = session.createQuery( "from Customer c order by c.id", Customer.class ).stream()) {
+				stream.forEach( customer -> {
+					if ( customer.id % 10 == 0 ) {
+						customer.name = "modified";
+					}
+					customers.add( customer );
+				} );
+			}
+			for ( Customer customer : customers ) {
+				assertEquals( customer.id % 10 == 0 || customer.id > 50 - WINDOW_SIZE, session.contains( customer ) );
+			}
+		} );
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals(
+					5L,
+					session.createQuery( "select count(c) from Customer c where c.name = 'modified'", Long.class )
+							.uniqueResult()
+							.longValue()
+			);
+		} );
+	}
+
+	@Test
+	public void testFetchSizeOfTheQueryIsKept() {
+		doInHibernate( this::sessionFactory, session -> {
+			final Query<Customer> query = session.createQuery( "from Customer", Customer.class );
+			try (Stream<Customer> stream = query.stream()) {
+				assertEquals( 50, stream.count() );
+			}
+			assertNull( query.getFetchSize() );
+
+			query.setFetchSize( 3 );
+			try (Stream<Customer> stream = query.stream()) {
+				assertEquals( 50, stream.count() );
+			}
+			assertEquals( 3, query.getFetchSize().intValue() );
+		} );
+	}
+
+	@Entity(name = "Customer")
+	public static class Customer {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "customer")
+		private List<Purchase> purchases = new ArrayList<>();
+
+		public Customer() {
+		}
+
+		public Customer(Integer id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Purchase")
+	public static class Purchase {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Customer customer;
+
+		public Purchase() {
+		}
+
+		public Purchase(Integer id, Customer customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
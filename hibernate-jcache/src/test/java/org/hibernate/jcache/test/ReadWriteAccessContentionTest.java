@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.jcache.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.hibernate.Session;
+import org.hibernate.cache.spi.SecondLevelCacheLogger;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.jcache.test.domain.Item;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.logger.LoggerInspectionRule;
+import org.hibernate.testing.logger.Triggerable;
+import org.junit.Rule;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that concurrent read-write access to an entity region backed by the local JCache provider, with many
+ * threads contending for a small set of keys, neither deadlocks nor loses a soft lock.
+ */
+public class ReadWriteAccessContentionTest extends BaseFunctionalTest {
+	private static final int KEYS = 16;
+	private static final int THREADS = 8;
+	private static final int OPERATIONS_PER_THREAD = 2_000;
+
+	@Rule
+	public LoggerInspectionRule logInspection = new LoggerInspectionRule( SecondLevelCacheLogger.INSTANCE );
+
+	@Test
+	public void testConcurrentAccessNeitherDeadlocksNorLosesSoftLocks() throws Exception {
+		final Triggerable lockExpiry = logInspection.watchForLogMessages( "HHH90001005" );
+
+		final SessionFactoryImplementor sessionFactory = sessionFactory();
+		final EntityPersister persister = sessionFactory.getMetamodel().entityPersister( Item.class );
+		final EntityDataAccess access = persister.getCacheAccessStrategy();
+		final Object[] keys = new Object[KEYS];
+		for ( int i = 0; i < KEYS; i++ ) {
+			keys[i] = access.generateCacheKey( (long) i, persister, sessionFactory, null );
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool( THREADS );
+		try {
+			final List<Future<?>> futures = new ArrayList<>( THREADS );
+			for ( int i = 0; i < THREADS; i++ ) {
+				futures.add(
+						executor.submit( () -> {
+							try ( Session session = sessionFactory.openSession() ) {
+								exercise( access, (SharedSessionContractImplementor) session, keys );
+							}
+						} )
+				);
+			}
+			for ( Future<?> future : futures ) {
+				try {
+					future.get( 30, TimeUnit.SECONDS );
+				}
+				catch (TimeoutException e) {
+					fail( "Concurrent read-write cache access did not complete, likely a deadlock" );
+				}
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertFalse( "A soft lock was lost under contention", lockExpiry.wasTriggered() );
+	}
+
+	private static void exercise(EntityDataAccess access, SharedSessionContractImplementor session, Object[] keys) {
+		final ThreadLocalRandom random = ThreadLocalRandom.current();
+		for ( int i = 0; i < OPERATIONS_PER_THREAD; i++ ) {
+			final Object key = keys[random.nextInt( keys.length )];
+			final int operation = random.nextInt( 10 );
+			if ( operation == 0 ) {
+				// an update: lock, then release the entry as a transaction completion would
+				final SoftLock lock = access.lockItem( session, key, null );
+				access.unlockItem( session, key, lock );
+			}
+			else if ( operation == 1 ) {
+				access.putFromLoad( session, key, "value of " + key, null );
+			}
+			else {
+				access.get( session, key );
+			}
+		}
+	}
+}
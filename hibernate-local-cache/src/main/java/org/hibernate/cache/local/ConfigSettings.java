@@ -0,0 +1,44 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.local;
+
+/**
+ * Settings of the local, in-memory caching provider.
+ * <p/>
+ * Sizes are given in bytes, optionally followed by a {@code KB}, {@code MB} or {@code GB} unit
+ * (e.g. {@code 64MB}).  The size of a cache entry is an estimate of its retained heap, computed
+ * when the entry is stored.
+ */
+public interface ConfigSettings {
+	String SIMPLE_FACTORY_NAME = "local";
+
+	String PROP_PREFIX = "hibernate.cache.local.";
+
+	/**
+	 * The maximum size of each domain data and query results region.  Once a region grows beyond it,
+	 * the entries least likely to be used again are evicted.
+	 * <p/>
+	 * Default value is {@code 16MB}.
+	 */
+	String MAXIMUM_SIZE = PROP_PREFIX + "maximum_size";
+
+	/**
+	 * The prefix of the settings overriding the {@link #MAXIMUM_SIZE maximum size} for a single
+	 * region, given as {@code hibernate.cache.local.region.<region name>.maximum_size}
+	 * where {@code <region name>} is the region name without the
+	 * {@link org.hibernate.cfg.AvailableSettings#CACHE_REGION_PREFIX region prefix}.
+	 * <p/>
+	 * The update timestamps region is never bounded: evicting a timestamp would let stale query
+	 * results pass as up-to-date.
+	 */
+	String REGION_PREFIX = PROP_PREFIX + "region.";
+
+	/**
+	 * The suffix of the per region {@link #REGION_PREFIX maximum size} settings.
+	 */
+	String REGION_MAXIMUM_SIZE_SUFFIX = ".maximum_size";
+}
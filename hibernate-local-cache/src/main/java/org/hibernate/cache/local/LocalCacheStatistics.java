@@ -0,0 +1,70 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.local;
+
+/**
+ * Statistics of a single region of the local caching provider, always collected regardless of
+ * {@link org.hibernate.cfg.AvailableSettings#GENERATE_STATISTICS}.
+ *
+ * @see org.hibernate.cache.local.internal.LocalRegionFactory#getRegionStatistics(String)
+ */
+public interface LocalCacheStatistics {
+	/**
+	 * The name of the region, without the region prefix.
+	 */
+	String getRegionName();
+
+	/**
+	 * The number of lookups which found an entry.
+	 */
+	long getHitCount();
+
+	/**
+	 * The number of lookups which found no entry.
+	 */
+	long getMissCount();
+
+	/**
+	 * The ratio of lookups which found an entry, {@code 1.0} if there was no lookup yet.
+	 */
+	default double getHitRate() {
+		final long hits = getHitCount();
+		final long lookups = hits + getMissCount();
+		return lookups == 0 ? 1.0 : (double) hits / lookups;
+	}
+
+	/**
+	 * The number of entries stored, including replacements of existing entries.
+	 */
+	long getPutCount();
+
+	/**
+	 * The number of entries evicted because the region exceeded its maximum size.
+	 */
+	long getEvictionCount();
+
+	/**
+	 * The total estimated size, in bytes, of the entries evicted because the region exceeded its
+	 * maximum size.
+	 */
+	long getEvictionWeight();
+
+	/**
+	 * The number of entries currently held.
+	 */
+	long getEntryCount();
+
+	/**
+	 * The estimated size, in bytes, of the entries currently held.
+	 */
+	long getWeightedSize();
+
+	/**
+	 * The maximum estimated size, in bytes, of the entries held; {@link Long#MAX_VALUE} if unbounded.
+	 */
+	long getMaximumWeight();
+}
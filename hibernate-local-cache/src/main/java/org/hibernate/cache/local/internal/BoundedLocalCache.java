@@ -0,0 +1,525 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.local.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.cache.local.LocalCacheStatistics;
+
+/**
+ * A concurrent map bounded by the estimated size of its entries, evicting by the W-TinyLFU policy.
+ * <p/>
+ * New entries enter a small admission window (1% of the maximum size) kept in LRU order.  An entry leaving the
+ * window has to compete for a place in the main space, a segmented LRU made of a probation and a protected (80%)
+ * segment: it is only admitted if it was used more often recently than the entry it would evict, according to a
+ * {@link FrequencySketch}.  A scan of one-off lookups therefore cannot flush the frequently used entries.
+ * <p/>
+ * Values are held by reference, which is safe as Hibernate only caches data in its disassembled form.  Reads are
+ * served straight from a {@link ConcurrentHashMap} without locking; they are recorded in lossy, striped buffers
+ * replayed against the policy under the eviction lock, a read dropped from a full buffer only makes the policy
+ * slightly less precise.  Writes update the policy under the eviction lock.
+ */
+public class BoundedLocalCache implements LocalCacheStatistics {
+	private static final double WINDOW_PERCENTAGE = 0.01;
+	private static final double PROTECTED_PERCENTAGE = 0.80;
+	private static final int ADMIT_HASHDOS_THRESHOLD = 6;
+	private static final int READ_BUFFER_STRIPES =
+			Integer.highestOneBit( Runtime.getRuntime().availableProcessors() * 4 - 1 ) << 1;
+
+	private static final byte NONE = 0;
+	private static final byte WINDOW = 1;
+	private static final byte PROBATION = 2;
+	private static final byte PROTECTED = 3;
+
+	private final String regionName;
+	private final long maximumWeight;
+	private final long windowMaximum;
+	private final long protectedMaximum;
+
+	private final ConcurrentHashMap<Object, Node> data = new ConcurrentHashMap<>();
+	private final ReadBuffer[] readBuffers = new ReadBuffer[READ_BUFFER_STRIPES];
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	// guarded by the eviction lock
+	private final FrequencySketch sketch = new FrequencySketch();
+	private final AccessOrderDeque window = new AccessOrderDeque();
+	private final AccessOrderDeque probation = new AccessOrderDeque();
+	private final AccessOrderDeque protectedSegment = new AccessOrderDeque();
+	private long windowWeight;
+	private long protectedWeight;
+	// written under the eviction lock
+	private volatile long weightedSize;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder putCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder evictionWeight = new LongAdder();
+
+	/**
+	 * Constructs a BoundedLocalCache
+	 *
+	 * @param regionName The name of the region backed by the cache
+	 * @param maximumWeight The maximum estimated size of the entries, in bytes; {@link Long#MAX_VALUE} for
+	 * a cache which never evicts
+	 */
+	public BoundedLocalCache(String regionName, long maximumWeight) {
+		if ( maximumWeight < 0 ) {
+			throw new IllegalArgumentException( "Maximum size of region [" + regionName + "] cannot be negative" );
+		}
+		this.regionName = regionName;
+		this.maximumWeight = maximumWeight;
+		this.windowMaximum = (long) ( maximumWeight * WINDOW_PERCENTAGE );
+		this.protectedMaximum = (long) ( ( maximumWeight - windowMaximum ) * PROTECTED_PERCENTAGE );
+		for ( int i = 0; i < readBuffers.length; i++ ) {
+			readBuffers[i] = new ReadBuffer();
+		}
+	}
+
+	public Object get(Object key) {
+		final Node node = data.get( key );
+		if ( node == null ) {
+			missCount.increment();
+			return null;
+		}
+		final Object value = node.value;
+		hitCount.increment();
+		afterRead( node );
+		return value;
+	}
+
+	public boolean containsKey(Object key) {
+		return data.containsKey( key );
+	}
+
+	public void put(Object key, Object value) {
+		final int weight = EntryWeigher.weigh( key, value );
+		final Node node = data.compute(
+				key,
+				(k, existing) -> {
+					if ( existing == null ) {
+						return new Node( k, value, weight );
+					}
+					existing.value = value;
+					existing.weight = weight;
+					return existing;
+				}
+		);
+		putCount.increment();
+		afterWrite( node );
+	}
+
+	public void remove(Object key) {
+		final Node node = data.remove( key );
+		if ( node != null ) {
+			node.retired = true;
+			afterRemove( node );
+		}
+	}
+
+	public void clear() {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			for ( Node node : data.values() ) {
+				if ( data.remove( node.key, node ) ) {
+					node.retired = true;
+					unlink( node );
+				}
+			}
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Policy maintenance
+
+	private void afterRead(Node node) {
+		final int probe = (int) Thread.currentThread().getId() * 0x9E3779B9;
+		final ReadBuffer buffer = readBuffers[( probe >>> 16 ) & ( readBuffers.length - 1 )];
+		if ( buffer.offer( node ) && evictionLock.tryLock() ) {
+			try {
+				drainReadBuffers();
+			}
+			finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void afterWrite(Node node) {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			if ( node.retired ) {
+				// removed meanwhile, and the removal already updated the policy
+				return;
+			}
+			if ( node.queue == NONE ) {
+				onAdd( node );
+			}
+			else {
+				onUpdate( node );
+			}
+			if ( node.policyWeight > maximumWeight ) {
+				// would flush the whole cache, and be evicted anyway
+				evict( node );
+			}
+			evictEntries();
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void afterRemove(Node node) {
+		evictionLock.lock();
+		try {
+			drainReadBuffers();
+			unlink( node );
+		}
+		finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private void drainReadBuffers() {
+		for ( ReadBuffer buffer : readBuffers ) {
+			buffer.drain( this );
+		}
+	}
+
+	private void onAdd(Node node) {
+		node.policyWeight = node.weight;
+		weightedSize += node.policyWeight;
+		windowWeight += node.policyWeight;
+		node.queue = WINDOW;
+		window.addLast( node );
+		sketch.ensureCapacity( data.mappingCount() );
+		sketch.increment( node.key );
+	}
+
+	private void onUpdate(Node node) {
+		final int delta = node.weight - node.policyWeight;
+		node.policyWeight = node.weight;
+		weightedSize += delta;
+		if ( node.queue == WINDOW ) {
+			windowWeight += delta;
+		}
+		else if ( node.queue == PROTECTED ) {
+			protectedWeight += delta;
+		}
+		onAccess( node );
+	}
+
+	private void onAccess(Node node) {
+		sketch.increment( node.key );
+		switch ( node.queue ) {
+			case WINDOW:
+				window.moveToBack( node );
+				break;
+			case PROBATION:
+				probation.remove( node );
+				node.queue = PROTECTED;
+				protectedSegment.addLast( node );
+				protectedWeight += node.policyWeight;
+				demoteFromProtected();
+				break;
+			case PROTECTED:
+				protectedSegment.moveToBack( node );
+				break;
+			default:
+				// not (or no longer) part of the policy
+		}
+	}
+
+	private void demoteFromProtected() {
+		while ( protectedWeight > protectedMaximum ) {
+			final Node demoted = protectedSegment.peekFirst();
+			if ( demoted == null ) {
+				return;
+			}
+			protectedSegment.remove( demoted );
+			protectedWeight -= demoted.policyWeight;
+			demoted.queue = PROBATION;
+			probation.addLast( demoted );
+		}
+	}
+
+	private void evictEntries() {
+		// the entries overflowing the window compete for a place in the main space
+		while ( windowWeight > windowMaximum ) {
+			final Node candidate = window.peekFirst();
+			if ( candidate == null ) {
+				break;
+			}
+			window.remove( candidate );
+			windowWeight -= candidate.policyWeight;
+			candidate.queue = PROBATION;
+			probation.addLast( candidate );
+			admitOrEvict( candidate );
+		}
+
+		// the window may be within bounds while an update made the main space grow
+		while ( weightedSize > maximumWeight ) {
+			Node victim = probation.peekFirst();
+			if ( victim == null ) {
+				victim = protectedSegment.peekFirst();
+			}
+			if ( victim == null ) {
+				victim = window.peekFirst();
+			}
+			if ( victim == null ) {
+				break;
+			}
+			evict( victim );
+		}
+	}
+
+	private void admitOrEvict(Node candidate) {
+		while ( weightedSize > maximumWeight ) {
+			Node victim = probation.peekFirst();
+			if ( victim == candidate ) {
+				victim = protectedSegment.peekFirst();
+			}
+			if ( victim == null ) {
+				return;
+			}
+			if ( admit( candidate, victim ) ) {
+				evict( victim );
+			}
+			else {
+				evict( candidate );
+				return;
+			}
+		}
+	}
+
+	private boolean admit(Node candidate, Node victim) {
+		final int victimFrequency = sketch.frequency( victim.key );
+		final int candidateFrequency = sketch.frequency( candidate.key );
+		if ( candidateFrequency > victimFrequency ) {
+			return true;
+		}
+		if ( candidateFrequency < ADMIT_HASHDOS_THRESHOLD ) {
+			return false;
+		}
+		// a warm candidate is occasionally admitted anyway, so that a victim with an artificially
+		// high frequency (colliding hashes) cannot stay forever
+		return ( ThreadLocalRandom.current().nextInt() & 127 ) == 0;
+	}
+
+	private void evict(Node node) {
+		if ( data.remove( node.key, node ) ) {
+			evictionCount.increment();
+			evictionWeight.add( node.policyWeight );
+		}
+		node.retired = true;
+		unlink( node );
+	}
+
+	private void unlink(Node node) {
+		switch ( node.queue ) {
+			case WINDOW:
+				window.remove( node );
+				windowWeight -= node.policyWeight;
+				break;
+			case PROBATION:
+				probation.remove( node );
+				break;
+			case PROTECTED:
+				protectedSegment.remove( node );
+				protectedWeight -= node.policyWeight;
+				break;
+			default:
+				return;
+		}
+		weightedSize -= node.policyWeight;
+		node.queue = NONE;
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Statistics
+
+	@Override
+	public String getRegionName() {
+		return regionName;
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public long getPutCount() {
+		return putCount.sum();
+	}
+
+	@Override
+	public long getEvictionCount() {
+		return evictionCount.sum();
+	}
+
+	@Override
+	public long getEvictionWeight() {
+		return evictionWeight.sum();
+	}
+
+	@Override
+	public long getEntryCount() {
+		return data.mappingCount();
+	}
+
+	@Override
+	public long getWeightedSize() {
+		return weightedSize;
+	}
+
+	@Override
+	public long getMaximumWeight() {
+		return maximumWeight;
+	}
+
+	@Override
+	public String toString() {
+		return "BoundedLocalCache(" + regionName + ')';
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Internal structures
+
+	private static final class Node {
+		private final Object key;
+		private volatile Object value;
+		private volatile int weight;
+		// set once the node was removed from the map
+		private volatile boolean retired;
+
+		// guarded by the eviction lock
+		private int policyWeight;
+		private byte queue = NONE;
+		private Node previous;
+		private Node next;
+
+		private Node(Object key, Object value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * An intrusive doubly-linked list of nodes in access order, least recently used first.
+	 */
+	private static final class AccessOrderDeque {
+		private Node first;
+		private Node last;
+
+		Node peekFirst() {
+			return first;
+		}
+
+		void addLast(Node node) {
+			node.previous = last;
+			node.next = null;
+			if ( last == null ) {
+				first = node;
+			}
+			else {
+				last.next = node;
+			}
+			last = node;
+		}
+
+		void remove(Node node) {
+			if ( node.previous == null ) {
+				first = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				last = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+		}
+
+		void moveToBack(Node node) {
+			if ( node != last ) {
+				remove( node );
+				addLast( node );
+			}
+		}
+	}
+
+	/**
+	 * A lossy ring buffer of read nodes; a read is dropped rather than waited for when the buffer is full
+	 * or contended.
+	 */
+	private static final class ReadBuffer {
+		private static final int SIZE = 16;
+		private static final int MASK = SIZE - 1;
+
+		private final AtomicLong writeCounter = new AtomicLong();
+		private final AtomicReferenceArray<Node> buffer = new AtomicReferenceArray<>( SIZE );
+		// written under the eviction lock
+		private volatile long readCounter;
+
+		/**
+		 * @return {@code true} if the buffer is full and should be drained
+		 */
+		boolean offer(Node node) {
+			final long head = readCounter;
+			final long tail = writeCounter.get();
+			final long size = tail - head;
+			if ( size >= SIZE ) {
+				return true;
+			}
+			if ( writeCounter.compareAndSet( tail, tail + 1 ) ) {
+				buffer.lazySet( (int) ( tail & MASK ), node );
+				return size + 1 >= SIZE;
+			}
+			return false;
+		}
+
+		void drain(BoundedLocalCache cache) {
+			long head = readCounter;
+			final long tail = writeCounter.get();
+			for ( ; head < tail; head++ ) {
+				final int index = (int) ( head & MASK );
+				final Node node = buffer.get( index );
+				if ( node == null ) {
+					// claimed, but not published yet
+					break;
+				}
+				buffer.lazySet( index, null );
+				cache.onAccess( node );
+			}
+			readCounter = head;
+		}
+	}
+}
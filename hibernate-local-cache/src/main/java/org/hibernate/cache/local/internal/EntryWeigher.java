@@ -0,0 +1,107 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.local.internal;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.cache.internal.NaturalIdCacheKey;
+import org.hibernate.cache.internal.QueryResultsCacheImpl;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+
+/**
+ * Estimates the heap retained by a cache entry, in bytes.
+ * <p/>
+ * Cached data is held in its disassembled form, made of arrays, collections, strings and boxed values, which
+ * is walked down to a limited depth.  Other objects are given a flat estimate.  The estimate does not need to be
+ * exact, only proportionate, for the entries to be weighed against each other and against the maximum size.
+ */
+final class EntryWeigher {
+	// the map node, the cache node and the reference to them
+	private static final int ENTRY_OVERHEAD = 96;
+	private static final int OBJECT_OVERHEAD = 16;
+	private static final int REFERENCE_SIZE = 8;
+	private static final int UNKNOWN_OBJECT_SIZE = 64;
+	private static final int MAXIMUM_DEPTH = 5;
+
+	private EntryWeigher() {
+	}
+
+	static int weigh(Object key, Object value) {
+		final long weight = ENTRY_OVERHEAD + sizeOf( key, MAXIMUM_DEPTH ) + sizeOf( value, MAXIMUM_DEPTH );
+		return (int) Math.min( weight, Integer.MAX_VALUE );
+	}
+
+	private static long sizeOf(Object object, int depth) {
+		if ( object == null || object instanceof Enum || object instanceof Class ) {
+			return 0;
+		}
+		if ( object instanceof String ) {
+			return 40 + 2L * ( (String) object ).length();
+		}
+		if ( object instanceof Number || object instanceof Boolean || object instanceof Character ) {
+			return OBJECT_OVERHEAD + 8;
+		}
+		if ( object instanceof Date || object instanceof UUID ) {
+			return OBJECT_OVERHEAD + 16;
+		}
+		if ( depth == 0 ) {
+			return UNKNOWN_OBJECT_SIZE;
+		}
+		if ( object instanceof Object[] ) {
+			long size = OBJECT_OVERHEAD;
+			for ( Object element : (Object[]) object ) {
+				size += REFERENCE_SIZE + sizeOf( element, depth - 1 );
+			}
+			return size;
+		}
+		if ( object.getClass().isArray() ) {
+			final Class<?> componentType = object.getClass().getComponentType();
+			final int elementSize = componentType == byte.class || componentType == boolean.class ? 1
+					: componentType == char.class || componentType == short.class ? 2
+					: componentType == int.class || componentType == float.class ? 4
+					: 8;
+			return OBJECT_OVERHEAD + (long) elementSize * Array.getLength( object );
+		}
+		if ( object instanceof Collection ) {
+			long size = 2 * OBJECT_OVERHEAD;
+			for ( Object element : (Collection<?>) object ) {
+				size += 2 * REFERENCE_SIZE + sizeOf( element, depth - 1 );
+			}
+			return size;
+		}
+		if ( object instanceof Map ) {
+			long size = 3 * OBJECT_OVERHEAD;
+			for ( Map.Entry<?, ?> entry : ( (Map<?, ?>) object ).entrySet() ) {
+				size += 32 + sizeOf( entry.getKey(), depth - 1 ) + sizeOf( entry.getValue(), depth - 1 );
+			}
+			return size;
+		}
+		if ( object instanceof AbstractReadWriteAccess.Item ) {
+			return 32 + sizeOf( ( (AbstractReadWriteAccess.Item) object ).getValue(), depth - 1 );
+		}
+		if ( object instanceof CacheEntry ) {
+			final CacheEntry entry = (CacheEntry) object;
+			return 32 + sizeOf( entry.getDisassembledState(), depth - 1 ) + sizeOf( entry.getVersion(), depth - 1 );
+		}
+		if ( object instanceof CollectionCacheEntry ) {
+			return OBJECT_OVERHEAD + sizeOf( ( (CollectionCacheEntry) object ).getState(), depth - 1 );
+		}
+		if ( object instanceof QueryResultsCacheImpl.CacheItem ) {
+			return 32 + sizeOf( ( (QueryResultsCacheImpl.CacheItem) object ).getColumns(), depth - 1 );
+		}
+		if ( object instanceof NaturalIdCacheKey ) {
+			return 32 + sizeOf( ( (NaturalIdCacheKey) object ).getNaturalIdValues(), depth - 1 );
+		}
+		return UNKNOWN_OBJECT_SIZE;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.local.internal;
+
+/**
+ * A Count-Min sketch estimating how often keys were used recently, in 4-bit counters.
+ * <p/>
+ * Every key maps to four counters, one per hash function, each in a different row; its frequency is the
+ * minimum of them.  Sixteen counters are packed into a {@code long}, the four of a key sharing a single
+ * {@code long} per row.  After ten increments per table slot all counters are halved, so the sketch
+ * favours recent popularity over the all-time one.
+ * <p/>
+ * Not thread-safe, guarded by the eviction lock of the owning {@link BoundedLocalCache}.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L,
+			0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L
+	};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+	private static final int MAXIMUM_LENGTH = 1 << 30;
+
+	private long[] table;
+	private int tableMask;
+	private int sampleSize;
+	private int size;
+
+	FrequencySketch() {
+		resize( 16 );
+	}
+
+	/**
+	 * Grows the sketch, discarding its counters, unless it is large enough already for the given
+	 * number of entries.
+	 */
+	void ensureCapacity(long expectedEntries) {
+		final int maximum = (int) Math.min( expectedEntries, MAXIMUM_LENGTH );
+		if ( table.length >= maximum ) {
+			return;
+		}
+		resize( Integer.highestOneBit( maximum - 1 ) << 1 );
+	}
+
+	private void resize(int length) {
+		table = new long[length];
+		tableMask = length - 1;
+		sampleSize = (int) Math.min( 10L * length, Integer.MAX_VALUE );
+		size = 0;
+	}
+
+	/**
+	 * The estimated number of recent uses of the key, at most 15.
+	 */
+	int frequency(Object key) {
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < 4; i++ ) {
+			final int index = indexOf( hash, i );
+			final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Records a use of the key.
+	 */
+	void increment(Object key) {
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			added |= incrementAt( indexOf( hash, i ), start + i );
+		}
+		if ( added && ++size == sampleSize ) {
+			reset();
+		}
+	}
+
+	private boolean incrementAt(int index, int counter) {
+		final int offset = counter << 2;
+		final long mask = 0xfL << offset;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	private void reset() {
+		int odd = 0;
+		for ( int i = 0; i < table.length; i++ ) {
+			odd += Long.bitCount( table[i] & ONE_MASK );
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		size = ( size >>> 1 ) - ( odd >>> 2 );
+	}
+
+	private int indexOf(int hash, int row) {
+		long h = ( hash + SEEDS[row] ) * SEEDS[row];
+		h += h >>> 32;
+		return ( (int) h ) & tableMask;
+	}
+
+	private static int spread(int x) {
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		x = ( ( x >>> 16 ) ^ x ) * 0x45d9f3b;
+		return ( x >>> 16 ) ^ x;
+	}
+}
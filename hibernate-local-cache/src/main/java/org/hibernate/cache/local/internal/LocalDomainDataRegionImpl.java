@@ -0,0 +1,47 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.local.internal;
+
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.ExtendedStatisticsSupport;
+import org.hibernate.cache.spi.support.DomainDataRegionImpl;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+
+/**
+ * A domain data region of the local caching provider, reporting the number and estimated size of its entries
+ * to the Hibernate {@link org.hibernate.stat.CacheRegionStatistics}.
+ */
+public class LocalDomainDataRegionImpl extends DomainDataRegionImpl implements ExtendedStatisticsSupport {
+	private final BoundedLocalCache cache;
+
+	public LocalDomainDataRegionImpl(
+			DomainDataRegionConfig regionConfig,
+			RegionFactoryTemplate regionFactory,
+			LocalStorageAccessImpl storageAccess,
+			CacheKeysFactory defaultKeysFactory,
+			DomainDataRegionBuildingContext buildingContext) {
+		super( regionConfig, regionFactory, storageAccess, defaultKeysFactory, buildingContext );
+		this.cache = storageAccess.getCache();
+	}
+
+	@Override
+	public long getElementCountInMemory() {
+		return cache.getEntryCount();
+	}
+
+	@Override
+	public long getElementCountOnDisk() {
+		return 0;
+	}
+
+	@Override
+	public long getSizeInMemory() {
+		return cache.getWeightedSize();
+	}
+}
@@ -0,0 +1,181 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.local.internal;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.internal.DefaultCacheKeysFactory;
+import org.hibernate.cache.local.ConfigSettings;
+import org.hibernate.cache.local.LocalCacheStatistics;
+import org.hibernate.cache.spi.CacheKeysFactory;
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * A RegionFactory keeping every region in a {@link BoundedLocalCache} of the local JVM, without any dependency
+ * beyond Hibernate itself.
+ * <p/>
+ * Entries are held by reference, so reads involve neither copying nor serialization.  Domain data and query
+ * results regions are bounded by the estimated size of their entries, see {@link ConfigSettings}.
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+	private static final long DEFAULT_MAXIMUM_SIZE = 16L * 1024 * 1024;
+
+	private final CacheKeysFactory cacheKeysFactory;
+	private final Map<String, BoundedLocalCache> caches = new ConcurrentHashMap<>();
+
+	private volatile Map configValues;
+	private volatile long defaultMaximumSize;
+
+	@SuppressWarnings("unused")
+	public LocalRegionFactory() {
+		this( DefaultCacheKeysFactory.INSTANCE );
+	}
+
+	public LocalRegionFactory(CacheKeysFactory cacheKeysFactory) {
+		this.cacheKeysFactory = cacheKeysFactory;
+	}
+
+	/**
+	 * The statistics of the named region.
+	 *
+	 * @param regionName The region name, without the region prefix
+	 *
+	 * @return The statistics, or {@code null} if there is no such region
+	 */
+	public LocalCacheStatistics getRegionStatistics(String regionName) {
+		return caches.get( regionName );
+	}
+
+	/**
+	 * The statistics of all regions.
+	 */
+	public Collection<LocalCacheStatistics> getRegionStatistics() {
+		return Collections.unmodifiableCollection( caches.values() );
+	}
+
+	@Override
+	protected CacheKeysFactory getImplicitCacheKeysFactory() {
+		return cacheKeysFactory;
+	}
+
+	@Override
+	public DomainDataRegion buildDomainDataRegion(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		verifyStarted();
+		return new LocalDomainDataRegionImpl(
+				regionConfig,
+				this,
+				createDomainDataStorageAccess( regionConfig, buildingContext ),
+				cacheKeysFactory,
+				buildingContext
+		);
+	}
+
+	@Override
+	protected LocalStorageAccessImpl createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		final String regionName = regionConfig.getRegionName();
+		return new LocalStorageAccessImpl( createCache( regionName, maximumSize( regionName ) ) );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new LocalStorageAccessImpl( createCache( regionName, maximumSize( regionName ) ) );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		// an evicted timestamp would let stale query results pass as up-to-date
+		return new LocalStorageAccessImpl( createCache( regionName, Long.MAX_VALUE ) );
+	}
+
+	private BoundedLocalCache createCache(String regionName, long maximumSize) {
+		final BoundedLocalCache cache = new BoundedLocalCache( regionName, maximumSize );
+		caches.put( regionName, cache );
+		return cache;
+	}
+
+	private long maximumSize(String regionName) {
+		final String setting = ConfigSettings.REGION_PREFIX + regionName + ConfigSettings.REGION_MAXIMUM_SIZE_SUFFIX;
+		final Object regionMaximumSize = configValues.get( setting );
+		if ( regionMaximumSize != null ) {
+			return parseSize( setting, regionMaximumSize );
+		}
+		return defaultMaximumSize;
+	}
+
+	/**
+	 * Interprets a size setting, in bytes, optionally followed by a {@code KB}, {@code MB} or {@code GB} unit.
+	 */
+	static long parseSize(String setting, Object value) {
+		if ( value instanceof Number ) {
+			return ( (Number) value ).longValue();
+		}
+		String size = value.toString().trim().toUpperCase( Locale.ROOT );
+		long multiplier = 1;
+		if ( size.endsWith( "KB" ) ) {
+			multiplier = 1024L;
+		}
+		else if ( size.endsWith( "MB" ) ) {
+			multiplier = 1024L * 1024;
+		}
+		else if ( size.endsWith( "GB" ) ) {
+			multiplier = 1024L * 1024 * 1024;
+		}
+		if ( multiplier != 1 ) {
+			size = size.substring( 0, size.length() - 2 ).trim();
+		}
+		try {
+			final long parsed = Long.parseLong( size );
+			if ( parsed < 0 ) {
+				throw new CacheException( "Setting [" + setting + "] cannot be negative: " + value );
+			}
+			return parsed * multiplier;
+		}
+		catch (NumberFormatException e) {
+			throw new CacheException( "Could not interpret setting [" + setting + "] as a size: " + value, e );
+		}
+	}
+
+
+	// ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+	// Lifecycle
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		this.configValues = configValues == null ? Collections.emptyMap() : configValues;
+		final Object maximumSize = this.configValues.get( ConfigSettings.MAXIMUM_SIZE );
+		this.defaultMaximumSize = maximumSize == null
+				? DEFAULT_MAXIMUM_SIZE
+				: parseSize( ConfigSettings.MAXIMUM_SIZE, maximumSize );
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		for ( BoundedLocalCache cache : caches.values() ) {
+			cache.clear();
+		}
+		caches.clear();
+	}
+}
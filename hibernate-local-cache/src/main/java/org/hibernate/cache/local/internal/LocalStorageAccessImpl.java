@@ -0,0 +1,65 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.local.internal;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * StorageAccess implementation wrapping a {@link BoundedLocalCache}.
+ */
+public class LocalStorageAccessImpl implements DomainDataStorageAccess {
+	private final BoundedLocalCache cache;
+
+	public LocalStorageAccessImpl(BoundedLocalCache cache) {
+		this.cache = cache;
+	}
+
+	public BoundedLocalCache getCache() {
+		return cache;
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return cache.containsKey( key );
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return cache.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		cache.put( key, value );
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void evictData(Object key) {
+		cache.remove( key );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		cache.clear();
+	}
+
+	@Override
+	public void evictData() {
+		cache.clear();
+	}
+
+	@Override
+	public void release() {
+		cache.clear();
+	}
+}
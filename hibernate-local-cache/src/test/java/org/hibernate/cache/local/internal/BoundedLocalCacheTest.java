@@ -0,0 +1,113 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.local.internal;
+
+import org.hibernate.cache.CacheException;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BoundedLocalCacheTest extends BaseUnitTestCase {
+	private static final int VALUE_SIZE = 1000;
+	private static final long MAXIMUM_WEIGHT = 1000L * VALUE_SIZE;
+
+	@Test
+	public void testValuesAreHeldByReference() {
+		final BoundedLocalCache cache = new BoundedLocalCache( "region", MAXIMUM_WEIGHT );
+		final byte[] value = new byte[VALUE_SIZE];
+		cache.put( "key", value );
+		assertSame( value, cache.get( "key" ) );
+		assertNull( cache.get( "other" ) );
+		assertEquals( 1, cache.getHitCount() );
+		assertEquals( 1, cache.getMissCount() );
+		assertEquals( 0.5, cache.getHitRate(), 0.0 );
+
+		cache.remove( "key" );
+		assertFalse( cache.containsKey( "key" ) );
+		assertEquals( 0, cache.getWeightedSize() );
+	}
+
+	@Test
+	public void testWeightStaysWithinMaximum() {
+		final BoundedLocalCache cache = new BoundedLocalCache( "region", MAXIMUM_WEIGHT );
+		for ( int i = 0; i < 5000; i++ ) {
+			cache.put( i, new byte[VALUE_SIZE] );
+		}
+		assertTrue( cache.getWeightedSize() <= MAXIMUM_WEIGHT );
+		assertTrue( cache.getEntryCount() < 1000 );
+		assertEquals( 5000 - cache.getEntryCount(), cache.getEvictionCount() );
+		assertTrue( cache.getEvictionWeight() > 0 );
+
+		// an entry larger than the whole cache is not kept, and does not flush the others
+		final long entries = cache.getEntryCount();
+		cache.put( "huge", new byte[(int) MAXIMUM_WEIGHT + 1] );
+		assertFalse( cache.containsKey( "huge" ) );
+		assertEquals( entries, cache.getEntryCount() );
+
+		cache.clear();
+		assertEquals( 0, cache.getEntryCount() );
+		assertEquals( 0, cache.getWeightedSize() );
+	}
+
+	@Test
+	public void testFrequentlyUsedEntriesSurviveScan() {
+		final BoundedLocalCache cache = new BoundedLocalCache( "region", MAXIMUM_WEIGHT );
+		for ( int round = 0; round < 10; round++ ) {
+			for ( int i = 0; i < 500; i++ ) {
+				if ( cache.get( "hot" + i ) == null ) {
+					cache.put( "hot" + i, new byte[VALUE_SIZE] );
+				}
+			}
+		}
+
+		// a scan of one-off entries, each read once
+		for ( int i = 0; i < 50_000; i++ ) {
+			cache.get( "scan" + i );
+			cache.put( "scan" + i, new byte[VALUE_SIZE] );
+		}
+
+		int hot = 0;
+		for ( int i = 0; i < 500; i++ ) {
+			if ( cache.containsKey( "hot" + i ) ) {
+				hot++;
+			}
+		}
+		assertTrue( "Only " + hot + " of the frequently used entries survived", hot > 450 );
+	}
+
+	@Test
+	public void testUnboundedCacheNeverEvicts() {
+		final BoundedLocalCache cache = new BoundedLocalCache( "timestamps", Long.MAX_VALUE );
+		for ( int i = 0; i < 10_000; i++ ) {
+			cache.put( i, new byte[VALUE_SIZE] );
+		}
+		assertEquals( 10_000, cache.getEntryCount() );
+		assertEquals( 0, cache.getEvictionCount() );
+	}
+
+	@Test
+	public void testParseSize() {
+		assertEquals( 512, LocalRegionFactory.parseSize( "setting", "512" ) );
+		assertEquals( 64 * 1024, LocalRegionFactory.parseSize( "setting", "64KB" ) );
+		assertEquals( 16L * 1024 * 1024, LocalRegionFactory.parseSize( "setting", "16 mb" ) );
+		assertEquals( 2L * 1024 * 1024 * 1024, LocalRegionFactory.parseSize( "setting", "2GB" ) );
+		assertEquals( 100, LocalRegionFactory.parseSize( "setting", 100 ) );
+		try {
+			LocalRegionFactory.parseSize( "setting", "lots" );
+			fail();
+		}
+		catch (CacheException expected) {
+		}
+	}
+}
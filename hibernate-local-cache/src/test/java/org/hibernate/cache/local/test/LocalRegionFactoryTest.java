@@ -0,0 +1,138 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.local.test;
+
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.local.ConfigSettings;
+import org.hibernate.cache.local.LocalCacheStatistics;
+import org.hibernate.cache.local.internal.LocalRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class LocalRegionFactoryTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final long BOOKS_MAXIMUM_SIZE = 32 * 1024;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		super.addSettings( settings );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME );
+		settings.put(
+				ConfigSettings.REGION_PREFIX + "books" + ConfigSettings.REGION_MAXIMUM_SIZE_SUFFIX,
+				BOOKS_MAXIMUM_SIZE + ""
+		);
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	private LocalRegionFactory regionFactory() {
+		return (LocalRegionFactory) sessionFactory().getCache().getRegionFactory();
+	}
+
+	@Test
+	public void testEntitiesAreServedFromCache() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Author( 1, "Jane Austen" ) );
+		} );
+
+		final LocalCacheStatistics statistics = regionFactory().getRegionStatistics( Author.class.getName() );
+		assertNotNull( statistics );
+		assertEquals( 1, statistics.getEntryCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Jane Austen", session.get( Author.class, 1 ).name );
+		} );
+		assertEquals( 1, statistics.getHitCount() );
+		assertEquals( 0, sessionFactory().getStatistics().getEntityLoadCount() );
+
+		final CacheRegionStatistics regionStatistics = sessionFactory().getStatistics()
+				.getDomainDataRegionStatistics( Author.class.getName() );
+		assertEquals( 1, regionStatistics.getElementCountInMemory() );
+		assertEquals( statistics.getWeightedSize(), regionStatistics.getSizeInMemory() );
+	}
+
+	@Test
+	public void testRegionIsBoundedBySize() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 1000; i++ ) {
+				session.persist( new Book( i, "Book #" + i ) );
+			}
+		} );
+
+		final LocalCacheStatistics statistics = regionFactory().getRegionStatistics( "books" );
+		assertEquals( BOOKS_MAXIMUM_SIZE, statistics.getMaximumWeight() );
+		assertTrue( statistics.getWeightedSize() <= BOOKS_MAXIMUM_SIZE );
+		assertTrue( statistics.getEvictionCount() > 0 );
+		assertEquals( 1000, statistics.getEntryCount() + statistics.getEvictionCount() );
+
+		final LocalCacheStatistics timestamps = regionFactory().getRegionStatistics(
+				RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME
+		);
+		assertEquals( Long.MAX_VALUE, timestamps.getMaximumWeight() );
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "books")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}